@@ -14,13 +14,16 @@ import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupChanges;
 import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.SerializerBootstrapInfo;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -81,6 +84,20 @@ public interface SchemaRegistryClient extends AutoCloseable {
      * @throws UnauthorizedException if the user is unauthorized.
      */
     Iterator<Map.Entry<String, GroupProperties>> listGroups() throws UnauthorizedException;
+
+    /**
+     * List all groups that the user is authorized on, reading groups from the service in pages of `pageSize` groups.
+     * While a page is being iterated over, up to `prefetchDepth` subsequent pages are requested from the service in 
+     * the background, so that iterating over a large number of groups is not bound by the round trip latency of each 
+     * page request. A prefetch depth of zero requests a page only when the previous page has been exhausted.
+     * The consistency guarantees are the same as for {@link #listGroups()}.
+     * 
+     * @param pageSize Maximum number of groups to request from the service per call.
+     * @param prefetchDepth Number of pages to request ahead of the page that is being iterated over.
+     * @return map of names of groups with corresponding group properties for all groups. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    Iterator<Map.Entry<String, GroupProperties>> listGroups(int pageSize, int prefetchDepth) throws UnauthorizedException;
         
     /**
      * Get group properties for the group identified by the group id. 
@@ -152,6 +169,28 @@ public interface SchemaRegistryClient extends AutoCloseable {
     VersionInfo addSchema(String groupId, SchemaInfo schemaInfo) throws SchemaValidationFailedException, SerializationMismatchException, 
             MalformedSchemaException, ResourceNotFoundException, UnauthorizedException;
 
+    /**
+     * Registers a batch of schemas to the group in a single call. Schemas are registered in the order in which they are 
+     * supplied and each schema is validated against existing schemas in the group, including the schemas that precede 
+     * it in the batch. 
+     * The batch is registered atomically. If any schema is malformed, has a mismatched serialization format or is deemed 
+     * incompatible, the call fails and none of the schemas in the batch is registered. 
+     * Like {@link #addSchema(String, SchemaInfo)}, this method is idempotent and the existing version info is returned
+     * for schemas that are already registered. 
+     *
+     * @param groupId Id for the group. 
+     * @param schemas Schemas to add. 
+     * @return list of versionInfo, one for each schema in the order in which the schemas were supplied. 
+     * @throws SchemaValidationFailedException if any of the schemas is deemed invalid by applying compatibility. 
+     * @throws SerializationMismatchException if serialization format of any of the schemas does not match the group's 
+     * configured serialization format.
+     * @throws MalformedSchemaException for known serialization formats, if the service is unable to parse any of the schemas.
+     * @throws ResourceNotFoundException if group is not found.
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    List<VersionInfo> addSchemas(String groupId, List<SchemaInfo> schemas) throws SchemaValidationFailedException, 
+            SerializationMismatchException, MalformedSchemaException, ResourceNotFoundException, UnauthorizedException;
+
     /**
      * Deletes the schema associated to the given version. Users should be very careful while using this API in production, 
      * esp if the schema has already been used to write the data. 
@@ -181,6 +220,18 @@ public interface SchemaRegistryClient extends AutoCloseable {
      * @throws UnauthorizedException if the user is unauthorized.
      */
     SchemaInfo getSchemaForVersion(String groupId, VersionInfo versionInfo) throws ResourceNotFoundException, UnauthorizedException;
+
+    /**
+     * Gets schemas corresponding to the schema ids {@link VersionInfo#getId()} with a single call to the service. 
+     * Schema ids that are not found in the group are omitted from the result. 
+     * 
+     * @param groupId Id for the group. 
+     * @param schemaIds Schema ids which uniquely identify schemas within a group. 
+     * @return List of schemas with their versions in the order of the requested schema ids.
+     * @throws ResourceNotFoundException if group is not found. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    List<SchemaWithVersion> getSchemasByIds(String groupId, List<Integer> schemaIds) throws ResourceNotFoundException, UnauthorizedException;
     
     /**
      * Gets encoding info against the requested encoding Id. The purpose of encoding info is to uniquely identify the encoding
@@ -201,6 +252,33 @@ public interface SchemaRegistryClient extends AutoCloseable {
      */
     EncodingInfo getEncodingInfo(String groupId, EncodingId encodingId) throws ResourceNotFoundException, UnauthorizedException;
 
+    /**
+     * Gets encoding infos for multiple encoding ids with a single call to the service. This is useful for readers that 
+     * encounter several unknown encoding ids at once. 
+     * Encoding ids that are not found in the group are omitted from the result. 
+     * 
+     * @param groupId Id for the group. 
+     * @param encodingIds Encoding ids to look up. 
+     * @return Map of encoding id to encoding info in the order of the requested encoding ids. 
+     * @throws ResourceNotFoundException if group is not found. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    Map<EncodingId, EncodingInfo> getEncodingInfos(String groupId, List<EncodingId> encodingIds) throws ResourceNotFoundException, UnauthorizedException;
+
+    /**
+     * Gets encoding infos for the encoding ids generated in the group starting from (and including) the given encoding id. 
+     * This can be used to warm up a cache of encoding infos with a single call to the service. 
+     * The service returns a bounded number of encoding infos per call. The remaining encoding infos, if any, are fetched 
+     * by calling this method again from the encoding id following the highest returned encoding id. 
+     * 
+     * @param groupId Id for the group. 
+     * @param from Encoding id from which to fetch the encoding infos. 
+     * @return Map of encoding id to encoding info ordered by encoding id. 
+     * @throws ResourceNotFoundException if group is not found. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    Map<EncodingId, EncodingInfo> getEncodingInfosFrom(String groupId, EncodingId from) throws ResourceNotFoundException, UnauthorizedException;
+
     /**
      * Gets an encoding id that uniquely identifies a combination of Schema version and codec type. 
      * This encoding id is a 4 byte integer and it can be used to tag the data which is serialized and encoded using the
@@ -333,6 +411,41 @@ public interface SchemaRegistryClient extends AutoCloseable {
      */
     List<GroupHistoryRecord> getGroupHistory(String groupId) throws ResourceNotFoundException, UnauthorizedException;
 
+    /**
+     * Gets the changes made to the group since the given schema id and encoding id. This allows a copy of the group's 
+     * schemas and encodings to be kept in sync by fetching only what changed instead of the whole group. 
+     * The changes include the schemas added from (and including) fromSchemaId, the ids of all schemas deleted from the 
+     * group and the encoding infos generated from (and including) fromEncodingId. 
+     * The returned {@link GroupChanges#getNextSchemaId()} and {@link GroupChanges#getNextEncodingId()} should be 
+     * supplied to fetch the subsequent changes. The service returns a bounded number of schemas and encodings per call, 
+     * so the changes of a large group are fetched over several calls. 
+     *
+     * @param groupId Id for the group.
+     * @param fromSchemaId Schema id from which to fetch the added schemas. 
+     * @param fromEncodingId Encoding id from which to fetch the encoding infos. 
+     * @return Changes made to the group since the schema id and encoding id. 
+     * @throws ResourceNotFoundException if group is not found. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    GroupChanges getGroupChanges(String groupId, int fromSchemaId, int fromEncodingId) throws ResourceNotFoundException, UnauthorizedException;
+
+    /**
+     * Waits for the group to change. Every update to the group, like adding or deleting a schema, adding a codec type or 
+     * generating an encoding id, changes the group's etag. This call returns as soon as the group's etag differs from 
+     * the supplied etag, or with the supplied etag if the group did not change within the timeout. 
+     * If the supplied etag is null, the current etag is returned right away. 
+     * This can be used instead of periodically polling for the latest schemas. Call {@link #getGroupChanges} once the 
+     * returned etag differs from the supplied etag and watch again with the returned etag. 
+     *
+     * @param groupId Id for the group.
+     * @param etag Etag of the group known to the caller. 
+     * @param timeout Time to wait for the group to change. The service may wait for less. 
+     * @return Etag of the group. 
+     * @throws ResourceNotFoundException if group is not found. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    String watchGroup(String groupId, @Nullable String etag, Duration timeout) throws ResourceNotFoundException, UnauthorizedException;
+
     /**
      * Finds all groups and corresponding version info for the groups where the supplied schema has been registered.
      * It is important to note that the same schema type could be part of multiple group, however in each group it 
@@ -347,6 +460,35 @@ public interface SchemaRegistryClient extends AutoCloseable {
      */
     Map<String, VersionInfo> getSchemaReferences(SchemaInfo schemaInfo) throws ResourceNotFoundException, UnauthorizedException;
 
+    /**
+     * Performs all the registry calls that a serializer makes during its initialization in a single request to the service. 
+     * If group properties are supplied, the group is added if it does not exist. If registerCodec is set, the codec type
+     * is added to the group. The schema is then either registered with the group (if registerSchema is set) or looked up, 
+     * and an encoding id is generated for the schema version and codec type pair. 
+     * This is equivalent to calling {@link SchemaRegistryClient#addGroup}, {@link SchemaRegistryClient#addCodecType}, 
+     * {@link SchemaRegistryClient#addSchema} or {@link SchemaRegistryClient#getVersionForSchema}, 
+     * {@link SchemaRegistryClient#getEncodingId}, {@link SchemaRegistryClient#getGroupProperties} and 
+     * {@link SchemaRegistryClient#getCodecTypes} but requires only one round trip. 
+     * 
+     * @param groupId Id for the group. 
+     * @param groupProperties Group properties to add the group with. If null, the group should already exist. 
+     * @param schemaInfo Schema used by the serializer. 
+     * @param codecType Codec type used by the serializer. 
+     * @param registerSchema Whether the schema should be registered with the group. 
+     * @param registerCodec Whether the codec type should be registered with the group. 
+     * @return Group properties, version info, encoding id and codec types for the serializer.
+     * @throws SchemaValidationFailedException if the schema is deemed invalid by applying compatibility policy. 
+     * @throws SerializationMismatchException if serialization format does not match the group's configured serialization format.
+     * @throws MalformedSchemaException if the service is unable to parse the schema binary.
+     * @throws CodecTypeNotRegisteredException if codectype is not registered with the group.
+     * @throws ResourceNotFoundException if group is not found or if schema is not registered and registerSchema is false. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    SerializerBootstrapInfo bootstrapSerializer(String groupId, @Nullable GroupProperties groupProperties, SchemaInfo schemaInfo, 
+                                                CodecType codecType, boolean registerSchema, boolean registerCodec)
+            throws SchemaValidationFailedException, SerializationMismatchException, MalformedSchemaException, 
+            CodecTypeNotRegisteredException, ResourceNotFoundException, UnauthorizedException;
+
     /**
      * The Namespace which is used for making all client requests to registry service. 
      * 
@@ -12,27 +12,34 @@ package io.pravega.schemaregistry.client;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.common.util.Retry;
 import io.pravega.common.util.CertificateUtils;
-import io.pravega.schemaregistry.common.ContinuationTokenIterator;
+import io.pravega.schemaregistry.common.PrefetchingContinuationTokenIterator;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupChanges;
 import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.SerializerBootstrapInfo;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.BootstrapSerializerRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
 import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
+import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
 import io.pravega.schemaregistry.contract.generated.rest.model.UpdateCompatibilityRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.Valid;
 import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.VersionInfoList;
 import io.pravega.schemaregistry.contract.transform.ModelHelper;
 import io.pravega.schemaregistry.contract.v1.ApiV1;
 import lombok.Getter;
@@ -45,6 +52,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Response;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -53,13 +61,18 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -79,6 +92,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
             .withExpBackoff(100, 2, 10, 1000)
             .retryWhen(x -> Exceptions.unwrap(x) instanceof ConnectionException);
     private static final int GROUP_LIMIT = 100;
+    private static final int GROUP_PREFETCH_DEPTH = 1;
     private static final String HTTPS = "https";
     private static final String TLS = "TLS";
 
@@ -87,6 +101,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
     @Getter
     private final String namespace;
     private final Client client;
+    private final ExecutorService executor;
     
     SchemaRegistryClientImpl(SchemaRegistryClientConfig config, String namespace) {
         Preconditions.checkNotNull(config);
@@ -106,6 +121,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
         this.namespace = namespace;
         this.groupProxy = WebResourceFactory.newResource(ApiV1.GroupsApi.class, client.target(config.getSchemaRegistryUri()));
         this.schemaProxy = WebResourceFactory.newResource(ApiV1.SchemasApi.class, client.target(config.getSchemaRegistryUri()));
+        this.executor = newExecutor();
     }
 
     @VisibleForTesting
@@ -119,6 +135,13 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
         this.schemaProxy = schemaProxy;
         this.namespace = null;
         this.client = null;
+        this.executor = newExecutor();
+    }
+
+    private static ExecutorService newExecutor() {
+        // pages are fetched with blocking calls, so we use a cached pool of daemon threads that are only created 
+        // while paginated calls are in progress. 
+        return Executors.newCachedThreadPool(ExecutorServiceHelpers.getThreadFactory("registry-client"));
     }
 
     @Override
@@ -155,23 +178,30 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
 
     @Override
     public Iterator<Map.Entry<String, GroupProperties>> listGroups() {
-        final Function<String, Map.Entry<String, Collection<Map.Entry<String, GroupProperties>>>> function =
-                continuationToken -> {
-                    ListGroupsResponse entity = getListGroupsResponse(continuationToken);
+        return listGroups(GROUP_LIMIT, GROUP_PREFETCH_DEPTH);
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, GroupProperties>> listGroups(int pageSize, int prefetchDepth) {
+        Preconditions.checkArgument(pageSize > 0, "page size should be positive");
+        Preconditions.checkArgument(prefetchDepth >= 0, "prefetch depth cannot be negative");
+        final Function<String, CompletableFuture<Map.Entry<String, Collection<Map.Entry<String, GroupProperties>>>>> function =
+                continuationToken -> CompletableFuture.supplyAsync(() -> {
+                    ListGroupsResponse entity = getListGroupsResponse(continuationToken, pageSize);
                     List<Map.Entry<String, GroupProperties>> map = new LinkedList<>();
                     for (Map.Entry<String, io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties> entry : entity.getGroups().entrySet()) {
                         ModelHelper.decode(entry.getValue().getSerializationFormat());
                         map.add(new AbstractMap.SimpleEntry<>(entry.getKey(), ModelHelper.decode(entry.getValue())));
                     }
                     return new AbstractMap.SimpleEntry<>(entity.getContinuationToken(), map);
-                };
+                }, executor);
 
-        return new ContinuationTokenIterator<>(function, null);
+        return new PrefetchingContinuationTokenIterator<>(function, null, prefetchDepth);
     }
 
-    private ListGroupsResponse getListGroupsResponse(String continuationToken) {
+    private ListGroupsResponse getListGroupsResponse(String continuationToken, int pageSize) {
         return withRetry(() -> {
-            Response response = groupProxy.listGroups(namespace, continuationToken, GROUP_LIMIT);
+            Response response = groupProxy.listGroups(namespace, continuationToken, pageSize);
             switch (Response.Status.fromStatusCode(response.getStatus())) {
                 case OK:
                     return response.readEntity(ListGroupsResponse.class);
@@ -184,7 +214,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
     @Override
     public GroupProperties getGroupProperties(String groupId) {
         return withRetry(() -> {
-            Response response = groupProxy.getGroupProperties(namespace, groupId);
+            Response response = groupProxy.getGroupProperties(namespace, groupId, null);
             switch (Response.Status.fromStatusCode(response.getStatus())) {
                 case OK:
                     return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties.class));
@@ -227,7 +257,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
 
     private List<SchemaWithVersion> latestSchemas(String groupId, String type) {
         return withRetry(() -> {
-            Response response = groupProxy.getSchemas(namespace, groupId, type);
+            Response response = groupProxy.getSchemas(namespace, groupId, type, null, null);
             switch (Response.Status.fromStatusCode(response.getStatus())) {
                 case OK:
                     SchemaVersionsList objectsList = response.readEntity(SchemaVersionsList.class);
@@ -263,6 +293,30 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
         });
     }
 
+    @Override
+    public List<VersionInfo> addSchemas(String groupId, List<SchemaInfo> schemas) {
+        SchemaInfoList schemaInfoList = new SchemaInfoList().schemas(schemas.stream().map(ModelHelper::encode).collect(Collectors.toList()));
+        return withRetry(() -> {
+            Response response = groupProxy.addSchemas(namespace, groupId, schemaInfoList);
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case CREATED:
+                    return response.readEntity(VersionInfoList.class).getVersions().stream().map(ModelHelper::decode)
+                                   .collect(Collectors.toList());
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                case CONFLICT:
+                    throw new SchemaValidationFailedException("Schema is incompatible.");
+                case EXPECTATION_FAILED:
+                    throw new SerializationMismatchException("Serialization format disallowed.");
+                case BAD_REQUEST:
+                    throw new MalformedSchemaException("Schema is malformed. Verify the schema data and type");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to addSchemas.");
+            }
+        });
+    }
+
     @Override
     public void deleteSchemaVersion(String groupId, VersionInfo versionInfo) {
         withRetry(() -> {
@@ -279,7 +333,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
     @Override
     public SchemaInfo getSchemaForVersion(String groupId, VersionInfo versionInfo) {
         return withRetry(() -> {
-            Response response = groupProxy.getSchemaForId(namespace, groupId, versionInfo.getId());
+            Response response = groupProxy.getSchemaForId(namespace, groupId, versionInfo.getId(), null);
             switch (Response.Status.fromStatusCode(response.getStatus())) {
                 case OK:
                     return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo.class));
@@ -292,10 +346,28 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
         });
     }
 
+    @Override
+    public List<SchemaWithVersion> getSchemasByIds(String groupId, List<Integer> schemaIds) {
+        Preconditions.checkArgument(schemaIds != null && !schemaIds.isEmpty());
+        return withRetry(() -> {
+            Response response = groupProxy.getSchemasForIds(namespace, groupId, schemaIds);
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return response.readEntity(SchemaVersionsList.class).getSchemas().stream().map(ModelHelper::decode)
+                                   .collect(Collectors.toList());
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get schemas.");
+            }
+        });
+    }
+
     @Override
     public EncodingInfo getEncodingInfo(String groupId, EncodingId encodingId) {
         return withRetry(() -> {
-            Response response = groupProxy.getEncodingInfo(namespace, groupId, encodingId.getId());
+            Response response = groupProxy.getEncodingInfo(namespace, groupId, encodingId.getId(), null);
             switch (Response.Status.fromStatusCode(response.getStatus())) {
                 case OK:
                     return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo.class));
@@ -308,6 +380,36 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
         });
     }
 
+    @Override
+    public Map<EncodingId, EncodingInfo> getEncodingInfos(String groupId, List<EncodingId> encodingIds) {
+        Preconditions.checkArgument(encodingIds != null && !encodingIds.isEmpty());
+        List<Integer> ids = encodingIds.stream().map(EncodingId::getId).collect(Collectors.toList());
+        return getEncodingInfos(groupId, ids, null);
+    }
+
+    @Override
+    public Map<EncodingId, EncodingInfo> getEncodingInfosFrom(String groupId, EncodingId from) {
+        return getEncodingInfos(groupId, null, from.getId());
+    }
+
+    private Map<EncodingId, EncodingInfo> getEncodingInfos(String groupId, List<Integer> encodingIds, Integer from) {
+        return withRetry(() -> {
+            Response response = groupProxy.getEncodingInfos(namespace, groupId, encodingIds, from);
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    Map<EncodingId, EncodingInfo> encodingInfos = new LinkedHashMap<>();
+                    response.readEntity(EncodingInfoList.class).getEncodings().forEach(x -> 
+                            encodingInfos.put(ModelHelper.decode(x.getEncodingId()), ModelHelper.decode(x.getEncodingInfo())));
+                    return encodingInfos;
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get encoding infos.");
+            }
+        });
+    }
+
     @Override
     public EncodingId getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
         return withRetry(() -> {
@@ -342,7 +444,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
     @Override
     public List<SchemaWithVersion> getSchemaVersions(String groupId, @Nullable String schemaType) {
         return withRetry(() -> {
-            Response response = groupProxy.getSchemaVersions(namespace, groupId, schemaType);
+            Response response = groupProxy.getSchemaVersions(namespace, groupId, schemaType, null, null, null, null);
             switch (Response.Status.fromStatusCode(response.getStatus())) {
                 case OK:
                     SchemaVersionsList schemaList = response.readEntity(SchemaVersionsList.class);
@@ -359,7 +461,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
     @Override
     public List<GroupHistoryRecord> getGroupHistory(String groupId) {
         return withRetry(() -> {
-            Response response = groupProxy.getGroupHistory(namespace, groupId);
+            Response response = groupProxy.getGroupHistory(namespace, groupId, null, null, null, null);
             switch (Response.Status.fromStatusCode(response.getStatus())) {
                 case OK:
                     io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory history = response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory.class);
@@ -373,6 +475,42 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
         });
     }
 
+    @Override
+    public GroupChanges getGroupChanges(String groupId, int fromSchemaId, int fromEncodingId) {
+        return withRetry(() -> {
+            Response response = groupProxy.getGroupChanges(namespace, groupId, fromSchemaId, fromEncodingId);
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupChanges.class));
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("getGroupChanges failed. Group does not exist.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get changes for group.");
+            }
+        });
+    }
+
+    @Override
+    public String watchGroup(String groupId, @Nullable String etag, Duration timeout) {
+        Preconditions.checkArgument(!timeout.isNegative() && !timeout.isZero(), "timeout should be positive");
+        return withRetry(() -> {
+            Response response = groupProxy.watchGroup(namespace, groupId, etag == null ? null : new EntityTag(etag).toString(), 
+                    (int) Math.min(timeout.toMillis(), Integer.MAX_VALUE));
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return response.getEntityTag().getValue();
+                case NOT_MODIFIED:
+                    return etag;
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("watchGroup failed. Group does not exist.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to watch group.");
+            }
+        });
+    }
+
     @Override
     public Map<String, VersionInfo> getSchemaReferences(SchemaInfo schemaInfo) throws ResourceNotFoundException, UnauthorizedException {
         return withRetry(() -> {
@@ -478,6 +616,39 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
         });
     }
 
+    @Override
+    public SerializerBootstrapInfo bootstrapSerializer(String groupId, @Nullable GroupProperties groupProperties, SchemaInfo schemaInfo,
+                                                       CodecType codecType, boolean registerSchema, boolean registerCodec) {
+        return withRetry(() -> {
+            BootstrapSerializerRequest request = new BootstrapSerializerRequest()
+                    .schemaInfo(ModelHelper.encode(schemaInfo))
+                    .codecType(ModelHelper.encode(codecType))
+                    .registerSchema(registerSchema)
+                    .registerCodec(registerCodec);
+            if (groupProperties != null) {
+                request.setGroupProperties(ModelHelper.encode(groupProperties));
+            }
+            Response response = groupProxy.bootstrapSerializer(namespace, groupId, request);
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.SerializerBootstrapInfo.class));
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("bootstrapSerializer failed. Either Group does not exist or schema is not registered.");
+                case CONFLICT:
+                    throw new SchemaValidationFailedException("Schema is incompatible.");
+                case EXPECTATION_FAILED:
+                    throw new SerializationMismatchException("Serialization format disallowed.");
+                case BAD_REQUEST:
+                    throw new MalformedSchemaException("Schema is malformed. Verify the schema data and type");
+                case PRECONDITION_FAILED:
+                    throw new CodecTypeNotRegisteredException(String.format("Codec type %s not registered.", codecType.getName()));
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to bootstrap serializer.");
+            }
+        });
+    }
+
     private <T> T withRetry(Supplier<T> supplier) {
         return RETRY.run(supplier::get);
     }
@@ -501,6 +672,7 @@ public class SchemaRegistryClientImpl implements SchemaRegistryClient {
 
     @Override
     public void close() throws Exception {
+        executor.shutdownNow();
         if (client != null) {
             client.close();
         }
@@ -9,32 +9,40 @@
  */
 package io.pravega.schemaregistry.client;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupChanges;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.contract.data.SerializerBootstrapInfo;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoList;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoWithId;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
 import io.pravega.schemaregistry.contract.generated.rest.model.Valid;
+import io.pravega.schemaregistry.contract.generated.rest.model.VersionInfoList;
 import io.pravega.schemaregistry.contract.transform.ModelHelper;
 import io.pravega.schemaregistry.contract.v1.ApiV1;
 import io.pravega.test.common.AssertExtensions;
 import lombok.val;
 import org.junit.Test;
 
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Response;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -130,6 +138,24 @@ public class TestSchemaRegistryClient {
         // Runtime Exception
         doReturn(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()).when(response).getStatus();
         AssertExtensions.assertThrows("Exception should have been thrown", () -> Lists.newArrayList(client.listGroups()), e -> e instanceof InternalServerError);
+        
+        // paginated with prefetch
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        Response response3 = mock(Response.class);
+        doReturn(Response.Status.OK.getStatusCode()).when(response3).getStatus();
+        doReturn(response).when(proxy).listGroups(null, null, 1);
+        doReturn(response3).when(proxy).listGroups(null, "token", 1);
+        doReturn(response2).when(proxy).listGroups(null, "token2", 1);
+        doReturn(new ListGroupsResponse().groups(Collections.singletonMap("mygroup2", mygroup)).continuationToken("token2"))
+                .when(response3).readEntity(eq(ListGroupsResponse.class));
+        val pagedGroups = Lists.newArrayList(client.listGroups(1, 2));
+        assertEquals(2, pagedGroups.size());
+        assertEquals(groupId, pagedGroups.get(0).getKey());
+        assertEquals("mygroup2", pagedGroups.get(1).getKey());
+        verify(proxy, times(1)).listGroups(null, "token2", 1);
+        
+        AssertExtensions.assertThrows("page size should be positive", () -> client.listGroups(0, 1), 
+                e -> e instanceof IllegalArgumentException);
     }
 
     @Test
@@ -153,7 +179,7 @@ public class TestSchemaRegistryClient {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
         SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
         Response response = mock(Response.class);
-        doReturn(response).when(proxy).getGroupProperties(any(), anyString());
+        doReturn(response).when(proxy).getGroupProperties(any(), anyString(), any());
 
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
         GroupProperties mygroup
@@ -208,7 +234,7 @@ public class TestSchemaRegistryClient {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
         SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
         Response response = mock(Response.class);
-        doReturn(response).when(proxy).getSchemas(any(), anyString(), any());
+        doReturn(response).when(proxy).getSchemas(any(), anyString(), any(), any(), any());
 
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
@@ -271,12 +297,58 @@ public class TestSchemaRegistryClient {
                 () -> client.addSchema("mygroup", schemaInfo), e -> e instanceof InternalServerError);
     }
 
+    @Test
+    public void testAddSchemas() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).addSchemas(any(), anyString(), any());
+        doReturn(Response.Status.CREATED.getStatusCode()).when(response).getStatus();
+        SerializationFormat serializationFormat = SerializationFormat.custom("custom");
+        SchemaInfo schemaInfo1 = new SchemaInfo("schema1", serializationFormat, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        SchemaInfo schemaInfo2 = new SchemaInfo("schema2", serializationFormat, ByteBuffer.wrap(new byte[1]), ImmutableMap.of());
+        VersionInfoList versionInfoList = new VersionInfoList()
+                .addVersionsItem(new io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo()
+                        .serializationFormat("a").version(0).type("schema1").id(3))
+                .addVersionsItem(new io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo()
+                        .serializationFormat("a").version(0).type("schema2").id(4));
+        doReturn(versionInfoList).when(response).readEntity(VersionInfoList.class);
+        List<VersionInfo> versions = client.addSchemas("mygroup", Lists.newArrayList(schemaInfo1, schemaInfo2));
+        assertEquals(2, versions.size());
+        assertEquals("schema1", versions.get(0).getType());
+        assertEquals(3, versions.get(0).getId());
+        assertEquals("schema2", versions.get(1).getType());
+        assertEquals(4, versions.get(1).getId());
+        verify(proxy).addSchemas(any(), eq("mygroup"), argThat(x -> x.getSchemas().size() == 2 
+                && x.getSchemas().get(0).getType().equals("schema1") && x.getSchemas().get(1).getType().equals("schema2")));
+        // NotFound Exception
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemas("mygroup", Lists.newArrayList(schemaInfo1)), e -> e instanceof ResourceNotFoundException);
+        // SchemaIncompatible exception
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemas("mygroup", Lists.newArrayList(schemaInfo1)), e -> e instanceof SchemaValidationFailedException);
+        // SerializationFormatInvalid Exception
+        doReturn(Response.Status.EXPECTATION_FAILED.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemas("mygroup", Lists.newArrayList(schemaInfo1)), e -> e instanceof SerializationMismatchException);
+        // Malformed schema
+        doReturn(Response.Status.BAD_REQUEST.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemas("mygroup", Lists.newArrayList(schemaInfo1)), e -> e instanceof MalformedSchemaException);
+        //Runtime Exception
+        doReturn(Response.Status.BAD_GATEWAY.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.addSchemas("mygroup", Lists.newArrayList(schemaInfo1)), e -> e instanceof InternalServerError);
+    }
+
     @Test
     public void testGetSchema() {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
         SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
         Response response = mock(Response.class);
-        doReturn(response).when(proxy).getSchemaForId(any(), anyString(), anyInt());
+        doReturn(response).when(proxy).getSchemaForId(any(), anyString(), anyInt(), any());
 
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
         io.pravega.schemaregistry.contract.generated.rest.model.SerializationFormat serializationFormat = ModelHelper.encode(SerializationFormat.custom("custom"));
@@ -305,7 +377,7 @@ public class TestSchemaRegistryClient {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
         SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
         Response response = mock(Response.class);
-        doReturn(response).when(proxy).getEncodingInfo(any(), anyString(), anyInt());
+        doReturn(response).when(proxy).getEncodingInfo(any(), anyString(), anyInt(), any());
 
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
         SerializationFormat serializationFormat = SerializationFormat.custom("custom");
@@ -331,6 +403,136 @@ public class TestSchemaRegistryClient {
                 () -> client.getEncodingInfo("mygroup", encodingId), e -> e instanceof InternalServerError);
     }
 
+    @Test
+    public void testGetEncodingInfos() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).getEncodingInfos(any(), anyString(), any(), any());
+
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        SerializationFormat serializationFormat = SerializationFormat.custom("custom");
+        VersionInfo versionInfo = new VersionInfo("schema1", serializationFormat.getFullTypeName(), 0, 0);
+        SchemaInfo schemaInfo = new SchemaInfo("schema1", serializationFormat, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        EncodingInfo encodingInfo = new EncodingInfo(versionInfo, schemaInfo, new CodecType("gzip"));
+        EncodingInfo encodingInfo2 = new EncodingInfo(versionInfo, schemaInfo, new CodecType("snappy"));
+        EncodingInfoList encodingInfoList = new EncodingInfoList()
+                .addEncodingsItem(new EncodingInfoWithId().encodingId(ModelHelper.encode(new EncodingId(3)))
+                                                          .encodingInfo(ModelHelper.encode(encodingInfo2)))
+                .addEncodingsItem(new EncodingInfoWithId().encodingId(ModelHelper.encode(new EncodingId(1)))
+                                                          .encodingInfo(ModelHelper.encode(encodingInfo)));
+        doReturn(encodingInfoList).when(response).readEntity(EncodingInfoList.class);
+        Map<EncodingId, EncodingInfo> encodingInfos = client.getEncodingInfos("mygroup", Lists.newArrayList(new EncodingId(3), new EncodingId(1)));
+        assertEquals(Lists.newArrayList(new EncodingId(3), new EncodingId(1)), Lists.newArrayList(encodingInfos.keySet()));
+        assertEquals(encodingInfo2, encodingInfos.get(new EncodingId(3)));
+        assertEquals(encodingInfo, encodingInfos.get(new EncodingId(1)));
+        verify(proxy).getEncodingInfos(any(), eq("mygroup"), eq(Lists.newArrayList(3, 1)), isNull());
+        
+        encodingInfos = client.getEncodingInfosFrom("mygroup", new EncodingId(1));
+        assertEquals(2, encodingInfos.size());
+        verify(proxy).getEncodingInfos(any(), eq("mygroup"), isNull(), eq(1));
+        
+        // NotFound exception
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getEncodingInfosFrom("mygroup", new EncodingId(0)), e -> e instanceof ResourceNotFoundException);
+        // Runtime Exception
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getEncodingInfos("mygroup", Lists.newArrayList(new EncodingId(1))), e -> e instanceof InternalServerError);
+    }
+
+    @Test
+    public void testGetGroupChanges() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).getGroupChanges(any(), anyString(), any(), any());
+
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        SerializationFormat serializationFormat = SerializationFormat.custom("custom");
+        VersionInfo versionInfo = new VersionInfo("schema1", serializationFormat.getFullTypeName(), 1, 2);
+        SchemaInfo schemaInfo = new SchemaInfo("schema1", serializationFormat, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        EncodingInfo encodingInfo = new EncodingInfo(versionInfo, schemaInfo, new CodecType("gzip"));
+        io.pravega.schemaregistry.contract.generated.rest.model.GroupChanges groupChanges = 
+                new io.pravega.schemaregistry.contract.generated.rest.model.GroupChanges()
+                        .schemas(Lists.newArrayList(ModelHelper.encode(new SchemaWithVersion(schemaInfo, versionInfo))))
+                        .deletedSchemaIds(Lists.newArrayList(0))
+                        .encodings(Lists.newArrayList(new EncodingInfoWithId().encodingId(ModelHelper.encode(new EncodingId(1)))
+                                                                              .encodingInfo(ModelHelper.encode(encodingInfo))))
+                        .nextSchemaId(3).nextEncodingId(2);
+        doReturn(groupChanges).when(response).readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupChanges.class);
+        GroupChanges changes = client.getGroupChanges("mygroup", 2, 1);
+        assertEquals(Lists.newArrayList(new SchemaWithVersion(schemaInfo, versionInfo)), changes.getSchemas());
+        assertEquals(Lists.newArrayList(0), changes.getDeletedSchemaIds());
+        assertEquals(ImmutableMap.of(new EncodingId(1), encodingInfo), changes.getEncodings());
+        assertEquals(3, changes.getNextSchemaId());
+        assertEquals(2, changes.getNextEncodingId());
+        verify(proxy).getGroupChanges(any(), eq("mygroup"), eq(2), eq(1));
+        // NotFound exception
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getGroupChanges("mygroup", 0, 0), e -> e instanceof ResourceNotFoundException);
+        // Runtime Exception
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getGroupChanges("mygroup", 0, 0), e -> e instanceof InternalServerError);
+    }
+
+    @Test
+    public void testWatchGroup() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).watchGroup(any(), anyString(), any(), any());
+
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        doReturn(new EntityTag("1")).when(response).getEntityTag();
+        assertEquals("1", client.watchGroup("mygroup", null, Duration.ofSeconds(10)));
+        verify(proxy).watchGroup(any(), eq("mygroup"), isNull(), eq(10000));
+        assertEquals("1", client.watchGroup("mygroup", "0", Duration.ofSeconds(10)));
+        verify(proxy).watchGroup(any(), eq("mygroup"), eq("\"0\""), eq(10000));
+        // group did not change within the timeout
+        doReturn(Response.Status.NOT_MODIFIED.getStatusCode()).when(response).getStatus();
+        assertEquals("1", client.watchGroup("mygroup", "1", Duration.ofSeconds(10)));
+        // NotFound exception
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.watchGroup("mygroup", "1", Duration.ofSeconds(10)), e -> e instanceof ResourceNotFoundException);
+        // Runtime Exception
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.watchGroup("mygroup", "1", Duration.ofSeconds(10)), e -> e instanceof InternalServerError);
+    }
+
+    @Test
+    public void testGetSchemasByIds() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).getSchemasForIds(any(), anyString(), any());
+
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        SerializationFormat serializationFormat = SerializationFormat.custom("custom");
+        SchemaWithVersion schema1 = new SchemaWithVersion(new SchemaInfo("schema1", serializationFormat, ByteBuffer.wrap(new byte[0]), ImmutableMap.of()),
+                new VersionInfo("schema1", serializationFormat.getFullTypeName(), 0, 0));
+        SchemaWithVersion schema2 = new SchemaWithVersion(new SchemaInfo("schema2", serializationFormat, ByteBuffer.wrap(new byte[1]), ImmutableMap.of()),
+                new VersionInfo("schema2", serializationFormat.getFullTypeName(), 0, 1));
+        SchemaVersionsList schemaList = new SchemaVersionsList().schemas(Lists.newArrayList(ModelHelper.encode(schema2), ModelHelper.encode(schema1)));
+        doReturn(schemaList).when(response).readEntity(SchemaVersionsList.class);
+        List<SchemaWithVersion> schemas = client.getSchemasByIds("mygroup", Lists.newArrayList(1, 0));
+        assertEquals(Lists.newArrayList(schema2, schema1), schemas);
+        verify(proxy).getSchemasForIds(any(), eq("mygroup"), eq(Lists.newArrayList(1, 0)));
+        // NotFound exception
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getSchemasByIds("mygroup", Lists.newArrayList(1)), e -> e instanceof ResourceNotFoundException);
+        // Runtime Exception
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.getSchemasByIds("mygroup", Lists.newArrayList(1)), e -> e instanceof InternalServerError);
+    }
+
     @Test
     public void testGetEncodingId() {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
@@ -365,7 +567,7 @@ public class TestSchemaRegistryClient {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
         SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
         Response response = mock(Response.class);
-        doReturn(response).when(proxy).getSchemas(any(), anyString(), any());
+        doReturn(response).when(proxy).getSchemas(any(), anyString(), any(), any(), any());
 
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
         SerializationFormat serializationFormat = SerializationFormat.custom("custom");
@@ -418,7 +620,7 @@ public class TestSchemaRegistryClient {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
         SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
         Response response = mock(Response.class);
-        doReturn(response).when(proxy).getGroupHistory(any(), anyString());
+        doReturn(response).when(proxy).getGroupHistory(any(), anyString(), any(), any(), any(), any());
 
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
         SerializationFormat serializationFormat = SerializationFormat.custom("custom");
@@ -481,7 +683,7 @@ public class TestSchemaRegistryClient {
         ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
         SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
         Response response = mock(Response.class);
-        doReturn(response).when(proxy).getSchemaVersions(any(), anyString(), any());
+        doReturn(response).when(proxy).getSchemaVersions(any(), anyString(), any(), any(), any(), any(), any());
 
         doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
         SerializationFormat serializationFormat = SerializationFormat.custom("custom");
@@ -613,4 +815,49 @@ public class TestSchemaRegistryClient {
         AssertExtensions.assertThrows("An exception should have been thrown",
                 () -> client.addCodecType("mygroup", codecType), e -> e instanceof InternalServerError);
     }
+
+    @Test
+    public void testBootstrapSerializer() {
+        ApiV1.GroupsApi proxy = mock(ApiV1.GroupsApi.class);
+        SchemaRegistryClientImpl client = new SchemaRegistryClientImpl(proxy);
+        Response response = mock(Response.class);
+        doReturn(response).when(proxy).bootstrapSerializer(any(), anyString(), any());
+
+        doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+        io.pravega.schemaregistry.contract.data.GroupProperties groupProperties = new io.pravega.schemaregistry.contract.data.GroupProperties(
+                SerializationFormat.Avro, Compatibility.backward(), false);
+        SchemaInfo schemaInfo = new SchemaInfo("schema1", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        CodecType codecType = new CodecType("gzip");
+        VersionInfo versionInfo = new VersionInfo("schema1", "Avro", 0, 0);
+        SerializerBootstrapInfo bootstrapInfo = new SerializerBootstrapInfo(groupProperties, versionInfo, new EncodingId(1),
+                ImmutableList.of(codecType));
+        doReturn(ModelHelper.encode(bootstrapInfo)).when(response).readEntity(
+                io.pravega.schemaregistry.contract.generated.rest.model.SerializerBootstrapInfo.class);
+        SerializerBootstrapInfo result = client.bootstrapSerializer("mygroup", groupProperties, schemaInfo, codecType, true, true);
+        assertEquals(bootstrapInfo, result);
+        verify(proxy).bootstrapSerializer(any(), eq("mygroup"), argThat(x -> x.getGroupProperties() != null && 
+                x.isRegisterSchema() && x.isRegisterCodec() && x.getCodecType().getName().equals("gzip")));
+
+        // NotFound Exception
+        doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.bootstrapSerializer("mygroup", null, schemaInfo, codecType, false, false), 
+                e -> e instanceof ResourceNotFoundException);
+        // Incompatible schema
+        doReturn(Response.Status.CONFLICT.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.bootstrapSerializer("mygroup", null, schemaInfo, codecType, true, false), 
+                e -> e instanceof SchemaValidationFailedException);
+        // Codec not registered
+        doReturn(Response.Status.PRECONDITION_FAILED.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.bootstrapSerializer("mygroup", null, schemaInfo, codecType, true, false), 
+                e -> e instanceof CodecTypeNotRegisteredException);
+        // Runtime Exception
+        doReturn(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()).when(response).getStatus();
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> client.bootstrapSerializer("mygroup", null, schemaInfo, codecType, true, false), 
+                e -> e instanceof InternalServerError);
+    }
 }
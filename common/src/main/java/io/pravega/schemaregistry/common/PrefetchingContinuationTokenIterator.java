@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.common;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.concurrent.Futures;
+import lombok.Synchronized;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Continuation token iterator which, like {@link ContinuationTokenIterator}, reads batches of values using the loading
+ * function until the function does not return a value. Unlike {@link ContinuationTokenIterator}, up to `prefetchDepth`
+ * batches beyond the batch being iterated over are requested in the background, each request being issued as soon as
+ * the continuation token from the previous batch is available.
+ * With a prefetch depth of zero this iterator behaves like {@link ContinuationTokenIterator}.
+ *
+ * @param <T> Type of value.
+ * @param <Token> Type of continuation token.
+ */
+public class PrefetchingContinuationTokenIterator<T, Token> implements Iterator<T> {
+    private final Function<Token, CompletableFuture<Map.Entry<Token, Collection<T>>>> loadingFunction;
+    private final int prefetchDepth;
+    @GuardedBy("$lock")
+    private final Queue<T> queue;
+    @GuardedBy("$lock")
+    private final Deque<CompletableFuture<Map.Entry<Token, Collection<T>>>> batches;
+    @GuardedBy("$lock")
+    private Token token;
+    @GuardedBy("$lock")
+    private boolean canHaveNext;
+
+    public PrefetchingContinuationTokenIterator(Function<Token, CompletableFuture<Map.Entry<Token, Collection<T>>>> loadingFunction,
+                                                Token tokenIdentity, int prefetchDepth) {
+        Preconditions.checkArgument(prefetchDepth >= 0, "prefetch depth cannot be negative");
+        this.loadingFunction = loadingFunction;
+        this.prefetchDepth = prefetchDepth;
+        this.queue = new ArrayDeque<>();
+        this.batches = new ArrayDeque<>();
+        this.token = tokenIdentity;
+        this.canHaveNext = true;
+    }
+
+    @Synchronized
+    private void load() {
+        while (queue.isEmpty() && canHaveNext) {
+            fetchAhead(1);
+            Map.Entry<Token, Collection<T>> result;
+            try {
+                result = Futures.getThrowingException(batches.poll());
+            } catch (RuntimeException e) {
+                // batches requested after the failed one were chained on it and have failed too.
+                batches.clear();
+                throw e;
+            }
+            token = result.getKey();
+            queue.addAll(result.getValue());
+            canHaveNext = !queue.isEmpty();
+            if (canHaveNext) {
+                fetchAhead(prefetchDepth);
+            }
+        }
+    }
+
+    /**
+     * Requests batches until `count` batches are outstanding. Each batch is requested with the continuation token
+     * returned by the previous batch once that completes. Once an empty batch is received, there is nothing more to
+     * read and the subsequent batches are completed with the same empty batch without invoking the loading function.
+     */
+    @GuardedBy("$lock")
+    private void fetchAhead(int count) {
+        while (batches.size() < count) {
+            CompletableFuture<Map.Entry<Token, Collection<T>>> last = batches.peekLast();
+            if (last == null) {
+                batches.add(loadingFunction.apply(token));
+            } else {
+                batches.add(last.thenCompose(previous -> previous.getValue().isEmpty() ?
+                        CompletableFuture.completedFuture(previous) : loadingFunction.apply(previous.getKey())));
+            }
+        }
+    }
+
+    @Synchronized
+    @Override
+    public boolean hasNext() {
+        load();
+        return canHaveNext;
+    }
+
+    @Synchronized
+    @Override
+    public T next() {
+        load();
+        if (!queue.isEmpty()) {
+            return queue.poll();
+        } else {
+            assert !canHaveNext;
+            throw new NoSuchElementException();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.common;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class PrefetchingContinuationTokenIteratorTest {
+    @Test
+    public void testPrefetch() {
+        // pages are keyed by the continuation token used to request them.
+        Map<Integer, CompletableFuture<Map.Entry<Integer, Collection<Integer>>>> pages = new ConcurrentHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            pages.put(i, new CompletableFuture<>());
+        }
+        List<Integer> requested = Collections.synchronizedList(Lists.newArrayList());
+        Function<Integer, CompletableFuture<Map.Entry<Integer, Collection<Integer>>>> func = token -> {
+            requested.add(token);
+            return pages.get(token);
+        };
+        PrefetchingContinuationTokenIterator<Integer, Integer> myIterator = new PrefetchingContinuationTokenIterator<>(func, 0, 2);
+        // nothing is requested until the iterator is used.
+        assertTrue(requested.isEmpty());
+        pages.get(0).complete(new AbstractMap.SimpleEntry<>(1, Lists.newArrayList(1, 2)));
+        assertTrue(myIterator.hasNext());
+        // page 1 is requested as soon as page 0 is available. page 2 is chained on page 1.
+        assertEquals(Lists.newArrayList(0, 1), requested);
+        pages.get(1).complete(new AbstractMap.SimpleEntry<>(2, Lists.newArrayList(3)));
+        assertEquals(Lists.newArrayList(0, 1, 2), requested);
+        assertEquals(1, myIterator.next().intValue());
+        assertEquals(2, myIterator.next().intValue());
+        assertEquals(3, myIterator.next().intValue());
+
+        pages.get(2).complete(new AbstractMap.SimpleEntry<>(3, Collections.emptyList()));
+        assertFalse(myIterator.hasNext());
+        // no page is requested after an empty page.
+        assertEquals(Lists.newArrayList(0, 1, 2), requested);
+        assertThrows(NoSuchElementException.class, myIterator::next);
+    }
+
+    @Test
+    public void testNoPrefetch() {
+        List<Integer> requested = Collections.synchronizedList(Lists.newArrayList());
+        Function<Integer, CompletableFuture<Map.Entry<Integer, Collection<Integer>>>> func = token -> {
+            requested.add(token);
+            Collection<Integer> list = token < 2 ? Collections.singletonList(token) : Collections.emptyList();
+            return CompletableFuture.completedFuture(new AbstractMap.SimpleEntry<>(token + 1, list));
+        };
+        PrefetchingContinuationTokenIterator<Integer, Integer> myIterator = new PrefetchingContinuationTokenIterator<>(func, 0, 0);
+        assertEquals(0, myIterator.next().intValue());
+        assertEquals(Lists.newArrayList(0), requested);
+        assertEquals(1, myIterator.next().intValue());
+        assertEquals(Lists.newArrayList(0, 1), requested);
+        assertFalse(myIterator.hasNext());
+    }
+
+    @Test
+    public void testFailure() {
+        CompletableFuture<Map.Entry<Integer, Collection<Integer>>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+        Function<Integer, CompletableFuture<Map.Entry<Integer, Collection<Integer>>>> func = token -> token == 0 ?
+                CompletableFuture.completedFuture(new AbstractMap.SimpleEntry<>(1, Collections.singletonList(0))) : failed;
+        PrefetchingContinuationTokenIterator<Integer, Integer> myIterator = new PrefetchingContinuationTokenIterator<>(func, 0, 3);
+        assertEquals(0, myIterator.next().intValue());
+        assertThrows(IllegalStateException.class, myIterator::hasNext);
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.contract.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Changes made to a group since a schema id and an encoding id. Schema ids and encoding ids are generated in increasing 
+ * order, so a copy of the group can be kept in sync by applying the changes and requesting the changes since 
+ * {@link #nextSchemaId} and {@link #nextEncodingId} the next time. 
+ */
+@Data
+public class GroupChanges {
+    /**
+     * Schemas added to the group since the requested schema id, ordered by schema id. Deleted schemas are not included. 
+     */
+    private @NonNull final ImmutableList<SchemaWithVersion> schemas;
+    /**
+     * Ids of all the schemas that have been deleted from the group. A schema could have been deleted after it was 
+     * synced, so this includes the ids of the schemas deleted before the requested schema id as well. 
+     */
+    private @NonNull final ImmutableList<Integer> deletedSchemaIds;
+    /**
+     * Encoding infos generated since the requested encoding id, ordered by encoding id. 
+     */
+    private @NonNull final ImmutableMap<EncodingId, EncodingInfo> encodings;
+    /**
+     * Schema id to request the subsequent changes from. 
+     */
+    private final int nextSchemaId;
+    /**
+     * Encoding id to request the subsequent changes from. 
+     */
+    private final int nextEncodingId;
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.contract.data;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Serializer bootstrap info captures everything that a serializer needs from the registry service before it can start
+ * writing data. It is returned by a single composite call that registers (or looks up) the schema, registers the codec type 
+ * and generates the {@link EncodingId} for the pair. 
+ */
+@Data
+public class SerializerBootstrapInfo {
+    /**
+     * Properties of the group. 
+     */
+    private @NonNull final GroupProperties groupProperties;
+    /**
+     * Version of the schema that the serializer will use. 
+     */
+    private @NonNull final VersionInfo versionInfo;
+    /**
+     * Encoding id that identifies the pair of schema version and codec type.  
+     */
+    private @NonNull final EncodingId encodingId;
+    /**
+     * All codec types registered with the group. 
+     */
+    private @NonNull final ImmutableList<CodecType> codecTypes;
+}
@@ -89,12 +89,11 @@ public class SchemaInfo   {
   }
 
   /**
-   * Base64 encoded string for binary data for schema.
+   * Base64 encoded string for binary data for schema. Required when adding a schema. It is omitted from responses that exclude it with the fields parameter.
    * @return schemaData
    **/
   @JsonProperty("schemaData")
-  @ApiModelProperty(required = true, value = "Base64 encoded string for binary data for schema.")
-  @NotNull
+  @ApiModelProperty(value = "Base64 encoded string for binary data for schema. Required when adding a schema. It is omitted from responses that exclude it with the fields parameter.")
   public byte[] getSchemaData() {
     return schemaData;
   }
@@ -11,6 +11,7 @@ package io.pravega.schemaregistry.contract.transform;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.pravega.schemaregistry.contract.generated.rest.model.Backward;
 import io.pravega.schemaregistry.contract.generated.rest.model.BackwardAndForward;
@@ -21,19 +22,23 @@ import io.pravega.schemaregistry.contract.generated.rest.model.CodecType;
 import io.pravega.schemaregistry.contract.generated.rest.model.Compatibility;
 import io.pravega.schemaregistry.contract.generated.rest.model.EncodingId;
 import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoWithId;
 import io.pravega.schemaregistry.contract.generated.rest.model.Forward;
 import io.pravega.schemaregistry.contract.generated.rest.model.ForwardPolicy;
 import io.pravega.schemaregistry.contract.generated.rest.model.ForwardTill;
 import io.pravega.schemaregistry.contract.generated.rest.model.ForwardTransitive;
+import io.pravega.schemaregistry.contract.generated.rest.model.GroupChanges;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.generated.rest.model.SerializationFormat;
+import io.pravega.schemaregistry.contract.generated.rest.model.SerializerBootstrapInfo;
 import io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo;
 
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Provides translation (encode/decode) between the Model classes and its REST representation.
@@ -252,6 +257,32 @@ public class ModelHelper {
                                                                       .compatibility(decode(groupProperties.getCompatibility())).allowMultipleTypes(groupProperties.isAllowMultipleTypes())
                                                                       .properties(properties).build();
     }
+    public static io.pravega.schemaregistry.contract.data.SerializerBootstrapInfo decode(SerializerBootstrapInfo bootstrapInfo) {
+        Preconditions.checkArgument(bootstrapInfo != null, "SerializerBootstrapInfo cannot be null");
+        Preconditions.checkArgument(bootstrapInfo.getGroupProperties() != null, "GroupProperties cannot be null");
+        Preconditions.checkArgument(bootstrapInfo.getVersionInfo() != null, "VersionInfo cannot be null");
+        Preconditions.checkArgument(bootstrapInfo.getEncodingId() != null, "EncodingId cannot be null");
+        Preconditions.checkArgument(bootstrapInfo.getCodecTypes() != null, "CodecTypes cannot be null");
+        return new io.pravega.schemaregistry.contract.data.SerializerBootstrapInfo(decode(bootstrapInfo.getGroupProperties()),
+                decode(bootstrapInfo.getVersionInfo()), decode(bootstrapInfo.getEncodingId()),
+                bootstrapInfo.getCodecTypes().stream().map(ModelHelper::decode).collect(ImmutableList.toImmutableList()));
+    }
+
+    public static io.pravega.schemaregistry.contract.data.GroupChanges decode(GroupChanges groupChanges) {
+        Preconditions.checkArgument(groupChanges != null, "GroupChanges cannot be null");
+        Preconditions.checkArgument(groupChanges.getSchemas() != null, "Schemas cannot be null");
+        Preconditions.checkArgument(groupChanges.getDeletedSchemaIds() != null, "DeletedSchemaIds cannot be null");
+        Preconditions.checkArgument(groupChanges.getEncodings() != null, "Encodings cannot be null");
+        Preconditions.checkArgument(groupChanges.getNextSchemaId() != null, "NextSchemaId cannot be null");
+        Preconditions.checkArgument(groupChanges.getNextEncodingId() != null, "NextEncodingId cannot be null");
+        ImmutableMap.Builder<io.pravega.schemaregistry.contract.data.EncodingId, io.pravega.schemaregistry.contract.data.EncodingInfo> encodings =
+                ImmutableMap.builder();
+        groupChanges.getEncodings().forEach(x -> encodings.put(decode(x.getEncodingId()), decode(x.getEncodingInfo())));
+        return new io.pravega.schemaregistry.contract.data.GroupChanges(
+                groupChanges.getSchemas().stream().map(ModelHelper::decode).collect(ImmutableList.toImmutableList()),
+                ImmutableList.copyOf(groupChanges.getDeletedSchemaIds()), encodings.build(),
+                groupChanges.getNextSchemaId(), groupChanges.getNextEncodingId());
+    }
     // endregion
 
     // region encode
@@ -359,6 +390,23 @@ public class ModelHelper {
                               .properties(codecType.getProperties());
     }
 
+    public static SerializerBootstrapInfo encode(io.pravega.schemaregistry.contract.data.SerializerBootstrapInfo bootstrapInfo) {
+        return new SerializerBootstrapInfo().groupProperties(encode(bootstrapInfo.getGroupProperties()))
+                                            .versionInfo(encode(bootstrapInfo.getVersionInfo()))
+                                            .encodingId(encode(bootstrapInfo.getEncodingId()))
+                                            .codecTypes(bootstrapInfo.getCodecTypes().stream().map(ModelHelper::encode).collect(Collectors.toList()));
+    }
+
+    public static GroupChanges encode(io.pravega.schemaregistry.contract.data.GroupChanges groupChanges) {
+        return new GroupChanges().schemas(groupChanges.getSchemas().stream().map(ModelHelper::encode).collect(Collectors.toList()))
+                                 .deletedSchemaIds(groupChanges.getDeletedSchemaIds())
+                                 .encodings(groupChanges.getEncodings().entrySet().stream().map(x -> new EncodingInfoWithId()
+                                         .encodingId(encode(x.getKey())).encodingInfo(encode(x.getValue())))
+                                                         .collect(Collectors.toList()))
+                                 .nextSchemaId(groupChanges.getNextSchemaId())
+                                 .nextEncodingId(groupChanges.getNextEncodingId());
+    }
+
     // endregion
 
     private static <T extends Enum<?>> T searchEnum(Class<T> enumeration, String search) {
@@ -11,27 +11,34 @@ package io.pravega.schemaregistry.contract.v1;
 
 import com.google.common.annotations.Beta;
 import io.pravega.schemaregistry.contract.generated.rest.model.AddedTo;
+import io.pravega.schemaregistry.contract.generated.rest.model.BootstrapSerializerRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecType;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
 import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.EncodingId;
 import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.GroupChanges;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
+import io.pravega.schemaregistry.contract.generated.rest.model.SerializerBootstrapInfo;
 import io.pravega.schemaregistry.contract.generated.rest.model.UpdateCompatibilityRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.Valid;
 import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.VersionInfoList;
 import io.swagger.annotations.ApiParam;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -43,6 +50,7 @@ import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import java.util.List;
 
 public class ApiV1 {
     @Path("/ping")
@@ -86,6 +94,22 @@ public class ApiV1 {
                            @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                            @ApiParam(value = "Add new schema to group", required = true) SchemaInfo schemaInfo);
 
+        @POST
+        @Path("/{groupName}/schemas/batch")
+        @Consumes({"application/json"})
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Adds a batch of schemas to the group in the order in which they are supplied", response = VersionInfoList.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added schemas to the group", response = VersionInfoList.class),
+                @io.swagger.annotations.ApiResponse(code = 400, message = "Malformed schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 409, message = "Incompatible schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 417, message = "Invalid serialization format", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while adding schemas to group", response = Void.class)})
+        Response addSchemas(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                            @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                            @ApiParam(value = "Schemas to add to the group", required = true) SchemaInfoList schemas);
+
         @POST
         @Path("/{groupName}/schemas/versions/canRead")
         @Consumes({"application/json"})
@@ -135,11 +159,26 @@ public class ApiV1 {
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get the encoding information corresponding to the encoding id.", response = EncodingInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encoding", response = EncodingInfo.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group or encoding id with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while getting encoding info corresponding to encoding id", response = Void.class)})
         Response getEncodingInfo(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                  @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
-                                 @ApiParam(value = "Encoding id that identifies a unique combination of schema and codecType", required = true) @PathParam("encodingId") Integer encodingId);
+                                 @ApiParam(value = "Encoding id that identifies a unique combination of schema and codecType", required = true) @PathParam("encodingId") Integer encodingId,
+                                 @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch);
+
+        @GET
+        @Path("/{groupName}/encodings")
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Get the encoding information for multiple encoding ids. If encoding ids are not specified, the encodings starting from fromEncodingId are returned, up to a bounded number per call. Encoding ids that are not found are omitted from the response.", response = EncodingInfoList.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encodings", response = EncodingInfoList.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while getting encoding infos", response = Void.class)})
+        Response getEncodingInfos(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                  @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                  @ApiParam(value = "Encoding ids to look up.") @QueryParam("encodingIds") List<Integer> encodingIds,
+                                  @ApiParam(value = "Encoding id starting from which all encodings are returned. Ignored if encodingIds are specified.") @QueryParam("fromEncodingId") Integer fromEncodingId);
 
         @GET
         @Path("/{groupName}")
@@ -147,10 +186,12 @@ public class ApiV1 {
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the properties of an existing Group", response = GroupProperties.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group properties", response = GroupProperties.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group details", response = Void.class)})
         Response getGroupProperties(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
-                                    @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName);
+                                    @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                    @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch);
 
         @GET
         @Path("/{groupName}/history")
@@ -161,7 +202,38 @@ public class ApiV1 {
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group history", response = Void.class)})
         Response getGroupHistory(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
-                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName);
+                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                 @ApiParam(value = "Continuation token") @QueryParam("continuationToken") String continuationToken,
+                                 @ApiParam(value = "The numbers of items to return in a page") @QueryParam("limit") Integer limit,
+                                 @ApiParam(value = "Optional fields to include") @QueryParam("fields") String fields,
+                                 @ApiParam(value = "Stream pages") @QueryParam("stream") Boolean stream);
+
+        @GET
+        @Path("/{groupName}/changes")
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the changes made to the Group since a schema id and an encoding id", response = GroupChanges.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group changes", response = GroupChanges.class),
+                @io.swagger.annotations.ApiResponse(code = 400, message = "Bad request", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group changes", response = Void.class)})
+        Response getGroupChanges(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                 @ApiParam(value = "Schema id starting from which the added schemas are returned.") @QueryParam("fromSchemaId") Integer fromSchemaId,
+                                 @ApiParam(value = "Encoding id starting from which the encodings are returned.") @QueryParam("fromEncodingId") Integer fromEncodingId);
+
+        @GET
+        @Path("/{groupName}/watch")
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Wait for the Group to change. Returns as soon as the Group's etag differs from the etag in If-None-Match, or with 304 if the Group does not change within the timeout. The Group's etag is returned in the ETag header", response = Void.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Group changed", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Group did not change within the timeout", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while watching Group", response = Void.class)})
+        Response watchGroup(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                            @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                            @ApiParam(value = "Etag of the Group known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch,
+                            @ApiParam(value = "Time in milliseconds to wait for the Group to change.") @QueryParam("timeoutMillis") Integer timeoutMillis);
 
         @GET
         @Path("/{groupName}/schemas/versions")
@@ -173,7 +245,11 @@ public class ApiV1 {
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group details", response = Void.class)})
         Response getSchemaVersions(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                    @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
-                                   @ApiParam(value = "Type") @QueryParam("type") String type);
+                                   @ApiParam(value = "Type") @QueryParam("type") String type,
+                                   @ApiParam(value = "Continuation token") @QueryParam("continuationToken") String continuationToken,
+                                   @ApiParam(value = "The numbers of items to return in a page") @QueryParam("limit") Integer limit,
+                                   @ApiParam(value = "Optional fields to include") @QueryParam("fields") String fields,
+                                   @ApiParam(value = "Stream pages") @QueryParam("stream") Boolean stream);
 
         @GET
         @Path("/{groupName}/schemas")
@@ -181,11 +257,14 @@ public class ApiV1 {
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch latest schema versions for all objects identified by SchemaInfo#getType() under a Group. If query param type is specified then latest schema for the type is returned.", response = SchemaVersionsList.class, tags = {"Schema", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Latest schemas for all objects identified by SchemaInfo#getType() under the group", response = SchemaVersionsList.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group details", response = Void.class)})
         Response getSchemas(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                             @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
-                            @ApiParam(value = "Type of object") @QueryParam("type") String type);
+                            @ApiParam(value = "Type of object") @QueryParam("type") String type,
+                            @ApiParam(value = "Optional fields to include") @QueryParam("fields") String fields,
+                            @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch);
 
         @PUT
         @Path("/{groupName}/encodings")
@@ -219,11 +298,25 @@ public class ApiV1 {
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get schema from the version id that uniquely identifies the schema in the group.", response = SchemaInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema corresponding to the version", response = SchemaInfo.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching schema from version", response = Void.class)})
         Response getSchemaForId(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
-                                @ApiParam(value = "version id", required = true) @PathParam("schemaId") Integer schemaId);
+                                @ApiParam(value = "version id", required = true) @PathParam("schemaId") Integer schemaId,
+                                @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch);
+
+        @GET
+        @Path("/{groupName}/schemas/schema")
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Get schemas for multiple schema ids. Schema ids that are not found are omitted from the response.", response = SchemaVersionsList.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Schemas corresponding to the schema ids", response = SchemaVersionsList.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching schemas", response = Void.class)})
+        Response getSchemasForIds(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                  @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                  @ApiParam(value = "Schema ids to look up.", required = true) @QueryParam("schemaIds") List<Integer> schemaIds);
 
         @GET
         @Path("/{groupName}/schemas/format/{serializationFormat}/type/{type}/versions/{version}")
@@ -231,13 +324,15 @@ public class ApiV1 {
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get schema from the version id that uniquely identifies the schema in the group.", response = SchemaInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema corresponding to the version", response = SchemaInfo.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching schema from version", response = Void.class)})
         Response getSchemaFromVersion(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                              @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                                              @ApiParam(value = "Serialization format", required = true) @PathParam("format") String serializationFormat,
                                              @ApiParam(value = "Schema type from SchemaInfo#getType() or VersionInfo#type", required = true) @PathParam("type") String type,
-                                             @ApiParam(value = "Version number", required = true) @PathParam("version") Integer version);
+                                             @ApiParam(value = "Version number", required = true) @PathParam("version") Integer version,
+                                             @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch);
 
         @DELETE
         @Path("/{groupName}/schemas/format/{serializationFormat}/type/{type}/versions/{version}")
@@ -301,6 +396,22 @@ public class ApiV1 {
         Response validate(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                           @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                           @ApiParam(value = "Checks if schema is valid with respect to supplied compatibility", required = true) ValidateRequest validateRequest);
+
+        @PUT
+        @Path("/{groupName}/serializers/bootstrap")
+        @Consumes({"application/json"})
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Performs all the registry calls needed to initialize a serializer in a single request.", response = SerializerBootstrapInfo.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Serializer bootstrap information", response = SerializerBootstrapInfo.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name or schema not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 409, message = "Incompatible schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 412, message = "Codec type not registered", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 417, message = "Invalid serialization format", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while bootstrapping serializer", response = Void.class)})
+        Response bootstrapSerializer(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                     @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                     @ApiParam(value = "Schema and codecType to bootstrap the serializer with", required = true) BootstrapSerializerRequest bootstrapSerializerRequest);
     }
 
     /**
@@ -340,6 +451,23 @@ public class ApiV1 {
                        @ApiParam(value = "Add new schema to group", required = true) SchemaInfo schemaInfo,
                        @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
+        @POST
+        @Path("/{groupName}/schemas/batch")
+        @Consumes({"application/json"})
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Adds a batch of schemas to the group in the order in which they are supplied", response = VersionInfoList.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 201, message = "Successfully added schemas to the group", response = VersionInfoList.class),
+                @io.swagger.annotations.ApiResponse(code = 400, message = "Malformed schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 409, message = "Incompatible schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 417, message = "Invalid serialization format", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while adding schemas to group", response = Void.class)})
+        void addSchemas(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                        @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                        @ApiParam(value = "Schemas to add to the group", required = true) SchemaInfoList schemas,
+                        @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
         @POST
         @Path("/{groupName}/schemas/versions/canRead")
         @Consumes({"application/json"})
@@ -393,23 +521,41 @@ public class ApiV1 {
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get the encoding information corresponding to the encoding id.", response = EncodingInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encoding", response = EncodingInfo.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group or encoding id with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while getting encoding info corresponding to encoding id", response = Void.class)})
         void getEncodingInfo(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                              @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                              @ApiParam(value = "Encoding id that identifies a unique combination of schema and codecType", required = true) @PathParam("encodingId") Integer encodingId,
+                             @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch,
                              @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
+        @GET
+        @Path("/{groupName}/encodings")
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Get the encoding information for multiple encoding ids. If encoding ids are not specified, the encodings starting from fromEncodingId are returned, up to a bounded number per call. Encoding ids that are not found are omitted from the response.", response = EncodingInfoList.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Encodings", response = EncodingInfoList.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while getting encoding infos", response = Void.class)})
+        void getEncodingInfos(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                              @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                              @ApiParam(value = "Encoding ids to look up.") @QueryParam("encodingIds") List<Integer> encodingIds,
+                              @ApiParam(value = "Encoding id starting from which all encodings are returned. Ignored if encodingIds are specified.") @QueryParam("fromEncodingId") Integer fromEncodingId,
+                              @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
         @GET
         @Path("/{groupName}")
         @Produces({"application/json"})
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the properties of an existing Group", response = GroupProperties.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group properties", response = GroupProperties.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group details", response = Void.class)})
         void getGroupProperties(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch,
                                 @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
         @GET
@@ -422,8 +568,41 @@ public class ApiV1 {
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group history", response = Void.class)})
         void getGroupHistory(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                              @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                             @ApiParam(value = "Continuation token") @QueryParam("continuationToken") String continuationToken,
+                             @ApiParam(value = "The numbers of items to return in a page") @QueryParam("limit") Integer limit,
+                             @ApiParam(value = "Optional fields to include") @QueryParam("fields") String fields,
+                             @ApiParam(value = "Stream pages") @QueryParam("stream") Boolean stream,
                              @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
+        @GET
+        @Path("/{groupName}/changes")
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch the changes made to the Group since a schema id and an encoding id", response = GroupChanges.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Found Group changes", response = GroupChanges.class),
+                @io.swagger.annotations.ApiResponse(code = 400, message = "Bad request", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group changes", response = Void.class)})
+        void getGroupChanges(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                             @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                             @ApiParam(value = "Schema id starting from which the added schemas are returned.") @QueryParam("fromSchemaId") Integer fromSchemaId,
+                             @ApiParam(value = "Encoding id starting from which the encodings are returned.") @QueryParam("fromEncodingId") Integer fromEncodingId,
+                             @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
+        @GET
+        @Path("/{groupName}/watch")
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Wait for the Group to change. Returns as soon as the Group's etag differs from the etag in If-None-Match, or with 304 if the Group does not change within the timeout. The Group's etag is returned in the ETag header", response = Void.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Group changed", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Group did not change within the timeout", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while watching Group", response = Void.class)})
+        void watchGroup(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                        @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                        @ApiParam(value = "Etag of the Group known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch,
+                        @ApiParam(value = "Time in milliseconds to wait for the Group to change.") @QueryParam("timeoutMillis") Integer timeoutMillis,
+                        @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
         @GET
         @Path("/{groupName}/schemas/versions")
         @Produces({"application/json"})
@@ -435,6 +614,10 @@ public class ApiV1 {
         void getSchemaVersions(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                                @ApiParam(value = "Type") @QueryParam("type") String type,
+                               @ApiParam(value = "Continuation token") @QueryParam("continuationToken") String continuationToken,
+                               @ApiParam(value = "The numbers of items to return in a page") @QueryParam("limit") Integer limit,
+                               @ApiParam(value = "Optional fields to include") @QueryParam("fields") String fields,
+                               @ApiParam(value = "Stream pages") @QueryParam("stream") Boolean stream,
                                @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
         @GET
@@ -443,11 +626,14 @@ public class ApiV1 {
         @io.swagger.annotations.ApiOperation(value = "", notes = "Fetch latest schema versions for all objects identified by SchemaInfo#getType() under a Group. If query param type is specified then latest schema for the type is returned.", response = SchemaVersionsList.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Latest schemas for all objects identified by SchemaInfo#getType() under the group", response = SchemaVersionsList.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching Group's latest schemas", response = Void.class)})
         void getSchemas(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                         @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                         @ApiParam(value = "Type of object") @QueryParam("type") String type,
+                        @ApiParam(value = "Optional fields to include") @QueryParam("fields") String fields,
+                        @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch,
                         @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
         @PUT
@@ -471,13 +657,28 @@ public class ApiV1 {
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get schema from the version id that uniquely identifies the schema in the group.", response = SchemaInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema corresponding to the version", response = SchemaInfo.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching schema from version", response = Void.class)})
         void getSchemaForId(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                             @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                             @ApiParam(value = "version id", required = true) @PathParam("schemaId") Integer schemaId,
+                            @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch,
                             @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
+        @GET
+        @Path("/{groupName}/schemas/schema")
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Get schemas for multiple schema ids. Schema ids that are not found are omitted from the response.", response = SchemaVersionsList.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Schemas corresponding to the schema ids", response = SchemaVersionsList.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching schemas", response = Void.class)})
+        void getSchemasForIds(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                              @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                              @ApiParam(value = "Schema ids to look up.", required = true) @QueryParam("schemaIds") List<Integer> schemaIds,
+                              @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
         @DELETE
         @Path("/{groupName}/schemas/schema/{schemaId}")
         @Produces({"application/json"})
@@ -497,6 +698,7 @@ public class ApiV1 {
         @io.swagger.annotations.ApiOperation(value = "", notes = "Get schema from the version id that uniquely identifies the schema in the group.", response = SchemaInfo.class, tags = {"Group", })
         @io.swagger.annotations.ApiResponses(value = {
                 @io.swagger.annotations.ApiResponse(code = 200, message = "Schema corresponding to the version", response = SchemaInfo.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Not modified", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
                 @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while fetching schema from version", response = Void.class)})
         void getSchemaFromVersion(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
@@ -504,6 +706,7 @@ public class ApiV1 {
                                   @ApiParam(value = "Serialization format", required = true) @PathParam("serializationFormat") String serializationFormat,
                                   @ApiParam(value = "Schema type from SchemaInfo#getType() or VersionInfo#type", required = true) @PathParam("type") String type,
                                   @ApiParam(value = "Version number", required = true) @PathParam("version") Integer version,
+                                  @ApiParam(value = "Etag of the response known to the caller.") @HeaderParam("If-None-Match") String ifNoneMatch,
                                   @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
         @DELETE
@@ -573,6 +776,23 @@ public class ApiV1 {
                       @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                       @ApiParam(value = "Checks if schema is valid with respect to supplied compatibility", required = true) ValidateRequest validateRequest,
                       @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
+        @PUT
+        @Path("/{groupName}/serializers/bootstrap")
+        @Consumes({"application/json"})
+        @Produces({"application/json"})
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Performs all the registry calls needed to initialize a serializer in a single request.", response = SerializerBootstrapInfo.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Serializer bootstrap information", response = SerializerBootstrapInfo.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name or schema not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 409, message = "Incompatible schema", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 412, message = "Codec type not registered", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 417, message = "Invalid serialization format", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while bootstrapping serializer", response = Void.class)})
+        void bootstrapSerializer(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                                 @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                                 @ApiParam(value = "Schema and codecType to bootstrap the serializer with", required = true) BootstrapSerializerRequest bootstrapSerializerRequest,
+                                 @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
     }
 
     /**
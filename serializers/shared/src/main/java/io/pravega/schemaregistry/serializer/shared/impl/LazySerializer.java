@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import com.google.common.base.Preconditions;
+import io.pravega.client.stream.Serializer;
+import io.pravega.common.concurrent.Futures;
+import org.apache.commons.lang3.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Serializer that delegates to a serializer which is being created in the background. Serializers and deserializers
+ * interact with the registry service when they are created, to register or validate schemas and to fetch encoding ids.
+ * This serializer can be returned to the caller right away while that happens. The first call to serialize or
+ * deserialize waits for the underlying serializer for up to the supplied timeout and fails with a 
+ * {@link SerializationException} if it is not created in time. If the underlying serializer could not be created, each 
+ * call fails with the exception that caused its creation to fail.
+ *
+ * @param <T> Type of event.
+ */
+public class LazySerializer<T> implements Serializer<T> {
+    private final CompletableFuture<Serializer<T>> serializer;
+    private final long timeoutMillis;
+
+    public LazySerializer(CompletableFuture<Serializer<T>> serializer, Duration timeout) {
+        Preconditions.checkNotNull(serializer);
+        Preconditions.checkNotNull(timeout);
+        Preconditions.checkArgument(!timeout.isNegative() && !timeout.isZero(), "timeout should be positive");
+        this.serializer = serializer;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public ByteBuffer serialize(T value) {
+        return getSerializer().serialize(value);
+    }
+
+    @Override
+    public T deserialize(ByteBuffer serializedValue) {
+        return getSerializer().deserialize(serializedValue);
+    }
+
+    private Serializer<T> getSerializer() {
+        try {
+            // once the serializer is created, this does not block.
+            return Futures.getThrowingExceptionWithTimeout(serializer, timeoutMillis);
+        } catch (TimeoutException e) {
+            throw new SerializationException("serializer was not created in time", e);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import io.pravega.schemaregistry.serializer.shared.impl.CustomDeserializer;
 import io.pravega.schemaregistry.serializer.shared.impl.CustomSerializer;
 import io.pravega.schemaregistry.serializer.shared.impl.CustomSerializerFactory;
 import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
+import io.pravega.schemaregistry.serializer.shared.impl.LazySerializer;
 import io.pravega.schemaregistry.serializer.shared.impl.MultiplexedAndGenericDeserializer;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 import lombok.NonNull;
@@ -41,8 +42,12 @@ import org.apache.avro.generic.GenericRecord;
 
 import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.google.protobuf.DescriptorProtos.FileDescriptorSet;
@@ -473,4 +478,42 @@ public class SerializerFactory {
         return MultiFormatSerializerFactory.deserializeAsT(config, transform);
     }
     // endregion
+
+    // region async
+    /**
+     * Creates a serializer or deserializer asynchronously using the supplied factory method on the given executor. 
+     * Serializers and deserializers interact with the registry service when they are created, for example to register 
+     * schema or codec, fetch encoding id or validate reader schema. Creating them asynchronously allows applications
+     * to create many serializers in parallel and without blocking the calling thread. 
+     * Example: {@code createAsync(() -> SerializerFactory.avroSerializer(config, schema), executor)}.
+     *
+     * @param factory  Factory method that creates the serializer, typically one of the methods in this class.
+     * @param executor Executor on which the serializer is created.
+     * @param <T>      Type of event.
+     * @return A future which when completed will have the serializer. It is completed exceptionally if the factory 
+     * method throws an exception. 
+     */
+    public static <T> CompletableFuture<Serializer<T>> createAsync(@NonNull Supplier<Serializer<T>> factory, 
+                                                                   @NonNull Executor executor) {
+        return CompletableFuture.supplyAsync(factory, executor);
+    }
+
+    /**
+     * Creates a serializer or deserializer which is returned right away while the underlying serializer is created 
+     * in the background using {@link #createAsync}. The first call to {@link Serializer#serialize(Object)} or 
+     * {@link Serializer#deserialize(ByteBuffer)} waits for the underlying serializer to be created for up to the 
+     * supplied timeout. If the underlying serializer could not be created, every call on the returned serializer fails
+     * with the exception thrown by the factory method. 
+     *
+     * @param factory  Factory method that creates the serializer, typically one of the methods in this class.
+     * @param executor Executor on which the serializer is created.
+     * @param timeout  Maximum time to wait for the underlying serializer to be created when it is first used. 
+     * @param <T>      Type of event.
+     * @return A serializer that delegates to the serializer created by the factory method.
+     */
+    public static <T> Serializer<T> lazy(@NonNull Supplier<Serializer<T>> factory, @NonNull Executor executor, 
+                                         @NonNull Duration timeout) {
+        return new LazySerializer<>(createAsync(factory, executor), timeout);
+    }
+    // endregion
 }
@@ -24,16 +24,25 @@ import io.pravega.schemaregistry.serializer.json.schemas.JSONSchema;
 import io.pravega.schemaregistry.serializer.protobuf.schemas.ProtobufSchema;
 import io.pravega.schemaregistry.serializer.protobuf.generated.ProtobufTest;
 import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
+import io.pravega.schemaregistry.serializer.shared.impl.LazySerializer;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 import io.pravega.schemaregistry.serializer.shared.testobjs.Address;
 import io.pravega.schemaregistry.serializer.shared.testobjs.DerivedUser1;
+import io.pravega.test.common.AssertExtensions;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.lang3.SerializationException;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
@@ -137,4 +146,54 @@ public class SerializerTest {
         deserialized = deserializer.deserialize(buf);
         assertEquals(deserialized, message);
     }
+
+    @Test
+    public void testAsyncAndLazySerializer() throws Exception {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        doAnswer(x -> GroupProperties.builder().serializationFormat(SerializationFormat.Any).build())
+                .when(client).getGroupProperties(anyString());
+        VersionInfo versionInfo = new VersionInfo("proto", SerializationFormat.Protobuf.getFullTypeName(), 0, 0);
+        ProtobufSchema<ProtobufTest.Message2> schema = ProtobufSchema.of(ProtobufTest.Message2.class);
+        CompletableFuture<Void> registered = new CompletableFuture<>();
+        doAnswer(x -> {
+            // block the serializer construction until the test allows it. 
+            registered.join();
+            return versionInfo;
+        }).when(client).getVersionForSchema(anyString(), eq(schema.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo), any());
+        doAnswer(x -> new EncodingInfo(versionInfo, schema.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
+        doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
+
+        SerializerConfig config = SerializerConfig.builder().registryClient(client).groupId("groupId").build();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<Serializer<ProtobufTest.Message2>> serializerFuture =
+                    SerializerFactory.createAsync(() -> SerializerFactory.protobufSerializer(config, schema), executor);
+            Serializer<ProtobufTest.Message2> lazy = SerializerFactory.lazy(() -> SerializerFactory.protobufSerializer(config, schema),
+                    executor, Duration.ofSeconds(30));
+            // serializers are returned while registration is blocked.
+            assertFalse(serializerFuture.isDone());
+            registered.complete(null);
+            
+            ProtobufTest.Message2 message = ProtobufTest.Message2.newBuilder().setName("name").setField1(1).build();
+            assertEquals(serializerFuture.join().serialize(message), lazy.serialize(message));
+
+            // lazy serializer times out if the serializer is not created in time.
+            Serializer<ProtobufTest.Message2> neverCreated = new LazySerializer<>(new CompletableFuture<>(), Duration.ofMillis(10));
+            AssertExtensions.assertThrows("", () -> neverCreated.serialize(message), 
+                    e -> e instanceof SerializationException && e.getCause() instanceof TimeoutException);
+
+            // failure to create the serializer is surfaced on use.
+            doAnswer(x -> {
+                throw new IllegalArgumentException();
+            }).when(client).getVersionForSchema(anyString(), eq(schema.getSchemaInfo()));
+            AssertExtensions.assertFutureThrows("", SerializerFactory.createAsync(() -> SerializerFactory.protobufSerializer(config, schema), executor), 
+                    e -> e instanceof IllegalArgumentException);
+            Serializer<ProtobufTest.Message2> failed = SerializerFactory.lazy(() -> SerializerFactory.protobufSerializer(config, schema),
+                    executor, Duration.ofSeconds(30));
+            AssertExtensions.assertThrows("", () -> failed.serialize(message), e -> e instanceof IllegalArgumentException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
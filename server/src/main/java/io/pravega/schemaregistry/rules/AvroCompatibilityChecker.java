@@ -9,70 +9,126 @@
  */
 package io.pravega.schemaregistry.rules;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.service.Config;
+import io.pravega.schemaregistry.service.SchemaCache;
+import lombok.Data;
 import org.apache.avro.Schema;
-import org.apache.avro.SchemaValidationException;
-import org.apache.avro.SchemaValidator;
-import org.apache.avro.SchemaValidatorBuilder;
+import org.apache.avro.SchemaCompatibility;
 
+import java.math.BigInteger;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Compatibility checker for Avro schemas. 
+ * Every check is broken down into checks of whether a reader schema can read data written with a writer schema. 
+ * The result of each such check is cached against the fingerprints of the two schemas, and so are the parsed schemas. 
+ * So validating a schema repeatedly against a group's history only parses and checks the schemas that have not been 
+ * seen before.
  */
 public class AvroCompatibilityChecker implements CompatibilityChecker {
-    private static final SchemaValidator CAN_READ = new SchemaValidatorBuilder().canReadStrategy().validateAll();
-    private static final SchemaValidator CAN_BE_READ = new SchemaValidatorBuilder().canBeReadStrategy().validateAll();
-    private static final SchemaValidator MUTUAL_READ = new SchemaValidatorBuilder().mutualReadStrategy().validateAll();
+    /**
+     * Cache of parsed schemas shared with the normalization of schemas, so that schemas parsed while they were added 
+     * are not parsed again for checking compatibility. 
+     */
+    private final SchemaCache schemaCache;
+    /**
+     * Cache of results of checking whether the reader schema can read data written with the writer schema. 
+     */
+    private final Cache<ReaderAndWriter, Boolean> results;
+
+    public AvroCompatibilityChecker(SchemaCache schemaCache) {
+        this(schemaCache, Config.COMPATIBILITY_RESULTS_CACHE_SIZE);
+    }
+
+    @VisibleForTesting
+    AvroCompatibilityChecker(SchemaCache schemaCache, int resultsCacheSize) {
+        this.schemaCache = schemaCache;
+        this.results = CacheBuilder.newBuilder()
+                                   .maximumSize(resultsCacheSize)
+                                   .build();
+    }
 
     public boolean canRead(SchemaInfo readUsing, List<SchemaInfo> writtenUsing) {
-        Schema schema = parseSchema(readUsing);
-        List<Schema> writtenUsingSchemas = parseSchemas(writtenUsing);
-        try {
-            CAN_READ.validate(schema, writtenUsingSchemas);
-        } catch (SchemaValidationException e) {
-            return false;
-        }
-        return true;
+        FingerprintedSchema schema = fingerprint(readUsing);
+        List<FingerprintedSchema> writtenUsingSchemas = fingerprint(writtenUsing);
+        return writtenUsingSchemas.stream().allMatch(writer -> canRead(schema, writer));
     }
     
     public boolean canBeRead(SchemaInfo writtenUsing, List<SchemaInfo> readUsing) {
-        Schema schema = parseSchema(writtenUsing);
-        List<Schema> readUsingSchemas = parseSchemas(readUsing);
-        try {
-            CAN_BE_READ.validate(schema, readUsingSchemas);
-        } catch (SchemaValidationException e) {
-            return false;
-        }
-        return true;
+        FingerprintedSchema schema = fingerprint(writtenUsing);
+        List<FingerprintedSchema> readUsingSchemas = fingerprint(readUsing);
+        return readUsingSchemas.stream().allMatch(reader -> canRead(reader, schema));
     }
 
     public boolean canMutuallyRead(SchemaInfo toValidate, List<SchemaInfo> schemaList) {
-        Schema schema = parseSchema(toValidate);
-        List<Schema> schemas = parseSchemas(schemaList);
-        try {
-            MUTUAL_READ.validate(schema, schemas);
-        } catch (SchemaValidationException e) {
-            return false;
+        FingerprintedSchema schema = fingerprint(toValidate);
+        List<FingerprintedSchema> schemas = fingerprint(schemaList);
+        return schemas.stream().allMatch(x -> canRead(schema, x) && canRead(x, schema));
+    }
+
+    @VisibleForTesting
+    long resultsCount() {
+        return results.size();
+    }
+
+    private boolean canRead(FingerprintedSchema reader, FingerprintedSchema writer) {
+        ReaderAndWriter key = new ReaderAndWriter(reader.getFingerprint(), writer.getFingerprint());
+        Boolean result = results.getIfPresent(key);
+        if (result == null) {
+            result = SchemaCompatibility.checkReaderWriterCompatibility(parseSchema(reader), parseSchema(writer))
+                                        .getType().equals(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE);
+            results.put(key, result);
         }
-        return true;
+        return result;
+    }
+
+    private Schema parseSchema(FingerprintedSchema schema) {
+        return parseSchema(schema.getSchemaInfo(), schema.getFingerprint());
+    }
+
+    /**
+     * Parses the schema, or gets it from the schema cache. 
+     * 
+     * @param schemaInfo schema to parse. 
+     * @param fingerprint fingerprint of the schema data. 
+     * @return parsed schema. 
+     */
+    Schema parseSchema(SchemaInfo schemaInfo, BigInteger fingerprint) {
+        return schemaCache.getParsedSchema(schemaInfo, fingerprint,
+                x -> new Schema.Parser().parse(new String(x.getSchemaData().array(), Charsets.UTF_8)));
     }
 
-    private Schema parseSchema(SchemaInfo schema) {
+    private FingerprintedSchema fingerprint(SchemaInfo schema) {
         Preconditions.checkArgument(schema != null && schema.getSerializationFormat().equals(SerializationFormat.Avro),
                 "Schema should be avro.");
-        Schema.Parser parser = new Schema.Parser();
-        return parser.parse(new String(schema.getSchemaData().array(), Charsets.UTF_8));
+        return new FingerprintedSchema(schema, HashUtil.getFingerprint(schema.getSchemaData().array()));
     }
 
-    private List<Schema> parseSchemas(List<SchemaInfo> schemaList) {
+    private List<FingerprintedSchema> fingerprint(List<SchemaInfo> schemaList) {
         Preconditions.checkArgument(schemaList != null && schemaList.stream().allMatch(x -> x.getSerializationFormat().equals(SerializationFormat.Avro)),
                 "All schemas to compare against should be avro.");
-        return schemaList.stream().map(x -> new Schema.Parser().parse(new String(x.getSchemaData().array(), Charsets.UTF_8)))
-                                .collect(Collectors.toList());
+        return schemaList.stream().map(x -> new FingerprintedSchema(x, HashUtil.getFingerprint(x.getSchemaData().array())))
+                         .collect(Collectors.toList());
+    }
+
+    @Data
+    private static class FingerprintedSchema {
+        private final SchemaInfo schemaInfo;
+        private final BigInteger fingerprint;
+    }
+
+    @Data
+    private static class ReaderAndWriter {
+        private final BigInteger reader;
+        private final BigInteger writer;
     }
 }
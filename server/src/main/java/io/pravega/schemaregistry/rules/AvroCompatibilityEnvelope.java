@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.rules;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Summary of a list of Avro record schemas that answers whether a schema is compatible with all the schemas in the list
+ * without checking it against each of them.
+ *
+ * Avro checks a reader record against a writer record by comparing their names and then checking each field of the
+ * reader against the field of the writer with the same name or with one of the reader field's aliases. If there is no
+ * such field, the reader field needs a default. So the result only depends on the names of the two records and on the
+ * individual fields. The envelope keeps the distinct projections of the schemas. A projection is a record with the
+ * name and aliases of a schema and a single field of it. Projections are grouped by field name. The envelope also
+ * keeps, for each field name, the schemas that do not have the field, projected without any fields.
+ * A schema is checked against each distinct projection instead of each schema. The number of distinct projections
+ * depends on the number of distinct field definitions across the schemas, and not on the number of schemas.
+ *
+ * The answers are the same as those of checking against every schema. Where that cannot be guaranteed, the envelope
+ * does not answer and the caller should check against every schema. This happens when a schema is not a record, when
+ * a schema in the envelope refers to itself, and when a reader field's alias is the name of a field in the envelope.
+ *
+ * Envelopes are immutable. Adding a schema to an envelope returns a new envelope.
+ */
+final class AvroCompatibilityEnvelope {
+    static final AvroCompatibilityEnvelope EMPTY = new AvroCompatibilityEnvelope(
+            Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+
+    /**
+     * Projections of the schemas without any fields, keyed by their json.
+     */
+    private final Map<String, Schema> headers;
+    /**
+     * Projections of the schemas with a single field, keyed by the field's name and then by their json.
+     */
+    private final Map<String, Map<String, Schema>> fields;
+    /**
+     * Projections without any fields of the schemas that do not have a field, keyed by the field's name and then by
+     * their json.
+     */
+    private final Map<String, Map<String, Schema>> missingFields;
+
+    private AvroCompatibilityEnvelope(Map<String, Schema> headers, Map<String, Map<String, Schema>> fields,
+                                      Map<String, Map<String, Schema>> missingFields) {
+        this.headers = headers;
+        this.fields = fields;
+        this.missingFields = missingFields;
+    }
+
+    /**
+     * Creates the envelope of the given schemas.
+     *
+     * @param schemas schemas to summarize.
+     * @return The envelope of the schemas, or null if the schemas cannot be summarized.
+     */
+    @Nullable
+    static AvroCompatibilityEnvelope of(List<Schema> schemas) {
+        AvroCompatibilityEnvelope envelope = EMPTY.copy();
+        for (Schema schema : schemas) {
+            if (!envelope.addSchema(schema)) {
+                return null;
+            }
+        }
+        return envelope;
+    }
+
+    /**
+     * Creates a new envelope with the schemas of this envelope and the given schema.
+     *
+     * @param schema schema to add.
+     * @return The new envelope, or null if the schema cannot be summarized.
+     */
+    @Nullable
+    AvroCompatibilityEnvelope add(Schema schema) {
+        AvroCompatibilityEnvelope envelope = copy();
+        return envelope.addSchema(schema) ? envelope : null;
+    }
+
+    /**
+     * Checks if the reader schema can read data written with all the schemas in the envelope.
+     *
+     * @param reader reader schema.
+     * @return True if the reader can read data written with all the schemas, false if it cannot, and null if the
+     * envelope cannot answer for the schema.
+     */
+    @Nullable
+    Boolean canRead(Schema reader) {
+        if (!reader.getType().equals(Schema.Type.RECORD)) {
+            return null;
+        }
+        for (Schema.Field field : reader.getFields()) {
+            if (field.aliases().stream().anyMatch(fields::containsKey)) {
+                // the writer field a reader field resolves to would depend on which of the names a schema has.
+                return null;
+            }
+        }
+        Schema header = project(reader, null);
+        if (!headers.values().stream().allMatch(writer -> canRead(header, writer))) {
+            return false;
+        }
+        for (Schema.Field field : reader.getFields()) {
+            Schema projection = project(reader, field);
+            Collection<Schema> writers = fields.containsKey(field.name()) ?
+                    Stream.concat(fields.get(field.name()).values().stream(),
+                            missingFields.getOrDefault(field.name(), Collections.emptyMap()).values().stream())
+                          .collect(Collectors.toList()) : headers.values();
+            if (!writers.stream().allMatch(writer -> canRead(projection, writer))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if data written with the writer schema can be read with all the schemas in the envelope.
+     *
+     * @param writer writer schema.
+     * @return True if all the schemas can read data written with the writer, false if they cannot, and null if the
+     * envelope cannot answer for the schema.
+     */
+    @Nullable
+    Boolean canBeRead(Schema writer) {
+        if (!writer.getType().equals(Schema.Type.RECORD)) {
+            return null;
+        }
+        return headers.values().stream().allMatch(reader -> canRead(reader, writer)) &&
+                fields.values().stream().flatMap(x -> x.values().stream()).allMatch(reader -> canRead(reader, writer));
+    }
+
+    private boolean addSchema(Schema schema) {
+        if (!schema.getType().equals(Schema.Type.RECORD) ||
+                schema.getFields().stream().anyMatch(x -> refersTo(x.schema(), schema.getFullName(),
+                        Collections.newSetFromMap(new IdentityHashMap<>())))) {
+            return false;
+        }
+        Schema header = project(schema, null);
+        String headerJson = header.toString();
+        for (Schema.Field field : schema.getFields()) {
+            if (!fields.containsKey(field.name())) {
+                // none of the schemas already in the envelope have the field.
+                missingFields.put(field.name(), new HashMap<>(headers));
+            }
+            Schema projection = project(schema, field);
+            fields.computeIfAbsent(field.name(), x -> new HashMap<>()).putIfAbsent(projection.toString(), projection);
+        }
+        for (String name : fields.keySet()) {
+            if (schema.getField(name) == null) {
+                missingFields.computeIfAbsent(name, x -> new HashMap<>()).putIfAbsent(headerJson, header);
+            }
+        }
+        headers.putIfAbsent(headerJson, header);
+        return true;
+    }
+
+    private AvroCompatibilityEnvelope copy() {
+        return new AvroCompatibilityEnvelope(new HashMap<>(headers), copy(fields), copy(missingFields));
+    }
+
+    private static Map<String, Map<String, Schema>> copy(Map<String, Map<String, Schema>> map) {
+        Map<String, Map<String, Schema>> copy = new HashMap<>();
+        map.forEach((key, value) -> copy.put(key, new HashMap<>(value)));
+        return copy;
+    }
+
+    private static Schema project(Schema schema, @Nullable Schema.Field field) {
+        List<Schema.Field> projectedFields = field == null ? Collections.emptyList() :
+                Collections.singletonList(new Schema.Field(field, field.schema()));
+        Schema projection = Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(),
+                schema.isError(), projectedFields);
+        schema.getAliases().forEach(projection::addAlias);
+        return projection;
+    }
+
+    /**
+     * Checks if the schema refers to the record with the given name. The json of a projection of a record that refers
+     * to itself does not have the record's fields, so two such projections with the same json may differ.
+     */
+    private static boolean refersTo(Schema schema, String fullName, Set<Schema> visited) {
+        switch (schema.getType()) {
+            case RECORD:
+                if (schema.getFullName().equals(fullName)) {
+                    return true;
+                }
+                return visited.add(schema) &&
+                        schema.getFields().stream().anyMatch(x -> refersTo(x.schema(), fullName, visited));
+            case ARRAY:
+                return refersTo(schema.getElementType(), fullName, visited);
+            case MAP:
+                return refersTo(schema.getValueType(), fullName, visited);
+            case UNION:
+                return schema.getTypes().stream().anyMatch(x -> refersTo(x, fullName, visited));
+            default:
+                return false;
+        }
+    }
+
+    private static boolean canRead(Schema reader, Schema writer) {
+        return SchemaCompatibility.checkReaderWriterCompatibility(reader, writer).getType()
+                                  .equals(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.rules;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.pravega.schemaregistry.common.HashUtil;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import org.apache.avro.Schema;
+
+import javax.annotation.Nullable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Compatibility checker for Avro schemas that checks a schema against the {@link AvroCompatibilityEnvelope} of the
+ * schemas it is validated against, instead of against each of them.
+ * Envelopes are cached against the fingerprints of the schemas they summarize. The schemas are passed newest first,
+ * so when a schema is added to a group the envelope of the group's previous schemas is found in the cache and only the
+ * new schema is added to it.
+ * If the envelope cannot answer for the schemas, they are checked exhaustively with the supplied checker.
+ */
+public class AvroEnvelopeCompatibilityChecker implements CompatibilityChecker {
+    private final AvroCompatibilityChecker avroChecker;
+    private final CompatibilityChecker exhaustiveChecker;
+    /**
+     * Cache of envelopes keyed by the fingerprints of the schemas, newest first. Schemas that cannot be summarized are
+     * cached as an empty optional.
+     */
+    private final Cache<List<BigInteger>, Optional<AvroCompatibilityEnvelope>> envelopes;
+
+    /**
+     * Creates the checker.
+     *
+     * @param avroChecker checker whose parsed schemas are used.
+     * @param exhaustiveChecker checker used for schemas the envelope cannot answer for.
+     * @param cacheSize maximum number of envelopes to cache.
+     */
+    public AvroEnvelopeCompatibilityChecker(AvroCompatibilityChecker avroChecker, CompatibilityChecker exhaustiveChecker,
+                                            int cacheSize) {
+        this.avroChecker = avroChecker;
+        this.exhaustiveChecker = exhaustiveChecker;
+        this.envelopes = CacheBuilder.newBuilder()
+                                     .maximumSize(cacheSize)
+                                     .build();
+    }
+
+    @Override
+    public boolean canRead(SchemaInfo readUsing, List<SchemaInfo> writtenUsing) {
+        Boolean result = checkEnvelope(readUsing, writtenUsing, AvroCompatibilityEnvelope::canRead);
+        return result != null ? result : exhaustiveChecker.canRead(readUsing, writtenUsing);
+    }
+
+    @Override
+    public boolean canBeRead(SchemaInfo writtenUsing, List<SchemaInfo> readUsing) {
+        Boolean result = checkEnvelope(writtenUsing, readUsing, AvroCompatibilityEnvelope::canBeRead);
+        return result != null ? result : exhaustiveChecker.canBeRead(writtenUsing, readUsing);
+    }
+
+    @Override
+    public boolean canMutuallyRead(SchemaInfo schema, List<SchemaInfo> schemaList) {
+        Boolean result = checkEnvelope(schema, schemaList, (envelope, toValidate) -> {
+            Boolean canRead = envelope.canRead(toValidate);
+            return canRead == null || !canRead ? canRead : envelope.canBeRead(toValidate);
+        });
+        return result != null ? result : exhaustiveChecker.canMutuallyRead(schema, schemaList);
+    }
+
+    @Nullable
+    private Boolean checkEnvelope(SchemaInfo schema, List<SchemaInfo> schemaList,
+                                  BiFunction<AvroCompatibilityEnvelope, Schema, Boolean> check) {
+        Preconditions.checkArgument(schema != null && schema.getSerializationFormat().equals(SerializationFormat.Avro),
+                "Schema should be avro.");
+        Preconditions.checkArgument(schemaList != null && schemaList.stream().allMatch(x -> x.getSerializationFormat().equals(SerializationFormat.Avro)),
+                "All schemas to compare against should be avro.");
+        List<BigInteger> fingerprints = schemaList.stream().map(x -> HashUtil.getFingerprint(x.getSchemaData().array()))
+                                                  .collect(Collectors.toList());
+        AvroCompatibilityEnvelope envelope = getEnvelope(schemaList, fingerprints);
+        if (envelope == null) {
+            return null;
+        }
+        return check.apply(envelope, avroChecker.parseSchema(schema, HashUtil.getFingerprint(schema.getSchemaData().array())));
+    }
+
+    @Nullable
+    private AvroCompatibilityEnvelope getEnvelope(List<SchemaInfo> schemaList, List<BigInteger> fingerprints) {
+        Optional<AvroCompatibilityEnvelope> envelope = envelopes.getIfPresent(fingerprints);
+        if (envelope == null) {
+            Optional<AvroCompatibilityEnvelope> previous = fingerprints.isEmpty() ? null :
+                    envelopes.getIfPresent(fingerprints.subList(1, fingerprints.size()));
+            if (previous != null) {
+                envelope = previous.map(x -> x.add(avroChecker.parseSchema(schemaList.get(0), fingerprints.get(0))));
+            } else {
+                List<Schema> schemas = new ArrayList<>();
+                for (int i = schemaList.size() - 1; i >= 0; i--) {
+                    schemas.add(avroChecker.parseSchema(schemaList.get(i), fingerprints.get(i)));
+                }
+                envelope = Optional.ofNullable(AvroCompatibilityEnvelope.of(schemas));
+            }
+            envelopes.put(new ArrayList<>(fingerprints), envelope);
+        }
+        return envelope.orElse(null);
+    }
+}
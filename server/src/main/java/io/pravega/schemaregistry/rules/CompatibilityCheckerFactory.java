@@ -10,21 +10,50 @@
 package io.pravega.schemaregistry.rules;
 
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.service.Config;
+import io.pravega.schemaregistry.service.SchemaCache;
+
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Factory for compatibility checkers. 
  * Currently we only have implementation for avro compatibility checker. 
  * For all other SerializationFormat the default {@link AlwaysTrueCompatibilityChecker} is used. 
+ * Avro schemas are validated against the {@link AvroCompatibilityEnvelope} of the schemas they are validated against. 
+ * Where the envelope cannot answer, and when envelopes are disabled, they are validated against each of the schemas in 
+ * parallel on a pool dedicated to compatibility checks. 
  */
 public class CompatibilityCheckerFactory {
-    private static final AvroCompatibilityChecker AVRO_COMPATIBILITY_CHECKER = new AvroCompatibilityChecker();
+    private static final ForkJoinPool COMPATIBILITY_CHECK_POOL = new ForkJoinPool(Config.COMPATIBILITY_CHECK_PARALLELISM,
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
     private static final AlwaysTrueCompatibilityChecker ALWAYS_TRUE_COMPATIBILITY_CHECKER = new AlwaysTrueCompatibilityChecker();
+    private final CompatibilityChecker avroCompatibilityChecker;
+
+    /**
+     * Creates the factory. 
+     *
+     * @param schemaCache cache of parsed schemas used by the checkers. 
+     */
+    public CompatibilityCheckerFactory(SchemaCache schemaCache) {
+        this.avroCompatibilityChecker = createAvroCompatibilityChecker(schemaCache);
+    }
     
-    public static CompatibilityChecker getCompatibilityChecker(SerializationFormat serializationFormat) {
+    public CompatibilityChecker getCompatibilityChecker(SerializationFormat serializationFormat) {
         if (serializationFormat.equals(SerializationFormat.Avro)) {
-            return AVRO_COMPATIBILITY_CHECKER;
+            return avroCompatibilityChecker;
         } else {
             return ALWAYS_TRUE_COMPATIBILITY_CHECKER;
         }
     }
+
+    private static CompatibilityChecker createAvroCompatibilityChecker(SchemaCache schemaCache) {
+        AvroCompatibilityChecker avroChecker = new AvroCompatibilityChecker(schemaCache);
+        CompatibilityChecker exhaustiveChecker = new ParallelCompatibilityChecker(avroChecker, COMPATIBILITY_CHECK_POOL,
+                Config.COMPATIBILITY_CHECK_BATCH_SIZE);
+        if (Config.COMPATIBILITY_ENVELOPE_ENABLED) {
+            return new AvroEnvelopeCompatibilityChecker(avroChecker, exhaustiveChecker, Config.COMPATIBILITY_ENVELOPES_CACHE_SIZE);
+        } else {
+            return exhaustiveChecker;
+        }
+    }
 }
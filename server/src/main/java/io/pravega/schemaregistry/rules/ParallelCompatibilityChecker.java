@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.rules;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Compatibility checker that validates a schema against a long list of schemas in parallel. 
+ * The list is partitioned into batches, and the batches are checked with the wrapped checker on the supplied executor. 
+ * Batches are submitted in the order of the list, and callers pass the schemas newest first, so the schemas that 
+ * are most likely to be incompatible are checked first. As soon as a batch is found to be incompatible the result is 
+ * returned and the batches that have not started yet are not checked. 
+ * Lists that fit in a single batch are checked on the calling thread. 
+ * The executor should not be used for anything that blocks on its tasks, because the calling thread waits for the 
+ * batches to be checked.
+ */
+public class ParallelCompatibilityChecker implements CompatibilityChecker {
+    private final CompatibilityChecker checker;
+    private final Executor executor;
+    private final int batchSize;
+
+    public ParallelCompatibilityChecker(CompatibilityChecker checker, Executor executor, int batchSize) {
+        Preconditions.checkArgument(batchSize > 0, "Batch size should be positive.");
+        this.checker = checker;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean canRead(SchemaInfo readUsing, List<SchemaInfo> writtenUsing) {
+        return allMatch(writtenUsing, batch -> checker.canRead(readUsing, batch));
+    }
+
+    @Override
+    public boolean canBeRead(SchemaInfo writtenUsing, List<SchemaInfo> readUsing) {
+        return allMatch(readUsing, batch -> checker.canBeRead(writtenUsing, batch));
+    }
+
+    @Override
+    public boolean canMutuallyRead(SchemaInfo schema, List<SchemaInfo> schemaList) {
+        return allMatch(schemaList, batch -> checker.canMutuallyRead(schema, batch));
+    }
+
+    private boolean allMatch(List<SchemaInfo> schemas, Predicate<List<SchemaInfo>> check) {
+        if (schemas == null || schemas.size() <= batchSize) {
+            return check.test(schemas);
+        }
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        List<CompletableFuture<Void>> batches = Lists.partition(schemas, batchSize).stream().map(batch ->
+                CompletableFuture.runAsync(() -> {
+                    // skip the batch if another batch has already been found to be incompatible. 
+                    if (!result.isDone() && !check.test(batch)) {
+                        result.complete(false);
+                    }
+                }, executor)).collect(Collectors.toList());
+        Futures.allOf(batches).whenComplete((v, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+            } else {
+                result.complete(true);
+            }
+        });
+        try {
+            return Futures.getThrowingException(result);
+        } finally {
+            // batches that have not started yet will not run once cancelled.
+            batches.forEach(batch -> batch.cancel(false));
+        }
+    }
+}
@@ -13,25 +13,34 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import io.pravega.auth.AuthException;
 import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.FuturesUtility;
+import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.generated.rest.model.BootstrapSerializerRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecType;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
 import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.EncodingId;
-import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoList;
+import io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfoWithId;
 import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfoList;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.generated.rest.model.SerializerBootstrapInfo;
 import io.pravega.schemaregistry.contract.generated.rest.model.UpdateCompatibilityRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.Valid;
 import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.VersionInfoList;
 import io.pravega.schemaregistry.contract.transform.ModelHelper;
 import io.pravega.schemaregistry.contract.v1.ApiV1;
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
@@ -39,19 +48,36 @@ import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
 import io.pravega.schemaregistry.server.rest.auth.AuthContext;
 import io.pravega.schemaregistry.service.SchemaRegistryService;
 import io.pravega.schemaregistry.storage.ContinuationToken;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.glassfish.jersey.server.ChunkedOutput;
 
+import javax.annotation.Nullable;
 import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.pravega.auth.AuthHandler.Permissions.READ;
@@ -64,6 +90,11 @@ import static javax.ws.rs.core.Response.Status;
 @Slf4j
 public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsApiAsync {
     private static final int DEFAULT_LIST_GROUPS_LIMIT = 100;
+    private static final int DEFAULT_HISTORY_LIMIT = 100;
+    private static final int DEFAULT_WATCH_TIMEOUT_MILLIS = 30000;
+    private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+    private static final String SCHEMA_DATA_FIELD = "schemaData";
+    private static final String SCHEMA_STRING_FIELD = "schemaString";
     
     public GroupResourceImpl(SchemaRegistryService registryService, ServiceConfig config, 
                              AuthHandlerManager authHandlerManager, Executor executor) {
@@ -153,16 +184,17 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
     }
 
     @Override
-    public void getGroupProperties(String namespace, String group, 
+    public void getGroupProperties(String namespace, String group, String ifNoneMatch,
                                    SecurityContext securityContext, AsyncResponse asyncResponse) {
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) : 
                 getGroupResource(group, namespace);
         withAuthorization(READ, resource, asyncResponse,
-                () -> getRegistryService().getGroupProperties(namespace, group)
-                                     .thenApply(groupProperty -> {
-                                         log.info("Group {} {} property found are {}", namespace, group, groupProperty);
-                                         return Response.status(Status.OK).entity(ModelHelper.encode(groupProperty)).build();
-                                     }), 
+                () -> withGroupEtag(namespace, group, ifNoneMatch, 
+                        () -> getRegistryService().getGroupProperties(namespace, group)
+                                                  .thenApply(groupProperty -> {
+                                                      log.info("Group {} {} property found are {}", namespace, group, groupProperty);
+                                                      return ModelHelper.encode(groupProperty);
+                                                  })), 
                 securityContext, () -> String.format("getGroupProperties for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -171,19 +203,25 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
     }
     
     @Override
-    public void getGroupHistory(String namespace, String group, SecurityContext securityContext, AsyncResponse asyncResponse) {
+    public void getGroupHistory(String namespace, String group, String continuationToken, Integer limit, String fields, 
+                                Boolean stream, SecurityContext securityContext, AsyncResponse asyncResponse) {
         log.info("Get group history called for group {} {}", namespace, group);
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
         withAuthorization(READ, resource, asyncResponse,
-                () -> getRegistryService().getGroupHistory(namespace, group, null)
-                                     .thenApply(history -> {
-                                         GroupHistory list = new GroupHistory()
-                                                 .history(history.stream().map(ModelHelper::encode)
-                                                                 .collect(Collectors.toList()));
-                                         log.info("getGroupHistory: {} schemas found for group {} {}", list.getHistory().size(), namespace, group);
-                                         return Response.status(Status.OK).entity(list).build();
-                                     }), 
+                () -> {
+                    Set<String> include = parseFields(fields, SCHEMA_DATA_FIELD, SCHEMA_STRING_FIELD);
+                    return getHistoryResponse(namespace, group, null, continuationToken, limit, stream, 
+                            includes(include, SCHEMA_DATA_FIELD), includes(include, SCHEMA_STRING_FIELD), 
+                            (history, token) -> {
+                                GroupHistory list = new GroupHistory()
+                                        .history(history.stream().map(x -> encode(x, include))
+                                                        .collect(Collectors.toList()))
+                                        .continuationToken(token);
+                                log.info("getGroupHistory: {} schemas found for group {} {}", list.getHistory().size(), namespace, group);
+                                return list;
+                            }, GroupHistory.class);
+                }, 
                 securityContext, () -> String.format("getGroupHistory for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -191,6 +229,52 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
                 });
     }
 
+    @Override
+    public void getGroupChanges(String namespace, String group, Integer fromSchemaId, Integer fromEncodingId,
+                                SecurityContext securityContext, AsyncResponse asyncResponse) {
+        log.info("Get group changes called for group {} {} from schema id {} and encoding id {}", namespace, group, 
+                fromSchemaId, fromEncodingId);
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
+                getGroupResource(group, namespace);
+        withAuthorization(READ, resource, asyncResponse,
+                () -> getRegistryService().getGroupChanges(namespace, group, fromSchemaId == null ? 0 : fromSchemaId, 
+                        fromEncodingId == null ? 0 : fromEncodingId)
+                                          .thenApply(changes -> {
+                                              log.info("getGroupChanges: {} schemas and {} encodings found for group {} {}", 
+                                                      changes.getSchemas().size(), changes.getEncodings().size(), namespace, group);
+                                              return Response.status(Status.OK).entity(ModelHelper.encode(changes)).build();
+                                          }),
+                securityContext, () -> String.format("getGroupChanges for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+                    asyncResponse.resume(response);
+                    return response;
+                });
+    }
+
+    @Override
+    public void watchGroup(String namespace, String group, String ifNoneMatch, Integer timeoutMillis,
+                           SecurityContext securityContext, AsyncResponse asyncResponse) {
+        log.info("Watch group called for group {} {} with etag {}", namespace, group, ifNoneMatch);
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
+                getGroupResource(group, namespace);
+        withAuthorization(READ, resource, asyncResponse,
+                () -> {
+                    String etag = parseEntityTag(ifNoneMatch);
+                    return getRegistryService().watchGroup(namespace, group, etag, 
+                            timeoutMillis == null ? DEFAULT_WATCH_TIMEOUT_MILLIS : timeoutMillis)
+                                               .thenApply(current -> {
+                                                   Response.ResponseBuilder builder = current.equals(etag) ? 
+                                                           Response.notModified() : Response.ok();
+                                                   return builder.tag(new EntityTag(current)).build();
+                                               });
+                },
+                securityContext, () -> String.format("watchGroup for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+                    asyncResponse.resume(response);
+                    return response;
+                });
+    }
+
     @Override
     public void updateCompatibility(String namespace, String group, UpdateCompatibilityRequest updateCompatibilityRequest, 
                                             SecurityContext securityContext, AsyncResponse asyncResponse) {
@@ -234,22 +318,28 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
     }
 
     @Override
-    public void getSchemaVersions(String namespace, String group, String type, SecurityContext securityContext, AsyncResponse asyncResponse) {
+    public void getSchemaVersions(String namespace, String group, String type, String continuationToken, Integer limit,
+                                  String fields, Boolean stream, SecurityContext securityContext, AsyncResponse asyncResponse) {
         log.info("Get group schemas called for group {} {}", namespace, group);
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
         withAuthorization(READ, resource, asyncResponse,
-                () -> getRegistryService().getGroupHistory(namespace, group, type)
-                                     .thenApply(history -> {
-                                         SchemaVersionsList list = new SchemaVersionsList()
-                                                 .schemas(history.stream().map(x -> new SchemaWithVersion()
-                                                         .schemaInfo(ModelHelper.encode(x.getSchemaInfo()))
-                                                         .versionInfo(ModelHelper.encode(x.getVersionInfo())))
-                                                                 .collect(Collectors.toList()));
-                                         log.info("getSchemaVersions: {} schemas found for group {} {}", list.getSchemas().size(), namespace, group);
-                                         return Response.status(Status.OK).entity(list).build();
-                                     }), 
+                () -> {
+                    Set<String> include = parseFields(fields, SCHEMA_DATA_FIELD);
+                    return getHistoryResponse(namespace, group, type, continuationToken, limit, stream, 
+                            includes(include, SCHEMA_DATA_FIELD), false, 
+                            (history, token) -> {
+                                SchemaVersionsList list = new SchemaVersionsList()
+                                        .schemas(history.stream().map(x -> new SchemaWithVersion()
+                                                .schemaInfo(encode(x.getSchemaInfo(), include))
+                                                .versionInfo(ModelHelper.encode(x.getVersionInfo())))
+                                                        .collect(Collectors.toList()))
+                                        .continuationToken(token);
+                                log.info("getSchemaVersions: {} schemas found for group {} {}", list.getSchemas().size(), namespace, group);
+                                return list;
+                            }, SchemaVersionsList.class);
+                }, 
                 securityContext, () -> String.format("getSchemaVersions for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -257,6 +347,224 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
                 });
     }
 
+    /**
+     * Gets the group history and builds the response using the encoder. If neither continuation token nor limit is 
+     * specified, the entire history is returned in one response. Otherwise a page of history is returned along with the 
+     * continuation token for the next page. In stream mode the pages are written to a chunked response, one json object 
+     * per line, until an empty page is read. So only a page of the history is held in memory at a time. 
+     * The schema data and the schema string are only read from the store if they are included in the response. 
+     */
+    private <T> CompletableFuture<Response> getHistoryResponse(String namespace, String group, @Nullable String type, 
+                                                               @Nullable String continuationToken, @Nullable Integer limit, 
+                                                               @Nullable Boolean stream, boolean withSchemaData, 
+                                                               boolean withSchemaString,
+                                                               BiFunction<List<GroupHistoryRecord>, String, T> encoder, 
+                                                               Class<T> entityType) {
+        boolean streamPages = Boolean.TRUE.equals(stream);
+        if (continuationToken == null && limit == null && !streamPages) {
+            return getRegistryService().getGroupHistory(namespace, group, type, withSchemaData, withSchemaString)
+                                       .thenApply(history -> Response.status(Status.OK).entity(encoder.apply(history, null)).build());
+        }
+        int toFetch = limit == null ? DEFAULT_HISTORY_LIMIT : limit;
+        Function<ContinuationToken, CompletableFuture<ResultPage<GroupHistoryRecord, ContinuationToken>>> readPage = 
+                token -> getRegistryService().getGroupHistory(namespace, group, type, token, toFetch, withSchemaData, 
+                        withSchemaString);
+        return readPage.apply(ContinuationToken.fromString(continuationToken))
+                       .thenApply(first -> {
+                           if (!streamPages) {
+                               return Response.status(Status.OK).entity(encoder.apply(first.getList(), first.getToken().toString())).build();
+                           }
+                           ChunkedOutput<T> output = new ChunkedOutput<>(entityType, "\n");
+                           writeChunk(output, encoder.apply(first.getList(), first.getToken().toString()));
+                           AtomicReference<ResultPage<GroupHistoryRecord, ContinuationToken>> last = new AtomicReference<>(first);
+                           Futures.loop(() -> !last.get().getList().isEmpty(), 
+                                   () -> readPage.apply(last.get().getToken()).thenAccept(page -> {
+                                       writeChunk(output, encoder.apply(page.getList(), page.getToken().toString()));
+                                       last.set(page);
+                                   }), getExecutorService())
+                                  .whenComplete((r, e) -> {
+                                      if (e != null) {
+                                          log.warn("Streaming history for group {} {} failed.", namespace, group, e);
+                                      }
+                                      closeChunks(output);
+                                  });
+                           return Response.status(Status.OK).entity(output).build();
+                       });
+    }
+
+    @SneakyThrows(IOException.class)
+    private <T> void writeChunk(ChunkedOutput<T> output, T chunk) {
+        output.write(chunk);
+    }
+
+    private void closeChunks(ChunkedOutput<?> output) {
+        try {
+            output.close();
+        } catch (IOException e) {
+            log.warn("Failed to close chunked output.", e);
+        }
+    }
+
+    /**
+     * Responds with the entity tagged with the group's etag. The group's etag is read before the entity, and if it
+     * matches the If-None-Match header, 304 is returned without fetching or serializing the entity.
+     * The response may be cached but is revalidated on every use as it changes with the group.
+     */
+    private <T> CompletableFuture<Response> withGroupEtag(String namespace, String group, @Nullable String ifNoneMatch,
+                                                          Supplier<CompletableFuture<T>> entitySupplier) {
+        return getRegistryService().getGroupEtag(namespace, group)
+                                   .thenCompose(etag -> {
+                                       EntityTag tag = new EntityTag(etag);
+                                       if (matches(ifNoneMatch, etag)) {
+                                           return CompletableFuture.completedFuture(
+                                                   Response.notModified(tag).header(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL).build());
+                                       }
+                                       return entitySupplier.get().thenApply(entity ->
+                                               Response.ok(entity).tag(tag).header(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL).build());
+                                   });
+    }
+
+    /**
+     * Responds with the entity tagged with a strong validator computed from its content. If the tag matches the 
+     * If-None-Match header, 304 is returned without serializing the entity.
+     * The resources are addressed by the group name, and a group may be deleted and recreated with different schemas 
+     * under the same ids. So the response may be cached but is revalidated on every use. 
+     */
+    private static Response contentTaggedResponse(@Nullable String ifNoneMatch, EntityTag tag, Supplier<Object> entitySupplier) {
+        Response.ResponseBuilder builder = matches(ifNoneMatch, tag.getValue()) ? Response.notModified() : 
+                Response.ok(entitySupplier.get());
+        return builder.tag(tag).header(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL).build();
+    }
+
+    /**
+     * Strong validator for the schema computed from its content. 
+     */
+    private static EntityTag getEntityTag(io.pravega.schemaregistry.contract.data.SchemaInfo schemaInfo) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeCanonical(new DataOutputStream(bytes), schemaInfo);
+        return new EntityTag(HashUtil.getFingerprint(bytes.toByteArray()).toString(16));
+    }
+
+    /**
+     * Strong validator for the encoding info computed from its content. 
+     */
+    @SneakyThrows(IOException.class)
+    private static EntityTag getEntityTag(io.pravega.schemaregistry.contract.data.EncodingInfo encodingInfo) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeCanonical(out, encodingInfo.getSchemaInfo());
+        io.pravega.schemaregistry.contract.data.VersionInfo versionInfo = encodingInfo.getVersionInfo();
+        writeCanonical(out, versionInfo.getType());
+        writeCanonical(out, versionInfo.getSerializationFormatName());
+        out.writeInt(versionInfo.getVersion());
+        out.writeInt(versionInfo.getId());
+        writeCanonical(out, encodingInfo.getCodecType().getName());
+        writeCanonical(out, encodingInfo.getCodecType().getProperties());
+        return new EntityTag(HashUtil.getFingerprint(bytes.toByteArray()).toString(16));
+    }
+
+    /**
+     * Writes the schema in a canonical form: the type, the full name of the serialization format, the properties 
+     * sorted by key and the schema data. 
+     */
+    @SneakyThrows(IOException.class)
+    private static void writeCanonical(DataOutputStream out, io.pravega.schemaregistry.contract.data.SchemaInfo schemaInfo) {
+        writeCanonical(out, schemaInfo.getType());
+        writeCanonical(out, schemaInfo.getSerializationFormat().getFullTypeName());
+        writeCanonical(out, schemaInfo.getProperties());
+        ByteBuffer schemaData = schemaInfo.getSchemaData().duplicate();
+        byte[] data = new byte[schemaData.remaining()];
+        schemaData.get(data);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    private static void writeCanonical(DataOutputStream out, Map<String, String> properties) throws IOException {
+        out.writeInt(properties.size());
+        for (Map.Entry<String, String> entry : new TreeMap<>(properties).entrySet()) {
+            writeCanonical(out, entry.getKey());
+            writeCanonical(out, entry.getValue());
+        }
+    }
+
+    /**
+     * Strings are length prefixed so that adjacent fields cannot be confused. 
+     */
+    private static void writeCanonical(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Checks if the etag matches any of the etags in the If-None-Match header. 
+     */
+    private static boolean matches(@Nullable String ifNoneMatch, String etag) {
+        if (Strings.isNullOrEmpty(ifNoneMatch)) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                     .anyMatch(x -> x.trim().equals("*") || etag.equals(parseEntityTag(x)));
+    }
+
+    /**
+     * Gets the etag from the value of an If-None-Match header. Returns null if the header is not specified. 
+     */
+    @Nullable
+    private static String parseEntityTag(@Nullable String header) {
+        if (Strings.isNullOrEmpty(header)) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        return tag;
+    }
+
+    /**
+     * Parses the comma separated list of optional fields to include in the response. Returns null if fields is not 
+     * specified, which means all fields are included. 
+     */
+    @Nullable
+    private static Set<String> parseFields(@Nullable String fields, String... optionalFields) {
+        if (fields == null) {
+            return null;
+        }
+        Set<String> include = Arrays.stream(fields.split(",")).map(String::trim).filter(x -> !x.isEmpty())
+                                    .collect(Collectors.toSet());
+        List<String> allowed = Arrays.asList(optionalFields);
+        include.forEach(x -> Preconditions.checkArgument(allowed.contains(x), "Unknown field %s. Optional fields are %s", x, allowed));
+        return include;
+    }
+
+    private static boolean includes(@Nullable Set<String> fields, String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    private static SchemaInfo encode(io.pravega.schemaregistry.contract.data.SchemaInfo schemaInfo, @Nullable Set<String> fields) {
+        SchemaInfo encoded = ModelHelper.encode(schemaInfo);
+        if (!includes(fields, SCHEMA_DATA_FIELD)) {
+            encoded.setSchemaData(null);
+        }
+        return encoded;
+    }
+
+    private static io.pravega.schemaregistry.contract.generated.rest.model.GroupHistoryRecord encode(GroupHistoryRecord record, 
+                                                                                                   @Nullable Set<String> fields) {
+        io.pravega.schemaregistry.contract.generated.rest.model.GroupHistoryRecord encoded = ModelHelper.encode(record);
+        if (!includes(fields, SCHEMA_DATA_FIELD)) {
+            encoded.getSchemaInfo().setSchemaData(null);
+        }
+        if (!includes(fields, SCHEMA_STRING_FIELD)) {
+            encoded.setSchemaString(null);
+        }
+        return encoded;
+    }
+
     @Override
     public void addSchema(String namespace, String group, SchemaInfo schemaInfo, 
                                           SecurityContext securityContext, AsyncResponse asyncResponse) {
@@ -280,6 +588,32 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         });
     }
 
+    @Override
+    public void addSchemas(String namespace, String group, SchemaInfoList schemas,
+                           SecurityContext securityContext, AsyncResponse asyncResponse) {
+        Preconditions.checkNotNull(schemas);
+        log.info("Add schemas to group called for group {} {}", namespace, group);
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupSchemaResource(group) :
+                getGroupSchemaResource(group, namespace);
+
+        withAuthorization(READ_UPDATE, resource, asyncResponse,
+                () -> {
+                    List<io.pravega.schemaregistry.contract.data.SchemaInfo> schemaInfos = schemas.getSchemas()
+                            .stream().map(ModelHelper::decode).collect(Collectors.toList());
+                    return getRegistryService().addSchemas(namespace, group, schemaInfos)
+                                          .thenApply(versionInfos -> {
+                                              VersionInfoList versions = new VersionInfoList()
+                                                      .versions(versionInfos.stream().map(ModelHelper::encode).collect(Collectors.toList()));
+                                              log.info("{} schemas added to group {} {}", versionInfos.size(), namespace, group);
+                                              return Response.status(Status.CREATED).entity(versions).build();
+                                          });
+                }, securityContext, () -> String.format("addSchemas for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+            asyncResponse.resume(response);
+            return response;
+        });
+    }
+
     @Override
     public void validate(String namespace, String group, ValidateRequest validateRequest, SecurityContext securityContext, AsyncResponse asyncResponse) {
         Preconditions.checkNotNull(validateRequest);
@@ -323,7 +657,8 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
     }
 
     @Override
-    public void getSchemaForId(String namespace, String group, Integer schemaId, SecurityContext securityContext, AsyncResponse asyncResponse) {
+    public void getSchemaForId(String namespace, String group, Integer schemaId, String ifNoneMatch, 
+                               SecurityContext securityContext, AsyncResponse asyncResponse) {
         log.info("Get schema from version {} called for group {} {}", schemaId, namespace, group);
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
@@ -331,9 +666,9 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         withAuthorization(READ, resource, asyncResponse,
                 () -> getRegistryService().getSchema(namespace, group, schemaId)
                                      .thenApply(schemaWithVersion -> {
-                                         SchemaInfo schema = ModelHelper.encode(schemaWithVersion);
                                          log.info("Schema for version {} for group {} {} found.", schemaId, namespace, group);
-                                         return Response.status(Status.OK).entity(schema).build();
+                                         return contentTaggedResponse(ifNoneMatch, getEntityTag(schemaWithVersion), 
+                                                 () -> ModelHelper.encode(schemaWithVersion));
                                      }), securityContext, () -> String.format("getSchemaForId %d for group %s %s failed with exception:", schemaId, namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -341,9 +676,30 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
                 });
     }
 
+    @Override
+    public void getSchemasForIds(String namespace, String group, List<Integer> schemaIds, SecurityContext securityContext, AsyncResponse asyncResponse) {
+        log.info("Get schemas for ids {} called for group {} {}", schemaIds, namespace, group);
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
+                getGroupResource(group, namespace);
+
+        withAuthorization(READ, resource, asyncResponse,
+                () -> getRegistryService().getSchemasById(namespace, group, schemaIds)
+                                     .thenApply(schemas -> {
+                                         SchemaVersionsList schemaList = new SchemaVersionsList()
+                                                 .schemas(schemas.stream().map(ModelHelper::encode).collect(Collectors.toList()));
+                                         log.info("{} schemas for ids {} for group {} {} found.", schemas.size(), schemaIds, namespace, group);
+                                         return Response.status(Status.OK).entity(schemaList).build();
+                                     }), securityContext, () -> String.format("getSchemasForIds for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+                    asyncResponse.resume(response);
+                    return response;
+                });
+    }
+
     @Override
     public void getSchemaFromVersion(String namespace, String group, String serializationFormat, 
-                                     String schemaType, Integer version, SecurityContext securityContext, AsyncResponse asyncResponse) {
+                                     String schemaType, Integer version, String ifNoneMatch, 
+                                     SecurityContext securityContext, AsyncResponse asyncResponse) {
         log.info("Get schema from version {} called for group {} {}", version, namespace, group);
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
@@ -351,9 +707,9 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         withAuthorization(READ, resource, asyncResponse,
                 () -> getRegistryService().getSchema(namespace, group, serializationFormat, schemaType, version)
                                                                     .thenApply(schemaWithVersion -> {
-                                                                        SchemaInfo schema = ModelHelper.encode(schemaWithVersion);
                                                                         log.info("Schema for version {} for group {} {} found.", version, namespace, group);
-                                                                        return Response.status(Status.OK).entity(schema).build();
+                                                                        return contentTaggedResponse(ifNoneMatch, getEntityTag(schemaWithVersion),
+                                                                                () -> ModelHelper.encode(schemaWithVersion));
                                                                     }), 
                 securityContext, () -> String.format("getSchemaFromVersion %s %d for group %s %s failed with exception:", schemaType, version, namespace, group))
                 .thenApply(response -> {
@@ -452,20 +808,27 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
     }
     
     @Override
-    public void getSchemas(String namespace, String group, String type, SecurityContext securityContext, AsyncResponse asyncResponse) {
+    public void getSchemas(String namespace, String group, String type, String fields, String ifNoneMatch, 
+                           SecurityContext securityContext, AsyncResponse asyncResponse) {
         log.info("getSchemas called for group {} {} ", namespace, group);
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
         withAuthorization(READ, resource, asyncResponse,
-                () -> getRegistryService().getSchemas(namespace, group, type)
+                () -> {
+                    Set<String> include = parseFields(fields, SCHEMA_DATA_FIELD);
+                    return withGroupEtag(namespace, group, ifNoneMatch, () -> getRegistryService().getSchemas(namespace, group, type)
                           .thenApply(schemas -> {
                               SchemaVersionsList schemaList = new SchemaVersionsList()
-                                      .schemas(schemas.stream().map(ModelHelper::encode).collect(Collectors.toList()));
+                                      .schemas(schemas.stream().map(x -> new SchemaWithVersion()
+                                              .schemaInfo(encode(x.getSchemaInfo(), include))
+                                              .versionInfo(ModelHelper.encode(x.getVersionInfo())))
+                                                      .collect(Collectors.toList()));
                               List<String> types = schemaList.getSchemas().stream().map(x -> x.getSchemaInfo().getType()).collect(Collectors.toList());
                               log.info("Found schemas {} for group {} {} ", types, namespace, namespace, group);
-                              return Response.status(Status.OK).entity(schemaList).build();
-                          }), 
+                              return schemaList;
+                          }));
+                }, 
                 securityContext, () -> String.format("getSchemas for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
                     asyncResponse.resume(response);
@@ -474,7 +837,8 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
     }
 
     @Override
-    public void getEncodingInfo(String namespace, String group, Integer encodingId, SecurityContext securityContext, AsyncResponse asyncResponse) {
+    public void getEncodingInfo(String namespace, String group, Integer encodingId, String ifNoneMatch, 
+                                SecurityContext securityContext, AsyncResponse asyncResponse) {
         log.info("getEncodingInfo called for group {} {} encodingId {}", namespace, group, encodingId);
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
@@ -484,9 +848,9 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
                     io.pravega.schemaregistry.contract.data.EncodingId id = new io.pravega.schemaregistry.contract.data.EncodingId(encodingId);
                     return getRegistryService().getEncodingInfo(namespace, group, id)
                                           .thenApply(encodingInfo -> {
-                                              EncodingInfo encoding = ModelHelper.encode(encodingInfo);
-                                              log.info("group {} {} encoding id {} encodingInfo {}", namespace, group, encodingId, encoding);
-                                              return Response.status(Status.OK).entity(encoding).build();
+                                              log.info("group {} {} encoding id {} encodingInfo {}", namespace, group, encodingId, encodingInfo);
+                                              return contentTaggedResponse(ifNoneMatch, getEntityTag(encodingInfo), 
+                                                      () -> ModelHelper.encode(encodingInfo));
                                           });
                 }, securityContext, () -> String.format("getEncodingInfo for group %s %s failed with exception:", namespace, group))
                 .thenApply(response -> {
@@ -495,6 +859,38 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         });
     }
 
+    @Override
+    public void getEncodingInfos(String namespace, String group, List<Integer> encodingIds, Integer fromEncodingId,
+                                 SecurityContext securityContext, AsyncResponse asyncResponse) {
+        log.info("getEncodingInfos called for group {} {} encodingIds {} from {}", namespace, group, encodingIds, fromEncodingId);
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
+                getGroupResource(group, namespace);
+
+        withAuthorization(READ, resource, asyncResponse,
+                () -> {
+                    CompletableFuture<Map<io.pravega.schemaregistry.contract.data.EncodingId, io.pravega.schemaregistry.contract.data.EncodingInfo>> future;
+                    if (encodingIds != null && !encodingIds.isEmpty()) {
+                        future = getRegistryService().getEncodingInfos(namespace, group, encodingIds
+                                .stream().map(io.pravega.schemaregistry.contract.data.EncodingId::new).collect(Collectors.toList()));
+                    } else {
+                        future = getRegistryService().getEncodingInfosFrom(namespace, group,
+                                new io.pravega.schemaregistry.contract.data.EncodingId(fromEncodingId == null ? 0 : fromEncodingId));
+                    }
+                    return future.thenApply(encodingInfos -> {
+                        EncodingInfoList encodings = new EncodingInfoList()
+                                .encodings(encodingInfos.entrySet().stream().map(x -> new EncodingInfoWithId()
+                                        .encodingId(ModelHelper.encode(x.getKey())).encodingInfo(ModelHelper.encode(x.getValue())))
+                                                        .collect(Collectors.toList()));
+                        log.info("group {} {} found {} encodings", namespace, group, encodingInfos.size());
+                        return Response.status(Status.OK).entity(encodings).build();
+                    });
+                }, securityContext, () -> String.format("getEncodingInfos for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+            asyncResponse.resume(response);
+            return response;
+        });
+    }
+
 
     @Override
     public void getCodecTypesList(String namespace, String group, SecurityContext securityContext, AsyncResponse asyncResponse) {
@@ -535,4 +931,44 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
                     return response;
                 });
     }
+
+    @Override
+    public void bootstrapSerializer(String namespace, String group, BootstrapSerializerRequest bootstrapSerializerRequest,
+                                    SecurityContext securityContext, AsyncResponse asyncResponse) {
+        Preconditions.checkNotNull(bootstrapSerializerRequest);
+        log.info("bootstrapSerializer called for group {} {} with codec {}", namespace, group, 
+                bootstrapSerializerRequest.getCodecType());
+        // creating a group requires update permission on the namespace while adding schema or codec requires update 
+        // permission on the group. A lookup only bootstrap requires read permission on the group. 
+        boolean createGroup = bootstrapSerializerRequest.getGroupProperties() != null;
+        boolean registerSchema = Boolean.TRUE.equals(bootstrapSerializerRequest.isRegisterSchema());
+        boolean registerCodec = Boolean.TRUE.equals(bootstrapSerializerRequest.isRegisterCodec());
+        boolean update = createGroup || registerSchema || registerCodec;
+        String resource;
+        if (createGroup) {
+            resource = Strings.isNullOrEmpty(namespace) ? getNamespaceResource() : getNamespaceResource(namespace);
+        } else {
+            resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) : getGroupResource(group, namespace);
+        }
+
+        withAuthorization(update ? READ_UPDATE : READ, resource, asyncResponse,
+                () -> {
+                    GroupProperties groupProperties = createGroup ? 
+                            ModelHelper.decode(bootstrapSerializerRequest.getGroupProperties()) : null;
+                    return getRegistryService().bootstrapSerializer(namespace, group, groupProperties,
+                            ModelHelper.decode(bootstrapSerializerRequest.getSchemaInfo()),
+                            ModelHelper.decode(bootstrapSerializerRequest.getCodecType()),
+                            registerSchema, registerCodec)
+                                               .thenApply(bootstrapInfo -> {
+                                                   SerializerBootstrapInfo info = ModelHelper.encode(bootstrapInfo);
+                                                   log.info("bootstrapSerializer for group {} {} returning version {} and encoding id {}", 
+                                                           namespace, group, info.getVersionInfo(), info.getEncodingId());
+                                                   return Response.status(Status.OK).entity(info).build();
+                                               });
+                }, securityContext, () -> String.format("bootstrapSerializer for group %s %s failed with exception:", namespace, group))
+                .thenApply(response -> {
+                    asyncResponse.resume(response);
+                    return response;
+                });
+    }
 }
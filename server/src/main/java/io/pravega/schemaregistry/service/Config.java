@@ -50,6 +50,27 @@ public final class Config {
     public static final int MAX_CHUNK_SIZE_BYTES;
     public static final int TABLE_ENTRIES_CACHE_SIZE;
     public static final int TABLE_SEGMENT_CACHE_SIZE;
+    public static final long TABLE_CACHE_MAX_SIZE_BYTES;
+    public static final long TABLE_CACHE_OFF_HEAP_MAX_SIZE_BYTES;
+    public static final int TABLE_CACHE_ADMISSION_SIZE_BYTES;
+    public static final long TABLE_TOKEN_REFRESH_BEFORE_EXPIRY_MILLIS;
+    public static final long TABLE_READ_BATCH_WINDOW_MICROS;
+    public static final int TABLE_READ_BATCH_MAX_KEYS;
+    public static final long TABLE_READ_BATCH_STATS_LOG_INTERVAL_MILLIS;
+    public static final int GROUPS_CACHE_SIZE;
+    public static final int COMPATIBILITY_RESULTS_CACHE_SIZE;
+    public static final int COMPATIBILITY_CHECK_PARALLELISM;
+    public static final int COMPATIBILITY_CHECK_BATCH_SIZE;
+    public static final boolean COMPATIBILITY_ENVELOPE_ENABLED;
+    public static final int COMPATIBILITY_ENVELOPES_CACHE_SIZE;
+    public static final boolean MATERIALIZE_GROUP_STATE;
+    public static final int SCHEMA_RECORDS_READ_BATCH_SIZE;
+    public static final int SCHEMA_RECORDS_CONCURRENT_READS;
+    public static final int GROUP_RECORDS_MAX_PER_CALL;
+    public static final long WATCH_ETAG_PROBE_INTERVAL_MILLIS;
+    public static final long WATCH_MAX_TIMEOUT_MILLIS;
+    public static final int COMPATIBILITY_DECISIONS_CACHE_SIZE;
+    public static final long SCHEMA_CACHE_MAX_SIZE_BYTES;
 
     public static final String PRAVEGA_CONTROLLER_URI;
     public static final String PRAVEGA_CREDENTIALS_AUTH_METHOD;
@@ -90,6 +111,28 @@ public final class Config {
 
     private static final Property<Integer> PROPERTY_TABLE_SEGMENT_CACHE_SIZE = Property.named("store.pravega.tableSegment.chacheSize", 1000);
     private static final Property<Integer> PROPERTY_TABLE_ENTRIES_CACHE_SIZE = Property.named("store.pravega.tableStore.chacheSize", 10000);
+    private static final Property<Long> PROPERTY_TABLE_CACHE_MAX_SIZE_BYTES = Property.named("store.pravega.tableStore.cache.maxSize.bytes", 64L * 1024 * 1024);
+    private static final Property<Long> PROPERTY_TABLE_CACHE_OFF_HEAP_MAX_SIZE_BYTES = Property.named("store.pravega.tableStore.cache.offHeap.maxSize.bytes", 0L);
+    private static final Property<Integer> PROPERTY_TABLE_CACHE_ADMISSION_SIZE_BYTES = Property.named("store.pravega.tableStore.cache.admission.size.bytes", 16 * 1024);
+    private static final Property<Long> PROPERTY_TABLE_TOKEN_REFRESH_BEFORE_EXPIRY_MILLIS = Property.named("store.pravega.tableStore.token.refreshBeforeExpiry.ms", 10000L);
+    private static final Property<Long> PROPERTY_TABLE_READ_BATCH_WINDOW_MICROS = Property.named("store.pravega.tableStore.readBatch.window.us", 200L);
+    private static final Property<Integer> PROPERTY_TABLE_READ_BATCH_MAX_KEYS = Property.named("store.pravega.tableStore.readBatch.maxKeys", 100);
+    private static final Property<Long> PROPERTY_TABLE_READ_BATCH_STATS_LOG_INTERVAL_MILLIS = Property.named("store.pravega.tableStore.readBatch.statsLog.interval.ms", 60000L);
+    private static final Property<Integer> PROPERTY_GROUPS_CACHE_SIZE = Property.named("store.pravega.groups.cacheSize", 1000);
+    private static final Property<Integer> PROPERTY_COMPATIBILITY_RESULTS_CACHE_SIZE = Property.named("rules.compatibilityResults.cacheSize", 100000);
+    private static final Property<Integer> PROPERTY_COMPATIBILITY_CHECK_PARALLELISM = Property.named("rules.compatibilityCheck.parallelism", 
+            Runtime.getRuntime().availableProcessors());
+    private static final Property<Integer> PROPERTY_COMPATIBILITY_CHECK_BATCH_SIZE = Property.named("rules.compatibilityCheck.batchSize", 50);
+    private static final Property<Boolean> PROPERTY_COMPATIBILITY_ENVELOPE_ENABLED = Property.named("rules.compatibilityEnvelope.enable", true);
+    private static final Property<Integer> PROPERTY_COMPATIBILITY_ENVELOPES_CACHE_SIZE = Property.named("rules.compatibilityEnvelope.cacheSize", 1000);
+    private static final Property<Boolean> PROPERTY_MATERIALIZE_GROUP_STATE = Property.named("store.groups.materializeState.enable", true);
+    private static final Property<Integer> PROPERTY_SCHEMA_RECORDS_READ_BATCH_SIZE = Property.named("store.groups.schemaRecords.readBatchSize", 100);
+    private static final Property<Integer> PROPERTY_SCHEMA_RECORDS_CONCURRENT_READS = Property.named("store.groups.schemaRecords.concurrentReads", 4);
+    private static final Property<Integer> PROPERTY_GROUP_RECORDS_MAX_PER_CALL = Property.named("store.groups.records.maxPerCall", 1000);
+    private static final Property<Long> PROPERTY_WATCH_ETAG_PROBE_INTERVAL_MILLIS = Property.named("watch.etagProbe.interval.ms", 5000L);
+    private static final Property<Long> PROPERTY_WATCH_MAX_TIMEOUT_MILLIS = Property.named("watch.maxTimeout.ms", 60000L);
+    private static final Property<Integer> PROPERTY_COMPATIBILITY_DECISIONS_CACHE_SIZE = Property.named("service.compatibilityDecisions.cacheSize", 10000);
+    private static final Property<Long> PROPERTY_SCHEMA_CACHE_MAX_SIZE_BYTES = Property.named("service.schemaCache.maxSize.bytes", 64L * 1024 * 1024);
 
     private static final Property<Boolean> PROPERTY_TLS_ENABLED = Property.named("security.tls.enable", false);
     private static final Property<String> PROPERTY_TLS_CERT_FILE = Property.named("security.tls.server.certificate.location", "");
@@ -127,6 +170,27 @@ public final class Config {
         MAX_CHUNK_SIZE_BYTES = p.getInt(PROPERTY_MAX_CHUNK_SIZE_BYTES);
         TABLE_SEGMENT_CACHE_SIZE = p.getInt(PROPERTY_TABLE_SEGMENT_CACHE_SIZE);
         TABLE_ENTRIES_CACHE_SIZE = p.getInt(PROPERTY_TABLE_ENTRIES_CACHE_SIZE);
+        TABLE_CACHE_MAX_SIZE_BYTES = p.getLong(PROPERTY_TABLE_CACHE_MAX_SIZE_BYTES);
+        TABLE_CACHE_OFF_HEAP_MAX_SIZE_BYTES = p.getLong(PROPERTY_TABLE_CACHE_OFF_HEAP_MAX_SIZE_BYTES);
+        TABLE_CACHE_ADMISSION_SIZE_BYTES = p.getInt(PROPERTY_TABLE_CACHE_ADMISSION_SIZE_BYTES);
+        TABLE_TOKEN_REFRESH_BEFORE_EXPIRY_MILLIS = p.getLong(PROPERTY_TABLE_TOKEN_REFRESH_BEFORE_EXPIRY_MILLIS);
+        TABLE_READ_BATCH_WINDOW_MICROS = p.getLong(PROPERTY_TABLE_READ_BATCH_WINDOW_MICROS);
+        TABLE_READ_BATCH_MAX_KEYS = p.getInt(PROPERTY_TABLE_READ_BATCH_MAX_KEYS);
+        TABLE_READ_BATCH_STATS_LOG_INTERVAL_MILLIS = p.getLong(PROPERTY_TABLE_READ_BATCH_STATS_LOG_INTERVAL_MILLIS);
+        GROUPS_CACHE_SIZE = p.getInt(PROPERTY_GROUPS_CACHE_SIZE);
+        COMPATIBILITY_RESULTS_CACHE_SIZE = p.getInt(PROPERTY_COMPATIBILITY_RESULTS_CACHE_SIZE);
+        COMPATIBILITY_CHECK_PARALLELISM = p.getInt(PROPERTY_COMPATIBILITY_CHECK_PARALLELISM);
+        COMPATIBILITY_CHECK_BATCH_SIZE = p.getInt(PROPERTY_COMPATIBILITY_CHECK_BATCH_SIZE);
+        COMPATIBILITY_ENVELOPE_ENABLED = p.getBoolean(PROPERTY_COMPATIBILITY_ENVELOPE_ENABLED);
+        COMPATIBILITY_ENVELOPES_CACHE_SIZE = p.getInt(PROPERTY_COMPATIBILITY_ENVELOPES_CACHE_SIZE);
+        MATERIALIZE_GROUP_STATE = p.getBoolean(PROPERTY_MATERIALIZE_GROUP_STATE);
+        SCHEMA_RECORDS_READ_BATCH_SIZE = p.getInt(PROPERTY_SCHEMA_RECORDS_READ_BATCH_SIZE);
+        SCHEMA_RECORDS_CONCURRENT_READS = p.getInt(PROPERTY_SCHEMA_RECORDS_CONCURRENT_READS);
+        GROUP_RECORDS_MAX_PER_CALL = p.getInt(PROPERTY_GROUP_RECORDS_MAX_PER_CALL);
+        WATCH_ETAG_PROBE_INTERVAL_MILLIS = p.getLong(PROPERTY_WATCH_ETAG_PROBE_INTERVAL_MILLIS);
+        WATCH_MAX_TIMEOUT_MILLIS = p.getLong(PROPERTY_WATCH_MAX_TIMEOUT_MILLIS);
+        COMPATIBILITY_DECISIONS_CACHE_SIZE = p.getInt(PROPERTY_COMPATIBILITY_DECISIONS_CACHE_SIZE);
+        SCHEMA_CACHE_MAX_SIZE_BYTES = p.getLong(PROPERTY_SCHEMA_CACHE_MAX_SIZE_BYTES);
 
         TLS_ENABLED = p.getBoolean(PROPERTY_TLS_ENABLED);
         TLS_KEY_FILE = p.get(PROPERTY_TLS_KEY_FILE);
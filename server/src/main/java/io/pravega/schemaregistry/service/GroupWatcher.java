@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.storage.StoreExceptions;
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Synchronized;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Completes watches on groups when the group's etag changes. Every update to a group updates its etag, so a change in
+ * the etag means that the group has changed. The etag identifies the group's table, so a group that was deleted and
+ * created again is also seen as changed, even if its new table is at the same version.
+ * Watches are held in memory and cost no reads while the group is unchanged. When the group is updated through this
+ * node, the etag is read once for all watches on the group. Updates made through other nodes are detected by reading
+ * the etag of each watched group once every probe interval, irrespective of the number of watches on the group.
+ * The probe only runs while there are watches.
+ */
+@Slf4j
+class GroupWatcher {
+    private final BiFunction<String, String, CompletableFuture<String>> etagReader;
+    private final ScheduledExecutorService executor;
+    private final long probeIntervalMillis;
+    @GuardedBy("$lock")
+    private final Map<GroupKey, List<Watch>> watches;
+    @GuardedBy("$lock")
+    private boolean probeScheduled;
+
+    GroupWatcher(BiFunction<String, String, CompletableFuture<String>> etagReader, ScheduledExecutorService executor,
+                 long probeIntervalMillis) {
+        Preconditions.checkArgument(probeIntervalMillis > 0, "probe interval should be positive");
+        this.etagReader = etagReader;
+        this.executor = executor;
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.watches = new HashMap<>();
+        this.probeScheduled = false;
+    }
+
+    /**
+     * Watches the group for a change in its etag.
+     *
+     * @param namespace namespace of the group.
+     * @param group group name.
+     * @param etag etag known to the caller. If null, the current etag is returned right away.
+     * @param timeoutMillis time to wait for the etag to change.
+     * @return CompletableFuture that holds the group's etag once it differs from the supplied etag, or the supplied etag
+     * if it did not change within the timeout.
+     */
+    CompletableFuture<String> watch(@Nullable String namespace, String group, @Nullable String etag, long timeoutMillis) {
+        GroupKey key = new GroupKey(namespace, group);
+        Watch watch = new Watch(etag);
+        add(key, watch);
+        ScheduledFuture<?> timer = executor.schedule(() -> watch.getFuture().complete(etag), timeoutMillis, TimeUnit.MILLISECONDS);
+        watch.getFuture().whenComplete((r, e) -> {
+            timer.cancel(false);
+            remove(key, watch);
+        });
+        // the watch is registered before the etag is read so that an update made after the read is not missed.
+        etagReader.apply(namespace, group).whenComplete((current, e) -> {
+            if (e == null) {
+                onEtag(key, current);
+            } else {
+                watch.getFuture().completeExceptionally(e);
+            }
+        });
+        return watch.getFuture();
+    }
+
+    /**
+     * Signals that the group was updated through this node. The etag is read once if there are watches on the group.
+     *
+     * @param namespace namespace of the group.
+     * @param group group name.
+     */
+    void notifyChanged(@Nullable String namespace, String group) {
+        GroupKey key = new GroupKey(namespace, group);
+        if (isWatched(key)) {
+            readEtag(key);
+        }
+    }
+
+    private CompletableFuture<Void> readEtag(GroupKey key) {
+        return etagReader.apply(key.getNamespace(), key.getGroup())
+                         .handle((current, e) -> {
+                             if (e == null) {
+                                 onEtag(key, current);
+                             } else if (Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException) {
+                                 // the group has been deleted.
+                                 removeAll(key).forEach(watch -> watch.getFuture().completeExceptionally(e));
+                             } else {
+                                 log.warn("Group {} {}, failed to read etag for watches.", key.getNamespace(), key.getGroup(), e);
+                             }
+                             return null;
+                         });
+    }
+
+    private void onEtag(GroupKey key, String current) {
+        // watches are completed outside of the lock.
+        getWatches(key).stream().filter(watch -> !current.equals(watch.getEtag()))
+                       .forEach(watch -> watch.getFuture().complete(current));
+    }
+
+    private void probe() {
+        List<GroupKey> keys = getWatchedGroups();
+        Futures.allOf(keys.stream().map(this::readEtag).collect(Collectors.toList()))
+               .whenComplete((r, e) -> scheduleProbe(true));
+    }
+
+    @Synchronized
+    private void add(GroupKey key, Watch watch) {
+        watches.computeIfAbsent(key, k -> new ArrayList<>()).add(watch);
+        scheduleProbe(false);
+    }
+
+    @Synchronized
+    private void remove(GroupKey key, Watch watch) {
+        List<Watch> list = watches.get(key);
+        if (list != null) {
+            list.remove(watch);
+            if (list.isEmpty()) {
+                watches.remove(key);
+            }
+        }
+    }
+
+    @Synchronized
+    private List<Watch> removeAll(GroupKey key) {
+        List<Watch> list = watches.remove(key);
+        return list == null ? new ArrayList<>() : list;
+    }
+
+    @Synchronized
+    private List<Watch> getWatches(GroupKey key) {
+        List<Watch> list = watches.get(key);
+        return list == null ? new ArrayList<>() : new ArrayList<>(list);
+    }
+
+    @Synchronized
+    private boolean isWatched(GroupKey key) {
+        return watches.containsKey(key);
+    }
+
+    @Synchronized
+    private List<GroupKey> getWatchedGroups() {
+        return new ArrayList<>(watches.keySet());
+    }
+
+    /**
+     * Schedules the next probe if there are watches and a probe is not already scheduled.
+     *
+     * @param probeCompleted whether this is called upon completion of the scheduled probe.
+     */
+    @Synchronized
+    private void scheduleProbe(boolean probeCompleted) {
+        if (probeCompleted) {
+            probeScheduled = false;
+        }
+        if (!probeScheduled && !watches.isEmpty()) {
+            probeScheduled = true;
+            executor.schedule(this::probe, probeIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Data
+    private static class GroupKey {
+        @Nullable
+        private final String namespace;
+        private final String group;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Watch {
+        @Nullable
+        private final String etag;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.common.Either;
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Synchronized;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the writes to a group one at a time. Every write to a group is conditioned on the group's etag, so concurrent
+ * writes to the same group through this node would otherwise conflict with each other and be retried.
+ * Writes are queued per group and each write starts after the previous write to the group has completed. A write that
+ * is identical to a write already queued or running for the group is not queued again and shares the result of the
+ * earlier write instead. Writes that are coalesced this way should be idempotent.
+ * Batched writes of an operation that are queued on the group while the writes before them run are collected into a 
+ * single batch, which is written with one write once its turn comes. So a burst of writes to a group needs as many 
+ * writes to the store as there are batches rather than requests.
+ * Writes to different groups are not ordered with respect to each other.
+ */
+class GroupWriteQueue {
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+    private final Executor executor;
+    @GuardedBy("$lock")
+    private final Map<GroupKey, CompletableFuture<Void>> tails;
+    @GuardedBy("$lock")
+    private final Map<WriteKey, CompletableFuture<?>> pending;
+    @GuardedBy("$lock")
+    private final Map<BatchKey, Batch<?, ?>> openBatches;
+
+    GroupWriteQueue(Executor executor) {
+        this.executor = executor;
+        this.tails = new HashMap<>();
+        this.pending = new HashMap<>();
+        this.openBatches = new HashMap<>();
+    }
+
+    /**
+     * Queues the write on the group.
+     *
+     * @param namespace namespace of the group.
+     * @param group group name.
+     * @param operation name of the write operation.
+     * @param request request of the write. Writes with the same operation and an equal request are coalesced.
+     * @param write supplier of the write.
+     * @param <T> type of the result of the write.
+     * @return CompletableFuture that holds the result of the write.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> submit(@Nullable String namespace, String group, String operation, Object request,
+                                    Supplier<CompletableFuture<T>> write) {
+        GroupKey groupKey = new GroupKey(namespace, group);
+        WriteKey key = new WriteKey(groupKey, operation, request);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<?> existing = putIfAbsent(key, result);
+        if (existing != null) {
+            return (CompletableFuture<T>) existing;
+        }
+        // the write is run asynchronously so that completing a write does not run the group's remaining writes on the
+        // same stack.
+        append(groupKey, result).thenComposeAsync(v -> write.get(), executor)
+                                .whenComplete((r, e) -> {
+                                    remove(key, result);
+                                    if (e == null) {
+                                        result.complete(r);
+                                    } else {
+                                        result.completeExceptionally(e);
+                                    }
+                                });
+        return result;
+    }
+
+    /**
+     * Queues the request on the group to be written in a batch. If a batch of the operation is waiting for its turn on 
+     * the group, the request joins it. Otherwise a new batch is queued on the group. Once the batch's turn comes, no 
+     * more requests join it and the requests are written with a single call to the batch write. All requests of an 
+     * operation are expected to be submitted with the same batch write.
+     *
+     * @param namespace namespace of the group.
+     * @param group group name.
+     * @param operation name of the write operation.
+     * @param request request of the write. Requests with the same operation that are equal are coalesced.
+     * @param write function that writes the batch of distinct requests and returns the outcome of each request, in the 
+     *              order of the requests. If the batch write fails, all requests in the batch fail.
+     * @param <R> type of the request.
+     * @param <T> type of the result of the write.
+     * @return CompletableFuture that holds the result of the request.
+     */
+    @SuppressWarnings("unchecked")
+    <R, T> CompletableFuture<T> submitBatched(@Nullable String namespace, String group, String operation, R request,
+                                              Function<List<R>, CompletableFuture<List<Either<T, Throwable>>>> write) {
+        GroupKey groupKey = new GroupKey(namespace, group);
+        WriteKey key = new WriteKey(groupKey, operation, request);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<?> existing = putIfAbsent(key, result);
+        if (existing != null) {
+            return (CompletableFuture<T>) existing;
+        }
+        Batch<R, T> batch = addToBatch(new BatchKey(groupKey, operation), key, request, result);
+        if (batch != null) {
+            // the request started a new batch, which is written once the previous write on the group completes.
+            batch.getPrevious().thenComposeAsync(v -> writeBatch(batch, write), executor)
+                 .whenComplete((r, e) -> batch.getDone().complete(null));
+        }
+        return result;
+    }
+
+    /**
+     * Adds the request to the open batch of the operation on the group, or opens a new batch and makes it the last 
+     * write on the group.
+     *
+     * @return the new batch if the request opened one, null otherwise.
+     */
+    @Synchronized
+    @SuppressWarnings("unchecked")
+    private <R, T> Batch<R, T> addToBatch(BatchKey batchKey, WriteKey key, R request, CompletableFuture<T> result) {
+        Batch<R, T> open = (Batch<R, T>) openBatches.get(batchKey);
+        if (open != null) {
+            open.add(key, request, result);
+            return null;
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Batch<R, T> batch = new Batch<>(batchKey, append(batchKey.getGroupKey(), done), done);
+        batch.add(key, request, result);
+        openBatches.put(batchKey, batch);
+        return batch;
+    }
+
+    private <R, T> CompletableFuture<Void> writeBatch(Batch<R, T> batch, 
+                                                      Function<List<R>, CompletableFuture<List<Either<T, Throwable>>>> write) {
+        close(batch);
+        CompletableFuture<List<Either<T, Throwable>>> written;
+        try {
+            written = write.apply(batch.getRequests());
+        } catch (Exception e) {
+            written = Futures.failedFuture(e);
+        }
+        return written.handle((outcomes, e) -> {
+            for (int i = 0; i < batch.getRequests().size(); i++) {
+                CompletableFuture<T> result = batch.getResults().get(i);
+                remove(batch.getKeys().get(i), result);
+                if (e != null) {
+                    result.completeExceptionally(e);
+                } else if (outcomes.get(i).isLeft()) {
+                    result.complete(outcomes.get(i).getLeft());
+                } else {
+                    result.completeExceptionally(outcomes.get(i).getRight());
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Closes the batch so that no more requests join it. 
+     */
+    @Synchronized
+    private void close(Batch<?, ?> batch) {
+        openBatches.remove(batch.getBatchKey(), batch);
+    }
+
+    @Synchronized
+    private CompletableFuture<?> putIfAbsent(WriteKey key, CompletableFuture<?> result) {
+        return pending.putIfAbsent(key, result);
+    }
+
+    @Synchronized
+    private void remove(WriteKey key, CompletableFuture<?> result) {
+        pending.remove(key, result);
+    }
+
+    /**
+     * Makes the write the last write on the group.
+     *
+     * @return CompletableFuture that completes when the previous write on the group completes.
+     */
+    @Synchronized
+    private CompletableFuture<Void> append(GroupKey key, CompletableFuture<?> result) {
+        CompletableFuture<Void> previous = tails.getOrDefault(key, DONE);
+        CompletableFuture<Void> tail = result.handle((r, e) -> null);
+        tails.put(key, tail);
+        tail.thenRun(() -> removeTail(key, tail));
+        return previous;
+    }
+
+    @Synchronized
+    private void removeTail(GroupKey key, CompletableFuture<Void> tail) {
+        tails.remove(key, tail);
+    }
+
+    @Data
+    private static class GroupKey {
+        @Nullable
+        private final String namespace;
+        private final String group;
+    }
+
+    @Data
+    private static class WriteKey {
+        private final GroupKey groupKey;
+        private final String operation;
+        private final Object request;
+    }
+
+    @Data
+    private static class BatchKey {
+        private final GroupKey groupKey;
+        private final String operation;
+    }
+
+    /**
+     * Requests of a batch with their results. Requests are only added while the batch is open, under the queue's lock.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Batch<R, T> {
+        private final BatchKey batchKey;
+        // completes when the previous write on the group completes.
+        private final CompletableFuture<Void> previous;
+        // completes when the batch has been written.
+        private final CompletableFuture<Void> done;
+        private final List<WriteKey> keys = new ArrayList<>();
+        private final List<R> requests = new ArrayList<>();
+        private final List<CompletableFuture<T>> results = new ArrayList<>();
+
+        void add(WriteKey key, R request, CompletableFuture<T> result) {
+            keys.add(key);
+            requests.add(request);
+            results.add(result);
+        }
+    }
+}
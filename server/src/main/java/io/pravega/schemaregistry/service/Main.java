@@ -47,7 +47,8 @@ public class Main {
             throw new IllegalArgumentException(String.format("Store Type %s not supported", Config.STORE_TYPE));
         }
         
-        SchemaRegistryService service = new SchemaRegistryService(schemaStore, executor);
+        SchemaCache schemaCache = new SchemaCache(Config.SCHEMA_CACHE_MAX_SIZE_BYTES);
+        SchemaRegistryService service = new SchemaRegistryService(schemaStore, executor, schemaCache);
 
         setUncaughtExceptionHandler(Main::logUncaughtException);
 
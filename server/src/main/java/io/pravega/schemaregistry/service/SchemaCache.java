@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.pravega.schemaregistry.common.HashUtil;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import lombok.Data;
+
+import java.math.BigInteger;
+import java.util.function.Function;
+
+/**
+ * Cache of values that are derived from schema binaries by parsing them, namely normalized schemas, parsed schema
+ * objects and the string representations of schemas. The values are pure functions of the schema binary, its
+ * serialization format and type, so they are cached against the fingerprint of the binary along with the format and
+ * type.
+ * A single cache is shared by the normalization of schemas, the compatibility checkers and the rendering of the group
+ * history, so that a schema parsed by one of them is not parsed again by the others. The cache is bounded by the total
+ * size in bytes of the cached values.
+ */
+public class SchemaCache {
+    // approximate size of a cache entry excluding the cached value.
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    // approximate size of a parsed schema object as a multiple of the size of the binary it was parsed from.
+    private static final int PARSED_SCHEMA_SIZE_FACTOR = 4;
+    private final Cache<Key, Value> cache;
+
+    /**
+     * Creates the cache.
+     *
+     * @param maxSizeBytes maximum size in bytes of the cached values.
+     */
+    public SchemaCache(long maxSizeBytes) {
+        Preconditions.checkArgument(maxSizeBytes > 0, "maxSizeBytes should be positive");
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumWeight(maxSizeBytes)
+                                 .weigher((Key key, Value value) -> value.getWeight())
+                                 .build();
+    }
+
+    /**
+     * Gets the normalized form of the schema from the cache, or normalizes the schema and caches it.
+     * Failures to normalize the schema are not cached.
+     *
+     * @param schemaInfo schema to normalize.
+     * @param normalize function that normalizes the schema.
+     * @return normalized schema with the properties of the supplied schema.
+     */
+    public SchemaInfo getNormalizedSchema(SchemaInfo schemaInfo, Function<SchemaInfo, SchemaInfo> normalize) {
+        SchemaInfo normalized = get(Kind.NormalizedSchema, schemaInfo, getFingerprint(schemaInfo), normalize,
+                x -> ENTRY_OVERHEAD_BYTES + x.getSchemaData().capacity());
+        // the buffer is duplicated so that callers reading from it do not change the position of the cached buffer.
+        return new SchemaInfo(normalized.getType(), schemaInfo.getSerializationFormat(),
+                normalized.getSchemaData().duplicate(), schemaInfo.getProperties());
+    }
+
+    /**
+     * Gets the parsed form of the schema from the cache, or parses the schema and caches it.
+     * Failures to parse the schema are not cached.
+     *
+     * @param schemaInfo schema to parse.
+     * @param fingerprint fingerprint of the schema data.
+     * @param parse function that parses the schema.
+     * @param <T> Type of the parsed schema.
+     * @return parsed schema.
+     */
+    public <T> T getParsedSchema(SchemaInfo schemaInfo, BigInteger fingerprint, Function<SchemaInfo, T> parse) {
+        return get(Kind.ParsedSchema, schemaInfo, fingerprint, parse, x -> weighParsedSchema(schemaInfo));
+    }
+
+    /**
+     * Caches the parsed form of the schema, for example when the schema was parsed while it was normalized.
+     *
+     * @param schemaInfo schema that was parsed.
+     * @param parsed parsed schema.
+     */
+    public void putParsedSchema(SchemaInfo schemaInfo, Object parsed) {
+        cache.put(new Key(Kind.ParsedSchema, getFingerprint(schemaInfo), schemaInfo.getSerializationFormat(),
+                schemaInfo.getType()), new Value(parsed, weighParsedSchema(schemaInfo)));
+    }
+
+    /**
+     * Gets the string representation of the schema from the cache, or renders it and caches it.
+     * Failures to render the schema are not cached.
+     *
+     * @param schemaInfo schema to render.
+     * @param render function that renders the schema as a string.
+     * @return string representation of the schema.
+     */
+    public String getSchemaString(SchemaInfo schemaInfo, Function<SchemaInfo, String> render) {
+        return get(Kind.SchemaString, schemaInfo, getFingerprint(schemaInfo), render,
+                x -> ENTRY_OVERHEAD_BYTES + 2 * x.length());
+    }
+
+    @VisibleForTesting
+    public long size() {
+        return cache.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Kind kind, SchemaInfo schemaInfo, BigInteger fingerprint, Function<SchemaInfo, T> compute,
+                      Function<T, Integer> weigh) {
+        Key key = new Key(kind, fingerprint, schemaInfo.getSerializationFormat(), schemaInfo.getType());
+        Value value = cache.getIfPresent(key);
+        if (value != null) {
+            return (T) value.getValue();
+        }
+        T computed = compute.apply(schemaInfo);
+        cache.put(key, new Value(computed, weigh.apply(computed)));
+        return computed;
+    }
+
+    private static BigInteger getFingerprint(SchemaInfo schemaInfo) {
+        return HashUtil.getFingerprint(schemaInfo.getSchemaData().array());
+    }
+
+    private static int weighParsedSchema(SchemaInfo schemaInfo) {
+        return ENTRY_OVERHEAD_BYTES + PARSED_SCHEMA_SIZE_FACTOR * schemaInfo.getSchemaData().capacity();
+    }
+
+    private enum Kind {
+        NormalizedSchema,
+        ParsedSchema,
+        SchemaString
+    }
+
+    @Data
+    private static class Key {
+        private final Kind kind;
+        private final BigInteger fingerprint;
+        private final SerializationFormat serializationFormat;
+        private final String type;
+    }
+
+    @Data
+    private static class Value {
+        private final Object value;
+        private final int weight;
+    }
+}
@@ -16,14 +16,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.util.JsonFormat;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.Retry;
 import io.pravega.schemaregistry.ResultPage;
+import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.common.FuturesUtility;
 import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.common.NameUtil;
@@ -32,11 +39,13 @@ import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupChanges;
 import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.contract.data.SerializerBootstrapInfo;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.exceptions.IncompatibleSchemaException;
 import io.pravega.schemaregistry.exceptions.PreconditionFailedException;
@@ -44,8 +53,12 @@ import io.pravega.schemaregistry.exceptions.SerializationFormatMismatchException
 import io.pravega.schemaregistry.rules.CompatibilityChecker;
 import io.pravega.schemaregistry.rules.CompatibilityCheckerFactory;
 import io.pravega.schemaregistry.storage.ContinuationToken;
+import io.pravega.schemaregistry.storage.Etag;
+import io.pravega.schemaregistry.storage.SchemaLookup;
 import io.pravega.schemaregistry.storage.SchemaStore;
 import io.pravega.schemaregistry.storage.StoreExceptions;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.Schema;
 import org.everit.json.schema.loader.SchemaLoader;
@@ -58,12 +71,19 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.pravega.schemaregistry.contract.data.BackwardAndForward.BackwardTransitive;
 import static io.pravega.schemaregistry.contract.data.BackwardAndForward.ForwardTransitive;
@@ -90,9 +110,48 @@ public class SchemaRegistryService {
 
     private final ScheduledExecutorService executor;
 
+    private final GroupWatcher watcher;
+
+    private final GroupWriteQueue writeQueue;
+
+    /**
+     * Cache of the results of compatibility checks, keyed by the group's etag and the schema. The etag includes the id 
+     * of the group's table, so the entries of a deleted group are never used for a group created again with the same name.
+     */
+    private final Cache<DecisionKey, Boolean> decisions;
+
+    /**
+     * Cache of the normalized, parsed and rendered forms of schemas, shared with the compatibility checkers.
+     */
+    private final SchemaCache schemaCache;
+
+    private final CompatibilityCheckerFactory checkers;
+
     public SchemaRegistryService(SchemaStore store, ScheduledExecutorService executor) {
+        this(store, executor, new SchemaCache(Config.SCHEMA_CACHE_MAX_SIZE_BYTES));
+    }
+
+    public SchemaRegistryService(SchemaStore store, ScheduledExecutorService executor, SchemaCache schemaCache) {
+        this(store, executor, schemaCache, Config.WATCH_ETAG_PROBE_INTERVAL_MILLIS);
+    }
+
+    @VisibleForTesting
+    SchemaRegistryService(SchemaStore store, ScheduledExecutorService executor, long watchProbeIntervalMillis) {
+        this(store, executor, new SchemaCache(Config.SCHEMA_CACHE_MAX_SIZE_BYTES), watchProbeIntervalMillis);
+    }
+
+    @VisibleForTesting
+    SchemaRegistryService(SchemaStore store, ScheduledExecutorService executor, SchemaCache schemaCache, 
+                          long watchProbeIntervalMillis) {
         this.store = store;
         this.executor = executor;
+        this.schemaCache = schemaCache;
+        this.checkers = new CompatibilityCheckerFactory(schemaCache);
+        this.watcher = new GroupWatcher(this::getGroupEtag, executor, watchProbeIntervalMillis);
+        this.writeQueue = new GroupWriteQueue(executor);
+        this.decisions = CacheBuilder.newBuilder()
+                                     .maximumSize(Config.COMPATIBILITY_DECISIONS_CACHE_SIZE)
+                                     .build();
     }
 
     /**
@@ -201,10 +260,10 @@ public class SchemaRegistryService {
                                              return store.getGroupProperties(namespace, group)
                                                          .thenCompose(prop -> {
                                                              if (previousCompatibility == null) {
-                                                                 return store.updateCompatibility(namespace, group, pos, compatibility);
+                                                                 return notifyWatchers(namespace, group, store.updateCompatibility(namespace, group, pos, compatibility));
                                                              } else {
                                                                  if (previousCompatibility.equals(prop.getCompatibility())) {
-                                                                     return store.updateCompatibility(namespace, group, pos, compatibility);
+                                                                     return notifyWatchers(namespace, group, store.updateCompatibility(namespace, group, pos, compatibility));
                                                                  } else {
                                                                      throw new PreconditionFailedException("Conditional update failed");
                                                                  }
@@ -265,30 +324,172 @@ public class SchemaRegistryService {
         Preconditions.checkArgument(schemaInfo != null);
         log.debug("addSchema called for group {} {}. schema {}", namespace, group, schemaInfo.getType());
         SchemaInfo schema = normalizeSchemaBinary(schemaInfo);
-        // 1. get group policy
-        // 2. get checker for serialization format.
-        // validate schema against group compatibility policy on schema
-        // 3. conditionally update the schema
-        return RETRY.runAsync(() ->
-                store.getGroupEtag(namespace, group)
-                     .thenCompose(etag ->
-                             store.getGroupProperties(namespace, group)
-                                  .thenCompose(prop -> {
-                                      return Futures.exceptionallyComposeExpecting(store.getSchemaVersion(namespace, group, schema, getFingerprint(schema)),
-                                              e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException,
-                                              () -> { // Schema doesnt exist. Validate and add it
-                                                  return validateSchema(namespace, group, schema, prop.getCompatibility())
-                                                          .thenCompose(valid -> {
-                                                              if (!valid) {
-                                                                  throw new IncompatibleSchemaException(String.format("%s is incompatible", schema.getType()));
-                                                              }
-                                                              // we will compute the fingerprint from normalized form.
-                                                              SchemaInfo withType = new SchemaInfo(schema.getType(), schemaInfo.getSerializationFormat(), schemaInfo.getSchemaData(), schemaInfo.getProperties());
-                                                              return store.addSchema(namespace, group, withType, schema,
-                                                                      getFingerprint(schema), prop, etag);
-                                                          });
-                                              });
-                                  })), executor)
+        return addSchema(namespace, group, schemaInfo, schema);
+    }
+
+    /**
+     * Adds a batch of schemas to the group atomically, in the order in which they are supplied. 
+     * All schemas are looked up in the group with a single read. The schemas that are not present are validated in memory 
+     * against the group's compatibility policy, with each schema checked against the group's schemas and the schemas that 
+     * precede it in the batch, and are then added with a single conditional update of the group. 
+     * If any of the schemas is malformed, has a mismatched serialization format or is incompatible, the request fails 
+     * without modifying the group. Identical schemas repeated within the batch are added once and share a version. 
+     *
+     * @param namespace namespace for which the request is scoped to.
+     * @param group     Name of group.
+     * @param schemaInfos Schemas to add.
+     * @return CompletableFuture that holds versionInfo for each of the schemas, in the order of the supplied schemas.
+     */
+    public CompletableFuture<List<VersionInfo>> addSchemas(String namespace, String group, List<SchemaInfo> schemaInfos) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(schemaInfos != null && !schemaInfos.isEmpty());
+        log.debug("addSchemas called for group {} {}. number of schemas {}", namespace, group, schemaInfos.size());
+        List<SchemaInfo> schemas = schemaInfos.stream().map(this::normalizeSchemaBinary).collect(Collectors.toList());
+        List<BigInteger> fingerprints = schemas.stream().map(this::getFingerprint).collect(Collectors.toList());
+        
+        return RETRY.runAsync(() -> store.lookupSchemas(namespace, group, schemas, fingerprints)
+                                         .thenCompose(lookups -> addSchemas(namespace, group, schemaInfos, schemas, fingerprints, lookups)), 
+                    executor)
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, {} schemas added successfully.", namespace, group, r.size());
+                        } else {
+                            log.warn("Group {} {}, add schemas failed with error", namespace, group, e);
+                        }
+                    });
+    }
+
+    private CompletableFuture<List<VersionInfo>> addSchemas(String namespace, String group, List<SchemaInfo> schemaInfos, 
+                                                            List<SchemaInfo> schemas, List<BigInteger> fingerprints, 
+                                                            List<SchemaLookup> lookups) {
+        GroupProperties prop = lookups.get(0).getGroupProperties();
+        schemas.stream().filter(x -> !prop.getSerializationFormat().equals(SerializationFormat.Any) &&
+                !x.getSerializationFormat().equals(prop.getSerializationFormat()))
+               .findFirst().ifPresent(x -> {
+                   throw new SerializationFormatMismatchException(x.getSerializationFormat().name());
+               });
+        // schemas that are not in the group are added once, in the order of their first occurrence in the batch.
+        Map<SchemaIdentity, Integer> toAdd = new LinkedHashMap<>();
+        for (int i = 0; i < schemas.size(); i++) {
+            if (lookups.get(i).getVersionInfo() == null) {
+                toAdd.putIfAbsent(new SchemaIdentity(schemas.get(i).getType(), schemas.get(i).getSerializationFormat(), 
+                        fingerprints.get(i)), i);
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return CompletableFuture.completedFuture(lookups.stream().map(SchemaLookup::getVersionInfo).collect(Collectors.toList()));
+        }
+        List<Integer> indexes = new ArrayList<>(toAdd.values());
+        List<SchemaInfo> normalized = indexes.stream().map(schemas::get).collect(Collectors.toList());
+        return validateSchemas(namespace, group, normalized, prop)
+                .thenCompose(v -> {
+                    // we will compute the fingerprint from normalized form.
+                    List<SchemaInfo> withTypes = indexes.stream().map(i -> new SchemaInfo(schemas.get(i).getType(), 
+                            schemaInfos.get(i).getSerializationFormat(), schemaInfos.get(i).getSchemaData(), 
+                            schemaInfos.get(i).getProperties())).collect(Collectors.toList());
+                    List<BigInteger> toAddFingerprints = indexes.stream().map(fingerprints::get).collect(Collectors.toList());
+                    return notifyWatchers(namespace, group, store.addSchemas(namespace, group, withTypes, normalized, 
+                            toAddFingerprints, prop, lookups.get(0).getEtag()));
+                })
+                .thenApply(added -> {
+                    Map<SchemaIdentity, VersionInfo> versions = new HashMap<>();
+                    for (int i = 0; i < indexes.size(); i++) {
+                        SchemaInfo schema = normalized.get(i);
+                        versions.put(new SchemaIdentity(schema.getType(), schema.getSerializationFormat(), 
+                                fingerprints.get(indexes.get(i))), added.get(i));
+                    }
+                    return IntStream.range(0, schemas.size()).mapToObj(i -> lookups.get(i).getVersionInfo() != null ? 
+                            lookups.get(i).getVersionInfo() : versions.get(new SchemaIdentity(schemas.get(i).getType(), 
+                            schemas.get(i).getSerializationFormat(), fingerprints.get(i))))
+                                    .collect(Collectors.toList());
+                });
+    }
+
+    /**
+     * Validates the schemas in the order in which they are to be added to the group. 
+     * Fails with {@link IncompatibleSchemaException} on the first incompatible schema. 
+     */
+    private CompletableFuture<Void> validateSchemas(String namespace, String group, List<SchemaInfo> schemas, GroupProperties prop) {
+        return checkSchemas(namespace, group, schemas, prop)
+                .thenAccept(compatible -> {
+                    int incompatible = compatible.indexOf(false);
+                    if (incompatible >= 0) {
+                        throw new IncompatibleSchemaException(String.format("%s is incompatible", schemas.get(incompatible).getType()));
+                    }
+                });
+    }
+
+    /**
+     * Checks the compatibility of the schemas in the order in which they are to be added to the group. The schemas 
+     * needed for validation are read from the store once per type and each schema is checked in memory against them, 
+     * together with the compatible schemas that precede it. 
+     *
+     * @return CompletableFuture that holds whether each of the schemas is compatible, in the order of the schemas.
+     */
+    private CompletableFuture<List<Boolean>> checkSchemas(String namespace, String group, List<SchemaInfo> schemas, GroupProperties prop) {
+        Map<String, SchemaInfo> byKey = new LinkedHashMap<>();
+        schemas.forEach(x -> byKey.putIfAbsent(getValidationKey(x, prop), x));
+        List<String> keys = new ArrayList<>(byKey.keySet());
+        boolean latestOnly = isLatestOnly(prop.getCompatibility());
+        return Futures.allOfWithResults(keys.stream().map(x -> getSchemasForValidation(namespace, group, byKey.get(x), prop))
+                                            .collect(Collectors.toList()))
+                      .thenApply(fetched -> {
+                          Map<String, List<SchemaWithVersion>> history = new HashMap<>();
+                          for (int i = 0; i < keys.size(); i++) {
+                              history.put(keys.get(i), new ArrayList<>(fetched.get(i)));
+                          }
+                          List<Boolean> compatible = new ArrayList<>(schemas.size());
+                          for (SchemaInfo schema : schemas) {
+                              List<SchemaWithVersion> against = history.get(getValidationKey(schema, prop));
+                              boolean valid = checkCompatibility(schema, prop, against);
+                              compatible.add(valid);
+                              if (valid) {
+                                  // the schema is pending addition, so it is versioned after all the schemas in the group.
+                                  if (latestOnly) {
+                                      against.clear();
+                                  }
+                                  against.add(new SchemaWithVersion(schema, new VersionInfo(schema.getType(), 
+                                          schema.getSerializationFormat().getFullTypeName(), Integer.MAX_VALUE, Integer.MAX_VALUE)));
+                              }
+                          }
+                          return compatible;
+                      });
+    }
+
+    private String getValidationKey(SchemaInfo schema, GroupProperties prop) {
+        // schemas of all types are validated against the same schemas unless the policy applies per type.
+        boolean perType = prop.isAllowMultipleTypes() && !prop.getCompatibility().getType().equals(Compatibility.Type.AllowAny) 
+                && !prop.getCompatibility().getType().equals(Compatibility.Type.DenyAll);
+        return perType ? schema.getType() : "";
+    }
+
+    private boolean isLatestOnly(Compatibility compatibility) {
+        if (compatibility.getType().equals(Compatibility.Type.AllowAny) || compatibility.getType().equals(Compatibility.Type.DenyAll)) {
+            return false;
+        }
+        BackwardAndForward backwardAndForward = convertToBackwardAndForward(compatibility);
+        BackwardPolicy backward = backwardAndForward.getBackwardPolicy();
+        ForwardPolicy forward = backwardAndForward.getForwardPolicy();
+        return !(backward instanceof BackwardTransitive || backward instanceof BackwardTill 
+                || forward instanceof ForwardTransitive || forward instanceof ForwardTill);
+    }
+
+    private CompletableFuture<VersionInfo> addSchema(String namespace, String group, SchemaInfo schemaInfo, SchemaInfo schema) {
+        // 1. look up the schema along with the group's etag and properties in a single read.
+        // 2. if the schema is already present, return its version without any writes. 
+        // 3. otherwise validate the schema against the group's compatibility policy and conditionally add it.
+        BigInteger fingerprint = getFingerprint(schema);
+        return store.lookupSchema(namespace, group, schema, fingerprint)
+                    .thenCompose(lookup -> {
+                        if (lookup.getVersionInfo() != null) {
+                            return CompletableFuture.completedFuture(lookup.getVersionInfo());
+                        }
+                        // concurrent requests to add schemas to the group through this node are added in batches, and 
+                        // requests to add the same schema share a single add.
+                        return writeQueue.submitBatched(namespace, group, "addSchema", 
+                                new SchemaAddition(schemaInfo, schema, fingerprint), 
+                                additions -> addQueuedSchemas(namespace, group, additions));
+                    })
                     .whenComplete((r, e) -> {
                         if (e == null) {
                             log.debug("Group {} {}, schema {} added successfully.", namespace, group, schema.getType());
@@ -298,6 +499,104 @@ public class SchemaRegistryService {
                     });
     }
 
+    /**
+     * Adds a batch of schemas queued on the group. The schemas are looked up again as the group may have changed while 
+     * they were queued. A single schema is validated against the group, reusing the cached decisions, and added on its 
+     * own. Otherwise the schemas are looked up with a single read, validated one after another in memory against the 
+     * group's schemas and the valid schemas before them in the batch, and the valid schemas are added with a single 
+     * conditional update of the group. Each schema in the batch is added or rejected on its own. 
+     */
+    private CompletableFuture<List<Either<VersionInfo, Throwable>>> addQueuedSchemas(String namespace, String group, 
+                                                                                     List<SchemaAddition> additions) {
+        if (additions.size() == 1) {
+            SchemaAddition addition = additions.get(0);
+            return RETRY.runAsync(() -> store.lookupSchema(namespace, group, addition.getSchema(), addition.getFingerprint())
+                                             .thenCompose(current -> addSchema(namespace, group, addition.getSchemaInfo(), 
+                                                     addition.getSchema(), addition.getFingerprint(), current)), executor)
+                        .thenApply(version -> Collections.singletonList(Either.left(version)));
+        }
+        List<SchemaInfo> schemas = additions.stream().map(SchemaAddition::getSchema).collect(Collectors.toList());
+        List<BigInteger> fingerprints = additions.stream().map(SchemaAddition::getFingerprint).collect(Collectors.toList());
+        return RETRY.runAsync(() -> store.lookupSchemas(namespace, group, schemas, fingerprints)
+                                         .thenCompose(lookups -> addQueuedSchemas(namespace, group, additions, lookups)), 
+                executor);
+    }
+
+    private CompletableFuture<List<Either<VersionInfo, Throwable>>> addQueuedSchemas(String namespace, String group, 
+                                                                                     List<SchemaAddition> additions, 
+                                                                                     List<SchemaLookup> lookups) {
+        GroupProperties prop = lookups.get(0).getGroupProperties();
+        List<Either<VersionInfo, Throwable>> outcomes = new ArrayList<>(Collections.nCopies(additions.size(), null));
+        // schemas with the same identity are validated and added once and share the outcome.
+        Map<SchemaIdentity, Integer> first = new HashMap<>();
+        List<Integer> toValidate = new ArrayList<>();
+        for (int i = 0; i < additions.size(); i++) {
+            SchemaInfo schema = additions.get(i).getSchema();
+            if (lookups.get(i).getVersionInfo() != null) {
+                outcomes.set(i, Either.left(lookups.get(i).getVersionInfo()));
+            } else if (!prop.getSerializationFormat().equals(SerializationFormat.Any) &&
+                    !schema.getSerializationFormat().equals(prop.getSerializationFormat())) {
+                outcomes.set(i, Either.right(new SerializationFormatMismatchException(schema.getSerializationFormat().name())));
+            } else if (first.putIfAbsent(additions.get(i).getIdentity(), i) == null) {
+                toValidate.add(i);
+            }
+        }
+        return checkSchemas(namespace, group, toValidate.stream().map(i -> additions.get(i).getSchema()).collect(Collectors.toList()), prop)
+                .thenCompose(compatible -> {
+                    List<Integer> toAdd = new ArrayList<>();
+                    for (int j = 0; j < toValidate.size(); j++) {
+                        int i = toValidate.get(j);
+                        if (compatible.get(j)) {
+                            toAdd.add(i);
+                        } else {
+                            outcomes.set(i, Either.right(new IncompatibleSchemaException(
+                                    String.format("%s is incompatible", additions.get(i).getSchema().getType()))));
+                        }
+                    }
+                    if (toAdd.isEmpty()) {
+                        return CompletableFuture.completedFuture(Collections.<VersionInfo>emptyList());
+                    }
+                    // we will compute the fingerprint from normalized form.
+                    List<SchemaInfo> withTypes = toAdd.stream().map(i -> additions.get(i).getWithType()).collect(Collectors.toList());
+                    List<SchemaInfo> normalized = toAdd.stream().map(i -> additions.get(i).getSchema()).collect(Collectors.toList());
+                    List<BigInteger> fingerprints = toAdd.stream().map(i -> additions.get(i).getFingerprint()).collect(Collectors.toList());
+                    return notifyWatchers(namespace, group, store.addSchemas(namespace, group, withTypes, normalized, 
+                            fingerprints, prop, lookups.get(0).getEtag()))
+                            .thenApply(added -> {
+                                for (int k = 0; k < toAdd.size(); k++) {
+                                    outcomes.set(toAdd.get(k), Either.left(added.get(k)));
+                                }
+                                return added;
+                            });
+                })
+                .thenApply(v -> {
+                    for (int i = 0; i < additions.size(); i++) {
+                        if (outcomes.get(i) == null) {
+                            outcomes.set(i, outcomes.get(first.get(additions.get(i).getIdentity())));
+                        }
+                    }
+                    return outcomes;
+                });
+    }
+
+    private CompletableFuture<VersionInfo> addSchema(String namespace, String group, SchemaInfo schemaInfo, SchemaInfo schema,
+                                                     BigInteger fingerprint, SchemaLookup lookup) {
+        if (lookup.getVersionInfo() != null) {
+            return CompletableFuture.completedFuture(lookup.getVersionInfo());
+        }
+        GroupProperties prop = lookup.getGroupProperties();
+        return validateSchema(namespace, group, schema, fingerprint, lookup, null)
+                .thenCompose(valid -> {
+                    if (!valid) {
+                        throw new IncompatibleSchemaException(String.format("%s is incompatible", schema.getType()));
+                    }
+                    // we will compute the fingerprint from normalized form.
+                    SchemaInfo withType = new SchemaInfo(schema.getType(), schemaInfo.getSerializationFormat(), schemaInfo.getSchemaData(), schemaInfo.getProperties());
+                    return notifyWatchers(namespace, group, store.addSchema(namespace, group, withType, schema,
+                            fingerprint, prop, lookup.getEtag()));
+                });
+    }
+
     /**
      * Gets schema corresponding to the version.
      *
@@ -318,6 +617,30 @@ public class SchemaRegistryService {
                         }
                     });
     }
+    /**
+     * Gets schemas corresponding to the schema ids with a single lookup. 
+     * Schema ids that are not found in the group are omitted from the result.
+     *
+     * @param namespace namespace for which the request is scoped to.
+     * @param group     Name of group.
+     * @param schemaIds Schema ids which uniquely identify schemas within a group.
+     * @return CompletableFuture that holds schemas with their versions, ordered as the requested schema ids.
+     */
+    public CompletableFuture<List<SchemaWithVersion>> getSchemasById(String namespace, String group, List<Integer> schemaIds) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(schemaIds != null);
+        log.debug("Group {} {}, get schemas for ids {} .", namespace, group, schemaIds);
+
+        return store.getSchemasById(namespace, group, schemaIds)
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, return {} schemas for ids {}.", namespace, group, r.size(), schemaIds);
+                        } else {
+                            log.warn("Group {} {}, get schemas for ids {} failed with error", namespace, group, schemaIds, e);
+                        }
+                    });
+    }
+
 
     /**
      * Gets schema corresponding to the version.
@@ -354,7 +677,7 @@ public class SchemaRegistryService {
         log.debug("Group {} {}, delete schema for version {} .", namespace, group, schemaId);
         return RETRY.runAsync(() -> store.getGroupEtag(namespace, group)
                                          .thenCompose(etag ->
-                                                 store.deleteSchema(namespace, group, schemaId, etag)
+                                                 notifyWatchers(namespace, group, store.deleteSchema(namespace, group, schemaId, etag))
                                                       .whenComplete((r, e) -> {
                                                           if (e == null) {
                                                               log.debug("Group {} {}, schema for verison {} deleted.", namespace, group, schemaId);
@@ -378,7 +701,7 @@ public class SchemaRegistryService {
         log.debug("Group {} {}, delete schema for version {}/{}.", namespace, group, schemaType, version);
         return RETRY.runAsync(() -> store.getGroupEtag(namespace, group)
                                          .thenCompose(etag ->
-                                                 store.deleteSchema(namespace, group, schemaType, version, serializationFormat, etag)
+                                                 notifyWatchers(namespace, group, store.deleteSchema(namespace, group, schemaType, version, serializationFormat, etag))
                                                       .whenComplete((r, e) -> {
                                                           if (e == null) {
                                                               log.debug("Group {} {}, schema for verison {}/{} deleted.", namespace, group, schemaType, version);
@@ -412,6 +735,128 @@ public class SchemaRegistryService {
                         }
                     });
     }
+    /**
+     * Gets encoding infos for the requested encoding ids with a single lookup. 
+     * Encoding ids that are not found in the group are omitted from the result.
+     *
+     * @param namespace   namespace for which the request is scoped to.
+     * @param group       Name of group.
+     * @param encodingIds Encoding ids to look up.
+     * @return CompletableFuture that holds a map of encoding id to encoding info, ordered as the requested encoding ids.
+     */
+    public CompletableFuture<Map<EncodingId, EncodingInfo>> getEncodingInfos(String namespace, String group, List<EncodingId> encodingIds) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(encodingIds != null);
+
+        log.debug("Group {} {}, getEncodingInfos {} .", namespace, group, encodingIds);
+
+        return store.getEncodingInfos(namespace, group, encodingIds)
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, return getEncodingInfos {}.", namespace, group, r.keySet());
+                        } else {
+                            log.warn("Group {} {}, getEncodingInfos for ids {} failed with error", namespace, group, encodingIds, e);
+                        }
+                    });
+    }
+
+    /**
+     * Gets encoding infos for the encoding ids generated in the group starting from (and including) the given encoding id. 
+     * A bounded number of encoding infos is returned per call. 
+     *
+     * @param namespace namespace for which the request is scoped to.
+     * @param group     Name of group.
+     * @param from      Encoding id from which to fetch the encoding infos.
+     * @return CompletableFuture that holds a map of encoding id to encoding info, ordered by encoding id.
+     */
+    public CompletableFuture<Map<EncodingId, EncodingInfo>> getEncodingInfosFrom(String namespace, String group, EncodingId from) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(from != null && from.getId() >= 0);
+
+        log.debug("Group {} {}, getEncodingInfosFrom {} .", namespace, group, from);
+
+        return store.getEncodingInfosFrom(namespace, group, from)
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, return getEncodingInfosFrom {} with {} encodings.", namespace, group, from, r.size());
+                        } else {
+                            log.warn("Group {} {}, getEncodingInfosFrom {} failed with error", namespace, group, from, e);
+                        }
+                    });
+    }
+
+    /**
+     * Gets the group's etag. The etag changes with every update to the group. It is rendered as the id of the group's 
+     * table followed by the table's version, so a group that is deleted and created again with the same name never 
+     * has the etag of the deleted group, even if its table reaches the same version. 
+     *
+     * @param namespace namespace for which the request is scoped to.
+     * @param group     Name of group.
+     * @return CompletableFuture that holds the string representation of the group's etag.
+     */
+    public CompletableFuture<String> getGroupEtag(String namespace, String group) {
+        Preconditions.checkArgument(group != null);
+        return store.getGroupEtag(namespace, group).thenApply(etag -> etag.id() + "-" + etag.etag());
+    }
+
+    /**
+     * Waits for the group to change. The returned future completes with the group's etag as soon as it differs from 
+     * the supplied etag, or with the supplied etag if the group did not change within the timeout. 
+     * Watches are completed when the group is updated through this service instance, and updates made through 
+     * other instances are detected by periodically reading the etag of the watched groups. 
+     *
+     * @param namespace     namespace for which the request is scoped to.
+     * @param group         Name of group.
+     * @param etag          Etag of the group known to the caller. If null, the current etag is returned right away.
+     * @param timeoutMillis Time to wait for the group to change. It is capped by the configured max watch timeout.
+     * @return CompletableFuture that holds the group's etag.
+     */
+    public CompletableFuture<String> watchGroup(String namespace, String group, @Nullable String etag, long timeoutMillis) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(timeoutMillis > 0, "timeout should be positive");
+        log.debug("Group {} {}, watchGroup with etag {} and timeout {}.", namespace, group, etag, timeoutMillis);
+
+        return watcher.watch(namespace, group, etag, Math.min(timeoutMillis, Config.WATCH_MAX_TIMEOUT_MILLIS))
+                      .whenComplete((r, e) -> {
+                          if (e == null) {
+                              log.debug("Group {} {}, watchGroup returning etag {}.", namespace, group, r);
+                          } else {
+                              log.warn("Group {} {}, watchGroup failed with error", namespace, group, e);
+                          }
+                      });
+    }
+
+    /**
+     * Gets the changes made to the group since the given schema id and encoding id. The changes include the schemas 
+     * added from the schema id, the ids of all deleted schemas and the encodings generated from the encoding id. 
+     * A bounded number of schemas and encodings is returned per call and the remaining ones are fetched from the next ids
+     * in the changes. 
+     *
+     * @param namespace      namespace for which the request is scoped to.
+     * @param group          Name of group.
+     * @param fromSchemaId   Schema id from which to fetch the added schemas.
+     * @param fromEncodingId Encoding id from which to fetch the encoding infos.
+     * @return CompletableFuture that holds the group changes.
+     */
+    public CompletableFuture<GroupChanges> getGroupChanges(String namespace, String group, int fromSchemaId, int fromEncodingId) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(fromSchemaId >= 0, "schema id cannot be negative");
+        Preconditions.checkArgument(fromEncodingId >= 0, "encoding id cannot be negative");
+
+        log.debug("Group {} {}, getGroupChanges from schema id {} and encoding id {}.", namespace, group, fromSchemaId, fromEncodingId);
+
+        return store.getGroupChanges(namespace, group, fromSchemaId, fromEncodingId)
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, return getGroupChanges with {} schemas and {} encodings.", namespace, group, 
+                                    r.getSchemas().size(), r.getEncodings().size());
+                        } else {
+                            log.warn("Group {} {}, getGroupChanges from {} {} failed with error", namespace, group, 
+                                    fromSchemaId, fromEncodingId, e);
+                        }
+                    });
+    }
+
 
     /**
      * Gets an encoding id that uniquely identifies a combination of Schema version and codec type.
@@ -428,23 +873,37 @@ public class SchemaRegistryService {
         Preconditions.checkArgument(codecType != null);
         log.debug("Group {} {}, getEncodingId for {} {}.", namespace, group, version, codecType);
 
+        return store.getEncodingId(namespace, group, version, codecType)
+                    .thenCompose(response -> {
+                        if (response.isLeft()) {
+                            return CompletableFuture.completedFuture(response.getLeft());
+                        } else {
+                            // concurrent requests for the same encoding id through this node share a single create.
+                            return writeQueue.submit(namespace, group, "createEncodingId", Arrays.asList(version, codecType), 
+                                    () -> createEncodingId(namespace, group, version, codecType));
+                        }
+                    })
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, getEncodingId for {} {}. returning {}.", namespace, group, version, codecType, r);
+                        } else {
+                            log.warn("Group {} {}, getEncodingId for {} {} failed with error", namespace, group, version, codecType, e);
+                        }
+                    });
+    }
+
+    private CompletableFuture<EncodingId> createEncodingId(String namespace, String group, VersionInfo version, String codecType) {
+        // the encoding id is looked up again as it may have been created since it was last looked up.
         return RETRY.runAsync(() -> {
             return store.getEncodingId(namespace, group, version, codecType)
                         .thenCompose(response -> {
                             if (response.isLeft()) {
                                 return CompletableFuture.completedFuture(response.getLeft());
                             } else {
-                                return store.createEncodingId(namespace, group, version, codecType, response.getRight());
+                                return notifyWatchers(namespace, group, store.createEncodingId(namespace, group, version, codecType, response.getRight()));
                             }
                         });
-        }, executor)
-                    .whenComplete((r, e) -> {
-                        if (e == null) {
-                            log.debug("Group {} {}, getEncodingId for {} {}. returning {}.", namespace, group, version, codecType, r);
-                        } else {
-                            log.warn("Group {} {}, getEncodingId for {} {} failed with error", namespace, group, version, codecType, e);
-                        }
-                    });
+        }, executor);
     }
 
     /**
@@ -459,11 +918,29 @@ public class SchemaRegistryService {
      * @return CompletableFuture that holds Ordered list of schemas with versions and compatibility for all schemas in the group.
      */
     public CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String namespace, String group, @Nullable String type) {
+        return getGroupHistory(namespace, group, type, true, true);
+    }
+
+    /**
+     * Gets all schemas with corresponding versions for the group (or type, if specified), like 
+     * {@link #getGroupHistory(String, String, String)}. The schema data and the schema string are only read if they are 
+     * required. 
+     *
+     * @param namespace        namespace for which the request is scoped to.
+     * @param group            Name of group.
+     * @param type             Object type identified by {@link SchemaInfo#getType()}.
+     * @param withSchemaData   whether the schema data is required. If not, the records have empty schema data.
+     * @param withSchemaString whether the schema string is required. If not, the records have no schema string.
+     * @return CompletableFuture that holds Ordered list of schemas with versions and compatibility for all schemas in the group.
+     */
+    public CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String namespace, String group, @Nullable String type, 
+                                                                       boolean withSchemaData, boolean withSchemaString) {
         Preconditions.checkArgument(group != null);
         log.debug("Group {} {}, getGroupHistory for {}.", namespace, group, type);
 
         if (type != null) {
-            return store.getGroupHistoryForType(namespace, group, type)
+            return store.getGroupHistoryForType(namespace, group, type, withSchemaData || withSchemaString)
+                        .thenApply(records -> toHistoryRecords(records, withSchemaData, withSchemaString))
                         .whenComplete((r, e) -> {
                             if (e == null) {
                                 log.debug("Group {} {}, object type = {}, history size = {}.", namespace, group, type, r.size());
@@ -472,7 +949,8 @@ public class SchemaRegistryService {
                             }
                         });
         } else {
-            return store.getGroupHistory(namespace, group)
+            return store.getGroupHistory(namespace, group, withSchemaData || withSchemaString)
+                        .thenApply(records -> toHistoryRecords(records, withSchemaData, withSchemaString))
                         .whenComplete((r, e) -> {
                             if (e == null) {
                                 log.debug("Group {} {}, history size = {}.", namespace, group, r.size());
@@ -484,6 +962,56 @@ public class SchemaRegistryService {
         }
     }
 
+    /**
+     * Gets a page of schemas with corresponding versions for the group (or type, if specified).
+     * The order in the pages matches the order in which schemas were evolved within the group. Only the records on the page
+     * are read from the store. An empty page is returned once there are no more records.
+     *
+     * @param namespace         namespace for which the request is scoped to.
+     * @param group             Name of group.
+     * @param type              Object type identified by {@link SchemaInfo#getType()}.
+     * @param continuationToken continuation token.
+     * @param limit             max number of records to return.
+     * @return CompletableFuture that holds the page of records along with the continuation token for the next page.
+     */
+    public CompletableFuture<ResultPage<GroupHistoryRecord, ContinuationToken>> getGroupHistory(String namespace, String group, @Nullable String type,
+                                                                                                ContinuationToken continuationToken, int limit) {
+        return getGroupHistory(namespace, group, type, continuationToken, limit, true, true);
+    }
+
+    /**
+     * Gets a page of schemas with corresponding versions for the group (or type, if specified), like 
+     * {@link #getGroupHistory(String, String, String, ContinuationToken, int)}. The schema data and the schema string 
+     * are only read if they are required. 
+     *
+     * @param namespace         namespace for which the request is scoped to.
+     * @param group             Name of group.
+     * @param type              Object type identified by {@link SchemaInfo#getType()}.
+     * @param continuationToken continuation token.
+     * @param limit             max number of records to return.
+     * @param withSchemaData    whether the schema data is required. If not, the records have empty schema data.
+     * @param withSchemaString  whether the schema string is required. If not, the records have no schema string.
+     * @return CompletableFuture that holds the page of records along with the continuation token for the next page.
+     */
+    public CompletableFuture<ResultPage<GroupHistoryRecord, ContinuationToken>> getGroupHistory(String namespace, String group, @Nullable String type,
+                                                                                                ContinuationToken continuationToken, int limit, 
+                                                                                                boolean withSchemaData, boolean withSchemaString) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(limit > 0, "limit should be positive");
+        log.debug("Group {} {}, getGroupHistory for {} from {} with limit {}.", namespace, group, type, continuationToken, limit);
+
+        return store.getGroupHistory(namespace, group, type, continuationToken, limit, withSchemaData || withSchemaString)
+                    .thenApply(page -> new ResultPage<>(toHistoryRecords(page.getList(), withSchemaData, withSchemaString), 
+                            page.getToken()))
+                    .whenComplete((r, e) -> {
+                        if (e == null) {
+                            log.debug("Group {} {}, object type = {}, page size = {}.", namespace, group, type, r.getList().size());
+                        } else {
+                            log.warn("Group {} {}, object type = {}, getGroupHistory failed with error", namespace, group, type, e);
+                        }
+                    });
+    }
+
     /**
      * Gets version corresponding to the schema.
      * For each unique {@link SchemaInfo#getSchemaData()}, there will be a unique monotonically increasing version assigned.
@@ -527,20 +1055,10 @@ public class SchemaRegistryService {
         Preconditions.checkArgument(schemaInfo != null);
         log.debug("Group {} {}, validateSchema for {}.", namespace, group, schemaInfo.getType());
         SchemaInfo schema = normalizeSchemaBinary(schemaInfo);
+        BigInteger fingerprint = getFingerprint(schema);
 
-        return store.getGroupProperties(namespace, group)
-                    .thenCompose(prop -> {
-                        if (!prop.getSerializationFormat().equals(SerializationFormat.Any) &&
-                                !schema.getSerializationFormat().equals(prop.getSerializationFormat())) {
-                            throw new SerializationFormatMismatchException(schema.getSerializationFormat().name());
-                        }
-
-                        GroupProperties toApply = new GroupProperties(prop.getSerializationFormat(), 
-                                compatibility == null ? prop.getCompatibility() : compatibility,
-                                prop.isAllowMultipleTypes(), prop.getProperties());
-                        return getSchemasForValidation(namespace, group, schema, toApply)
-                                .thenApply(schemas -> checkCompatibility(schema, toApply, schemas));
-                    })
+        return store.lookupSchema(namespace, group, schema, fingerprint)
+                    .thenCompose(lookup -> validateSchema(namespace, group, schema, fingerprint, lookup, compatibility))
                     .whenComplete((r, e) -> {
                         if (e == null) {
                             log.debug("Group {} {}, validateSchema response = {}.", namespace, group, r);
@@ -550,6 +1068,28 @@ public class SchemaRegistryService {
                     });
     }
 
+    private CompletableFuture<Boolean> validateSchema(String namespace, String group, SchemaInfo schema, BigInteger fingerprint,
+                                                      SchemaLookup lookup, @Nullable Compatibility compatibility) {
+        GroupProperties prop = lookup.getGroupProperties();
+        Compatibility toApply = compatibility == null ? prop.getCompatibility() : compatibility;
+        return withDecisionCache(namespace, group, lookup.getEtag(), "validateSchema", schema, fingerprint, toApply,
+                () -> validateSchema(namespace, group, schema, prop, toApply));
+    }
+
+    private CompletableFuture<Boolean> validateSchema(String namespace, String group, SchemaInfo schema, GroupProperties prop,
+                                                      @Nullable Compatibility compatibility) {
+        if (!prop.getSerializationFormat().equals(SerializationFormat.Any) &&
+                !schema.getSerializationFormat().equals(prop.getSerializationFormat())) {
+            throw new SerializationFormatMismatchException(schema.getSerializationFormat().name());
+        }
+
+        GroupProperties toApply = new GroupProperties(prop.getSerializationFormat(), 
+                compatibility == null ? prop.getCompatibility() : compatibility,
+                prop.isAllowMultipleTypes(), prop.getProperties());
+        return getSchemasForValidation(namespace, group, schema, toApply)
+                .thenApply(schemas -> checkCompatibility(schema, toApply, schemas));
+    }
+
     /**
      * Checks whether given schema can be used to read data written by schemas active in the group.
      *
@@ -564,9 +1104,14 @@ public class SchemaRegistryService {
         log.debug("Group {} {}, canRead for {}.", namespace, group, schemaInfo.getType());
 
         SchemaInfo schema = normalizeSchemaBinary(schemaInfo);
-        return store.getGroupProperties(namespace, group)
-                    .thenCompose(prop -> getSchemasForValidation(namespace, group, schema, prop)
-                            .thenApply(schemasWithVersion -> canReadChecker(schema, prop, schemasWithVersion)))
+        BigInteger fingerprint = getFingerprint(schema);
+        return store.lookupSchema(namespace, group, schema, fingerprint)
+                    .thenCompose(lookup -> {
+                        GroupProperties prop = lookup.getGroupProperties();
+                        return withDecisionCache(namespace, group, lookup.getEtag(), "canRead", schema, fingerprint, 
+                                prop.getCompatibility(), () -> getSchemasForValidation(namespace, group, schema, prop)
+                                        .thenApply(schemasWithVersion -> canReadChecker(schema, prop, schemasWithVersion)));
+                    })
                     .whenComplete((r, e) -> {
                         if (e == null) {
                             log.debug("Group {} {}, canRead response = {}.", namespace, group, r);
@@ -587,9 +1132,11 @@ public class SchemaRegistryService {
         Preconditions.checkArgument(group != null);
         log.debug("Group {} {}, deleteGroup.", namespace, group);
 
-        return store.deleteGroup(namespace, group)
+        return notifyWatchers(namespace, group, store.deleteGroup(namespace, group))
                     .whenComplete((r, e) -> {
                         if (e == null) {
+                            // the decisions of the deleted group can no longer be used, so they are not kept until evicted.
+                            clearDecisions(namespace, group);
                             log.debug("Group {} {}, group deleted", namespace, group);
                         } else {
                             log.warn("Group {} {}, group delete failed with error", namespace, group, e);
@@ -633,7 +1180,8 @@ public class SchemaRegistryService {
 
         log.debug("Group {} {}, addCodecType {}.", namespace, group, codecType);
 
-        return store.addCodecType(namespace, group, codecType)
+        return writeQueue.submit(namespace, group, "addCodecType", codecType, 
+                () -> notifyWatchers(namespace, group, store.addCodecType(namespace, group, codecType)))
                     .whenComplete((r, e) -> {
                         if (e == null) {
                             log.debug("Group {} {}, addCodecType {} successful", namespace, group, codecType);
@@ -644,6 +1192,54 @@ public class SchemaRegistryService {
 
     }
 
+    /**
+     * Performs all the registry operations required to initialize a serializer in a single call.
+     * If group properties are supplied, the group is created if it does not exist. If registerCodec is set, the codec
+     * type is added to the group. The schema is then either added to the group or looked up depending on registerSchema,
+     * and an encoding id is generated for the resulting version and the codec type.
+     *
+     * @param namespace       namespace for which the request is scoped to.
+     * @param group           Name of group.
+     * @param groupProperties Group properties to create the group with. If null, the group should already exist.
+     * @param schemaInfo      Schema that the serializer will use.
+     * @param codecType       Codec type that the serializer will use.
+     * @param registerSchema  Whether the schema should be added to the group.
+     * @param registerCodec   Whether the codec type should be added to the group.
+     * @return CompletableFuture that holds the group properties, schema version, encoding id and codec types for the group.
+     */
+    public CompletableFuture<SerializerBootstrapInfo> bootstrapSerializer(String namespace, String group, @Nullable GroupProperties groupProperties,
+                                                                          SchemaInfo schemaInfo, CodecType codecType,
+                                                                          boolean registerSchema, boolean registerCodec) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(schemaInfo != null);
+        Preconditions.checkArgument(codecType != null);
+        log.debug("Group {} {}, bootstrapSerializer for {} {}.", namespace, group, schemaInfo.getType(), codecType.getName());
+
+        CompletableFuture<Boolean> createGroupFuture = groupProperties == null ? CompletableFuture.completedFuture(false) :
+                createGroup(namespace, group, groupProperties);
+        return createGroupFuture
+                .thenCompose(created -> registerCodec ? addCodecType(namespace, group, codecType) : CompletableFuture.completedFuture(null))
+                .thenCompose(v -> registerSchema ? addSchema(namespace, group, schemaInfo) : getSchemaVersion(namespace, group, schemaInfo))
+                .thenCompose(version -> {
+                    // the encoding id, group properties and codec types are independent of each other and are fetched concurrently.
+                    CompletableFuture<EncodingId> encodingIdFuture = getEncodingId(namespace, group, version, codecType.getName());
+                    CompletableFuture<GroupProperties> propertiesFuture = store.getGroupProperties(namespace, group);
+                    CompletableFuture<List<CodecType>> codecTypesFuture = store.listCodecTypes(namespace, group);
+                    return CompletableFuture.allOf(encodingIdFuture, propertiesFuture, codecTypesFuture)
+                                            .thenApply(x -> new SerializerBootstrapInfo(propertiesFuture.join(), version,
+                                                    encodingIdFuture.join(), ImmutableList.copyOf(codecTypesFuture.join())));
+                })
+                .whenComplete((r, e) -> {
+                    if (e == null) {
+                        log.debug("Group {} {}, bootstrapSerializer for {} {} returning {} {}.", namespace, group, schemaInfo.getType(),
+                                codecType.getName(), r.getVersionInfo(), r.getEncodingId());
+                    } else {
+                        log.warn("Group {} {}, bootstrapSerializer for {} {} failed with error", namespace, group, schemaInfo.getType(),
+                                codecType.getName(), e);
+                    }
+                });
+    }
+
     private boolean isValidCompatibilityForFormat(SerializationFormat serializationFormat, Compatibility compatibility) {
         switch (serializationFormat) {
             case Avro:
@@ -756,7 +1352,7 @@ public class SchemaRegistryService {
     
     private boolean checkCompatibility(SchemaInfo schema, GroupProperties groupProperties,
                                        List<SchemaWithVersion> schemasWithVersion) {
-        CompatibilityChecker checker = CompatibilityCheckerFactory.getCompatibilityChecker(schema.getSerializationFormat());
+        CompatibilityChecker checker = checkers.getCompatibilityChecker(schema.getSerializationFormat());
 
         // Verify that the type matches the type in schemas it will be validated against.
         if (!groupProperties.isAllowMultipleTypes() && !schemasWithVersion.stream().allMatch(x -> x.getSchemaInfo().getType().equals(schema.getType()))) {
@@ -813,11 +1409,17 @@ public class SchemaRegistryService {
     }
 
     private SchemaInfo normalizeSchemaBinary(SchemaInfo schemaInfo) {
+        return schemaCache.getNormalizedSchema(schemaInfo, this::parseAndNormalizeSchemaBinary);
+    }
+
+    private SchemaInfo parseAndNormalizeSchemaBinary(SchemaInfo schemaInfo) {
         // validates and the schema binary. 
         ByteBuffer schemaBinary = schemaInfo.getSchemaData();
         boolean isValid = true;
         String invalidityCause = "";
         String type = schemaInfo.getType();
+        // the parsed avro schema is cached for the compatibility checks that the normalized schema is used in.
+        Schema parsed = null;
         try {
             String schemaString;
             switch (schemaInfo.getSerializationFormat()) {
@@ -885,16 +1487,17 @@ public class SchemaRegistryService {
                         invalidityCause = "Type mismatch. Type should be full name for avro message. Hint: namespace.recordname";
                     } else {
                         schemaBinary = ByteBuffer.wrap(schema.toString().getBytes(Charsets.UTF_8));
+                        parsed = schema;
                     }
                     type = NameUtil.qualifiedName(avroNamespace, avroName);
                     break;
                 case Json:
                     schemaString = new String(schemaInfo.getSchemaData().array(), Charsets.UTF_8);
-                    validateJsonSchema(schemaString);
+                    JsonNode jsonNode = OBJECT_MAPPER.readTree(schemaString);
+                    validateJsonSchema(schemaString, jsonNode);
                     // normalize json schema string by parsing it into JsonNode and then serializing it with fields 
                     // in alphabetical order. This ensures that identical schemas with different order of fields are 
                     // treated to be equal. 
-                    JsonNode jsonNode = OBJECT_MAPPER.readTree(schemaString);
                     Object obj = OBJECT_MAPPER.treeToValue(jsonNode, Object.class);
                     schemaBinary = ByteBuffer.wrap(OBJECT_MAPPER.writeValueAsString(obj).getBytes(Charsets.UTF_8));
                     break;
@@ -913,7 +1516,60 @@ public class SchemaRegistryService {
         if (!isValid) {
             throw new IllegalArgumentException(invalidityCause);
         }
-        return new SchemaInfo(type, schemaInfo.getSerializationFormat(), schemaBinary, schemaInfo.getProperties());
+        SchemaInfo normalized = new SchemaInfo(type, schemaInfo.getSerializationFormat(), schemaBinary, schemaInfo.getProperties());
+        if (parsed != null) {
+            schemaCache.putParsedSchema(normalized, parsed);
+        }
+        return normalized;
+    }
+
+    private List<GroupHistoryRecord> toHistoryRecords(List<GroupHistoryRecord> records, boolean withSchemaData, 
+                                                      boolean withSchemaString) {
+        if (withSchemaData && !withSchemaString) {
+            return records;
+        }
+        return records.stream().map(x -> {
+            SchemaInfo schemaInfo = x.getSchemaInfo();
+            String schemaString = withSchemaString ? getSchemaString(schemaInfo) : null;
+            if (!withSchemaData) {
+                schemaInfo = new SchemaInfo(schemaInfo.getType(), schemaInfo.getSerializationFormat(), 
+                        ByteBuffer.allocate(0), schemaInfo.getProperties());
+            }
+            return new GroupHistoryRecord(schemaInfo, x.getVersionInfo(), x.getCompatibility(), x.getTimestamp(), schemaString);
+        }).collect(Collectors.toList());
+    }
+
+    private String getSchemaString(SchemaInfo schemaInfo) {
+        if (schemaInfo.getSerializationFormat().equals(SerializationFormat.Protobuf)) {
+            // rendering the descriptor set as json is expensive, so the rendered string is cached. 
+            return schemaCache.getSchemaString(schemaInfo, this::renderSchemaString);
+        }
+        return renderSchemaString(schemaInfo);
+    }
+
+    private String renderSchemaString(SchemaInfo schemaInfo) {
+        String schemaString;
+        switch (schemaInfo.getSerializationFormat()) {
+            case Avro:
+            case Json:
+                schemaString = new String(schemaInfo.getSchemaData().array(), Charsets.UTF_8);
+                break;
+            case Protobuf:
+                try {
+                    DescriptorProtos.FileDescriptorSet descriptor = DescriptorProtos.FileDescriptorSet.parseFrom(schemaInfo.getSchemaData());
+                    JsonFormat.Printer printer = JsonFormat.printer().preservingProtoFieldNames().usingTypeRegistry(JsonFormat.TypeRegistry.newBuilder().build());
+
+                    schemaString = printer.print(descriptor);
+                } catch (InvalidProtocolBufferException e) {
+                    log.warn("unable to convert protobuf schema to json string", e);
+                    throw new IllegalArgumentException(e);
+                }
+                break;
+            default:
+                schemaString = "";
+                break;
+        }
+        return schemaString;
     }
 
     private String[] getPackageAndNameFromProtobuf(DescriptorProtos.FileDescriptorSet fileDescriptorSet) {
@@ -944,12 +1600,13 @@ public class SchemaRegistryService {
         return qualifier;
     }
 
-    private void validateJsonSchema(String schemaString) {
+    private void validateJsonSchema(String schemaString, JsonNode jsonNode) {
         try {
             // 1. try draft 3
             // jackson JsonSchema only supports json draft 3. If the schema definition is not compatible with draft 3, 
             // try parsing the schema with everit library which supports drafts 4 6 and 7. 
-            OBJECT_MAPPER.readValue(schemaString, JsonSchema.class);
+            // the schema is bound from the already parsed tree so that the schema string is not parsed again. 
+            OBJECT_MAPPER.treeToValue(jsonNode, JsonSchema.class);
         } catch (JsonProcessingException e) {
             validateJsonSchema4Onward(schemaString);
         }
@@ -977,7 +1634,7 @@ public class SchemaRegistryService {
     }
 
     private Boolean canReadChecker(SchemaInfo schema, GroupProperties prop, List<SchemaWithVersion> schemasWithVersion) {
-        CompatibilityChecker checker = CompatibilityCheckerFactory.getCompatibilityChecker(schema.getSerializationFormat());
+        CompatibilityChecker checker = checkers.getCompatibilityChecker(schema.getSerializationFormat());
 
         List<SchemaInfo> schemas = schemasWithVersion.stream().map(SchemaWithVersion::getSchemaInfo)
                                                      .collect(Collectors.toList());
@@ -1048,4 +1705,77 @@ public class SchemaRegistryService {
     private BigInteger getFingerprint(SchemaInfo schemaInfo) {
         return HashUtil.getFingerprint(schemaInfo.getSchemaData().array());
     }
+
+    /**
+     * Gets the decision from the cache of decisions, or makes the decision and caches it. Decisions are cached against 
+     * the group's etag. The etag changes with every update to the group and identifies the group's table, so a cached 
+     * decision is only used for the state of the group it was made for, on any node. 
+     */
+    private CompletableFuture<Boolean> withDecisionCache(String namespace, String group, Etag etag, String operation, 
+                                                         SchemaInfo schema, BigInteger fingerprint, Compatibility compatibility,
+                                                         Supplier<CompletableFuture<Boolean>> decide) {
+        DecisionKey key = new DecisionKey(namespace, group, etag, operation, schema.getType(),
+                schema.getSerializationFormat(), fingerprint, compatibility);
+        Boolean decision = decisions.getIfPresent(key);
+        if (decision != null) {
+            return CompletableFuture.completedFuture(decision);
+        }
+        return decide.get().thenApply(x -> {
+            decisions.put(key, x);
+            return x;
+        });
+    }
+
+    private void clearDecisions(@Nullable String namespace, String group) {
+        decisions.asMap().keySet().removeIf(key -> Objects.equals(key.getNamespace(), namespace)
+                && key.getGroup().equals(group));
+    }
+
+    private <T> CompletableFuture<T> notifyWatchers(String namespace, String group, CompletableFuture<T> update) {
+        // notify irrespective of the outcome as a failed conditional update can mean that the group has changed.
+        return update.whenComplete((r, e) -> watcher.notifyChanged(namespace, group));
+    }
+
+    /**
+     * Schema queued for addition to a group. Additions of the same normalized schema are coalesced. 
+     */
+    @Data
+    private static class SchemaAddition {
+        @EqualsAndHashCode.Exclude
+        private final SchemaInfo schemaInfo;
+        private final SchemaInfo schema;
+        private final BigInteger fingerprint;
+
+        SchemaIdentity getIdentity() {
+            return new SchemaIdentity(schema.getType(), schema.getSerializationFormat(), fingerprint);
+        }
+
+        /**
+         * The schema as supplied, with the type of the normalized schema.
+         */
+        SchemaInfo getWithType() {
+            return new SchemaInfo(schema.getType(), schemaInfo.getSerializationFormat(), schemaInfo.getSchemaData(), 
+                    schemaInfo.getProperties());
+        }
+    }
+
+    @Data
+    private static class SchemaIdentity {
+        private final String type;
+        private final SerializationFormat serializationFormat;
+        private final BigInteger fingerprint;
+    }
+
+    @Data
+    private static class DecisionKey {
+        @Nullable
+        private final String namespace;
+        private final String group;
+        private final Etag<?> etag;
+        private final String operation;
+        private final String type;
+        private final SerializationFormat serializationFormat;
+        private final BigInteger fingerprint;
+        private final Compatibility compatibility;
+    }
 }
@@ -16,4 +16,13 @@ package io.pravega.schemaregistry.storage;
  */
 public interface Etag<T> {
     T etag();
+
+    /**
+     * Identity of the group's table that the etag was read from. A group that is deleted and created again with the 
+     * same name gets a new table whose versions can repeat those of the deleted table, so the etag's version only 
+     * identifies the state of the group together with this id.
+     *
+     * @return id of the group's table.
+     */
+    String id();
 }
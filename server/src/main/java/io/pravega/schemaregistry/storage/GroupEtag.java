@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Etag of a group made of the id of the group's table and the version of the table's etag record. Two etags are equal 
+ * only if they were read from the same table at the same version. 
+ * @param <T> Type of version. 
+ */
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public class GroupEtag<T> implements Etag<T> {
+    private final String id;
+    private final T version;
+
+    @Override
+    public T etag() {
+        return version;
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+}
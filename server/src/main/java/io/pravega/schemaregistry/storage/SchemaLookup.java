@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage;
+
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import lombok.Data;
+
+import javax.annotation.Nullable;
+
+/**
+ * Result of looking up a schema in a group, along with the group's state needed to add the schema if it is not found.
+ */
+@Data
+public class SchemaLookup {
+    /**
+     * Etag of the group at the time of the lookup.
+     */
+    private final Etag etag;
+    /**
+     * Properties of the group at the time of the lookup.
+     */
+    private final GroupProperties groupProperties;
+    /**
+     * Version of the schema if it is present in the group, null otherwise.
+     */
+    @Nullable
+    private final VersionInfo versionInfo;
+}
@@ -14,6 +14,7 @@ import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupChanges;
 import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
@@ -24,6 +25,7 @@ import io.pravega.schemaregistry.contract.data.VersionInfo;
 import javax.annotation.Nullable;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -199,6 +201,17 @@ public interface SchemaStore {
      */
     CompletableFuture<SchemaInfo> getSchema(String namespace, String group, int schemaId);
 
+    /**
+     * Get the schemas corresponding to the supplied schema ids. All schemas are looked up with a single read against 
+     * the group's table. Schema ids that are not found are omitted from the result. 
+     * 
+     * @param namespace namespace 
+     * @param group group 
+     * @param schemaIds schema ids
+     * @return Completablefuture that holds schemas with versions for the ids, ordered as the supplied schema ids. 
+     */
+    CompletableFuture<List<SchemaWithVersion>> getSchemasById(String namespace, String group, List<Integer> schemaIds);
+
     /**
      * Get the schema corresponding to the schema identified by the type and version. 
      *
@@ -248,6 +261,24 @@ public interface SchemaStore {
     CompletableFuture<VersionInfo> addSchema(String namespace, String group, SchemaInfo schemaInfo, SchemaInfo normalized,
                                              BigInteger fingerprint, GroupProperties prop, Etag etag);
 
+    /**
+     * Add new schemas to the group atomically in the order in which they are supplied. The schemas are assigned 
+     * consecutive ids and each schema is versioned after the schemas of its type that precede it in the list. 
+     * The schemas should be distinct and not present in the group. 
+     *
+     * @param namespace namespace 
+     * @param group group 
+     * @param schemaInfos schemas to add
+     * @param normalized normalized form of the schemas to add.
+     * @param fingerprints 256 bit sha hash of each schema binary. 
+     * @param prop group properties applied at the time of schema addition.
+     * @param etag entity tag for the group. 
+     * @return Completablefuture that holds version info for each of the schemas that are added.  
+     */
+    CompletableFuture<List<VersionInfo>> addSchemas(String namespace, String group, List<SchemaInfo> schemaInfos, 
+                                                    List<SchemaInfo> normalized, List<BigInteger> fingerprints, 
+                                                    GroupProperties prop, Etag etag);
+
     /**
      * Get the version corresponding to the schema.  
      *
@@ -260,6 +291,31 @@ public interface SchemaStore {
      */
     CompletableFuture<VersionInfo> getSchemaVersion(String namespace, String group, SchemaInfo schemaInfo, BigInteger fingerprint);
 
+    /**
+     * Looks up the schema in the group and reads the group's etag and properties with the same call. 
+     *
+     * @param namespace namespace 
+     * @param group group 
+     * @param schemaInfo schemainfo
+     * @param fingerprint 256 bit sha hash of schema binary. 
+     *                    Two schema binary representation will be considered identical if their fingerprints match.
+     * @return Completablefuture that holds the group's etag and properties and the schema's version if it is present 
+     * in the group. 
+     */
+    CompletableFuture<SchemaLookup> lookupSchema(String namespace, String group, SchemaInfo schemaInfo, BigInteger fingerprint);
+
+    /**
+     * Looks up the schemas in the group and reads the group's etag and properties with the same call. 
+     *
+     * @param namespace namespace 
+     * @param group group 
+     * @param schemaInfos schemas to look up
+     * @param fingerprints 256 bit sha hash of each schema binary. 
+     * @return Completablefuture that holds a lookup result for each of the schemas, in the order of the supplied schemas. 
+     */
+    CompletableFuture<List<SchemaLookup>> lookupSchemas(String namespace, String group, List<SchemaInfo> schemaInfos, 
+                                                        List<BigInteger> fingerprints);
+
     /**
      * Get the encoding id corresponding to versioninfo and codectype. It returns Etag for the group if the encoding id
      * does not exist for the given pair. 
@@ -294,6 +350,43 @@ public interface SchemaStore {
      */
     CompletableFuture<EncodingInfo> getEncodingInfo(String namespace, String group, EncodingId encodingId);
 
+    /**
+     * Get encoding infos corresponding to the supplied encoding ids. All encoding ids are looked up with a single read 
+     * against the group's table. Encoding ids that are not found are omitted from the result. 
+     * 
+     * @param namespace namespace 
+     * @param group group 
+     * @param encodingIds encoding ids
+     * @return CompletableFuture that holds a map of encoding id to encoding info, ordered as the supplied encoding ids. 
+     */
+    CompletableFuture<Map<EncodingId, EncodingInfo>> getEncodingInfos(String namespace, String group, List<EncodingId> encodingIds);
+
+    /**
+     * Get encoding infos for the encoding ids generated in the group starting from (and including) the supplied encoding id.
+     * A bounded number of encoding infos is returned per call. The remaining ones are fetched from the id following the 
+     * highest returned encoding id. 
+     * 
+     * @param namespace namespace 
+     * @param group group 
+     * @param from encoding id from which to fetch the encoding infos. 
+     * @return CompletableFuture that holds a map of encoding id to encoding info, ordered by encoding id. 
+     */
+    CompletableFuture<Map<EncodingId, EncodingInfo>> getEncodingInfosFrom(String namespace, String group, EncodingId from);
+
+    /**
+     * Gets the changes made to the group since the supplied schema id and encoding id. This includes the schemas added 
+     * from (and including) fromSchemaId, the ids of all deleted schemas and the encoding infos generated from (and 
+     * including) fromEncodingId. A bounded number of schemas and encodings is returned per call and the remaining ones 
+     * are fetched from the returned next ids.
+     * 
+     * @param namespace namespace 
+     * @param group group 
+     * @param fromSchemaId schema id from which to fetch the added schemas. 
+     * @param fromEncodingId encoding id from which to fetch the encoding infos. 
+     * @return CompletableFuture that holds the group changes along with the ids to request the subsequent changes from.
+     */
+    CompletableFuture<GroupChanges> getGroupChanges(String namespace, String group, int fromSchemaId, int fromEncodingId);
+
     /**
      * Gets list of codec types added to the group atomically. 
      *
@@ -319,9 +412,10 @@ public interface SchemaStore {
      *
      * @param namespace namespace 
      * @param group group 
+     * @param withSchemaData whether the schema data is required. If not, the records have empty schema data. 
      * @return CompletableFuture that holds list of group history record.  
      */
-    CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String namespace, String group);
+    CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String namespace, String group, boolean withSchemaData);
 
     /**
      * Gets the schema evolution history of the group with respect to schema additions for the specific type.
@@ -330,9 +424,28 @@ public interface SchemaStore {
      * @param namespace namespace 
      * @param group group 
      * @param type  type of schema 
+     * @param withSchemaData whether the schema data is required. If not, the records have empty schema data. 
      * @return CompletableFuture that holds list of group history record.  
      */
-    CompletableFuture<List<GroupHistoryRecord>> getGroupHistoryForType(String namespace, String group, String type);
+    CompletableFuture<List<GroupHistoryRecord>> getGroupHistoryForType(String namespace, String group, String type, 
+                                                                       boolean withSchemaData);
+
+    /**
+     * Gets a page of the schema evolution history of the group. The history is ordered by the order in which schemas 
+     * were added. An empty page is returned once there are no more records to return. 
+     *
+     * @param namespace namespace 
+     * @param group group 
+     * @param type  type of schema. If null, schemas for all types are included. 
+     * @param continuationToken continuation token returned with the previous page. Empty token to read from the start. 
+     * @param limit max number of records to return. 
+     * @param withSchemaData whether the schema data is required. If not, the records have empty schema data. 
+     * @return CompletableFuture that holds the page of group history records along with the continuation token for the 
+     * next page.  
+     */
+    CompletableFuture<ResultPage<GroupHistoryRecord, ContinuationToken>> getGroupHistory(String namespace, String group, @Nullable String type, 
+                                                                                         ContinuationToken continuationToken, int limit, 
+                                                                                         boolean withSchemaData);
 
     /**
      * Gets list of groups in the given namespace that use the specified schema. 
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.security.JwtUtils;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Cache of delegation tokens by table name.
+ * Tokens are fetched asynchronously and concurrent requests for the token of a table share a single fetch. Failed
+ * fetches are not cached.
+ * Tokens that have an expiry time are refreshed in the background before they expire, as long as they were used since
+ * they were fetched, so that requests do not have to wait for a new token or fail with an expired one. Tokens that were
+ * not used are dropped instead and fetched again on their next use.
+ */
+@Slf4j
+class DelegationTokenCache {
+    private final Function<String, CompletableFuture<String>> fetch;
+    private final ScheduledExecutorService executor;
+    private final long refreshBeforeExpiryMillis;
+    private final Cache<String, Token> tokens;
+
+    /**
+     * Creates the cache.
+     *
+     * @param fetch function that fetches a new token for the table.
+     * @param executor executor used for refreshing the tokens.
+     * @param refreshBeforeExpiryMillis time in milliseconds before the expiry of a token at which it is refreshed.
+     * @param maxSize maximum number of tables whose tokens are cached.
+     */
+    DelegationTokenCache(Function<String, CompletableFuture<String>> fetch, ScheduledExecutorService executor,
+                         long refreshBeforeExpiryMillis, int maxSize) {
+        this.fetch = fetch;
+        this.executor = executor;
+        this.refreshBeforeExpiryMillis = refreshBeforeExpiryMillis;
+        this.tokens = CacheBuilder.newBuilder()
+                                  .maximumSize(maxSize)
+                                  .build();
+    }
+
+    /**
+     * Gets the token for the table, fetching it if it is not cached.
+     *
+     * @param tableName table name.
+     * @return CompletableFuture which when completed will have the token.
+     */
+    CompletableFuture<String> getToken(String tableName) {
+        Token token = tokens.getIfPresent(tableName);
+        if (token == null) {
+            Token created = new Token(new CompletableFuture<>());
+            token = tokens.asMap().putIfAbsent(tableName, created);
+            if (token == null) {
+                token = created;
+                load(tableName, created);
+            }
+        }
+        token.getUsed().set(true);
+        return token.getValue();
+    }
+
+    /**
+     * Removes the token of the table, for example because it was rejected. The next request fetches a new token.
+     *
+     * @param tableName table name.
+     */
+    void invalidate(String tableName) {
+        tokens.invalidate(tableName);
+    }
+
+    private void load(String tableName, Token token) {
+        fetchToken(tableName).whenComplete((r, e) -> {
+            if (e != null) {
+                // failures are removed before they are handed out so that the retries fetch a new token.
+                tokens.asMap().remove(tableName, token);
+                token.getValue().completeExceptionally(e);
+            } else {
+                token.getValue().complete(r);
+                scheduleRefresh(tableName, token, r);
+            }
+        });
+    }
+
+    private CompletableFuture<String> fetchToken(String tableName) {
+        try {
+            return fetch.apply(tableName);
+        } catch (Exception e) {
+            return Futures.failedFuture(e);
+        }
+    }
+
+    private void scheduleRefresh(String tableName, Token token, String value) {
+        Long expiry = getExpiryTime(value);
+        if (expiry == null) {
+            return;
+        }
+        long remaining = TimeUnit.SECONDS.toMillis(expiry) - System.currentTimeMillis();
+        if (remaining <= 0) {
+            tokens.asMap().remove(tableName, token);
+            return;
+        }
+        // tokens with a short lifetime are refreshed half way through it.
+        long delay = Math.max(remaining - refreshBeforeExpiryMillis, remaining / 2);
+        executor.schedule(() -> refresh(tableName, token), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh(String tableName, Token token) {
+        if (tokens.asMap().get(tableName) != token) {
+            // the token was invalidated or replaced in the meantime.
+            return;
+        }
+        if (!token.getUsed().get()) {
+            log.debug("dropping unused delegation token for table {}", tableName);
+            tokens.asMap().remove(tableName, token);
+            return;
+        }
+        log.debug("refreshing delegation token for table {}", tableName);
+        fetchToken(tableName).whenComplete((r, e) -> {
+            if (e != null) {
+                // the current token stays in use until it expires or is rejected.
+                log.warn("failed to refresh delegation token for table {}", tableName, e);
+            } else {
+                Token refreshed = new Token(CompletableFuture.completedFuture(r));
+                if (tokens.asMap().replace(tableName, token, refreshed)) {
+                    scheduleRefresh(tableName, refreshed, r);
+                }
+            }
+        });
+    }
+
+    private Long getExpiryTime(String token) {
+        try {
+            return JwtUtils.extractExpirationTime(token);
+        } catch (IllegalArgumentException e) {
+            log.debug("unable to read the expiry time of the delegation token", e);
+            return null;
+        }
+    }
+
+    @Data
+    private static class Token {
+        private final CompletableFuture<String> value;
+        // whether the token was used since it was fetched.
+        private final AtomicBoolean used = new AtomicBoolean(false);
+    }
+}
@@ -21,6 +21,8 @@ import io.pravega.schemaregistry.storage.StoreExceptions;
 import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -64,4 +66,11 @@ class HostStore {
     void invalidateCache(String tableName) {
         cache.invalidate(tableName);
     }
+
+    /**
+     * Gets the hosts of the tables whose hosts are cached. 
+     */
+    Set<Controller.NodeUri> getCachedHosts() {
+        return new HashSet<>(cache.asMap().values());
+    }
 }
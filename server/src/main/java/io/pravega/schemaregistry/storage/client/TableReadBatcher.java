@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import io.pravega.common.concurrent.Futures;
+import lombok.Data;
+import lombok.Synchronized;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Combines concurrent reads of keys from the same table into a single read.
+ * The keys of the reads on a table are collected into a batch which is read once the batching window has elapsed
+ * since the first read of the batch, or as soon as it has the maximum number of keys. A key read by multiple
+ * concurrent reads is read only once. The result of each key is handed back to all the reads of the key and a failure
+ * of the batch fails all of them.
+ * The number of batches along with their average size and the fraction of deduplicated keys are logged periodically
+ * for operators to tune the batching window.
+ */
+@Slf4j
+class TableReadBatcher {
+    private final BiFunction<String, List<byte[]>, CompletableFuture<List<VersionedRecord<byte[]>>>> read;
+    private final ScheduledExecutorService executor;
+    private final long windowMicros;
+    private final int maxKeys;
+    @GuardedBy("$lock")
+    private final Map<String, Batch> pending;
+    private final AtomicLong batchCount;
+    private final AtomicLong requestedKeyCount;
+    private final AtomicLong readKeyCount;
+    @GuardedBy("$lock")
+    private ReadStats lastLogged;
+
+    /**
+     * Creates the batcher.
+     *
+     * @param read function that reads the list of keys from the table and returns their records in the same order.
+     * @param executor executor used for reading batches once their window elapses.
+     * @param windowMicros time in microseconds for which reads are collected into a batch. If it is not positive,
+     *                     reads are not batched with each other.
+     * @param maxKeys maximum number of keys after which a batch is read without waiting for its window.
+     */
+    TableReadBatcher(BiFunction<String, List<byte[]>, CompletableFuture<List<VersionedRecord<byte[]>>>> read,
+                     ScheduledExecutorService executor, long windowMicros, int maxKeys) {
+        this.read = read;
+        this.executor = executor;
+        this.windowMicros = windowMicros;
+        this.maxKeys = maxKeys;
+        this.pending = new HashMap<>();
+        this.batchCount = new AtomicLong();
+        this.requestedKeyCount = new AtomicLong();
+        this.readKeyCount = new AtomicLong();
+        this.lastLogged = new ReadStats(0, 0, 0);
+    }
+
+    /**
+     * Reads the keys from the table as part of a batch.
+     *
+     * @param tableName table name.
+     * @param keys keys to read.
+     * @return CompletableFuture which when completed will have the records of the keys in the same order as the keys.
+     * Keys that do not exist have a null record with version {@link Version#NON_EXISTENT}.
+     */
+    CompletableFuture<List<VersionedRecord<byte[]>>> read(String tableName, List<byte[]> keys) {
+        requestedKeyCount.addAndGet(keys.size());
+        if (windowMicros <= 0) {
+            Batch batch = new Batch();
+            List<CompletableFuture<VersionedRecord<byte[]>>> results = keys.stream().map(batch::add).collect(Collectors.toList());
+            readBatch(tableName, batch);
+            return Futures.allOfWithResults(results);
+        }
+
+        List<CompletableFuture<VersionedRecord<byte[]>>> results = new ArrayList<>(keys.size());
+        Addition addition = addToPending(tableName, keys, results);
+        Batch batch = addition.getBatch();
+        if (addition.isFull()) {
+            readBatch(tableName, batch);
+        } else if (addition.isFirst()) {
+            executor.schedule(() -> {
+                if (removePending(tableName, batch)) {
+                    readBatch(tableName, batch);
+                }
+            }, windowMicros, TimeUnit.MICROSECONDS);
+        }
+        return Futures.allOfWithResults(results);
+    }
+
+    /**
+     * Number of batches read so far.
+     */
+    long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Number of keys requested by the callers so far.
+     */
+    long getRequestedKeyCount() {
+        return requestedKeyCount.get();
+    }
+
+    /**
+     * Number of keys read by the batches so far. This is less than the number of requested keys by the number of keys
+     * that were deduplicated. The average batch size is this count divided by the number of batches.
+     */
+    long getReadKeyCount() {
+        return readKeyCount.get();
+    }
+
+    /**
+     * Logs the batches read since the previous call with their average size and the fraction of the requested keys that
+     * were deduplicated. Nothing is logged if no batch was read in the meantime.
+     *
+     * @return counts of the batches and keys since the previous call.
+     */
+    @Synchronized
+    ReadStats logStats() {
+        ReadStats total = new ReadStats(batchCount.get(), requestedKeyCount.get(), readKeyCount.get());
+        ReadStats stats = new ReadStats(total.getBatches() - lastLogged.getBatches(),
+                total.getRequestedKeys() - lastLogged.getRequestedKeys(), total.getReadKeys() - lastLogged.getReadKeys());
+        lastLogged = total;
+        if (stats.getBatches() > 0) {
+            log.info("Table reads: {} batches with an average of {} keys, {} of {} requested keys deduplicated ({}%)",
+                    stats.getBatches(), String.format("%.1f", stats.getAverageBatchSize()),
+                    stats.getRequestedKeys() - stats.getReadKeys(), stats.getRequestedKeys(),
+                    String.format("%.1f", stats.getDedupRatio() * 100));
+        }
+        return stats;
+    }
+
+    /**
+     * Adds the keys to the pending batch of the table, creating the batch if there is none. A batch that reaches the
+     * maximum number of keys is no longer pending and should be read by the caller.
+     */
+    @Synchronized
+    private Addition addToPending(String tableName, List<byte[]> keys,
+                                  List<CompletableFuture<VersionedRecord<byte[]>>> results) {
+        Batch batch = pending.get(tableName);
+        boolean first = batch == null;
+        if (first) {
+            batch = new Batch();
+            pending.put(tableName, batch);
+        }
+        for (byte[] key : keys) {
+            results.add(batch.add(key));
+        }
+        boolean full = batch.size() >= maxKeys;
+        if (full) {
+            pending.remove(tableName);
+        }
+        return new Addition(batch, first, full);
+    }
+
+    @Synchronized
+    private boolean removePending(String tableName, Batch batch) {
+        return pending.remove(tableName, batch);
+    }
+
+    private void readBatch(String tableName, Batch batch) {
+        List<ByteBuffer> keys = new ArrayList<>(batch.results.keySet());
+        batchCount.incrementAndGet();
+        readKeyCount.addAndGet(keys.size());
+        log.trace("reading batch of {} keys from table {}", keys.size(), tableName);
+        CompletableFuture<List<VersionedRecord<byte[]>>> records;
+        try {
+            records = read.apply(tableName, keys.stream().map(ByteBuffer::array).collect(Collectors.toList()));
+        } catch (Exception e) {
+            records = Futures.failedFuture(e);
+        }
+        records.whenComplete((r, e) -> {
+            for (int i = 0; i < keys.size(); i++) {
+                CompletableFuture<VersionedRecord<byte[]>> result = batch.results.get(keys.get(i));
+                if (e != null) {
+                    result.completeExceptionally(e);
+                } else {
+                    result.complete(r.get(i));
+                }
+            }
+        });
+    }
+
+    @Data
+    private static class Addition {
+        private final Batch batch;
+        private final boolean first;
+        private final boolean full;
+    }
+
+    @Data
+    static class ReadStats {
+        private final long batches;
+        private final long requestedKeys;
+        private final long readKeys;
+
+        double getAverageBatchSize() {
+            return batches == 0 ? 0 : (double) readKeys / batches;
+        }
+
+        /**
+         * Fraction of the requested keys that were not read because another read of the same batch requested them.
+         * Keys of batches that are still pending count as requested but not yet as read.
+         */
+        double getDedupRatio() {
+            return requestedKeys == 0 ? 0 : Math.max(0, 1 - (double) readKeys / requestedKeys);
+        }
+    }
+
+    private static class Batch {
+        // Results of the distinct keys of the batch, keyed by the key wrapped so that equal keys are found.
+        private final Map<ByteBuffer, CompletableFuture<VersionedRecord<byte[]>>> results = new LinkedHashMap<>();
+
+        CompletableFuture<VersionedRecord<byte[]>> add(byte[] key) {
+            return results.computeIfAbsent(ByteBuffer.wrap(key), x -> new CompletableFuture<>());
+        }
+
+        int size() {
+            return results.size();
+        }
+    }
+}
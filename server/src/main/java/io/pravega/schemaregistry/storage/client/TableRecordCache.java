@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+import io.pravega.common.util.BufferView;
+import io.pravega.shared.protocol.netty.ByteBufWrapper;
+import lombok.Data;
+import lombok.Synchronized;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache of records read from tables, keyed by the table name and the key of the record.
+ * The cache is bounded by the serialized size of the records rather than their number, so that a few large records
+ * like schema chunks cannot take over the cache.
+ * Records are cached on heap in their deserialized form. Records that are cached off heap are held in their serialized
+ * form in direct buffers and are deserialized on every read. The off heap tier is bounded separately and its buffers
+ * are released as soon as their records are evicted.
+ * Records larger than the admission size are only admitted once they have been loaded repeatedly in the recent past,
+ * which is tracked with a frequency sketch. This way a single scan over large schemas does not evict the small hot
+ * records from the cache.
+ */
+class TableRecordCache {
+    // approximate size of a cache entry excluding the serialized record.
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    // number of times a record larger than the admission size should have been loaded for it to be admitted.
+    private static final int ADMISSION_FREQUENCY = 2;
+    private static final int SKETCH_WIDTH = 1 << 14;
+
+    private final Cache<TableCacheKey<?>, HeapEntry> heap;
+    private final Cache<TableCacheKey<?>, OffHeapEntry> offHeap;
+    private final int admissionSize;
+    private final FrequencySketch sketch;
+    private final AtomicLong offHeapBytes;
+    private final AtomicLong rejectedCount;
+
+    /**
+     * Creates the cache.
+     *
+     * @param maxHeapBytes maximum size in bytes of the records cached on heap.
+     * @param maxOffHeapBytes maximum size in bytes of the records cached off heap. If it is not positive, there is no
+     *                        off heap tier and all records are cached on heap.
+     * @param admissionSize records larger than this size in bytes are only admitted if they are loaded frequently.
+     */
+    TableRecordCache(long maxHeapBytes, long maxOffHeapBytes, int admissionSize) {
+        Preconditions.checkArgument(maxHeapBytes > 0, "maxHeapBytes should be positive");
+        this.heap = CacheBuilder.newBuilder()
+                                .maximumWeight(maxHeapBytes)
+                                .weigher((TableCacheKey<?> key, HeapEntry value) -> ENTRY_OVERHEAD_BYTES + value.getSize())
+                                .build();
+        this.offHeap = maxOffHeapBytes <= 0 ? null :
+                CacheBuilder.newBuilder()
+                            .maximumWeight(maxOffHeapBytes)
+                            .weigher((TableCacheKey<?> key, OffHeapEntry value) -> value.getBuffer().capacity())
+                            .removalListener(this::release)
+                            .build();
+        this.admissionSize = admissionSize;
+        this.sketch = new FrequencySketch(SKETCH_WIDTH);
+        this.offHeapBytes = new AtomicLong();
+        this.rejectedCount = new AtomicLong();
+    }
+
+    /**
+     * Gets the record from the cache.
+     *
+     * @param table table name.
+     * @param key key of the record.
+     * @param fromBytes function to deserialize the record if it is cached off heap.
+     * @param <K> Type of key.
+     * @param <T> Type of record.
+     * @return the cached record or null if it is not in the cache.
+     */
+    @SuppressWarnings("unchecked")
+    <K, T> VersionedRecord<T> get(String table, K key, Function<BufferView, T> fromBytes) {
+        TableCacheKey<K> cacheKey = new TableCacheKey<>(table, key);
+        HeapEntry entry = heap.getIfPresent(cacheKey);
+        if (entry != null) {
+            return (VersionedRecord<T>) entry.getRecord();
+        }
+        if (offHeap != null) {
+            OffHeapEntry offHeapEntry = offHeap.getIfPresent(cacheKey);
+            if (offHeapEntry != null) {
+                ByteBuf buffer = offHeapEntry.getBuffer();
+                try {
+                    // the entry may be evicted concurrently, so the buffer is retained while it is deserialized.
+                    buffer.retain();
+                } catch (IllegalReferenceCountException e) {
+                    return null;
+                }
+                try {
+                    return new VersionedRecord<>(fromBytes.apply(new ByteBufWrapper(buffer.slice())), offHeapEntry.getVersion());
+                } finally {
+                    buffer.release();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches the record if it is admitted.
+     *
+     * @param table table name.
+     * @param key key of the record.
+     * @param record record with its version.
+     * @param serialized serialized record as it is stored in the table.
+     * @param offHeapEligible whether the record should be cached off heap if there is an off heap tier.
+     * @param <K> Type of key.
+     * @param <T> Type of record.
+     */
+    <K, T> void put(String table, K key, VersionedRecord<T> record, byte[] serialized, boolean offHeapEligible) {
+        TableCacheKey<K> cacheKey = new TableCacheKey<>(table, key);
+        int frequency = sketch.increment(cacheKey);
+        if (serialized.length > admissionSize && frequency < ADMISSION_FREQUENCY) {
+            rejectedCount.incrementAndGet();
+            return;
+        }
+        if (offHeapEligible && offHeap != null) {
+            ByteBuf buffer = Unpooled.directBuffer(serialized.length, serialized.length).writeBytes(serialized);
+            offHeapBytes.addAndGet(buffer.capacity());
+            offHeap.put(cacheKey, new OffHeapEntry(buffer, record.getVersion()));
+        } else {
+            heap.put(cacheKey, new HeapEntry(record, serialized.length));
+        }
+    }
+
+    <K> void invalidate(String table, K key) {
+        TableCacheKey<K> cacheKey = new TableCacheKey<>(table, key);
+        heap.invalidate(cacheKey);
+        if (offHeap != null) {
+            offHeap.invalidate(cacheKey);
+        }
+    }
+
+    /**
+     * Removes all records from the cache and releases the off heap buffers.
+     */
+    void clear() {
+        heap.invalidateAll();
+        if (offHeap != null) {
+            offHeap.invalidateAll();
+        }
+    }
+
+    /**
+     * Number of bytes currently held in direct buffers by the off heap tier.
+     */
+    long getOffHeapBytes() {
+        return offHeapBytes.get();
+    }
+
+    /**
+     * Number of records that were not admitted into the cache so far.
+     */
+    long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void release(RemovalNotification<TableCacheKey<?>, OffHeapEntry> notification) {
+        OffHeapEntry entry = notification.getValue();
+        if (entry != null) {
+            offHeapBytes.addAndGet(-entry.getBuffer().capacity());
+            entry.getBuffer().release();
+        }
+    }
+
+    @Data
+    private static class TableCacheKey<K> {
+        private final String table;
+        private final K key;
+    }
+
+    @Data
+    private static class HeapEntry {
+        private final VersionedRecord<?> record;
+        private final int size;
+    }
+
+    @Data
+    private static class OffHeapEntry {
+        private final ByteBuf buffer;
+        private final Version version;
+    }
+
+    /**
+     * Count-min sketch of 4 bit counters that estimates how often keys were recorded. All counters are halved
+     * periodically so that the estimates reflect the recent past.
+     */
+    static class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb82b0f9d, 0x3d6b9c8f, 0x8ec3b0a5};
+        private static final int MAX_COUNT = 15;
+        @GuardedBy("$lock")
+        private final byte[][] counters;
+        private final int mask;
+        private final int resetAt;
+        @GuardedBy("$lock")
+        private int additions;
+
+        FrequencySketch(int width) {
+            Preconditions.checkArgument(width > 0 && Integer.bitCount(width) == 1, "width should be a power of two");
+            this.counters = new byte[SEEDS.length][width];
+            this.mask = width - 1;
+            this.resetAt = 10 * width;
+        }
+
+        /**
+         * Records an occurrence of the key.
+         *
+         * @param key key to record.
+         * @return estimated number of times the key was recorded in the recent past, including this occurrence.
+         */
+        @Synchronized
+        int increment(Object key) {
+            int hash = key.hashCode();
+            int estimate = MAX_COUNT;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                if (counters[i][index] < MAX_COUNT) {
+                    counters[i][index]++;
+                }
+                estimate = Math.min(estimate, counters[i][index]);
+            }
+            if (++additions >= resetAt) {
+                for (byte[] row : counters) {
+                    for (int j = 0; j < row.length; j++) {
+                        row[j] = (byte) (row[j] >>> 1);
+                    }
+                }
+                additions = additions >>> 1;
+            }
+            return estimate;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = hash * SEEDS[row];
+            h ^= h >>> 16;
+            return h & mask;
+        }
+    }
+}
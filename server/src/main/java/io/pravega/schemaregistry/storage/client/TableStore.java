@@ -10,8 +10,6 @@
 package io.pravega.schemaregistry.storage.client;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.util.concurrent.AbstractService;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -25,15 +23,19 @@ import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.ContinuationTokenAsyncIterator;
 import io.pravega.common.util.Retry;
 import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.service.Config;
 import io.pravega.schemaregistry.storage.StoreExceptions;
+import io.pravega.shared.protocol.netty.ByteBufWrapper;
 import io.pravega.shared.security.auth.AccessOperation;
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
@@ -45,8 +47,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -76,16 +80,21 @@ public class TableStore extends AbstractService {
     /**
      * Cache where callers can cache values against a table name and a key. 
      */
-    private final Cache<TableCacheKey, VersionedRecord<?>> cache;
+    @Getter(AccessLevel.PACKAGE)
+    private final TableRecordCache cache;
     /**
-     * Function to get delegation token to talk to segment store.
+     * cache to store the delegation token by table so that we continue to reuse the token until it is refreshed 
+     * before its expiry, or it is invalidated from the cache explicitly when it is rejected. 
      */
-    private final Function<String, String> tokenSupplier;
+    private final DelegationTokenCache tokenCache;
     /**
-     * cache to store the delegation token by segment store instance so that we continue to reuse the token until it 
-     * expires, which is when it should be invalidated from the cache explicitly. 
+     * Batches concurrent reads of entries from the same table. 
      */
-    private final Cache<String, String> tokenCache;
+    private final TableReadBatcher readBatcher;
+    /**
+     * Periodic task that logs the statistics of the read batches. 
+     */
+    private volatile ScheduledFuture<?> readStatsLogger;
 
     public TableStore(ClientConfig clientConfig, ScheduledExecutorService executor) {
         this(new WireCommandClient(new ConnectionPoolImpl(clientConfig, new SocketConnectionFactoryImpl(clientConfig)), 
@@ -100,18 +109,16 @@ public class TableStore extends AbstractService {
         this.wireCommandClient = wireCommandClient;
         this.hostStore = wireCommandClient.getHostStore();
         this.executor = executor;
-        this.tokenSupplier = x -> {
-            String[] splits = x.split("/");
-            return hostStore.getController().getOrRefreshDelegationTokenFor(splits[0], splits[1], AccessOperation.READ_WRITE).join();
-        };
         numOfRetries = retryCount;
-        this.cache = CacheBuilder.newBuilder()
-                                 .maximumSize(Config.TABLE_SEGMENT_CACHE_SIZE)
-                                 .build();
+        this.cache = new TableRecordCache(Config.TABLE_CACHE_MAX_SIZE_BYTES, Config.TABLE_CACHE_OFF_HEAP_MAX_SIZE_BYTES,
+                Config.TABLE_CACHE_ADMISSION_SIZE_BYTES);
 
-        tokenCache = CacheBuilder.newBuilder()
-                    .maximumSize(Config.TABLE_SEGMENT_CACHE_SIZE)
-                    .build(); 
+        tokenCache = new DelegationTokenCache(x -> {
+            String[] splits = x.split("/");
+            return hostStore.getController().getOrRefreshDelegationTokenFor(splits[0], splits[1], AccessOperation.READ_WRITE);
+        }, executor, Config.TABLE_TOKEN_REFRESH_BEFORE_EXPIRY_MILLIS, Config.TABLE_SEGMENT_CACHE_SIZE);
+        readBatcher = new TableReadBatcher(this::readEntries, executor, Config.TABLE_READ_BATCH_WINDOW_MICROS, 
+                Config.TABLE_READ_BATCH_MAX_KEYS);
     }
 
     @Override
@@ -119,6 +126,11 @@ public class TableStore extends AbstractService {
         createScope()
                 .whenComplete((v, e) -> {
                     if (e == null) {
+                        if (Config.TABLE_READ_BATCH_STATS_LOG_INTERVAL_MILLIS > 0) {
+                            readStatsLogger = executor.scheduleWithFixedDelay(readBatcher::logStats,
+                                    Config.TABLE_READ_BATCH_STATS_LOG_INTERVAL_MILLIS,
+                                    Config.TABLE_READ_BATCH_STATS_LOG_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                        }
                         notifyStarted();
                     } else {
                         notifyFailed(e);
@@ -128,7 +140,13 @@ public class TableStore extends AbstractService {
 
     @Override
     protected void doStop() {
-        
+        if (readStatsLogger != null) {
+            readStatsLogger.cancel(false);
+        }
+        // releases the off heap buffers of the cache.
+        cache.clear();
+        wireCommandClient.close();
+        notifyStopped();
     }
 
     private CompletableFuture<Void> createScope() {
@@ -139,8 +157,8 @@ public class TableStore extends AbstractService {
     public CompletableFuture<Void> createTable(String tableName) {
         log.debug("create table called for table: {}", tableName);
 
-        return Futures.toVoid(withRetries(() -> wireCommandClient.createTableSegment(
-                tableName, getToken(tableName)),
+        return Futures.toVoid(withRetries(() -> getToken(tableName).thenCompose(token -> 
+                        wireCommandClient.createTableSegment(tableName, token)),
                 () -> String.format("create table: %s", tableName), tableName))
                       .whenComplete((r, e) -> {
                           if (e != null) {
@@ -153,8 +171,8 @@ public class TableStore extends AbstractService {
 
     public CompletableFuture<Void> deleteTable(String tableName, boolean mustBeEmpty) {
         log.debug("delete table called for table: {}", tableName);
-        return withRetries(() -> wireCommandClient.deleteTableSegment(
-                tableName, mustBeEmpty, getToken(tableName)),
+        return withRetries(() -> getToken(tableName).thenCompose(token -> 
+                        wireCommandClient.deleteTableSegment(tableName, mustBeEmpty, token)),
                 () -> String.format("delete table: %s", tableName), tableName)
                 .exceptionally(e -> {
                     if (Exceptions.unwrap(e) instanceof StoreExceptions.DataContainerNotFoundException) {
@@ -167,6 +185,10 @@ public class TableStore extends AbstractService {
     }
 
     public CompletableFuture<Void> addNewEntryIfAbsent(String tableName, byte[] key, @NonNull byte[] value) {
+        return addNewEntryIfAbsent(tableName, key, new ByteArraySegment(value));
+    }
+
+    public CompletableFuture<Void> addNewEntryIfAbsent(String tableName, byte[] key, @NonNull ArrayView value) {
         return Futures.toVoid(updateEntries(tableName, Collections.singletonMap(key, new VersionedRecord<>(value, null)))
                 .thenApply(list -> list.get(0)))
                       .exceptionally(e -> {
@@ -179,17 +201,32 @@ public class TableStore extends AbstractService {
     }
 
     public CompletableFuture<Version> updateEntry(String tableName, byte[] key, byte[] value, Version ver) {
+        return updateEntry(tableName, key, new ByteArraySegment(value), ver);
+    }
+
+    public CompletableFuture<Version> updateEntry(String tableName, byte[] key, ArrayView value, Version ver) {
         return updateEntries(tableName, Collections.singletonMap(key, new VersionedRecord<>(value, ver))).thenApply(list -> list.get(0));
     }
 
-    public CompletableFuture<List<Version>> updateEntries(String tableName, Map<byte[], VersionedRecord<byte[]>> batch) {
+    /**
+     * Updates the entries in the table. The values are handed to the wire commands without being copied, so the 
+     * caller should not modify them until the returned future completes. 
+     *
+     * @param tableName table name.
+     * @param batch map of keys to values along with the versions to condition the update of each key on. 
+     * @return CompletableFuture which when completed will have the new versions of the keys. 
+     */
+    public CompletableFuture<List<Version>> updateEntries(String tableName, Map<byte[], VersionedRecord<ArrayView>> batch) {
         Preconditions.checkNotNull(batch);
         List<TableSegmentEntry> entries = batch.entrySet().stream().map(x -> {
+            ByteBuf key = Unpooled.wrappedBuffer(x.getKey());
+            ArrayView record = x.getValue().getRecord();
+            ByteBuf value = Unpooled.wrappedBuffer(record.array(), record.arrayOffset(), record.getLength());
             return x.getValue().getVersion() == null ?
-                    TableSegmentEntry.notExists(x.getKey(), x.getValue().getRecord()) :
-                    TableSegmentEntry.versioned(x.getKey(), x.getValue().getRecord(), x.getValue().getVersion().toLong());
+                    TableSegmentEntry.notExists(key, value) :
+                    TableSegmentEntry.versioned(key, value, x.getValue().getVersion().toLong());
         }).collect(Collectors.toList());
-        return withRetries(() -> wireCommandClient.updateTableEntries(tableName, entries, getToken(tableName))
+        return withRetries(() -> getToken(tableName).thenCompose(token -> wireCommandClient.updateTableEntries(tableName, entries, token))
                                 .thenApply(list -> list.stream().map(x -> new Version(x.getSegmentVersion()))
                                                    .collect(Collectors.toList()))
                                 .whenComplete((r, e) -> {
@@ -207,22 +244,29 @@ public class TableStore extends AbstractService {
 
     public CompletableFuture<List<VersionedRecord<byte[]>>> getEntries(String tableName, List<byte[]> tableKeys, boolean throwOnNotFound) {
         log.info("get entries called for : {} key : {}", tableName, tableKeys);
+        // concurrent reads on the table are combined into a single read.
+        return readBatcher.read(tableName, tableKeys)
+                          .thenApply(records -> {
+                              if (throwOnNotFound && records.stream().anyMatch(x -> x.getVersion().equals(Version.NON_EXISTENT))) {
+                                  throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "key not found");
+                              }
+                              return records;
+                          });
+    }
+
+    private CompletableFuture<List<VersionedRecord<byte[]>>> readEntries(String tableName, List<byte[]> tableKeys) {
         List<TableSegmentKey> keys = tableKeys.stream().map(TableSegmentKey::unversioned).collect(Collectors.toList());
 
         CompletableFuture<List<VersionedRecord<byte[]>>> result = new CompletableFuture<>();
         String message = "get entries for table: %s";
-        withRetries(() -> wireCommandClient.readTable(tableName, keys, getToken(tableName)),
+        withRetries(() -> getToken(tableName).thenCompose(token -> wireCommandClient.readTable(tableName, keys, token)),
                 () -> String.format(message, tableName), tableName)
                 .thenApply(entriesFromStore -> {
                     try {
                         return entriesFromStore.stream().map(y -> {
                             TableSegmentKeyVersion version = y.getKey().getVersion();
                             if (version.equals(TableSegmentKeyVersion.NOT_EXISTS)) {
-                                if (throwOnNotFound) {
-                                    throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "key not found");
-                                } else {
-                                    return new VersionedRecord<>((byte[]) null, Version.NON_EXISTENT);
-                                }
+                                return new VersionedRecord<>((byte[]) null, Version.NON_EXISTENT);
                             } else {
                                 return new VersionedRecord<>(getArray(y.getValue()), new Version(version.getSegmentVersion()));
                             }
@@ -245,8 +289,8 @@ public class TableStore extends AbstractService {
     public CompletableFuture<Void> removeEntry(String tableName, byte[] key) {
         log.trace("remove entry called for : {} key : {}", tableName, key);
         List<TableSegmentKey> keys = Collections.singletonList(TableSegmentKey.unversioned(key));
-        return withRetries(() -> wireCommandClient.removeTableKeys(
-                tableName, keys, getToken(tableName)),
+        return withRetries(() -> getToken(tableName).thenCompose(token -> 
+                        wireCommandClient.removeTableKeys(tableName, keys, token)),
                 () -> String.format("remove entry: table: %s", tableName), tableName)
                 .thenAccept(v -> log.trace("entry for key {} removed from table {}", key, tableName))
                 .exceptionally(e -> {
@@ -274,9 +318,20 @@ public class TableStore extends AbstractService {
                        .thenApply(v -> keys);
     }
 
+    /**
+     * Reads all the entries of the table. The keys and values are deserialized directly from the buffers they are 
+     * received in, which are released once the functions return. 
+     *
+     * @param tableName table name.
+     * @param fromBytesKey function to deserialize a key.
+     * @param fromBytesValue function to deserialize the value of a deserialized key. 
+     * @param <K> type of keys.
+     * @param <T> type of values.
+     * @return CompletableFuture which when completed will have all the entries of the table.
+     */
     public <K, T> CompletableFuture<List<VersionedEntry<K, T>>> getAllEntries(String tableName,
-                                                                              Function<byte[], K> fromBytesKey,
-                                                                              Function<byte[], T> fromBytesValue) {
+                                                                              Function<BufferView, K> fromBytesKey,
+                                                                              BiFunction<K, BufferView, T> fromBytesValue) {
         List<VersionedEntry<K, T>> entries = new LinkedList<>();
         ContinuationTokenAsyncIterator<ByteBuf, VersionedEntry<K, T>> iterator = new ContinuationTokenAsyncIterator<>(
                 token -> getEntriesPaginated(tableName, token, 1000, fromBytesKey, fromBytesValue)
@@ -292,33 +347,44 @@ public class TableStore extends AbstractService {
     /**
      * Api to read cached value for the specified key from the requested table.
      *
-     * @param table  name of table.
-     * @param key    key to query.
-     * @param tClass class of object type to deserialize into.
-     * @param <K>    Type of key.
-     * @param <T>    Type of object to deserialize the response into.
-     * @return Returns a completableFuture which when completed will have the deserialized value with its store key version.
+     * @param table     name of table.
+     * @param key       key to query.
+     * @param fromBytes function to deserialize the value if it is cached in its serialized form.
+     * @param <K>       Type of key.
+     * @param <T>       Type of object to deserialize the response into.
+     * @return Returns the cached value with its store key version or null if the value is not cached.
      */
-    @SuppressWarnings("unchecked")
-    public <K, T> VersionedRecord<T> getCachedRecord(String table, K key, Class<T> tClass) {
-        return (VersionedRecord<T>) cache.getIfPresent(new TableCacheKey<>(table, key));
+    public <K, T> VersionedRecord<T> getCachedRecord(String table, K key, Function<BufferView, T> fromBytes) {
+        return cache.get(table, key, fromBytes);
     }
 
-    public <K, T> void cacheRecord(String table, K key, VersionedRecord<T> value) {
-        cache.put(new TableCacheKey<>(table, key), value);
+    /**
+     * Api to cache the value for the specified key from the requested table. The cache is bounded by the serialized 
+     * size of the values, and large values are only cached if they are read frequently.
+     *
+     * @param table      name of table.
+     * @param key        key of the value.
+     * @param value      deserialized value with its store key version.
+     * @param serialized value as it is stored in the table.
+     * @param offHeap    whether the value should be held off heap if the cache has an off heap tier.
+     * @param <K>        Type of key.
+     * @param <T>        Type of value.
+     */
+    public <K, T> void cacheRecord(String table, K key, VersionedRecord<T> value, byte[] serialized, boolean offHeap) {
+        cache.put(table, key, value, serialized, offHeap);
     }
 
-    public <K, T> void invalidateCache(String table, K key) {
-        cache.invalidate(new TableCacheKey<>(table, key));
+    public <K> void invalidateCache(String table, K key) {
+        cache.invalidate(table, key);
     }
 
     public <K> CompletableFuture<ResultPage<K, ByteBuf>> getKeysPaginated(String tableName, ByteBuf continuationToken, int limit,
                                                                           Function<byte[], K> fromByteKey) {
         log.trace("get keys paginated called for : {}", tableName);
 
-        return withRetries(() ->
+        return withRetries(() -> getToken(tableName).thenCompose(token -> 
                         wireCommandClient.readTableKeys(tableName, limit, HashTableIteratorItem.State.fromBytes(continuationToken),
-                                getToken(tableName)),
+                                token)),
                 () -> String.format("get keys paginated for table: %s", tableName), tableName)
                 .thenApply(result -> {
                     try {
@@ -333,18 +399,19 @@ public class TableStore extends AbstractService {
     }
 
     private <K, T> CompletableFuture<ResultPage<VersionedEntry<K, T>, ByteBuf>> getEntriesPaginated(
-            String tableName, ByteBuf continuationToken, int limit, Function<byte[], K> fromBytesKey,
-            Function<byte[], T> fromBytesValue) {
+            String tableName, ByteBuf continuationToken, int limit, Function<BufferView, K> fromBytesKey,
+            BiFunction<K, BufferView, T> fromBytesValue) {
         log.trace("get entries paginated called for : {}", tableName);
-        return withRetries(() -> wireCommandClient.readTableEntries(tableName, limit,
-                HashTableIteratorItem.State.fromBytes(continuationToken), getToken(tableName)),
+        return withRetries(() -> getToken(tableName).thenCompose(token -> wireCommandClient.readTableEntries(tableName, limit,
+                HashTableIteratorItem.State.fromBytes(continuationToken), token)),
                 () -> String.format("get entries paginated for table: %s", tableName), tableName)
                 .thenApply(result -> {
                     try {
                         List<VersionedEntry<K, T>> items = result.getItems().stream().map(x -> {
-                            T deserialized = fromBytesValue.apply(getArray(x.getValue()));
+                            K key = fromBytesKey.apply(new ByteBufWrapper(x.getKey().getKey()));
+                            T deserialized = fromBytesValue.apply(key, new ByteBufWrapper(x.getValue()));
                             VersionedRecord<T> value = new VersionedRecord<>(deserialized, new Version(x.getKey().getVersion().getSegmentVersion()));
-                            return new VersionedEntry<>(fromBytesKey.apply(getArray(x.getKey().getKey())), value);
+                            return new VersionedEntry<>(key, value);
                         }).collect(Collectors.toList());
 
                         log.trace("get keys paginated on table {} returned number of items {}", tableName, items.size());
@@ -367,7 +434,7 @@ public class TableStore extends AbstractService {
             Throwable cause = Exceptions.unwrap(t);
             if (cause instanceof StoreExceptions) {
                 if (cause instanceof StoreExceptions.StoreConnectionException) {
-                    hostStore.invalidateCache(tableName);
+                    wireCommandClient.invalidateTableUri(tableName);
                 } else if (cause instanceof StoreExceptions.TokenException) {
                     tokenCache.invalidate(tableName);
                 }
@@ -390,19 +457,10 @@ public class TableStore extends AbstractService {
                     }).runAsync(exceptionalCallback(futureSupplier, errorMessage, tableName), executor);
     }
     
-    @SneakyThrows(ExecutionException.class)
-    private String getToken(String tableName) {
-        return tokenCache.get(tableName, () ->  {
-            return tokenSupplier.apply(tableName);
-        });
+    private CompletableFuture<String> getToken(String tableName) {
+        return tokenCache.getToken(tableName);
     }
     
-    @Data
-    private static class TableCacheKey<K> {
-        private final String table;
-        private final K key;
-    }
-
     private byte[] getArray(ByteBuf buf) {
         final byte[] bytes = new byte[buf.readableBytes()];
         final int readerIndex = buf.readerIndex();
@@ -24,4 +24,12 @@ public class Version {
     public long toLong() {
         return version;
     }
+
+    /**
+     * The version is rendered as its number so that it can be part of the string form of the group's etag. 
+     */
+    @Override
+    public String toString() {
+        return Long.toString(version);
+    }
 }
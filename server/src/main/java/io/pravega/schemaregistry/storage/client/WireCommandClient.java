@@ -9,6 +9,7 @@
  */
 package io.pravega.schemaregistry.storage.client;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import io.netty.buffer.Unpooled;
@@ -22,9 +23,11 @@ import io.pravega.client.tables.impl.TableSegmentEntry;
 import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.Reply;
 import io.pravega.shared.protocol.netty.Request;
 import io.pravega.shared.protocol.netty.WireCommand;
@@ -32,14 +35,20 @@ import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Synchronized;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.concurrent.GuardedBy;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static io.pravega.controller.stream.api.grpc.v1.Controller.NodeUri;
@@ -47,7 +56,7 @@ import static io.pravega.controller.stream.api.grpc.v1.Controller.NodeUri;
 /**
  * Used for making wire command calls into Segment Store.  
  */
-public class WireCommandClient {
+public class WireCommandClient implements AutoCloseable {
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(WireCommandClient.class));
 
     private static final Map<Class<? extends Request>, Set<Class<? extends Reply>>> EXPECTED_SUCCESS_REPLIES =
@@ -78,10 +87,60 @@ public class WireCommandClient {
     @Getter(AccessLevel.PACKAGE)
     private final HostStore hostStore;
     private final ConnectionPool connectionPool;
+    /**
+     * Connections to segment store instances, one per endpoint. Requests to an endpoint are multiplexed on its 
+     * connection using distinct request ids. A connection is replaced only after it fails, and is dropped when no 
+     * table is known to be on its endpoint any more.  
+     */
+    private final ConcurrentHashMap<PravegaNodeUri, RawClient> connections;
+    /**
+     * Number of requests outstanding on each connection. 
+     */
+    @GuardedBy("$lock")
+    private final Map<RawClient, Integer> outstanding;
+    /**
+     * Connections that were dropped while they had outstanding requests. They are closed once these requests complete. 
+     */
+    @GuardedBy("$lock")
+    private final Set<RawClient> draining;
 
     WireCommandClient(final ConnectionPool connectionPool, HostStore hostStore) {
         this.connectionPool = connectionPool;
         this.hostStore = hostStore;
+        this.connections = new ConcurrentHashMap<>();
+        this.outstanding = new HashMap<>();
+        this.draining = new HashSet<>();
+    }
+
+    /**
+     * Closes all connections to the segment stores along with the connection pool. 
+     */
+    @Override
+    public void close() {
+        connections.values().forEach(this::closeConnection);
+        connections.clear();
+        clearDraining().forEach(this::closeConnection);
+        connectionPool.close();
+    }
+
+    /**
+     * Invalidates the cached host of the table, for example because the table moved to another segment store. 
+     * Connections to endpoints that none of the cached tables are on any more are dropped, and closed as soon as the 
+     * requests outstanding on them complete. 
+     *
+     * @param tableName Qualified table name.
+     */
+    void invalidateTableUri(String tableName) {
+        hostStore.invalidateCache(tableName);
+        Set<PravegaNodeUri> inUse = hostStore.getCachedHosts().stream().map(ModelHelper::encode).collect(Collectors.toSet());
+        connections.forEach((endpoint, connection) -> {
+            if (!inUse.contains(endpoint) && connections.remove(endpoint, connection)) {
+                log.debug("Dropping connection to {} as no table is known to be on it.", endpoint);
+                if (drain(connection)) {
+                    closeConnection(connection);
+                }
+            }
+        });
     }
 
     CompletableFuture<NodeUri> getTableUri(final String tableName) {
@@ -103,8 +162,8 @@ public class WireCommandClient {
                 .thenCompose(uri -> {
                     final WireCommandType type = WireCommandType.CREATE_TABLE_SEGMENT;
 
-                    RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-                    final long requestId = connection.getFlow().asLong();
+                    RawClient connection = getConnection(uri);
+                    final long requestId = connection.getFlow().getNextSequenceNumber();
 
                     return sendRequest(connection, requestId, new WireCommands.CreateTableSegment(requestId, tableName, false, 0, delegationToken, 0))
                             .thenAccept(rpl -> handleReply(rpl, connection, tableName, WireCommands.CreateTableSegment.class, type));
@@ -128,8 +187,8 @@ public class WireCommandClient {
                 .thenCompose(uri -> {
                     final WireCommandType type = WireCommandType.DELETE_TABLE_SEGMENT;
 
-                    RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-                    final long requestId = connection.getFlow().asLong();
+                    RawClient connection = getConnection(uri);
+                    final long requestId = connection.getFlow().getNextSequenceNumber();
 
                     return sendRequest(connection, requestId, new WireCommands.DeleteTableSegment(requestId, tableName, mustBeEmpty, delegationToken))
                             .thenAccept(rpl -> handleReply(rpl, connection, tableName, WireCommands.DeleteTableSegment.class, type));
@@ -158,8 +217,8 @@ public class WireCommandClient {
                 return new AbstractMap.SimpleImmutableEntry<>(key, value);
             }).collect(Collectors.toList());
 
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            RawClient connection = getConnection(uri);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
             WireCommands.UpdateTableEntries request = new WireCommands.UpdateTableEntries(requestId, tableName, delegationToken,
                     new WireCommands.TableEntries(wireCommandEntries), WireCommands.NULL_TABLE_SEGMENT_OFFSET);
 
@@ -192,8 +251,8 @@ public class WireCommandClient {
             final WireCommandType type = WireCommandType.REMOVE_TABLE_KEYS;
             List<WireCommands.TableKey> keyList = keys.stream().map(this::convertToWireCommand).collect(Collectors.toList());
 
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            RawClient connection = getConnection(uri);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
 
             WireCommands.RemoveTableKeys request = new WireCommands.RemoveTableKeys(
                     requestId, tableName, delegationToken, keyList, WireCommands.NULL_TABLE_SEGMENT_OFFSET);
@@ -224,8 +283,8 @@ public class WireCommandClient {
                     .stream().map(k -> new WireCommands.TableKey(k.getKey(), k.getVersion().getSegmentVersion()))
                     .collect(Collectors.toList());
 
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            RawClient connection = getConnection(uri);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
 
             WireCommands.ReadTable request = new WireCommands.ReadTable(requestId, tableName, delegationToken, keyList);
             return sendRequest(connection, requestId, request)
@@ -255,8 +314,8 @@ public class WireCommandClient {
 
         return getTableUri(tableName).thenCompose(uri -> {
             final WireCommandType type = WireCommandType.READ_TABLE_KEYS;
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            RawClient connection = getConnection(uri);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
 
             final HashTableIteratorItem.State token = (state == null) ? HashTableIteratorItem.State.EMPTY : state;
 
@@ -293,8 +352,8 @@ public class WireCommandClient {
 
         return getTableUri(tableName).thenCompose(uri -> {
             final WireCommandType type = WireCommandType.READ_TABLE_ENTRIES;
-            RawClient connection = new RawClient(ModelHelper.encode(uri), connectionPool);
-            final long requestId = connection.getFlow().asLong();
+            RawClient connection = getConnection(uri);
+            final long requestId = connection.getFlow().getNextSequenceNumber();
 
             final HashTableIteratorItem.State token = (state == null) ? HashTableIteratorItem.State.EMPTY : state;
 
@@ -338,32 +397,106 @@ public class WireCommandClient {
         }
     }
     
-    private void closeConnection(Reply reply, RawClient client) {
-        log.debug("Closing connection as a result of receiving: {}", reply);
-        if (client != null) {
-            try {
-                client.close();
-            } catch (Exception e) {
-                log.warn("Exception tearing down connection: ", e);
-            }
+    /**
+     * Gets the connection to the segment store at the given uri. A new connection is created if there is no connection 
+     * to the endpoint or if the existing connection has been closed. 
+     */
+    @VisibleForTesting
+    RawClient getConnection(NodeUri uri) {
+        PravegaNodeUri endpoint = ModelHelper.encode(uri);
+        RawClient connection = connections.get(endpoint);
+        if (connection != null && !connection.isClosed()) {
+            return connection;
         }
+        return connections.compute(endpoint, (key, existing) -> existing == null || existing.isClosed() ?
+                new RawClient(key, connectionPool) : existing);
+    }
+
+    /**
+     * Removes the connection so that the next request to its endpoint opens a new connection, and closes it. 
+     * Requests still outstanding on the connection fail with a connection error and are retried by the caller.
+     */
+    private void invalidateConnection(Object cause, RawClient client) {
+        log.debug("Closing connection as a result of: {}", cause);
+        connections.values().remove(client);
+        closeConnection(client);
+    }
+
+    private void closeConnection(RawClient client) {
+        try {
+            client.close();
+        } catch (Exception e) {
+            log.warn("Exception tearing down connection: ", e);
+        }
+    }
+
+    @Synchronized
+    private void acquire(RawClient connection) {
+        outstanding.merge(connection, 1, Integer::sum);
+    }
+
+    /**
+     * Releases a request outstanding on the connection.
+     *
+     * @return true if the connection is draining and this was its last outstanding request, in which case it should be closed. 
+     */
+    @Synchronized
+    private boolean release(RawClient connection) {
+        if (outstanding.merge(connection, -1, Integer::sum) > 0) {
+            return false;
+        }
+        outstanding.remove(connection);
+        return draining.remove(connection);
+    }
+
+    /**
+     * Marks the connection as draining.
+     *
+     * @return true if the connection has no outstanding requests, in which case it should be closed right away. 
+     */
+    @Synchronized
+    private boolean drain(RawClient connection) {
+        if (outstanding.containsKey(connection)) {
+            draining.add(connection);
+            return false;
+        }
+        return true;
+    }
+
+    @Synchronized
+    private List<RawClient> clearDraining() {
+        List<RawClient> list = new ArrayList<>(draining);
+        draining.clear();
+        return list;
     }
 
     private <T extends Request & WireCommand> CompletableFuture<Reply> sendRequest(RawClient connection, long requestId, T request) {
-        return connection.sendRequest(requestId, request)
-                         .exceptionally(e -> {
-                             Throwable unwrap = Exceptions.unwrap(e);
-                             if (unwrap instanceof ConnectionFailedException || unwrap instanceof ConnectionClosedException) {
-                                 log.warn(requestId, "Connection dropped");
-                                 throw StoreExceptions.create(StoreExceptions.Type.CONNECTION_ERROR, request.getType().name());
-                             } else if (unwrap instanceof AuthenticationException) {
-                                 log.warn(requestId, "Authentication Exception");
-                                 throw StoreExceptions.create(StoreExceptions.Type.AUTH_ERROR, request.getType().name());
-                             } else {
-                                 log.error(requestId, "Request failed", e);
-                                 throw new CompletionException(e);
-                             }
-                         });
+        acquire(connection);
+        CompletableFuture<Reply> reply;
+        try {
+            reply = connection.sendRequest(requestId, request);
+        } catch (Exception e) {
+            reply = Futures.failedFuture(e);
+        }
+        return reply.whenComplete((r, e) -> {
+                        if (release(connection)) {
+                            closeConnection(connection);
+                        }
+                    })
+                    .exceptionally(e -> {
+                        Throwable unwrap = Exceptions.unwrap(e);
+                        invalidateConnection(unwrap, connection);
+                        if (unwrap instanceof ConnectionFailedException || unwrap instanceof ConnectionClosedException) {
+                            log.warn(requestId, "Connection dropped");
+                            throw StoreExceptions.create(StoreExceptions.Type.CONNECTION_ERROR, request.getType().name());
+                        } else if (unwrap instanceof AuthenticationException) {
+                            log.warn(requestId, "Authentication Exception");
+                            throw StoreExceptions.create(StoreExceptions.Type.AUTH_ERROR, request.getType().name());
+                        } else {
+                            log.error(requestId, "Request failed", e);
+                            throw new CompletionException(e);
+                        }
+                    });
     }
 
     /**
@@ -379,7 +512,6 @@ public class WireCommandClient {
                              String qualifiedStreamSegmentName,
                              Class<? extends Request> requestType,
                              WireCommandType type) {
-        closeConnection(reply, client);
         Set<Class<? extends Reply>> expectedReplies = EXPECTED_SUCCESS_REPLIES.get(requestType);
         Set<Class<? extends Reply>> expectedFailingReplies = EXPECTED_FAILING_REPLIES.get(requestType);
         if (expectedReplies != null && expectedReplies.contains(reply.getClass())) {
@@ -408,6 +540,7 @@ public class WireCommandClient {
         } else {
             log.error(io.pravega.common.tracing.RequestTag.NON_EXISTENT_ID, "Unexpected reply {} {} {} {}.", requestType.getSimpleName(), qualifiedStreamSegmentName,
                     reply.getClass().getSimpleName(), reply.getRequestId());
+            invalidateConnection(reply, client);
 
             throw StoreExceptions.create(StoreExceptions.Type.CONNECTION_ERROR, 
                     new ConnectionFailedException("Unexpected reply of " + reply + " when expecting one of "
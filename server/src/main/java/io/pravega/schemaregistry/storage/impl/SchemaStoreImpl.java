@@ -9,11 +9,14 @@
  */
 package io.pravega.schemaregistry.storage.impl;
 
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupChanges;
 import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
@@ -22,6 +25,7 @@ import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.Etag;
+import io.pravega.schemaregistry.storage.SchemaLookup;
 import io.pravega.schemaregistry.storage.SchemaStore;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.storage.impl.group.Group;
@@ -31,7 +35,11 @@ import io.pravega.schemaregistry.storage.impl.schemas.Schemas;
 import javax.annotation.Nullable;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class SchemaStoreImpl<T> implements SchemaStore {
     private final Groups<T> groups;
@@ -60,123 +68,187 @@ public class SchemaStoreImpl<T> implements SchemaStore {
 
     @Override
     public CompletableFuture<Etag> getGroupEtag(String namespace, String groupId) {
-        return getGroup(namespace, groupId).thenCompose(Group::getCurrentEtag);
+        return withGroup(namespace, groupId, Group::getCurrentEtag);
     }
 
     @Override
     public CompletableFuture<GroupProperties> getGroupProperties(String namespace, String groupId) {
-        return getGroup(namespace, groupId).thenCompose(Group::getGroupProperties);
+        return withGroup(namespace, groupId, Group::getGroupProperties);
     }
 
     @Override
     public CompletableFuture<Void> updateCompatibility(String namespace, String groupId, Etag etag, Compatibility policy) {
-        return getGroup(namespace, groupId)
-                .thenCompose(grp -> grp.updateValidationPolicy(policy, etag));
+        return withGroup(namespace, groupId, grp -> grp.updateValidationPolicy(policy, etag));
     }
 
     @Override
     public CompletableFuture<List<SchemaWithVersion>> listLatestSchemas(String namespace, String groupId) {
-        return getGroup(namespace, groupId).thenCompose(Group::getLatestSchemas);
+        return withGroup(namespace, groupId, Group::getLatestSchemas);
     }
 
 
     @Override
     public CompletableFuture<List<SchemaWithVersion>> listSchemas(String namespace, String groupId) {
-        return getGroup(namespace, groupId).thenCompose(Group::getSchemas);
+        return withGroup(namespace, groupId, Group::getSchemas);
     }
 
     @Override
     public CompletableFuture<List<SchemaWithVersion>> listSchemas(String namespace, String groupId, VersionInfo from) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getSchemas(from.getId()));
+        return withGroup(namespace, groupId, grp -> grp.getSchemas(from.getId()));
     }
 
     @Override
     public CompletableFuture<List<SchemaWithVersion>> listSchemasByType(String namespace, String groupId, String schemaType) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getSchemas(schemaType));
+        return withGroup(namespace, groupId, grp -> grp.getSchemas(schemaType));
     }
 
     @Override
     public CompletableFuture<List<SchemaWithVersion>> listSchemasByType(String namespace, String groupId, String schemaType, VersionInfo from) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getSchemas(schemaType, from.getId()));
+        return withGroup(namespace, groupId, grp -> grp.getSchemas(schemaType, from.getId()));
     }
 
     @Override
     public CompletableFuture<Void> deleteSchema(String namespace, String groupId, int schemaId, Etag etag) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.deleteSchema(schemaId, etag));
+        return withGroup(namespace, groupId, grp -> grp.deleteSchema(schemaId, etag));
     }
 
     @Override
     public CompletableFuture<Void> deleteSchema(String namespace, String groupId, String schemaType, int version, String serializationFormat, Etag etag) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.deleteSchema(schemaType, version, serializationFormat, etag));
+        return withGroup(namespace, groupId, grp -> grp.deleteSchema(schemaType, version, serializationFormat, etag));
     }
 
     @Override
     public CompletableFuture<SchemaInfo> getSchema(String namespace, String groupId, int schemaId) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getSchema(schemaId));
+        return withGroup(namespace, groupId, grp -> grp.getSchema(schemaId));
+    }
+
+    @Override
+    public CompletableFuture<List<SchemaWithVersion>> getSchemasById(String namespace, String groupId, List<Integer> schemaIds) {
+        return withGroup(namespace, groupId, grp -> grp.getSchemasById(schemaIds));
     }
 
     @Override
     public CompletableFuture<SchemaInfo> getSchema(String namespace, String groupId, String schemaType, int version, String serializationFormat) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getSchema(schemaType, version, serializationFormat));
+        return withGroup(namespace, groupId, grp -> grp.getSchema(schemaType, version, serializationFormat));
     }
 
     @Override
     public CompletableFuture<SchemaWithVersion> getLatestSchemaVersion(String namespace, String groupId) {
-        return getGroup(namespace, groupId).thenCompose(Group::getLatestSchemaVersion);
+        return withGroup(namespace, groupId, Group::getLatestSchemaVersion);
     }
 
     @Override
     public CompletableFuture<SchemaWithVersion> getLatestSchemaVersion(String namespace, String groupId, String type) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getLatestSchemaVersion(type));
+        return withGroup(namespace, groupId, grp -> grp.getLatestSchemaVersion(type));
     }
     
     @Override
     public CompletableFuture<VersionInfo> addSchema(String namespace, String groupId, SchemaInfo schemaInfo, SchemaInfo normalized,
                                                     BigInteger fingerprint, GroupProperties prop, Etag etag) {
         // Store normalized form of schema with the global schemas while the original form is stored within the group.  
-        return schemas.addSchema(normalized, namespace, groupId)
-                .thenCompose(v -> getGroup(namespace, groupId).thenCompose(grp -> grp.addSchema(schemaInfo, fingerprint, prop, etag)));
+        // The global schema is added first so that a schema added to the group is always referenced globally. 
+        return schemas.addSchema(normalized, fingerprint, namespace, groupId)
+                      .thenCompose(v -> withGroup(namespace, groupId, grp -> grp.addSchema(schemaInfo, fingerprint, prop, etag)));
+    }
+
+    @Override
+    public CompletableFuture<List<VersionInfo>> addSchemas(String namespace, String groupId, List<SchemaInfo> schemaInfos, 
+                                                           List<SchemaInfo> normalized, List<BigInteger> fingerprints, 
+                                                           GroupProperties prop, Etag etag) {
+        // the global schemas are added first so that a schema added to the group is always referenced globally. 
+        return Futures.allOf(IntStream.range(0, normalized.size())
+                                      .mapToObj(i -> schemas.addSchema(normalized.get(i), fingerprints.get(i), namespace, groupId))
+                                      .collect(Collectors.toList()))
+                      .thenCompose(v -> withGroup(namespace, groupId, grp -> grp.addSchemas(schemaInfos, fingerprints, prop, etag)));
     }
 
     @Override
     public CompletableFuture<VersionInfo> getSchemaVersion(String namespace, String groupId, SchemaInfo schemaInfo, BigInteger fingerprint) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getVersion(schemaInfo, fingerprint));
+        return withGroup(namespace, groupId, grp -> grp.getVersion(schemaInfo, fingerprint));
+    }
+
+    @Override
+    public CompletableFuture<SchemaLookup> lookupSchema(String namespace, String groupId, SchemaInfo schemaInfo, BigInteger fingerprint) {
+        return withGroup(namespace, groupId, grp -> grp.lookupSchema(schemaInfo, fingerprint));
+    }
+
+    @Override
+    public CompletableFuture<List<SchemaLookup>> lookupSchemas(String namespace, String groupId, List<SchemaInfo> schemaInfos, 
+                                                               List<BigInteger> fingerprints) {
+        return withGroup(namespace, groupId, grp -> grp.lookupSchemas(schemaInfos, fingerprints));
     }
 
     @Override
     public CompletableFuture<Either<EncodingId, Etag>> getEncodingId(String namespace, String groupId, VersionInfo versionInfo, String codecType) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getEncodingId(versionInfo, codecType));
+        return withGroup(namespace, groupId, grp -> grp.getEncodingId(versionInfo, codecType));
     }
 
     @Override
     public CompletableFuture<EncodingId> createEncodingId(String namespace, String groupId, VersionInfo versionInfo, String codecType, 
                                                           Etag etag) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.createEncodingId(versionInfo, codecType, etag));
+        return withGroup(namespace, groupId, grp -> grp.createEncodingId(versionInfo, codecType, etag));
     }
 
     @Override
     public CompletableFuture<EncodingInfo> getEncodingInfo(String namespace, String groupId, EncodingId encodingId) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getEncodingInfo(encodingId));
+        return withGroup(namespace, groupId, grp -> grp.getEncodingInfo(encodingId));
+    }
+
+    @Override
+    public CompletableFuture<Map<EncodingId, EncodingInfo>> getEncodingInfos(String namespace, String groupId, List<EncodingId> encodingIds) {
+        return withGroup(namespace, groupId, grp -> grp.getEncodingInfos(encodingIds));
+    }
+
+    @Override
+    public CompletableFuture<Map<EncodingId, EncodingInfo>> getEncodingInfosFrom(String namespace, String groupId, EncodingId from) {
+        return withGroup(namespace, groupId, grp -> grp.getEncodingInfos(from));
+    }
+
+    @Override
+    public CompletableFuture<GroupChanges> getGroupChanges(String namespace, String groupId, int fromSchemaId, int fromEncodingId) {
+        return withGroup(namespace, groupId, grp -> grp.getChanges(fromSchemaId, fromEncodingId));
     }
 
     @Override
     public CompletableFuture<List<CodecType>> listCodecTypes(String namespace, String groupId) {
-        return getGroup(namespace, groupId).thenCompose(Group::getCodecTypes);
+        return withGroup(namespace, groupId, Group::getCodecTypes);
     }
 
     @Override
     public CompletableFuture<Void> addCodecType(String namespace, String groupId, CodecType codecType) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.addCodecType(codecType));
+        return withGroup(namespace, groupId, grp -> grp.addCodecType(codecType));
     }
 
     @Override
-    public CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String namespace, String groupId) {
-        return getGroup(namespace, groupId).thenCompose(Group::getHistory);
+    public CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String namespace, String groupId, boolean withSchemaData) {
+        return withGroup(namespace, groupId, grp -> grp.getHistory(null, withSchemaData));
     }
 
     @Override
-    public CompletableFuture<List<GroupHistoryRecord>> getGroupHistoryForType(String namespace, String groupId, String type) {
-        return getGroup(namespace, groupId).thenCompose(grp -> grp.getHistory(type));
+    public CompletableFuture<List<GroupHistoryRecord>> getGroupHistoryForType(String namespace, String groupId, String type, 
+                                                                              boolean withSchemaData) {
+        return withGroup(namespace, groupId, grp -> grp.getHistory(type, withSchemaData));
+    }
+
+    @Override
+    public CompletableFuture<ResultPage<GroupHistoryRecord, ContinuationToken>> getGroupHistory(String namespace, String groupId, @Nullable String type, 
+                                                                                                ContinuationToken continuationToken, int limit, 
+                                                                                                boolean withSchemaData) {
+        int fromId = fromToken(continuationToken);
+        return withGroup(namespace, groupId, grp -> grp.getHistory(type, fromId, limit, withSchemaData))
+                .thenApply(page -> new ResultPage<>(page.getList(), ContinuationToken.create(Integer.toString(page.getToken()))));
+    }
+
+    private int fromToken(ContinuationToken continuationToken) {
+        String token = continuationToken == null ? "" : continuationToken.toString();
+        if (token.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid continuation token %s", token));
+        }
     }
 
     @Override
@@ -186,6 +258,20 @@ public class SchemaStoreImpl<T> implements SchemaStore {
 
     // endregion
 
+    /**
+     * Gets the group and applies the function on it. Groups may cache group handles. If the group's table is not found, 
+     * the group may have been deleted, and possibly recreated, by another service instance after its handle was cached. 
+     * So the cached handle is invalidated and the function is retried once on a freshly read handle. 
+     */
+    private <R> CompletableFuture<R> withGroup(String namespace, String groupId, Function<Group<T>, CompletableFuture<R>> function) {
+        return Futures.exceptionallyComposeExpecting(getGroup(namespace, groupId).thenCompose(function),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataContainerNotFoundException,
+                () -> {
+                    groups.invalidateGroup(namespace, groupId);
+                    return getGroup(namespace, groupId).thenCompose(function);
+                });
+    }
+
     private CompletableFuture<Group<T>> getGroup(String namespace, String groupId) {
         return groups.getGroup(namespace, groupId).thenApply(grp -> {
                                            if (grp == null) {
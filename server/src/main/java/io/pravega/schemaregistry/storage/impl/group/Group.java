@@ -9,23 +9,23 @@
  */
 package io.pravega.schemaregistry.storage.impl.group;
 
-import com.google.common.base.Charsets;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
-import com.google.protobuf.DescriptorProtos;
-import com.google.protobuf.InvalidProtocolBufferException;
-import com.google.protobuf.util.JsonFormat;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.Retry;
+import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupChanges;
 import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
@@ -35,19 +35,28 @@ import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.exceptions.CodecTypeNotRegisteredException;
 import io.pravega.schemaregistry.service.Config;
 import io.pravega.schemaregistry.storage.Etag;
+import io.pravega.schemaregistry.storage.SchemaLookup;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.common.ChunkUtil;
 import io.pravega.schemaregistry.storage.impl.group.records.TableRecords;
+import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -55,6 +64,8 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -107,12 +118,46 @@ public class Group<V> {
                  .retryWhen(x -> Exceptions.unwrap(x) instanceof StoreExceptions.WriteConflictException);
     private static final CodecType NONE_CODEC_TYPE = new CodecType("");
 
+    private static final List<TableKey> STATE_KEYS = ImmutableList.of(ETAG, GROUP_PROPERTY_KEY, VALIDATION_POLICY_KEY, 
+            LATEST_SCHEMAS_KEY, CODECS_TYPE_KEY);
+
     private final GroupTable<V> groupTable;
     private final ScheduledExecutorService executor;
+    private final boolean materializeState;
+    private final int readBatchSize;
+    private final int concurrentReads;
+    // maximum number of schemas or encodings read by a call that reads all records from a given id. 
+    private final int maxRecordsPerCall;
+    /**
+     * In memory view of the group's mutable records along with the version of the etag they were read at. 
+     * Every update to the group's mutable records also updates the etag. So the view is valid for as long as the 
+     * etag's version is unchanged. It is only maintained if materializeState is true, and is reset with each update 
+     * made through this object. 
+     */
+    private final AtomicReference<GroupState<V>> state;
 
     public Group(GroupTable<V> groupTable, ScheduledExecutorService executor) {
+        this(groupTable, executor, Config.MATERIALIZE_GROUP_STATE);
+    }
+
+    public Group(GroupTable<V> groupTable, ScheduledExecutorService executor, boolean materializeState) {
+        this(groupTable, executor, materializeState, Config.SCHEMA_RECORDS_READ_BATCH_SIZE, Config.SCHEMA_RECORDS_CONCURRENT_READS,
+                Config.GROUP_RECORDS_MAX_PER_CALL);
+    }
+
+    @VisibleForTesting
+    Group(GroupTable<V> groupTable, ScheduledExecutorService executor, boolean materializeState, int readBatchSize, 
+          int concurrentReads, int maxRecordsPerCall) {
+        Preconditions.checkArgument(readBatchSize > 0, "read batch size should be positive");
+        Preconditions.checkArgument(concurrentReads > 0, "concurrent reads should be positive");
+        Preconditions.checkArgument(maxRecordsPerCall > 0, "max records per call should be positive");
         this.groupTable = groupTable;
         this.executor = executor;
+        this.materializeState = materializeState;
+        this.readBatchSize = readBatchSize;
+        this.concurrentReads = concurrentReads;
+        this.maxRecordsPerCall = maxRecordsPerCall;
+        this.state = new AtomicReference<>();
     }
 
     public CompletableFuture<Boolean> create(SerializationFormat serializationFormat, ImmutableMap<String, String> properties,
@@ -126,7 +171,7 @@ public class Group<V> {
         ValidationRecord validationRecord = new ValidationRecord(compatibility);
         entries.add(new Entry<>(VALIDATION_POLICY_KEY, validationRecord, null));
 
-        return Futures.exceptionallyComposeExpecting(groupTable.updateEntries(entries).thenApply(x -> true), 
+        return Futures.exceptionallyComposeExpecting(updateEntries(entries).thenApply(x -> true), 
                       e -> Exceptions.unwrap(e) instanceof StoreExceptions.WriteConflictException, 
                 () -> compareWithExisting(groupProp, validationRecord))
                       .handle((r, e) -> {
@@ -154,26 +199,86 @@ public class Group<V> {
                          .thenApply(record -> groupTable.toEtag(record.getVersion()));
     }
 
-    public CompletableFuture<List<SchemaWithVersion>> getLatestSchemas() {
-        return groupTable.getEntry(LATEST_SCHEMAS_KEY, LatestSchemasValue.class)
-                         .thenCompose(types -> {
-                             ImmutableMap<FormatAndType, SchemaTypeValue> schemas = types == null ? ImmutableMap.of() : types.getTypes();
-                             List<SchemaIdKey> keys = schemas.values().stream().filter(x -> x.getLatestVersion() >= 0)
-                                                             .map(x -> new SchemaIdKey(x.getLatestId()))
-                                                             .collect(Collectors.toList());
-                             
-                             return groupTable.getEntries(keys, SchemaRecord.class)
-                                     .thenCompose(entries -> Futures.allOfWithResults(entries
-                                             .stream().map(x -> getSchemaInfo(x)
-                                                     .thenApply(schemaInfo -> new SchemaWithVersion(schemaInfo,
-                                                             new VersionInfo(x.getType(), x.getSerializationFormat().getFullTypeName(),
-                                                                     x.getVersion(), x.getId()))))
-                                             .collect(Collectors.toList())));
+    /**
+     * Gets the group's mutable records. If the state is materialized and the etag is unchanged since it was loaded, 
+     * the materialized state is returned after reading just the etag. Otherwise all the records are read together 
+     * with the etag in a single call. 
+     */
+    private CompletableFuture<GroupState<V>> getState() {
+        GroupState<V> current = materializeState ? state.get() : null;
+        if (current == null) {
+            return loadState();
+        } else {
+            return groupTable.getEntryWithVersion(ETAG, TableRecords.Etag.class)
+                             .thenCompose(etag -> Objects.equals(etag.getVersion(), current.getEtag()) ? 
+                                     CompletableFuture.completedFuture(current) : loadState());
+        }
+    }
+
+    private CompletableFuture<GroupState<V>> loadState() {
+        return groupTable.getEntriesWithVersion(STATE_KEYS, TableValue.class)
+                         .thenApply(entries -> {
+                             GroupState<V> loaded = new GroupState<>(entries.get(0).getVersion(), 
+                                     (GroupPropertiesRecord) entries.get(1).getValue(), 
+                                     (ValidationRecord) entries.get(2).getValue(),
+                                     (LatestSchemasValue) entries.get(3).getValue(), 
+                                     (CodecTypesListValue) entries.get(4).getValue());
+                             if (materializeState) {
+                                 state.set(loaded);
+                             }
+                             return loaded;
                          });
     }
 
+    private CompletableFuture<Void> updateEntries(List<Entry<V>> entries) {
+        // reset the materialized state irrespective of the outcome. a write conflict means that it is stale too. 
+        return groupTable.updateEntries(entries)
+                         .whenComplete((r, e) -> state.set(null));
+    }
+
+    public CompletableFuture<List<SchemaWithVersion>> getLatestSchemas() {
+        return getState().thenCompose(groupState -> {
+            List<SchemaWithVersion> latest = groupState.getLatestSchemas().get();
+            if (latest != null) {
+                return CompletableFuture.completedFuture(latest);
+            }
+            return getLatestSchemas(groupState.getLatestSchemasValue())
+                    .thenApply(list -> {
+                        List<SchemaWithVersion> unmodifiable = Collections.unmodifiableList(list);
+                        groupState.getLatestSchemas().set(unmodifiable);
+                        return unmodifiable;
+                    });
+        });
+    }
+
+    private CompletableFuture<List<SchemaWithVersion>> getLatestSchemas(@Nullable LatestSchemasValue types) {
+        ImmutableMap<FormatAndType, SchemaTypeValue> schemas = types == null ? ImmutableMap.of() : types.getTypes();
+        List<SchemaIdKey> keys = schemas.values().stream().filter(x -> x.getLatestVersion() >= 0)
+                                        .map(x -> new SchemaIdKey(x.getLatestId()))
+                                        .collect(Collectors.toList());
+
+        return groupTable.getEntries(keys, SchemaRecord.class)
+                         .thenCompose(entries -> Futures.allOfWithResults(entries
+                                 .stream().map(x -> getSchemaInfo(x)
+                                         .thenApply(schemaInfo -> new SchemaWithVersion(schemaInfo,
+                                                 new VersionInfo(x.getType(), x.getSerializationFormat().getFullTypeName(),
+                                                         x.getVersion(), x.getId()))))
+                                 .collect(Collectors.toList())));
+    }
+
     private CompletableFuture<SchemaInfo> getSchemaInfo(SchemaRecord sr) {
-        if (sr.getSchemaInfo() != null) {
+        return getSchemaInfo(sr, true);
+    }
+
+    /**
+     * Gets the schema info for the schema record. If the schema data is not required, the chunks of the schema are not 
+     * read and the schema info has empty schema data. 
+     */
+    private CompletableFuture<SchemaInfo> getSchemaInfo(SchemaRecord sr, boolean withSchemaData) {
+        if (!withSchemaData) {
+            return CompletableFuture.completedFuture(new SchemaInfo(sr.getType(), sr.getSerializationFormat(), 
+                    ByteBuffer.allocate(0), sr.getProperties()));
+        } else if (sr.getSchemaInfo() != null) {
             return CompletableFuture.completedFuture(sr.getSchemaInfo());
         } else {
             List<SchemaIdChunkKey> keys = IntStream.range(1, sr.getNumberOfChunks()).boxed().map(y -> 
@@ -194,11 +299,7 @@ public class Group<V> {
     }
 
     public CompletableFuture<List<SchemaWithVersion>> getSchemas(int fromPos) {
-        return getSchemaRecords(fromPos)
-                .thenApply(entries -> entries
-                        .stream().map(x -> new SchemaWithVersion(x.getSchemaInfo(), 
-                                new VersionInfo(x.getType(), x.getSerializationFormat().getFullTypeName(), x.getVersion(), x.getId())))
-                        .collect(Collectors.toList()));
+        return getSchemaRecords(fromPos, true, this::toSchemaWithVersion);
     }
 
     public CompletableFuture<List<SchemaWithVersion>> getSchemas(String type) {
@@ -206,39 +307,160 @@ public class Group<V> {
     }
 
     public CompletableFuture<List<SchemaWithVersion>> getSchemas(String type, int fromPos) {
-        return getSchemas(fromPos)
-                .thenApply(schemas -> schemas.stream().filter(x -> x.getSchemaInfo().getType().equals(type))
-                                             .collect(Collectors.toList()));
+        return getSchemaRecords(type, fromPos, true, this::toSchemaWithVersion);
     }
 
-    private CompletableFuture<List<SchemaRecord>> getSchemaRecords(int fromPos) {
-        return groupTable.getEntry(LATEST_SCHEMAS_KEY, LatestSchemasValue.class)
-                         .thenCompose(latestSchemasValue -> {
-                             if (latestSchemasValue == null) {
-                                 return CompletableFuture.completedFuture(Collections.emptyList());
-                             } else {
-                                 int endPos = latestSchemasValue.getNextId();
-                                 Set<Integer> deleted = latestSchemasValue.getDeletedIds();
-                                 List<TableKey> keys = IntStream.range(fromPos, endPos)
-                                                                .boxed().map(SchemaIdKey::new).collect(Collectors.toList());
-                                 return groupTable.getEntriesWithVersion(keys, TableValue.class)
-                                                  .thenCompose(entries -> {
-                                                      List<SchemaRecord> schemaRecords = new ArrayList<>();
-
-                                                      for (Value<TableValue, V> entry : entries) {
-                                                          if (entry.getValue() instanceof SchemaRecord) {
-                                                              schemaRecords.add((SchemaRecord) entry.getValue());
-                                                          }
-                                                      }
-                                                      return Futures.allOfWithResults(schemaRecords
-                                                              .stream().filter(x -> !deleted.contains(x.getId()))
-                                                              .map(x -> getSchemaInfo(x)
-                                                                      .thenApply(schemaInfo -> new SchemaRecord(
-                                                                              schemaInfo, x.getId(), x.getVersion(),
-                                                                              x.getCompatibility(), x.getTimestamp())))
-                                                              .collect(Collectors.toList()));
-                                                  });
+    private SchemaWithVersion toSchemaWithVersion(SchemaRecord x) {
+        return new SchemaWithVersion(x.getSchemaInfo(), 
+                new VersionInfo(x.getType(), x.getSerializationFormat().getFullTypeName(), x.getVersion(), x.getId()));
+    }
+
+    private <T> CompletableFuture<List<T>> getSchemaRecords(int fromPos, boolean withSchemaData, 
+                                                            Function<SchemaRecord, T> transform) {
+        return getState().thenCompose(groupState -> {
+            LatestSchemasValue latestSchemasValue = groupState.getLatestSchemasValue();
+            return getSchemaRecords(latestSchemasValue, fromPos, latestSchemasValue == null ? fromPos : latestSchemasValue.getNextId(),
+                    withSchemaData, transform);
+        });
+    }
+
+    private <T> CompletableFuture<List<T>> getSchemaRecords(@Nullable LatestSchemasValue latestSchemasValue, int fromPos, 
+                                                            int endPos, boolean withSchemaData, Function<SchemaRecord, T> transform) {
+        if (latestSchemasValue == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        } 
+        List<TableKey> keys = IntStream.range(fromPos, endPos)
+                                       .boxed().map(SchemaIdKey::new).collect(Collectors.toList());
+        return readSchemaRecords(keys, latestSchemasValue.getDeletedIds(), withSchemaData, transform);
+    }
+
+    /**
+     * Exclusive end of the schema ids to read from schema id from, capped at maxRecordsPerCall ids. 
+     */
+    private int getSchemaIdsEnd(GroupState<V> groupState, int from) {
+        LatestSchemasValue latestSchemasValue = groupState.getLatestSchemasValue();
+        if (latestSchemasValue == null || latestSchemasValue.getNextId() <= from) {
+            return from;
+        }
+        return (int) Math.min(latestSchemasValue.getNextId(), (long) from + maxRecordsPerCall);
+    }
+
+    /**
+     * Gets the schema records for the type. The records for the type are found using the type and version to id index.
+     * Type's versions are in the range 0 to its next version less its deleted versions, so only as many records as 
+     * there are versions of the type are read instead of all the records of the group.  
+     */
+    private <T> CompletableFuture<List<T>> getSchemaRecords(String type, int fromPos, boolean withSchemaData, 
+                                                            Function<SchemaRecord, T> transform) {
+        return getState().thenCompose(groupState -> {
+            LatestSchemasValue latestSchemasValue = groupState.getLatestSchemasValue();
+            if (latestSchemasValue == null) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+            return getSchemaIds(latestSchemasValue, type)
+                    .thenCompose(ids -> {
+                        List<T> result = new ArrayList<>(ids.size());
+                        return forEachSchemaRecordBatch(ids.stream().filter(id -> id >= fromPos).map(SchemaIdKey::new)
+                                                           .collect(Collectors.toList()), latestSchemasValue.getDeletedIds(), 
+                                withSchemaData, batch -> batch.stream().filter(x -> x.getType().equals(type))
+                                              .forEach(x -> result.add(transform.apply(x))))
+                                .thenApply(v -> result);
+                    });
+        });
+    }
+
+    /**
+     * Gets the ordered ids of the type's schemas from the type and version to id index.  
+     */
+    private CompletableFuture<List<Integer>> getSchemaIds(LatestSchemasValue latestSchemasValue, String type) {
+        List<TableKey> indexKeys = latestSchemasValue
+                .getTypes().entrySet().stream().filter(x -> x.getKey().getType().equals(type))
+                .flatMap(x -> IntStream.range(0, x.getValue().getNextVersion())
+                                       .filter(version -> !x.getValue().getDeletedVersions().contains(version))
+                                       .mapToObj(version -> new IndexTypeVersionToIdKey(
+                                               x.getKey().getSerializationFormat(), type, version)))
+                .collect(Collectors.toList());
+        return groupTable.getEntries(indexKeys, SchemaIdValue.class)
+                         .thenApply(ids -> ids.stream().filter(Objects::nonNull).map(SchemaIdValue::getId)
+                                              .distinct().sorted().collect(Collectors.toList()));
+    }
+
+    /**
+     * Reads the schema records for the keys and transforms them as each batch of records is read. Only the transformed 
+     * records are accumulated. 
+     */
+    private <T> CompletableFuture<List<T>> readSchemaRecords(List<TableKey> keys, Set<Integer> deleted, boolean withSchemaData,
+                                                             Function<SchemaRecord, T> transform) {
+        List<T> result = new ArrayList<>(keys.size());
+        return forEachSchemaRecordBatch(keys, deleted, withSchemaData, batch -> batch.forEach(x -> result.add(transform.apply(x))))
+                .thenApply(v -> result);
+    }
+
+    /**
+     * Streams the schema records for the keys to the consumer one batch at a time, in the order of the keys. 
+     * The keys are read in batches of readBatchSize keys with up to concurrentReads batches being read at a time, and the 
+     * chunks of the schemas in a batch are fetched as soon as the batch is read, while the subsequent batches are being 
+     * read. Each batch is handed to the consumer once the batches before it have been, and is released thereafter. So no 
+     * more than concurrentReads batches are held in memory and outstanding at a time, irrespective of the number of 
+     * schemas in the group. The consumer is invoked sequentially. If the schema data is not required, the chunks are not 
+     * read at all. 
+     */
+    private CompletableFuture<Void> forEachSchemaRecordBatch(List<TableKey> keys, Set<Integer> deleted, boolean withSchemaData,
+                                                             Consumer<List<SchemaRecord>> consumer) {
+        List<List<TableKey>> batches = Lists.partition(keys, readBatchSize);
+        // batches being read, in the order of the keys. Only accessed from the sequential iterations of the loop. 
+        Deque<CompletableFuture<List<SchemaRecord>>> window = new ArrayDeque<>();
+        AtomicInteger next = new AtomicInteger();
+        return Futures.loop(() -> next.get() < batches.size() || !window.isEmpty(), () -> {
+            while (window.size() < concurrentReads && next.get() < batches.size()) {
+                window.add(readSchemaRecordsBatch(batches.get(next.getAndIncrement()), deleted, withSchemaData));
+            }
+            return window.poll().thenAccept(consumer);
+        }, executor);
+    }
+
+    private CompletableFuture<List<SchemaRecord>> readSchemaRecordsBatch(List<TableKey> keys, Set<Integer> deleted, 
+                                                                         boolean withSchemaData) {
+        return groupTable.getEntriesWithVersion(keys, TableValue.class)
+                         .thenCompose(entries -> {
+                             List<SchemaRecord> schemaRecords = new ArrayList<>();
+
+                             for (Value<TableValue, V> entry : entries) {
+                                 if (entry.getValue() instanceof SchemaRecord) {
+                                     schemaRecords.add((SchemaRecord) entry.getValue());
+                                 }
                              }
+                             return Futures.allOfWithResults(schemaRecords
+                                     .stream().filter(x -> !deleted.contains(x.getId()))
+                                     .map(x -> getSchemaInfo(x, withSchemaData)
+                                             .thenApply(schemaInfo -> new SchemaRecord(
+                                                     schemaInfo, x.getId(), x.getVersion(),
+                                                     x.getCompatibility(), x.getTimestamp())))
+                                     .collect(Collectors.toList()));
+                         });
+    }
+
+    public CompletableFuture<List<SchemaWithVersion>> getSchemasById(List<Integer> ids) {
+        return getSchemaRecordsById(ids)
+                .thenApply(records -> records.values().stream().map(x -> new SchemaWithVersion(x.getSchemaInfo(),
+                        new VersionInfo(x.getType(), x.getSerializationFormat().getFullTypeName(), x.getVersion(), x.getId())))
+                                             .collect(Collectors.toList()));
+    }
+
+    private CompletableFuture<Map<Integer, SchemaRecord>> getSchemaRecordsById(List<Integer> ids) {
+        List<SchemaIdKey> keys = ids.stream().distinct().map(SchemaIdKey::new).collect(Collectors.toList());
+        return groupTable.getEntries(keys, SchemaRecord.class)
+                         .thenCompose(entries -> Futures.allOfWithResults(entries
+                                 .stream().filter(Objects::nonNull)
+                                 .map(x -> getSchemaInfo(x)
+                                         .thenApply(schemaInfo -> new SchemaRecord(
+                                                 schemaInfo, x.getId(), x.getVersion(),
+                                                 x.getCompatibility(), x.getTimestamp())))
+                                 .collect(Collectors.toList())))
+                         .thenApply(records -> {
+                             Map<Integer, SchemaRecord> map = new LinkedHashMap<>();
+                             records.forEach(x -> map.put(x.getId(), x));
+                             return map;
                          });
     }
 
@@ -329,7 +551,7 @@ public class Group<V> {
                             newTypes.put(new FormatAndType(serializationFormat, type), n);
                             toUpdate.add(new Entry<>(LATEST_SCHEMAS_KEY, 
                                     new LatestSchemasValue(newTypes.build(), types.getNextId(), deletedIds), typesVersion));
-                            return groupTable.updateEntries(toUpdate);
+                            return updateEntries(toUpdate);
                                 });
                     } else {
                         // already deleted. Idempotent case. 
@@ -385,6 +607,44 @@ public class Group<V> {
                          });
     }
 
+    /**
+     * Looks up the schema in the group. The group's etag and properties are read together with the schema's fingerprint 
+     * entry in a single call, so that a schema that is not found can be validated and added against the same etag. 
+     */
+    public CompletableFuture<SchemaLookup> lookupSchema(SchemaInfo schemaInfo, BigInteger fingerprint) {
+        return lookupSchemas(Collections.singletonList(schemaInfo), Collections.singletonList(fingerprint))
+                .thenApply(x -> x.get(0));
+    }
+
+    /**
+     * Looks up the schemas in the group. The group's etag and properties are read together with the fingerprint entries 
+     * of all the schemas in a single call. 
+     */
+    public CompletableFuture<List<SchemaLookup>> lookupSchemas(List<SchemaInfo> schemaInfos, List<BigInteger> fingerprints) {
+        List<BigInteger> distinct = fingerprints.stream().distinct().collect(Collectors.toList());
+        List<TableKey> keys = Lists.newArrayList(ETAG, GROUP_PROPERTY_KEY, VALIDATION_POLICY_KEY);
+        distinct.forEach(x -> keys.add(new SchemaFingerprintKey(x)));
+        return groupTable.getEntriesWithVersion(keys, TableValue.class)
+                         .thenCompose(entries -> {
+                             Etag etag = groupTable.toEtag(entries.get(0).getVersion());
+                             GroupPropertiesRecord properties = (GroupPropertiesRecord) entries.get(1).getValue();
+                             ValidationRecord validationRecord = (ValidationRecord) entries.get(2).getValue();
+                             GroupProperties groupProperties = new GroupProperties(properties.getSerializationFormat(), 
+                                     validationRecord.getCompatibility(), properties.isAllowMultipleTypes(), 
+                                     ImmutableMap.copyOf(properties.getProperties()));
+                             Map<BigInteger, SchemaVersionList> records = new HashMap<>();
+                             for (int i = 0; i < distinct.size(); i++) {
+                                 records.put(distinct.get(i), (SchemaVersionList) entries.get(i + 3).getValue());
+                             }
+                             return Futures.allOfWithResults(IntStream.range(0, schemaInfos.size()).mapToObj(i -> {
+                                 SchemaVersionList record = records.get(fingerprints.get(i));
+                                 CompletableFuture<VersionInfo> version = record == null ? CompletableFuture.completedFuture(null) :
+                                         findVersion(record.getVersions(), schemaInfos.get(i));
+                                 return version.thenApply(v -> new SchemaLookup(etag, groupProperties, v));
+                             }).collect(Collectors.toList()));
+                         });
+    }
+
     public CompletableFuture<EncodingId> createEncodingId(VersionInfo versionInfo, String codecType, Etag etag) {
         return generateNewEncodingId(versionInfo, codecType, etag);
     }
@@ -408,6 +668,88 @@ public class Group<V> {
                          });
     }
 
+    public CompletableFuture<Map<EncodingId, EncodingInfo>> getEncodingInfos(List<EncodingId> encodingIds) {
+        List<EncodingIdRecord> keys = encodingIds.stream().distinct().map(EncodingIdRecord::new).collect(Collectors.toList());
+        return groupTable.getEntries(keys, EncodingInfoRecord.class)
+                         .thenCompose(records -> {
+                             Map<EncodingId, EncodingInfoRecord> found = new LinkedHashMap<>();
+                             for (int i = 0; i < keys.size(); i++) {
+                                 if (records.get(i) != null) {
+                                     found.put(keys.get(i).getEncodingId(), records.get(i));
+                                 }
+                             }
+                             return toEncodingInfos(found);
+                         });
+    }
+
+    /**
+     * Gets the encoding infos from encoding id from. At most maxRecordsPerCall encodings are read, so the encodings 
+     * after the highest returned encoding id have to be fetched with a subsequent call. 
+     */
+    public CompletableFuture<Map<EncodingId, EncodingInfo>> getEncodingInfos(EncodingId from) {
+        return groupTable.getEntry(LATEST_ENCODING_ID_KEY, LatestEncodingIdValue.class)
+                         .thenCompose(latest -> {
+                             int end = getEncodingIdsEnd(latest, from.getId());
+                             if (end <= from.getId()) {
+                                 return CompletableFuture.completedFuture(Collections.emptyMap());
+                             }
+                             List<EncodingId> encodingIds = IntStream.range(from.getId(), end)
+                                                                     .boxed().map(EncodingId::new).collect(Collectors.toList());
+                             return getEncodingInfos(encodingIds);
+                         });
+    }
+
+    /**
+     * Exclusive end of the encoding ids to read from encoding id from, capped at maxRecordsPerCall ids. 
+     */
+    private int getEncodingIdsEnd(@Nullable LatestEncodingIdValue latest, int from) {
+        if (latest == null || latest.getEncodingId().getId() < from) {
+            return from;
+        }
+        return (int) Math.min((long) latest.getEncodingId().getId() + 1, (long) from + maxRecordsPerCall);
+    }
+
+    private CompletableFuture<Map<EncodingId, EncodingInfo>> toEncodingInfos(Map<EncodingId, EncodingInfoRecord> records) {
+        // resolve the schemas and codec types referred to by all encodings with one multi key read each. 
+        List<Integer> schemaIds = records.values().stream().map(x -> x.getVersionInfo().getId()).distinct()
+                                         .collect(Collectors.toList());
+        List<String> codecTypeNames = records.values().stream().map(EncodingInfoRecord::getCodecType).distinct()
+                                             .collect(Collectors.toList());
+        CompletableFuture<Map<Integer, SchemaRecord>> schemasFuture = getSchemaRecordsById(schemaIds);
+        CompletableFuture<Map<String, CodecType>> codecTypesFuture = getCodecTypes(codecTypeNames);
+        return CompletableFuture.allOf(schemasFuture, codecTypesFuture)
+                                .thenApply(v -> {
+                                    Map<Integer, SchemaRecord> schemas = schemasFuture.join();
+                                    Map<String, CodecType> codecTypes = codecTypesFuture.join();
+                                    Map<EncodingId, EncodingInfo> result = new LinkedHashMap<>();
+                                    records.forEach((encodingId, record) -> {
+                                        SchemaRecord schema = schemas.get(record.getVersionInfo().getId());
+                                        if (schema == null) {
+                                            throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "schema version not found");
+                                        }
+                                        result.put(encodingId, new EncodingInfo(record.getVersionInfo(), schema.getSchemaInfo(),
+                                                codecTypes.get(record.getCodecType())));
+                                    });
+                                    return result;
+                                });
+    }
+
+    private CompletableFuture<Map<String, CodecType>> getCodecTypes(List<String> codecTypeNames) {
+        List<CodecTypeKey> keys = codecTypeNames.stream().filter(x -> x.length() > 0).map(CodecTypeKey::new)
+                                                .collect(Collectors.toList());
+        return groupTable.getEntries(keys, CodecTypeValue.class)
+                         .thenApply(values -> {
+                             Map<String, CodecType> codecTypes = new HashMap<>();
+                             codecTypes.put(NONE_CODEC_TYPE.getName(), NONE_CODEC_TYPE);
+                             for (int i = 0; i < keys.size(); i++) {
+                                 String name = keys.get(i).getCodecTypeName();
+                                 CodecTypeValue value = values.get(i);
+                                 codecTypes.put(name, value == null ? new CodecType(name) : new CodecType(name, value.getProtperties()));
+                             }
+                             return codecTypes;
+                         });
+    }
+
     private CompletableFuture<CodecType> getCodecType(String codecType) {
         if (codecType.length() == 0) {
             return CompletableFuture.completedFuture(NONE_CODEC_TYPE);   
@@ -419,7 +761,7 @@ public class Group<V> {
     }
 
     public CompletableFuture<SchemaWithVersion> getLatestSchemaVersion() {
-        return groupTable.getEntry(LATEST_SCHEMAS_KEY, LatestSchemasValue.class)
+        return getState().thenApply(GroupState::getLatestSchemasValue)
                          .thenApply(rec -> {
                              if (rec == null) {
                                  return null;
@@ -442,7 +784,7 @@ public class Group<V> {
     }
     
     public CompletableFuture<SchemaWithVersion> getLatestSchemaVersion(String type) {
-        return groupTable.getEntry(LATEST_SCHEMAS_KEY, LatestSchemasValue.class)
+        return getState().thenApply(GroupState::getLatestSchemasValue)
                          .thenApply(rec -> {
                              if (rec == null) {
                                  return null;
@@ -474,7 +816,7 @@ public class Group<V> {
     }
 
     private CompletableFuture<List<String>> getCodecTypeNames() {
-        return groupTable.getEntry(CODECS_TYPE_KEY, CodecTypesListValue.class)
+        return getState().thenApply(GroupState::getCodecTypes)
                          .thenApply(codecTypes -> {
                              if (codecTypes == null) {
                                  return Collections.emptyList();
@@ -508,133 +850,211 @@ public class Group<V> {
             entries.add(new Entry<>(CODECS_TYPE_KEY, updated, version));
             entries.add(new Entry<>(new CodecTypeKey(codecType.getName()), new CodecTypeValue(codecType.getProperties()), null));
 
-            return groupTable.updateEntries(entries);
+            return updateEntries(entries);
         } else {
             return CompletableFuture.completedFuture(null);
         }
     }
 
     public CompletableFuture<List<GroupHistoryRecord>> getHistory() {
-        return getSchemaRecords(0).thenApply(schemaRecords -> schemaRecords
-                .stream().map(x -> new GroupHistoryRecord(x.getSchemaInfo(), 
-                        new VersionInfo(x.getType(), x.getSerializationFormat().getFullTypeName(), x.getVersion(), x.getId()), 
-                        x.getCompatibility(), x.getTimestamp(), getSchemaString(x.getSchemaInfo())))
-                .collect(Collectors.toList()));
+        return getHistory(null, true);
     }
     
     public CompletableFuture<List<GroupHistoryRecord>> getHistory(String type) {
-        return getHistory().thenApply(list ->
-                list.stream().filter(x -> x.getSchemaInfo().getType().equals(type))
-                    .collect(Collectors.toList()));
+        return getHistory(type, true);
+    }
+
+    /**
+     * Gets the group's history. If type is specified, only the schemas for the type are included. 
+     * The schema chunks are only read if the schema data is required. Records have empty schema data otherwise.
+     */
+    public CompletableFuture<List<GroupHistoryRecord>> getHistory(@Nullable String type, boolean withSchemaData) {
+        Function<SchemaRecord, GroupHistoryRecord> transform = this::toHistoryRecord;
+        return type == null ? getSchemaRecords(0, withSchemaData, transform) : getSchemaRecords(type, 0, withSchemaData, transform);
+    }
+
+    public CompletableFuture<ResultPage<GroupHistoryRecord, Integer>> getHistory(@Nullable String type, int fromId, int limit) {
+        return getHistory(type, fromId, limit, true);
+    }
+
+    /**
+     * Gets a page of the group's history starting from schema id fromId. If type is specified, only the schemas for the 
+     * type are included. The page has up to limit records and the id to read the next page from. Only the records on 
+     * the page are read. Once there are no more records, an empty page is returned. The schema data is only read when 
+     * required, as with {@link #getHistory(String, boolean)}.
+     */
+    public CompletableFuture<ResultPage<GroupHistoryRecord, Integer>> getHistory(@Nullable String type, int fromId, int limit, 
+                                                                                 boolean withSchemaData) {
+        Preconditions.checkArgument(fromId >= 0, "schema id cannot be negative");
+        Preconditions.checkArgument(limit > 0, "limit should be positive");
+        return getState().thenCompose(groupState -> {
+            LatestSchemasValue latestSchemasValue = groupState.getLatestSchemasValue();
+            if (latestSchemasValue == null) {
+                return CompletableFuture.completedFuture(new ResultPage<>(Collections.emptyList(), fromId));
+            }
+            Set<Integer> deleted = latestSchemasValue.getDeletedIds();
+            CompletableFuture<List<Integer>> idsFuture;
+            if (type == null) {
+                idsFuture = CompletableFuture.completedFuture(IntStream.range(fromId, latestSchemasValue.getNextId())
+                                                                       .filter(id -> !deleted.contains(id)).limit(limit)
+                                                                       .boxed().collect(Collectors.toList()));
+            } else {
+                idsFuture = getSchemaIds(latestSchemasValue, type)
+                        .thenApply(ids -> ids.stream().filter(id -> id >= fromId && !deleted.contains(id)).limit(limit)
+                                             .collect(Collectors.toList()));
+            }
+            return idsFuture.thenCompose(ids -> {
+                // a partial page is the last page, so the next page starts after the last id in the group. 
+                int next = ids.size() < limit ? Math.max(fromId, latestSchemasValue.getNextId()) : ids.get(ids.size() - 1) + 1;
+                return readSchemaRecords(ids.stream().map(SchemaIdKey::new).collect(Collectors.toList()), deleted, 
+                        withSchemaData, this::toHistoryRecord)
+                        .thenApply(records -> new ResultPage<>(records, next));
+            });
+        });
+    }
+
+    /**
+     * Gets the changes to the group since schema id fromSchemaId and encoding id fromEncodingId. Only the schema records
+     * from fromSchemaId and the encoding infos from fromEncodingId are read, at most maxRecordsPerCall of each. The next 
+     * ids in the changes follow the last schema and encoding that were read, so that the remaining changes are fetched 
+     * with subsequent calls. Deleted ids are recorded in the group state and are returned in full as a schema could have 
+     * been deleted after it was synced.
+     */
+    public CompletableFuture<GroupChanges> getChanges(int fromSchemaId, int fromEncodingId) {
+        Preconditions.checkArgument(fromSchemaId >= 0, "schema id cannot be negative");
+        Preconditions.checkArgument(fromEncodingId >= 0, "encoding id cannot be negative");
+        CompletableFuture<GroupState<V>> stateFuture = getState();
+        CompletableFuture<List<SchemaWithVersion>> schemasFuture = stateFuture.thenCompose(groupState ->
+                getSchemaRecords(groupState.getLatestSchemasValue(), fromSchemaId, getSchemaIdsEnd(groupState, fromSchemaId), 
+                        true, this::toSchemaWithVersion));
+        CompletableFuture<LatestEncodingIdValue> latestEncodingFuture =
+                groupTable.getEntry(LATEST_ENCODING_ID_KEY, LatestEncodingIdValue.class);
+        CompletableFuture<Map<EncodingId, EncodingInfo>> encodingsFuture = latestEncodingFuture.thenCompose(latest -> {
+            int end = getEncodingIdsEnd(latest, fromEncodingId);
+            return end <= fromEncodingId ? CompletableFuture.completedFuture(Collections.emptyMap()) :
+                    getEncodingInfos(IntStream.range(fromEncodingId, end).boxed().map(EncodingId::new).collect(Collectors.toList()));
+        });
+        return CompletableFuture.allOf(schemasFuture, encodingsFuture)
+                                .thenApply(v -> {
+                                    LatestSchemasValue latestSchemasValue = stateFuture.join().getLatestSchemasValue();
+                                    LatestEncodingIdValue latestEncoding = latestEncodingFuture.join();
+                                    ImmutableList<SchemaWithVersion> schemas = ImmutableList.copyOf(schemasFuture.join());
+                                    ImmutableList<Integer> deleted = latestSchemasValue == null ? ImmutableList.of() :
+                                            latestSchemasValue.getDeletedIds().stream().sorted()
+                                                              .collect(ImmutableList.toImmutableList());
+                                    int nextSchemaId = Math.max(fromSchemaId, getSchemaIdsEnd(stateFuture.join(), fromSchemaId));
+                                    int nextEncodingId = Math.max(fromEncodingId, getEncodingIdsEnd(latestEncoding, fromEncodingId));
+                                    return new GroupChanges(schemas, deleted, ImmutableMap.copyOf(encodingsFuture.join()),
+                                            nextSchemaId, nextEncodingId);
+                                });
+    }
+
+    private GroupHistoryRecord toHistoryRecord(SchemaRecord x) {
+        return new GroupHistoryRecord(x.getSchemaInfo(),
+                new VersionInfo(x.getType(), x.getSerializationFormat().getFullTypeName(), x.getVersion(), x.getId()),
+                x.getCompatibility(), x.getTimestamp(), null);
     }
 
     public CompletableFuture<VersionInfo> addSchema(SchemaInfo schemaInfo, BigInteger fingerprint, GroupProperties prop, Etag etag) {
+        return addSchemas(Collections.singletonList(schemaInfo), Collections.singletonList(fingerprint), prop, etag)
+                .thenApply(x -> x.get(0));
+    }
+
+    /**
+     * Adds the schemas to the group in the supplied order with a single conditional update. The schemas are assigned 
+     * consecutive ids and the version of each schema follows the versions of its type before it, including the schemas 
+     * of the same type earlier in the batch. The schemas are expected to be distinct and absent from the group. 
+     */
+    public CompletableFuture<List<VersionInfo>> addSchemas(List<SchemaInfo> schemaInfos, List<BigInteger> fingerprints, 
+                                                           GroupProperties prop, Etag etag) {
+        List<BigInteger> distinct = fingerprints.stream().distinct().collect(Collectors.toList());
         List<TableKey> keys = new ArrayList<>();
         keys.add(LATEST_SCHEMAS_KEY);
-        SchemaFingerprintKey schemaFingerprintKey = new SchemaFingerprintKey(fingerprint);
-        keys.add(schemaFingerprintKey);
+        distinct.forEach(x -> keys.add(new SchemaFingerprintKey(x)));
 
         // add or upadte following entries:
         // 0. etag
-        // 1. schemaId -> record, index for type+verion -> id
-        // 2. schemaIndex/fingerprint -> schema version list
-        // 3. latest schema types for this new schema (add or update)
+        // 1. schemaId -> record, index for type+verion -> id for each schema
+        // 2. schemaIndex/fingerprint -> schema version list for each fingerprint
+        // 3. latest schema types for the new schemas (add or update)
         return groupTable.getEntriesWithVersion(keys, TableValue.class).thenCompose(values -> {
             LatestSchemasValue schemaTypes = (LatestSchemasValue) values.get(0).getValue();
             V schemaTypesVersion = values.get(0).getVersion();
-            SchemaVersionList schemaVersionList = (SchemaVersionList) values.get(1).getValue();
-            V schemaIndexVersion = values.get(1).getVersion();
             // add or update schema types 
             // 1. get and update the next ordinal
             // 2. get and update the type specific next version
-            int nextOrdinal;
-            ImmutableSet<Integer> deletedSet;
-            SchemaTypeValue schemaTypeValue;
-
-            if (schemaTypes == null) {
-                nextOrdinal = 0;
-                deletedSet = ImmutableSet.of();
-                schemaTypeValue = null;
-            } else {
-                nextOrdinal = schemaTypes.getNextId();
-                deletedSet = schemaTypes.getDeletedIds();
-                schemaTypeValue = schemaTypes.getTypes().entrySet().stream()
-                                             .filter(x -> x.getKey().getType().equals(schemaInfo.getType()) 
-                                                     && x.getKey().getSerializationFormat().equals(schemaInfo.getSerializationFormat().getFullTypeName()))
-                                             .findFirst().map(Map.Entry::getValue).orElse(null);
-            }
-            int nextVersion;
-            ImmutableSet<Integer> deletedVersions;
-            if (schemaTypeValue == null) {
-                nextVersion = 0;
-                deletedVersions = ImmutableSet.of();
-            } else {
-                nextVersion = schemaTypeValue.getNextVersion();
-                deletedVersions = schemaTypeValue.getDeletedVersions();
+            int nextOrdinal = schemaTypes == null ? 0 : schemaTypes.getNextId();
+            ImmutableSet<Integer> deletedSet = schemaTypes == null ? ImmutableSet.of() : schemaTypes.getDeletedIds();
+            // the types are kept in the order in which they were last updated.
+            Map<FormatAndType, SchemaTypeValue> types = schemaTypes == null ? new LinkedHashMap<>() : 
+                    new LinkedHashMap<>(schemaTypes.getTypes());
+            Map<BigInteger, List<VersionInfo>> versionLists = new HashMap<>();
+            for (int i = 0; i < distinct.size(); i++) {
+                SchemaVersionList schemaVersionList = (SchemaVersionList) values.get(i + 1).getValue();
+                versionLists.put(distinct.get(i), schemaVersionList == null ? new ArrayList<>() : 
+                        new ArrayList<>(schemaVersionList.getVersions()));
             }
-            VersionInfo next = new VersionInfo(schemaInfo.getType(), schemaInfo.getSerializationFormat().getFullTypeName(), 
-                    nextVersion, nextOrdinal);
 
             List<Entry<V>> entries = new LinkedList<>();
             // 0. etag
             entries.add(new Entry<>(ETAG, ETAG, groupTable.fromEtag(etag)));
-            // 1. Schema id to schema record
-            // 1.1 index for version to id
-            String serializationFormat = schemaInfo.getSerializationFormat().getFullTypeName();
-            entries.add(new Entry<>(new IndexTypeVersionToIdKey(serializationFormat,
-                    next.getType(), next.getVersion()),
-                    new SchemaIdValue(next.getId()), null));
-            // break schema binary into smaller chunks.
-            List<ByteArraySegment> chunks = ChunkUtil.chunk(schemaInfo.getSchemaData(), Config.MAX_CHUNK_SIZE_BYTES);
-            entries.add(new Entry<>(new SchemaIdKey(next.getId()),
-                    SchemaRecord.builder()
-                                .type(schemaInfo.getType())
-                                .serializationFormat(schemaInfo.getSerializationFormat())
-                                .properties(schemaInfo.getProperties())
-                                .schemaChunk(chunks.get(0))
-                                .id(next.getId())
-                                .version(next.getVersion())
-                                .compatibility(prop.getCompatibility())
-                                .timestamp(System.currentTimeMillis())
-                                .maxChunkSize(Config.MAX_CHUNK_SIZE_BYTES)
-                                .numberOfChunks(chunks.size())
-                                .build(), null));
-
-            // Start from chunk 1 because we have already included chunk 0 in the schema record
-            for (int i = 1; i < chunks.size(); i++) { 
-                entries.add(new Entry<>(new SchemaIdChunkKey(next.getId(), i),
-                        new SchemaChunkRecord(chunks.get(i)), null));
-            } 
-
-            // 2. Schema fingerprint key
-            ImmutableList.Builder<VersionInfo> versionsBuilder = new ImmutableList.Builder<>();
-            if (schemaVersionList != null) {
-                versionsBuilder.addAll(new ArrayList<>(schemaVersionList.getVersions()));
+            List<VersionInfo> added = new ArrayList<>(schemaInfos.size());
+            for (int i = 0; i < schemaInfos.size(); i++) {
+                SchemaInfo schemaInfo = schemaInfos.get(i);
+                String serializationFormat = schemaInfo.getSerializationFormat().getFullTypeName();
+                FormatAndType formatAndType = new FormatAndType(serializationFormat, schemaInfo.getType());
+                SchemaTypeValue schemaTypeValue = types.remove(formatAndType);
+                int nextVersion = schemaTypeValue == null ? 0 : schemaTypeValue.getNextVersion();
+                ImmutableSet<Integer> deletedVersions = schemaTypeValue == null ? ImmutableSet.of() : 
+                        schemaTypeValue.getDeletedVersions();
+                VersionInfo next = new VersionInfo(schemaInfo.getType(), serializationFormat, nextVersion, nextOrdinal);
+
+                // 1. Schema id to schema record
+                // 1.1 index for version to id
+                entries.add(new Entry<>(new IndexTypeVersionToIdKey(serializationFormat,
+                        next.getType(), next.getVersion()),
+                        new SchemaIdValue(next.getId()), null));
+                // break schema binary into smaller chunks.
+                List<ByteArraySegment> chunks = ChunkUtil.chunk(schemaInfo.getSchemaData(), Config.MAX_CHUNK_SIZE_BYTES);
+                entries.add(new Entry<>(new SchemaIdKey(next.getId()),
+                        SchemaRecord.builder()
+                                    .type(schemaInfo.getType())
+                                    .serializationFormat(schemaInfo.getSerializationFormat())
+                                    .properties(schemaInfo.getProperties())
+                                    .schemaChunk(chunks.get(0))
+                                    .id(next.getId())
+                                    .version(next.getVersion())
+                                    .compatibility(prop.getCompatibility())
+                                    .timestamp(System.currentTimeMillis())
+                                    .maxChunkSize(Config.MAX_CHUNK_SIZE_BYTES)
+                                    .numberOfChunks(chunks.size())
+                                    .build(), null));
+
+                // Start from chunk 1 because we have already included chunk 0 in the schema record
+                for (int j = 1; j < chunks.size(); j++) { 
+                    entries.add(new Entry<>(new SchemaIdChunkKey(next.getId(), j),
+                            new SchemaChunkRecord(chunks.get(j)), null));
+                } 
+
+                versionLists.get(fingerprints.get(i)).add(next);
+                // the updated type moves to the end of the latest schemas. 
+                types.put(formatAndType, new SchemaTypeValue(nextVersion, nextOrdinal, nextVersion + 1, deletedVersions));
+                nextOrdinal++;
+                added.add(next);
             }
-            versionsBuilder.add(next);
-            ImmutableList<VersionInfo> versions = versionsBuilder.build();
-            entries.add(new Entry<>(schemaFingerprintKey,
-                    new SchemaVersionList(versions), schemaIndexVersion));
 
-            // 3. add to latest schemas which updates the latest and next versions for the schema type
-            // and next id for overall group
-            ImmutableMap.Builder<FormatAndType, SchemaTypeValue> builder = ImmutableMap.builder();
-            if (schemaTypes != null) {
-                for (Map.Entry<FormatAndType, SchemaTypeValue> entry : schemaTypes.getTypes().entrySet()) {
-                    if (!(entry.getKey().getSerializationFormat().equals(serializationFormat) 
-                            && entry.getKey().getType().equals(schemaInfo.getType()))) {
-                        builder.put(entry.getKey(), entry.getValue());
-                    }
-                }
+            // 2. Schema fingerprint keys
+            for (int i = 0; i < distinct.size(); i++) {
+                entries.add(new Entry<>(new SchemaFingerprintKey(distinct.get(i)),
+                        new SchemaVersionList(ImmutableList.copyOf(versionLists.get(distinct.get(i)))), values.get(i + 1).getVersion()));
             }
-            SchemaTypeValue newValue = new SchemaTypeValue(nextVersion, nextOrdinal, 
-                    nextVersion + 1, deletedVersions);
-            builder.put(new FormatAndType(serializationFormat, schemaInfo.getType()), newValue);
-            
+
+            // 3. add to latest schemas which updates the latest and next versions for the schema types
+            // and next id for overall group
             entries.add(new Entry<>(LATEST_SCHEMAS_KEY,
-                    new LatestSchemasValue(builder.build(), nextOrdinal + 1, deletedSet), schemaTypesVersion));
+                    new LatestSchemasValue(ImmutableMap.copyOf(types), nextOrdinal, deletedSet), schemaTypesVersion));
 
-            return groupTable.updateEntries(entries).thenApply(v -> next);
+            return updateEntries(entries).thenApply(v -> added);
         });
     }
 
@@ -650,17 +1070,16 @@ public class Group<V> {
                                  ValidationRecord updated = new ValidationRecord(policy);
                                  entries.add(new Entry<>(VALIDATION_POLICY_KEY, updated, entry.getVersion()));
 
-                                 return groupTable.updateEntries(entries);
+                                 return updateEntries(entries);
                              }
                          });
     }
 
     public CompletableFuture<GroupProperties> getGroupProperties() {
-        List<? extends TableKey> keys = Lists.newArrayList(GROUP_PROPERTY_KEY, VALIDATION_POLICY_KEY);
-        return groupTable.getEntries(keys, TableValue.class)
-                         .thenApply(entries -> {
-                             GroupPropertiesRecord properties = (GroupPropertiesRecord) entries.get(0);
-                             ValidationRecord validationRecord = (ValidationRecord) entries.get(1);
+        return getState()
+                         .thenApply(groupState -> {
+                             GroupPropertiesRecord properties = groupState.getGroupProperties();
+                             ValidationRecord validationRecord = groupState.getValidation();
                              return new GroupProperties(properties.getSerializationFormat(), validationRecord.getCompatibility(),
                                      properties.isAllowMultipleTypes(),
                                      ImmutableMap.copyOf(properties.getProperties()));
@@ -689,7 +1108,7 @@ public class Group<V> {
                             entries.add(new Entry<>(infoIndex, idIndex, null));
                             // update
                             entries.add(new Entry<>(LATEST_ENCODING_ID_KEY, new LatestEncodingIdValue(nextEncodingId), encodingIdVersion));
-                            return groupTable.updateEntries(entries)
+                            return updateEntries(entries)
                                              .thenApply(v -> nextEncodingId);
                         });
                     } else {
@@ -734,28 +1153,20 @@ public class Group<V> {
         }, executor).thenApply(v -> found.get());
     }
 
-    private String getSchemaString(SchemaInfo schemaInfo) {
-        String schemaString;
-        switch (schemaInfo.getSerializationFormat()) {
-            case Avro:
-            case Json:
-                schemaString = new String(schemaInfo.getSchemaData().array(), Charsets.UTF_8);
-                break;
-            case Protobuf:
-                try {
-                    DescriptorProtos.FileDescriptorSet descriptor = DescriptorProtos.FileDescriptorSet.parseFrom(schemaInfo.getSchemaData());
-                    JsonFormat.Printer printer = JsonFormat.printer().preservingProtoFieldNames().usingTypeRegistry(JsonFormat.TypeRegistry.newBuilder().build());
-
-                    schemaString = printer.print(descriptor);
-                } catch (InvalidProtocolBufferException e) {
-                    log.warn("unable to convert protobuf schema to json string", e);
-                    throw new IllegalArgumentException(e);
-                }
-                break;
-            default:
-                schemaString = "";
-                break;
-        }
-        return schemaString;
+    /**
+     * Mutable records of the group as of the etag version. Lists derived from these records are memoized along with them. 
+     * Schema records are not memoized as their size grows with the group's history. They are served from the table's 
+     * record cache, which is bounded by size. 
+     */
+    @Data
+    private static class GroupState<V> {
+        private final V etag;
+        private final GroupPropertiesRecord groupProperties;
+        private final ValidationRecord validation;
+        @Nullable
+        private final LatestSchemasValue latestSchemasValue;
+        @Nullable
+        private final CodecTypesListValue codecTypes;
+        private final AtomicReference<List<SchemaWithVersion>> latestSchemas = new AtomicReference<>();
     }
-}
\ No newline at end of file
+}
@@ -12,6 +12,7 @@ package io.pravega.schemaregistry.storage.impl.group;
 import com.google.common.collect.Lists;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.schemaregistry.storage.Etag;
+import io.pravega.schemaregistry.storage.GroupEtag;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -21,6 +22,7 @@ import javax.annotation.concurrent.GuardedBy;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -32,6 +34,7 @@ import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.
  * In memory implementation of table. 
  */
 public class InMemoryGroupTable implements GroupTable<Integer> {
+    private final String id = UUID.randomUUID().toString();
     @GuardedBy("$lock")
     @Getter(AccessLevel.PACKAGE)
     private final Map<TableKey, Value<TableValue, Integer>> table = new HashMap<>();
@@ -135,7 +138,7 @@ public class InMemoryGroupTable implements GroupTable<Integer> {
 
     @Override
     public Etag toEtag(Integer version) {
-        return () -> version;
+        return new GroupEtag<>(id, version);
     }
 
     @Override
@@ -13,7 +13,10 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.BufferView;
 import io.pravega.schemaregistry.storage.Etag;
+import io.pravega.schemaregistry.storage.GroupEtag;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.storage.client.TableStore;
 import io.pravega.schemaregistry.storage.client.Version;
@@ -38,6 +41,7 @@ import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.
 import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.EncodingInfoRecord;
 import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.GroupPropertyKey;
 import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.IndexTypeVersionToIdKey;
+import static io.pravega.schemaregistry.storage.impl.group.records.TableRecords.SchemaIdChunkKey;
 
 /**
  * Pravega tables based index implementation.
@@ -48,19 +52,21 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
     private static final TableKeySerializer KEY_SERIALIZER = new TableKeySerializer();
 
     // For immutable keys check in the local cache. If its not in the cache, fetch it from the store and load it 
-    // in the cache. Although a schema chunk is also immutable, we will not cache very large schemas beside the first chunk. 
-    // This is because the guava cache library we make use of has number of elements and time based eviction rules but
-    // does not impose any restriction on size of an entry overall. And we dont want the cache to be taken over by
-    // multiple chunks of a single schema. 
+    // in the cache. The cache is bounded by the size of the records and only admits large records like schema chunks 
+    // if they are read frequently, so the chunks of large schemas cannot take over the cache. 
     private static final List<Class<? extends TableKey>> IMMUTABLE_RECORDS =
             Lists.newArrayList(SchemaIdKey.class, VersionDeletedRecord.class, IndexTypeVersionToIdKey.class,
-                    GroupPropertyKey.class, EncodingIdRecord.class, EncodingInfoRecord.class);
+                    GroupPropertyKey.class, EncodingIdRecord.class, EncodingInfoRecord.class, SchemaIdChunkKey.class);
+    // Schema chunks are held off heap if the cache has an off heap tier. 
+    private static final List<Class<? extends TableKey>> OFF_HEAP_RECORDS = Lists.newArrayList(SchemaIdChunkKey.class);
 
     private final TableStore tablesStore;
+    private final String id;
     private final String tableName;
 
     public PravegaKVGroupTable(String id, TableStore tablesStore) {
         this.tablesStore = tablesStore;
+        this.id = id;
         this.tableName = getTableName(id);
     }
 
@@ -90,13 +96,11 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
 
     @Override
     public CompletableFuture<List<Entry<Version>>> getAllEntries(Predicate<TableKey> filterKeys) {
-        return tablesStore.getAllEntries(tableName, x -> x, x -> x)
+        return tablesStore.getAllEntries(tableName, KEY_SERIALIZER::fromBytes,
+                (TableKey key, BufferView value) -> fromBytes(key.getClass(), value, TableValue.class))
                           .thenApply(entries -> entries.stream().map(
-                                  x -> {
-                                      TableKey tableKey = KEY_SERIALIZER.fromBytes(x.getKey());
-                                      TableValue tableValue = fromBytes(tableKey.getClass(), x.getValue().getRecord(), TableValue.class);
-                                      return new Entry<>(tableKey, tableValue, x.getValue().getVersion());
-                                  }).filter(x -> filterKeys.test(x.getKey())).collect(Collectors.toList()));
+                                  x -> new Entry<>(x.getKey(), x.getValue().getRecord(), x.getValue().getVersion()))
+                                                       .filter(x -> filterKeys.test(x.getKey())).collect(Collectors.toList()));
     }
 
     @Override
@@ -112,7 +116,7 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
 
     @Override
     public CompletableFuture<Void> updateEntries(List<Entry<Version>> entries) {
-        Map<byte[], VersionedRecord<byte[]>> batch =
+        Map<byte[], VersionedRecord<ArrayView>> batch =
                 entries.stream().collect(Collectors.toMap(x -> KEY_SERIALIZER.toBytes(x.getKey()), x -> {
                     TableValue value = x.getValue();
                     return new VersionedRecord<>(value.toBytes(), x.getVersion());
@@ -129,17 +133,17 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
     @Override
     public <T extends TableValue> CompletableFuture<Value<T, Version>> getEntryWithVersion(TableKey key, Class<T> tClass) {
         if (IMMUTABLE_RECORDS.contains(key.getClass())) {
-            VersionedRecord<T> cachedValue = tablesStore.getCachedRecord(tableName, key, tClass);
+            VersionedRecord<T> cachedValue = getCachedRecord(key, tClass);
             if (cachedValue != null) {
                 return CompletableFuture.completedFuture(new Value<>(cachedValue.getRecord(), cachedValue.getVersion()));
             }
         }
         return Futures.exceptionallyExpecting(
-                tablesStore.getEntry(tableName, KEY_SERIALIZER.toBytes(key), x -> fromBytes(key.getClass(), x, tClass))
+                tablesStore.getEntry(tableName, KEY_SERIALIZER.toBytes(key), x -> x)
                            .thenApply(entry -> {
-                               T typedRecord = getTypedRecord(entry.getRecord());
+                               T typedRecord = fromBytes(key.getClass(), entry.getRecord(), tClass);
                                if (IMMUTABLE_RECORDS.contains(key.getClass())) {
-                                   tablesStore.cacheRecord(tableName, key, new VersionedRecord<>(typedRecord, entry.getVersion()));
+                                   cacheRecord(key, new VersionedRecord<>(typedRecord, entry.getVersion()), entry.getRecord());
                                }
                                return new Value<>(typedRecord, entry.getVersion());
                            }),
@@ -163,7 +167,7 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
             result.add(null);
             TableKey key = keys.get(i);
             if (IMMUTABLE_RECORDS.contains(key.getClass())) {
-                VersionedRecord<T> record = tablesStore.getCachedRecord(tableName, key, tClass);
+                VersionedRecord<T> record = getCachedRecord(key, tClass);
                 if (record != null) {
                     result.set(i, new Value<>(record.getRecord(), record.getVersion()));
                 } 
@@ -184,7 +188,7 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
                                       T value = fromBytes(key.getClass(), versionedRecord.getRecord(), tClass);
                                       Version version = versionedRecord.getVersion();
                                       if (IMMUTABLE_RECORDS.contains(key.getClass())) {
-                                          tablesStore.cacheRecord(tableName, key, new VersionedRecord<>(value, versionedRecord.getVersion()));
+                                          cacheRecord(key, new VersionedRecord<>(value, version), versionedRecord.getRecord());
                                       }
 
                                       result.set(index, new Value<>(value, version));
@@ -197,14 +201,17 @@ public class PravegaKVGroupTable implements GroupTable<Version> {
     }
 
 
-    @SuppressWarnings("unchecked")
-    private <T extends TableValue> T getTypedRecord(TableValue value) {
-        return (T) value;
+    private <T extends TableValue> VersionedRecord<T> getCachedRecord(TableKey key, Class<T> tClass) {
+        return tablesStore.getCachedRecord(tableName, key, x -> fromBytes(key.getClass(), x, tClass));
+    }
+
+    private <T extends TableValue> void cacheRecord(TableKey key, VersionedRecord<T> record, byte[] serialized) {
+        tablesStore.cacheRecord(tableName, key, record, serialized, OFF_HEAP_RECORDS.contains(key.getClass()));
     }
 
     @Override
     public Etag<Version> toEtag(Version version) {
-        return () -> version;
+        return new GroupEtag<>(id, version);
     }
 
     @Override
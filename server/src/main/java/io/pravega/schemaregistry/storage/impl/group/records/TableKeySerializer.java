@@ -10,6 +10,7 @@
 package io.pravega.schemaregistry.storage.impl.group.records;
 
 import io.pravega.common.io.serialization.VersionedSerializer;
+import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
 import lombok.SneakyThrows;
 
@@ -60,4 +61,15 @@ public class TableKeySerializer extends VersionedSerializer.MultiType<TableRecor
     public TableRecords.TableKey fromBytes(byte[] buffer) {
         return deserialize(new ByteArraySegment(buffer));
     }
+
+    /**
+     * Deserializes the given buffer into a {@link TableRecords.TableKey} instance by reading it directly.
+     *
+     * @param buffer buffer to deserialize into key.
+     * @return A new {@link TableRecords.TableKey} instance from the given serialization.
+     */
+    @SneakyThrows(IOException.class)
+    public TableRecords.TableKey fromBytes(BufferView buffer) {
+        return deserialize(buffer.getReader());
+    }
 }
@@ -17,6 +17,8 @@ import io.pravega.common.io.SerializationException;
 import io.pravega.common.io.serialization.RevisionDataInput;
 import io.pravega.common.io.serialization.RevisionDataOutput;
 import io.pravega.common.io.serialization.VersionedSerializer;
+import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.EncodingId;
@@ -64,7 +66,13 @@ public interface TableRecords {
     }
 
     interface TableValue {
-        byte[] toBytes();
+        /**
+         * Serializes the value. The returned view is backed by the buffer the value was serialized into and is not 
+         * copied.
+         *
+         * @return view of the serialized value.
+         */
+        ArrayView toBytes();
     }
 
     @Data
@@ -113,8 +121,8 @@ public interface TableRecords {
         
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class GroupPropertiesRecordBuilder implements ObjectBuilder<GroupPropertiesRecord> {
@@ -195,8 +203,8 @@ public interface TableRecords {
 
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class ValidationRecordBuilder implements ObjectBuilder<ValidationRecord> {
@@ -236,8 +244,8 @@ public interface TableRecords {
 
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class EtagBuilder implements ObjectBuilder<Etag> {
@@ -315,8 +323,8 @@ public interface TableRecords {
         
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaVersionListBuilder implements ObjectBuilder<SchemaVersionList> {
@@ -482,8 +490,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class VersionDeletedRecordBuilder implements ObjectBuilder<VersionDeletedRecord> {
@@ -589,8 +597,8 @@ public interface TableRecords {
 
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
         
         public static class SchemaRecordBuilder implements ObjectBuilder<SchemaRecord> {
@@ -657,8 +665,8 @@ public interface TableRecords {
         
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaChunkRecordBuilder implements ObjectBuilder<SchemaChunkRecord> {
@@ -733,8 +741,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class CodecTypesListValueBuilder implements ObjectBuilder<CodecTypesListValue> {
@@ -815,8 +823,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class CodecTypeValueBuilder implements ObjectBuilder<CodecTypeValue> {
@@ -895,8 +903,8 @@ public interface TableRecords {
         
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class LatestSchemasValueBuilder implements ObjectBuilder<LatestSchemasValue> {
@@ -1046,8 +1054,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class EncodingInfoRecordBuilder implements ObjectBuilder<EncodingInfoRecord> {
@@ -1091,8 +1099,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class EncodingIdRecordBuilder implements ObjectBuilder<EncodingIdRecord> {
@@ -1167,8 +1175,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class LatestEncodingIdValueBuilder implements ObjectBuilder<LatestEncodingIdValue> {
@@ -1210,8 +1218,8 @@ public interface TableRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaIdValueBuilder implements ObjectBuilder<SchemaIdValue> {
@@ -1243,9 +1251,16 @@ public interface TableRecords {
         }
     }
 
+    static <T extends TableValue> T fromBytes(Class<? extends TableKey> keyClass, byte[] bytes, Class<T> valueClass) {
+        return fromBytes(keyClass, new ByteArraySegment(bytes), valueClass);
+    }
+
+    /**
+     * Deserializes the value of a key of the given class directly from the buffer, without copying it. 
+     */
     @SneakyThrows(IOException.class)
     @SuppressWarnings("unchecked")
-    static <T extends TableValue> T fromBytes(Class<? extends TableKey> keyClass, byte[] bytes, Class<T> valueClass) {
+    static <T extends TableValue> T fromBytes(Class<? extends TableKey> keyClass, BufferView bytes, Class<T> valueClass) {
         val versionSerializer = SERIALIZERS_BY_KEY_TYPE.get(keyClass);
         if (versionSerializer == null) {
             throw new SerializationException(String.format("No serializer found for the class %s", keyClass.toGenericString()));
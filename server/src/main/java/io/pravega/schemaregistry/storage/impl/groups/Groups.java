@@ -33,6 +33,17 @@ public interface Groups<T> {
      */
     CompletableFuture<Group<T>> getGroup(String namespace, String group);
 
+    /**
+     * Implementations may cache the handles returned by {@link #getGroup} for groups that are active. This method 
+     * removes the cached handle for the group, if any, so that the next {@link #getGroup} call reads the group from the 
+     * groups table. Callers should invalidate the group when they find that the group's metadata backing the handle 
+     * no longer exists, for example because the group was deleted and possibly recreated by another service instance. 
+     *
+     * @param namespace namespace
+     * @param group group
+     */
+    void invalidateGroup(String namespace, String group);
+
     /**
      * Add a new group to the groups table. this implementation is idempotent. If a group has already been added previously,
      * this api will return false, true otherwise. Adding a group is non atomic action as it performs updates across
@@ -47,6 +47,11 @@ public class InMemoryGroups implements Groups<Integer> {
         return CompletableFuture.completedFuture(groups.get(new NamespaceAndGroup(namespace, group)));
     }
 
+    @Override
+    public void invalidateGroup(String namespace, String group) {
+        // group handles are the source of truth in memory and are never stale.
+    }
+
     @Synchronized
     @Override
     public CompletableFuture<Boolean> addNewGroup(String namespace, String group, GroupProperties groupProperties) {
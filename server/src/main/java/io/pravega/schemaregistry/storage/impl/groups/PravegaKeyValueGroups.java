@@ -9,6 +9,8 @@
  */
 package io.pravega.schemaregistry.storage.impl.groups;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.pravega.client.tables.impl.HashTableIteratorItem;
@@ -17,6 +19,7 @@ import io.pravega.common.concurrent.Futures;
 import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.FuturesUtility;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.service.Config;
 import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.storage.client.TableStore;
@@ -43,16 +46,31 @@ public class PravegaKeyValueGroups implements Groups<Version> {
 
     private final TableStore tableStore;
     private final ScheduledExecutorService executor;
+    /**
+     * Cache of handles for active groups. A group's id, and hence the table backing it, does not change for as long as
+     * the group exists. So the handle stays valid until the group is deleted. Entries are invalidated when the group is 
+     * created or deleted through this instance, and by callers via {@link #invalidateGroup} when they find that the 
+     * group's table has been deleted by another instance. 
+     */
+    private final Cache<NamespaceAndGroup, Group<Version>> groupsCache;
 
     public PravegaKeyValueGroups(TableStore tableStore, ScheduledExecutorService executor) {
         this.tableStore = tableStore;
         this.executor = executor;
+        this.groupsCache = CacheBuilder.newBuilder()
+                                       .maximumSize(Config.GROUPS_CACHE_SIZE)
+                                       .build();
     }
 
     @Override
     public CompletableFuture<Group<Version>> getGroup(String namespace, String group) {
+        NamespaceAndGroup namespaceAndGroup = new NamespaceAndGroup(namespace, group);
+        Group<Version> cached = groupsCache.getIfPresent(namespaceAndGroup);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
         return withCreateGroupsTableIfAbsent(() -> tableStore.getEntry(GROUPS, 
-                new NamespaceAndGroup(namespace, group).toBytes(), GroupsValue::fromBytes))
+                namespaceAndGroup.toBytes(), GroupsValue::fromBytes))
                 .thenCompose(entry -> {
                     if (entry.getRecord().getState().equals(GroupsValue.State.Creating)) {
                         // if a group is in creating state, we will throw data not found exception as this group is not 
@@ -65,11 +83,18 @@ public class PravegaKeyValueGroups implements Groups<Version> {
                                     throw StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "group not found.");
                                 });
                     } else {
-                        return CompletableFuture.completedFuture(getGroupObject(entry.getRecord()).getGroup());
+                        Group<Version> grp = getGroupObject(entry.getRecord()).getGroup();
+                        groupsCache.put(namespaceAndGroup, grp);
+                        return CompletableFuture.completedFuture(grp);
                     }
                 });
     }
 
+    @Override
+    public void invalidateGroup(String namespace, String group) {
+        groupsCache.invalidate(new NamespaceAndGroup(namespace, group));
+    }
+
     @Override
     public CompletableFuture<Boolean> addNewGroup(String namespace, String group, GroupProperties groupProperties) {
         // 1. add entry to groups table
@@ -80,6 +105,7 @@ public class PravegaKeyValueGroups implements Groups<Version> {
         String id = UUID.randomUUID().toString();
         GroupsValue value = new GroupsValue(id, GroupsValue.State.Creating);
         byte[] key = new NamespaceAndGroup(namespace, group).toBytes();
+        invalidateGroup(namespace, group);
         return withCreateGroupsTableIfAbsent(() -> tableStore.addNewEntryIfAbsent(GROUPS, key, value.toBytes()))
                 .thenCompose(v -> tableStore.getEntry(GROUPS, key, GroupsValue::fromBytes))
                 .thenCompose(entry -> {
@@ -131,7 +157,10 @@ public class PravegaKeyValueGroups implements Groups<Version> {
         // 1. if group state is "active" or "deleting", mark group entry in groups table as deleting.
         // 2. call group.delete
         // 3. delete the entry in groups table
+        // The cached handle is invalidated both before and after, as a concurrent get group could cache the group
+        // before it is marked for deletion. 
         byte[] key = new NamespaceAndGroup(namespace, group).toBytes();
+        invalidateGroup(namespace, group);
         return Futures.exceptionallyExpecting(
                 tableStore.getEntry(GROUPS, key, GroupsValue::fromBytes)
                           .thenCompose(entry -> {
@@ -147,7 +176,8 @@ public class PravegaKeyValueGroups implements Groups<Version> {
                                   return CompletableFuture.completedFuture(null);
                               }
                           }),
-                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException, null);
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException, null)
+                      .whenComplete((r, e) -> invalidateGroup(namespace, group));
     }
 
     private GroupObj getGroupObject(GroupsValue value) {
@@ -43,9 +43,8 @@ public class InMemorySchemas implements Schemas<Integer> {
 
     @Synchronized
     @Override
-    public CompletableFuture<Void> addSchema(SchemaInfo schemaInfo, String nameSpace, String group) {
+    public CompletableFuture<Void> addSchema(SchemaInfo schemaInfo, BigInteger fingerprint, String nameSpace, String group) {
         String namespace = nameSpace == null ? "" : nameSpace;
-        BigInteger fingerprint = HashUtil.getFingerprint(schemaInfo.getSchemaData().array());
         SchemaFingerprintKey fingerprintKey = new SchemaFingerprintKey(fingerprint);
         Value fingerprintValue = schemas.get(fingerprintKey);
         String schemaId = fingerprintValue == null ? null : findSchemaId(schemaInfo, fingerprintValue);
@@ -12,6 +12,7 @@ package io.pravega.schemaregistry.storage.impl.schemas;
 import com.google.common.collect.ImmutableMap;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ArrayView;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
@@ -24,6 +25,7 @@ import io.pravega.schemaregistry.common.ChunkUtil;
 import io.pravega.schemaregistry.storage.impl.group.records.NamespaceAndGroup;
 import lombok.val;
 
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -60,14 +62,13 @@ public class PravegaKeyValueSchemas implements Schemas<Version> {
     }
 
     @Override
-    public CompletableFuture<Void> addSchema(SchemaInfo schemaInfo, String nameSpace, String group) {
+    public CompletableFuture<Void> addSchema(SchemaInfo schemaInfo, BigInteger fingerprint, String nameSpace, String group) {
         String namespace = nameSpace == null ? "" : nameSpace;
         // 1. check if schema exists -- get fingerprint -- get all schemas in the fingerprint list.. 
         // 2. if it doesnt exist, generate a new id and add it to id and fingerprint list and add schema id entry atomically. 
         // (this can fail with write conflict if multiple concurrent attempts are made. keep retrying). 
         // 3. add the group name to the schema id groups list. get and set.  
-        SchemaFingerprintKey fingerprintKey = new
-                SchemaFingerprintKey(HashUtil.getFingerprint(schemaInfo.getSchemaData().array()));
+        SchemaFingerprintKey fingerprintKey = new SchemaFingerprintKey(fingerprint);
         return withCreateSchemasTableIfAbsent(() -> Futures.exceptionallyExpecting(tableStore.getEntry(SCHEMAS,
                 KEY_SERIALIZER.toBytes(fingerprintKey),
                 x -> fromBytes(SchemaFingerprintKey.class, x, SchemaIdList.class)),
@@ -110,7 +111,7 @@ public class PravegaKeyValueSchemas implements Schemas<Version> {
     private CompletionStage<String> addNewSchemaRecord(SchemaInfo schemaInfo, SchemaFingerprintKey fingerprintKey,
                                                        VersionedRecord<SchemaIdList> fingerprintEntry) {
         String id;
-        Map<byte[], VersionedRecord<byte[]>> entries = new HashMap<>();
+        Map<byte[], VersionedRecord<ArrayView>> entries = new HashMap<>();
         Version fingerprintKeyVersion = fingerprintEntry == null ? null : fingerprintEntry.getVersion();
         List<String> schemaIdList = fingerprintEntry == null ? new ArrayList<>() :
                 new ArrayList<>(fingerprintEntry.getRecord().getSchemaIds());
@@ -128,7 +129,7 @@ public class PravegaKeyValueSchemas implements Schemas<Version> {
                 new VersionedRecord<>(new SchemaRecord(schemaInfo.getType(), schemaInfo.getSerializationFormat(),
                         chunks.get(0), Config.MAX_CHUNK_SIZE_BYTES, chunks.size()).toBytes(), null));
         for (int i = 1; i < chunks.size(); i++) {
-            byte[] bytes = new SchemaChunkRecord(chunks.get(i)).toBytes();
+            ArrayView bytes = new SchemaChunkRecord(chunks.get(i)).toBytes();
             entries.put(KEY_SERIALIZER.toBytes(new SchemaIdChunkKey(id, i)),
                     new VersionedRecord<>(bytes, null));
         }
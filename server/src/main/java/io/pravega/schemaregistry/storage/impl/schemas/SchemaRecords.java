@@ -16,6 +16,7 @@ import io.pravega.common.io.SerializationException;
 import io.pravega.common.io.serialization.RevisionDataInput;
 import io.pravega.common.io.serialization.RevisionDataOutput;
 import io.pravega.common.io.serialization.VersionedSerializer;
+import io.pravega.common.util.ArrayView;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
@@ -54,7 +55,13 @@ public interface SchemaRecords {
     }
 
     interface Value {
-        byte[] toBytes();
+        /**
+         * Serializes the value. The returned view is backed by the buffer the value was serialized into and is not 
+         * copied.
+         *
+         * @return view of the serialized value.
+         */
+        ArrayView toBytes();
     }
 
     @Data
@@ -105,8 +112,8 @@ public interface SchemaRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaIdListBuilder implements ObjectBuilder<SchemaIdList> {
@@ -257,8 +264,8 @@ public interface SchemaRecords {
 
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaRecordBuilder implements ObjectBuilder<SchemaRecord> {
@@ -308,8 +315,8 @@ public interface SchemaRecords {
 
         @Override
         @SneakyThrows(IOException.class)
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaChunkRecordBuilder implements ObjectBuilder<SchemaChunkRecord> {
@@ -387,8 +394,8 @@ public interface SchemaRecords {
 
         @SneakyThrows(IOException.class)
         @Override
-        public byte[] toBytes() {
-            return SERIALIZER.serialize(this).getCopy();
+        public ArrayView toBytes() {
+            return SERIALIZER.serialize(this);
         }
 
         private static class SchemaGroupsListBuilder implements ObjectBuilder<SchemaGroupsList> {
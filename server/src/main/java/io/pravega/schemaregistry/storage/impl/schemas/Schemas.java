@@ -13,6 +13,7 @@ import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.storage.impl.group.records.TableRecords;
 import lombok.Data;
 
+import java.math.BigInteger;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -31,12 +32,13 @@ public interface Schemas<T> {
      * the schema got added to the group or not should be found in the group metadata. 
      * 
      * @param schemaInfo schema to add. 
+     * @param fingerprint 256 bit sha hash of schema binary. 
      * @param namespace namespace for the group.
      * @param group group name. 
      * @return CompletableFuture which completes when schema and corresponding group reference is added to the global 
      * schemas metadata.
      */
-    CompletableFuture<Void> addSchema(SchemaInfo schemaInfo, String namespace, String group);
+    CompletableFuture<Void> addSchema(SchemaInfo schemaInfo, BigInteger fingerprint, String namespace, String group);
 
     /**
      * Returns names of groups in the given namespace where the schema was attempted to be added. This returns groups where 
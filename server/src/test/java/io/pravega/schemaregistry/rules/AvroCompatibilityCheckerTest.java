@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.rules;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.service.SchemaCache;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AvroCompatibilityCheckerTest {
+    private static final SchemaInfo SCHEMA1 = schemaInfo(SchemaBuilder
+            .record("MyTest")
+            .fields()
+            .name("a")
+            .type(Schema.create(Schema.Type.STRING))
+            .noDefault()
+            .endRecord());
+    // adds a field with a default.
+    private static final SchemaInfo SCHEMA2 = schemaInfo(SchemaBuilder
+            .record("MyTest")
+            .fields()
+            .name("a")
+            .type(Schema.create(Schema.Type.STRING))
+            .noDefault()
+            .name("b")
+            .type(Schema.create(Schema.Type.STRING))
+            .withDefault("")
+            .endRecord());
+    // adds a field without a default.
+    private static final SchemaInfo SCHEMA3 = schemaInfo(SchemaBuilder
+            .record("MyTest")
+            .fields()
+            .name("a")
+            .type(Schema.create(Schema.Type.STRING))
+            .noDefault()
+            .name("c")
+            .type(Schema.create(Schema.Type.STRING))
+            .noDefault()
+            .endRecord());
+
+    @Test
+    public void testCompatibility() {
+        AvroCompatibilityChecker checker = new AvroCompatibilityChecker(new SchemaCache(1024 * 1024), 10);
+        assertTrue(checker.canRead(SCHEMA2, Collections.singletonList(SCHEMA1)));
+        assertTrue(checker.canRead(SCHEMA1, Collections.singletonList(SCHEMA2)));
+        assertFalse(checker.canRead(SCHEMA3, Lists.newArrayList(SCHEMA2, SCHEMA1)));
+        assertTrue(checker.canRead(SCHEMA1, Lists.newArrayList(SCHEMA2, SCHEMA3)));
+
+        assertTrue(checker.canBeRead(SCHEMA3, Lists.newArrayList(SCHEMA1, SCHEMA2)));
+        assertFalse(checker.canBeRead(SCHEMA1, Lists.newArrayList(SCHEMA2, SCHEMA3)));
+
+        assertTrue(checker.canMutuallyRead(SCHEMA2, Collections.singletonList(SCHEMA1)));
+        assertFalse(checker.canMutuallyRead(SCHEMA3, Collections.singletonList(SCHEMA1)));
+    }
+
+    @Test
+    public void testCaching() {
+        SchemaCache schemaCache = new SchemaCache(1024 * 1024);
+        AvroCompatibilityChecker checker = new AvroCompatibilityChecker(schemaCache, 10);
+        assertTrue(checker.canRead(SCHEMA2, Lists.newArrayList(SCHEMA1, SCHEMA2)));
+        assertEquals(2, schemaCache.size());
+        assertEquals(2, checker.resultsCount());
+
+        // the same pair checked in the other direction is a different result.
+        assertTrue(checker.canBeRead(SCHEMA2, Collections.singletonList(SCHEMA1)));
+        assertEquals(2, schemaCache.size());
+        assertEquals(3, checker.resultsCount());
+
+        // mutual read is answered from the results of both directions.
+        assertTrue(checker.canMutuallyRead(SCHEMA2, Collections.singletonList(SCHEMA1)));
+        assertEquals(3, checker.resultsCount());
+
+        // an equal schema in a different buffer is a cache hit.
+        SchemaInfo copy = new SchemaInfo(SCHEMA1.getType(), SerializationFormat.Avro,
+                ByteBuffer.wrap(SCHEMA1.getSchemaData().array().clone()), ImmutableMap.of());
+        assertTrue(checker.canRead(SCHEMA2, Collections.singletonList(copy)));
+        assertEquals(2, schemaCache.size());
+        assertEquals(3, checker.resultsCount());
+    }
+
+    private static SchemaInfo schemaInfo(Schema schema) {
+        return new SchemaInfo(schema.getFullName(), SerializationFormat.Avro,
+                ByteBuffer.wrap(schema.toString().getBytes(Charsets.UTF_8)), ImmutableMap.of());
+    }
+}
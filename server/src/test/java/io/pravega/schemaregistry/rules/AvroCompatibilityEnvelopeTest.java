@@ -0,0 +1,267 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.rules;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.service.SchemaCache;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AvroCompatibilityEnvelopeTest {
+    private static final String COMPATIBLE = "true";
+    private static final String INCOMPATIBLE = "false";
+    private static final String UNANSWERED = "null";
+    private static final String FAILED = "failed";
+    private static final String[] NAMES = {"a", "b", "c", "d"};
+    // named types are suffixed with the name of the field, so that each schema defines them once.
+    private static final String[] TYPES = {
+            "\"int\"", "\"long\"", "\"float\"", "\"double\"", "\"string\"", "\"bytes\"",
+            "[\"null\", \"string\"]", "[\"null\", \"long\"]", "[\"string\", \"null\"]",
+            "{\"type\": \"enum\", \"name\": \"E_%1$s\", \"symbols\": [\"X\", \"Y\"]}",
+            "{\"type\": \"enum\", \"name\": \"E_%1$s\", \"symbols\": [\"X\", \"Y\", \"Z\"]}",
+            "{\"type\": \"record\", \"name\": \"N_%1$s\", \"fields\": [{\"name\": \"x\", \"type\": \"int\"}]}",
+            "{\"type\": \"record\", \"name\": \"N_%1$s\", \"fields\": [{\"name\": \"x\", \"type\": \"long\"}, " +
+                    "{\"name\": \"y\", \"type\": \"string\", \"default\": \"\"}]}",
+            "{\"type\": \"array\", \"items\": \"int\"}",
+            "{\"type\": \"map\", \"values\": \"long\"}"};
+    private static final String[] DEFAULTS = {"0", "0", "0.0", "0.0", "\"\"", "\"\"", "null", "null", "\"\"",
+            "\"X\"", "\"X\"", "{\"x\": 0}", "{\"x\": 0}", "[]", "{}"};
+
+    @Test
+    public void testEquivalence() {
+        Random random = new Random(0);
+        AvroCompatibilityChecker exhaustive = new AvroCompatibilityChecker(new SchemaCache(64 * 1024 * 1024), 10000);
+        AtomicInteger compatible = new AtomicInteger();
+        AtomicInteger incompatible = new AtomicInteger();
+        AtomicInteger unanswered = new AtomicInteger();
+        for (int i = 0; i < 2000; i++) {
+            int[] types = random.ints(NAMES.length, 0, TYPES.length).toArray();
+            List<SchemaInfo> history = new ArrayList<>();
+            int size = 1 + random.nextInt(6);
+            for (int j = 0; j < size; j++) {
+                history.add(randomSchema(random, types, i, j));
+            }
+            SchemaInfo candidate = randomSchema(random, types, i, size);
+            AvroCompatibilityEnvelope envelope = AvroCompatibilityEnvelope.of(history.stream().map(this::parse)
+                                                                                     .collect(Collectors.toList()));
+            assertNotNull(envelope);
+
+            Schema schema = parse(candidate);
+            String canRead = check(() -> envelope.canRead(schema));
+            if (canRead.equals(UNANSWERED)) {
+                unanswered.incrementAndGet();
+            } else {
+                assertEquivalent(check(() -> exhaustive.canRead(candidate, history)), canRead);
+                count(canRead, compatible, incompatible);
+            }
+            String canBeRead = check(() -> envelope.canBeRead(schema));
+            assertNotEquals(UNANSWERED, canBeRead);
+            assertEquivalent(check(() -> exhaustive.canBeRead(candidate, history)), canBeRead);
+            count(canBeRead, compatible, incompatible);
+        }
+        // the generated schemas should exercise both outcomes, and most should be answered by the envelope.
+        assertTrue(compatible.get() > 100);
+        assertTrue(incompatible.get() > 100);
+        assertTrue(unanswered.get() < 500);
+    }
+
+    @Test
+    public void testIncremental() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            int[] types = random.ints(NAMES.length, 0, TYPES.length).toArray();
+            List<Schema> history = new ArrayList<>();
+            AvroCompatibilityEnvelope envelope = AvroCompatibilityEnvelope.EMPTY;
+            for (int j = 0; j < 5; j++) {
+                Schema schema = parse(randomSchema(random, types, i, j));
+                history.add(schema);
+                envelope = envelope.add(schema);
+                assertNotNull(envelope);
+            }
+            AvroCompatibilityEnvelope full = AvroCompatibilityEnvelope.of(history);
+            assertNotNull(full);
+            Schema candidate = parse(randomSchema(random, types, i, 5));
+            AvroCompatibilityEnvelope incremental = envelope;
+            assertEquivalent(check(() -> full.canRead(candidate)), check(() -> incremental.canRead(candidate)));
+            assertEquivalent(check(() -> full.canBeRead(candidate)), check(() -> incremental.canBeRead(candidate)));
+        }
+    }
+
+    @Test
+    public void testUnanswered() {
+        Schema record = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"R\", \"fields\": " +
+                "[{\"name\": \"a\", \"type\": \"int\"}]}");
+        Schema recursive = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"R\", \"fields\": " +
+                "[{\"name\": \"a\", \"type\": \"int\"}, {\"name\": \"next\", \"type\": [\"null\", \"R\"], \"default\": null}]}");
+        Schema aliased = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"R\", \"fields\": " +
+                "[{\"name\": \"b\", \"type\": \"int\", \"aliases\": [\"a\"]}]}");
+        Schema string = Schema.create(Schema.Type.STRING);
+
+        assertNull(AvroCompatibilityEnvelope.of(Collections.singletonList(string)));
+        assertNull(AvroCompatibilityEnvelope.of(Lists.newArrayList(record, recursive)));
+        AvroCompatibilityEnvelope envelope = AvroCompatibilityEnvelope.of(Collections.singletonList(record));
+        assertNotNull(envelope);
+        assertNull(envelope.add(string));
+        assertNull(envelope.canRead(string));
+        assertNull(envelope.canBeRead(string));
+        // a recursive schema can be checked against the envelope.
+        assertTrue(envelope.canRead(recursive));
+        assertTrue(envelope.canBeRead(recursive));
+        // the alias of the reader's field is the name of a field in the envelope.
+        assertNull(envelope.canRead(aliased));
+        assertFalse(envelope.canBeRead(aliased));
+    }
+
+    @Test
+    public void testChecker() {
+        AvroCompatibilityChecker avroChecker = new AvroCompatibilityChecker(new SchemaCache(1024 * 1024), 100);
+        CountingChecker exhaustive = new CountingChecker(avroChecker);
+        AvroEnvelopeCompatibilityChecker checker = new AvroEnvelopeCompatibilityChecker(avroChecker, exhaustive, 10);
+        SchemaInfo schema1 = schemaInfo("{\"type\": \"record\", \"name\": \"R\", \"fields\": [{\"name\": \"a\", \"type\": \"int\"}]}");
+        SchemaInfo schema2 = schemaInfo("{\"type\": \"record\", \"name\": \"R\", \"fields\": [{\"name\": \"a\", \"type\": \"int\"}, " +
+                "{\"name\": \"b\", \"type\": \"string\", \"default\": \"\"}]}");
+        SchemaInfo schema3 = schemaInfo("{\"type\": \"record\", \"name\": \"R\", \"fields\": [{\"name\": \"a\", \"type\": \"long\"}, " +
+                "{\"name\": \"c\", \"type\": \"string\"}]}");
+        SchemaInfo string = schemaInfo("\"string\"");
+
+        assertTrue(checker.canRead(schema2, Collections.singletonList(schema1)));
+        assertTrue(checker.canBeRead(schema2, Collections.singletonList(schema1)));
+        assertTrue(checker.canMutuallyRead(schema2, Collections.singletonList(schema1)));
+        assertFalse(checker.canRead(schema3, Lists.newArrayList(schema2, schema1)));
+        assertEquals(avroChecker.canRead(schema3, Collections.singletonList(schema1)),
+                checker.canRead(schema3, Collections.singletonList(schema1)));
+        assertFalse(checker.canBeRead(schema3, Lists.newArrayList(schema2, schema1)));
+        assertFalse(checker.canMutuallyRead(schema3, Lists.newArrayList(schema2, schema1)));
+        assertEquals(0, exhaustive.count.get());
+
+        // schemas that are not records are checked exhaustively.
+        assertFalse(checker.canRead(string, Lists.newArrayList(schema2, schema1)));
+        assertFalse(checker.canRead(schema1, Lists.newArrayList(string)));
+        assertEquals(2, exhaustive.count.get());
+    }
+
+    /**
+     * Avro fails to check a reader field whose name and alias both match fields of the writer. Whether a check reaches
+     * such a field depends on the order of the checks, so when one of the checks fails the other should only not find
+     * the schemas compatible.
+     */
+    private static void assertEquivalent(String expected, String actual) {
+        if (expected.equals(FAILED) || actual.equals(FAILED)) {
+            assertFalse(expected.equals(COMPATIBLE) || actual.equals(COMPATIBLE));
+        } else {
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static String check(Supplier<Boolean> check) {
+        try {
+            return String.valueOf(check.get());
+        } catch (AvroRuntimeException e) {
+            return FAILED;
+        }
+    }
+
+    private static void count(String result, AtomicInteger compatible, AtomicInteger incompatible) {
+        if (result.equals(COMPATIBLE)) {
+            compatible.incrementAndGet();
+        } else if (result.equals(INCOMPATIBLE)) {
+            incompatible.incrementAndGet();
+        }
+    }
+
+    /**
+     * Generates a record schema. Each field mostly has the type given for it, so that the schemas generated with the
+     * same types look like versions of the same schema.
+     */
+    private SchemaInfo randomSchema(Random random, int[] types, int i, int j) {
+        StringBuilder fields = new StringBuilder();
+        for (int k = 0; k < NAMES.length; k++) {
+            String name = NAMES[k];
+            if (random.nextInt(4) == 0) {
+                continue;
+            }
+            int type = random.nextInt(4) == 0 ? random.nextInt(TYPES.length) : types[k];
+            if (fields.length() > 0) {
+                fields.append(", ");
+            }
+            fields.append("{\"name\": \"").append(name).append("\", \"type\": ").append(String.format(TYPES[type], name));
+            if (random.nextInt(4) != 0) {
+                fields.append(", \"default\": ").append(DEFAULTS[type]);
+            }
+            if (random.nextInt(8) == 0) {
+                fields.append(", \"aliases\": [\"").append(NAMES[random.nextInt(NAMES.length)]).append("x\"]");
+            } else if (random.nextInt(16) == 0) {
+                fields.append(", \"aliases\": [\"").append(NAMES[random.nextInt(NAMES.length)]).append("\"]");
+            }
+            fields.append("}");
+        }
+        String recordName = random.nextInt(20) == 0 ? "S" : "R";
+        String aliases = random.nextInt(10) == 0 ? ", \"aliases\": [\"S\"]" : "";
+        return schemaInfo(String.format("{\"type\": \"record\", \"name\": \"%s\", \"namespace\": \"test\"%s, " +
+                "\"doc\": \"%d-%d\", \"fields\": [%s]}", recordName, aliases, i, j, fields));
+    }
+
+    private Schema parse(SchemaInfo schemaInfo) {
+        return new Schema.Parser().parse(new String(schemaInfo.getSchemaData().array(), Charsets.UTF_8));
+    }
+
+    private static SchemaInfo schemaInfo(String schema) {
+        return new SchemaInfo("test.R", SerializationFormat.Avro, ByteBuffer.wrap(schema.getBytes(Charsets.UTF_8)),
+                ImmutableMap.of());
+    }
+
+    private static class CountingChecker implements CompatibilityChecker {
+        private final CompatibilityChecker checker;
+        private final AtomicInteger count = new AtomicInteger();
+
+        CountingChecker(CompatibilityChecker checker) {
+            this.checker = checker;
+        }
+
+        @Override
+        public boolean canRead(SchemaInfo readUsing, List<SchemaInfo> writtenUsing) {
+            count.incrementAndGet();
+            return checker.canRead(readUsing, writtenUsing);
+        }
+
+        @Override
+        public boolean canBeRead(SchemaInfo writtenUsing, List<SchemaInfo> readUsing) {
+            count.incrementAndGet();
+            return checker.canBeRead(writtenUsing, readUsing);
+        }
+
+        @Override
+        public boolean canMutuallyRead(SchemaInfo schema, List<SchemaInfo> schemaList) {
+            count.incrementAndGet();
+            return checker.canMutuallyRead(schema, schemaList);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.rules;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelCompatibilityCheckerTest {
+    private static final SchemaInfo SCHEMA = schemaInfo("schema");
+    private static final SchemaInfo INCOMPATIBLE = schemaInfo("incompatible");
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelCheck() {
+        CountingChecker counting = new CountingChecker();
+        ParallelCompatibilityChecker checker = new ParallelCompatibilityChecker(counting, executor, 2);
+
+        // a list that fits in a batch is checked in one call.
+        assertTrue(checker.canRead(SCHEMA, schemas(2)));
+        assertEquals(1, counting.batches.get());
+        assertEquals(2, counting.schemas.get());
+
+        counting.batches.set(0);
+        counting.schemas.set(0);
+        assertTrue(checker.canRead(SCHEMA, schemas(5)));
+        assertEquals(3, counting.batches.get());
+        assertEquals(5, counting.schemas.get());
+
+        counting.batches.set(0);
+        List<SchemaInfo> schemas = schemas(5);
+        schemas.set(4, INCOMPATIBLE);
+        assertFalse(checker.canBeRead(SCHEMA, schemas));
+        assertFalse(checker.canMutuallyRead(SCHEMA, schemas));
+        assertEquals(6, counting.batches.get());
+    }
+
+    @Test
+    public void testEarlyExit() {
+        CountingChecker counting = new CountingChecker();
+        ParallelCompatibilityChecker checker = new ParallelCompatibilityChecker(counting, executor, 2);
+        List<SchemaInfo> schemas = schemas(10);
+        schemas.set(0, INCOMPATIBLE);
+        assertFalse(checker.canRead(SCHEMA, schemas));
+        // the batches queued behind the incompatible batch are not checked. 
+        assertEquals(1, counting.batches.get());
+    }
+
+    @Test
+    public void testFailure() {
+        ParallelCompatibilityChecker checker = new ParallelCompatibilityChecker(new CountingChecker(), executor, 2);
+        List<SchemaInfo> schemas = schemas(5);
+        schemas.set(3, null);
+        AssertExtensions.assertThrows("An exception should have been thrown", () -> checker.canRead(SCHEMA, schemas),
+                e -> e instanceof IllegalArgumentException);
+    }
+
+    private static List<SchemaInfo> schemas(int count) {
+        return IntStream.range(0, count).mapToObj(x -> SCHEMA).collect(Collectors.toList());
+    }
+
+    private static SchemaInfo schemaInfo(String type) {
+        return new SchemaInfo(type, SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+    }
+
+    private static class CountingChecker implements CompatibilityChecker {
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger schemas = new AtomicInteger();
+
+        @Override
+        public boolean canRead(SchemaInfo readUsing, List<SchemaInfo> writtenUsing) {
+            return check(writtenUsing);
+        }
+
+        @Override
+        public boolean canBeRead(SchemaInfo writtenUsing, List<SchemaInfo> readUsing) {
+            return check(readUsing);
+        }
+
+        @Override
+        public boolean canMutuallyRead(SchemaInfo schema, List<SchemaInfo> schemaList) {
+            return check(schemaList);
+        }
+
+        private boolean check(List<SchemaInfo> schemaList) {
+            batches.incrementAndGet();
+            schemas.addAndGet(schemaList.size());
+            if (schemaList.contains(null)) {
+                throw new IllegalArgumentException();
+            }
+            return !schemaList.contains(INCOMPATIBLE);
+        }
+    }
+}
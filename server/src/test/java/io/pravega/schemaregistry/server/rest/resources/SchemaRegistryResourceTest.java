@@ -9,6 +9,7 @@
  */
 package io.pravega.schemaregistry.server.rest.resources;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.pravega.common.concurrent.Futures;
@@ -27,6 +28,7 @@ import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
 import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
 import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory;
 import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
 import io.pravega.schemaregistry.contract.generated.rest.model.UpdateCompatibilityRequest;
@@ -42,6 +44,7 @@ import io.pravega.schemaregistry.server.rest.ServiceConfig;
 import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
 import io.pravega.schemaregistry.server.rest.filter.NamespaceRedirectFilter;
 import io.pravega.schemaregistry.service.SchemaRegistryService;
+import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.TestProperties;
@@ -50,6 +53,8 @@ import org.junit.Test;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.nio.ByteBuffer;
@@ -69,13 +74,18 @@ import java.util.concurrent.ScheduledExecutorService;
 
 import static io.pravega.schemaregistry.storage.StoreExceptions.Type;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class SchemaRegistryResourceTest extends JerseyTest {
     private static final String GROUPS = "v1/groups";
@@ -182,10 +192,20 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                 com.google.common.collect.ImmutableMap.<String, String>builder().build()).serializationFormat(
                 SerializationFormat.Avro).compatibility(Compatibility.forward()).build();
         doAnswer(x -> CompletableFuture.completedFuture(group1)).when(service).getGroupProperties(any(), anyString());
+        doAnswer(x -> CompletableFuture.completedFuture("1")).when(service).getGroupEtag(any(), anyString());
         Response response = target(GROUPS + "/" + groupName).request().async().get().get();
         assertEquals(200, response.getStatus());
+        assertEquals("1", response.getEntityTag().getValue());
+        assertEquals("no-cache", response.getHeaderString(HttpHeaders.CACHE_CONTROL));
         assertEquals(ModelHelper.encode(SerializationFormat.Avro), response.readEntity(
                 io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties.class).getSerializationFormat());
+        // group unchanged
+        response = target(GROUPS + "/" + groupName).request().header(HttpHeaders.IF_NONE_MATCH, "\"1\"").async().get().get();
+        assertEquals(304, response.getStatus());
+        assertEquals("1", response.getEntityTag().getValue());
+        // group changed
+        response = target(GROUPS + "/" + groupName).request().header(HttpHeaders.IF_NONE_MATCH, "\"0\"").async().get().get();
+        assertEquals(200, response.getStatus());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
                 service).getGroupProperties(any(), anyString());
@@ -269,7 +289,7 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         List<GroupHistoryRecord> groupHistoryRecords = new ArrayList<>();
         groupHistoryRecords.add(groupHistoryRecord);
         doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecords)).when(service).getGroupHistory(
-                any(), anyString(), any());
+                any(), anyString(), any(), anyBoolean(), anyBoolean());
         String groupName = "mygroup";
         Response response = target(GROUPS + "/" + groupName + "/schemas" + "/versions").request().async().get().get();
         assertEquals(5,
@@ -277,12 +297,12 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         assertEquals(200, response.getStatus());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                service).getGroupHistory(any(), anyString(), any());
+                service).getGroupHistory(any(), anyString(), any(), anyBoolean(), anyBoolean());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").request().async().get().get();
         assertEquals(404, response.getStatus());
         // Runtime Exception
         doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getGroupHistory(any(), anyString(),
-                any());
+                any(), anyBoolean(), anyBoolean());
         response = target(GROUPS + "/" + groupName + "/schemas" + "/versions").request().async().get().get();
         assertEquals(500, response.getStatus());
     }
@@ -471,7 +491,7 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         List<GroupHistoryRecord> groupHistoryRecords = new ArrayList<>();
         groupHistoryRecords.add(groupHistoryRecord);
         doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecords)).when(service).getGroupHistory(
-                any(), anyString(), eq(null));
+                any(), anyString(), eq(null), anyBoolean(), anyBoolean());
         Response response = target(GROUPS + "/" + groupName + "/schemas/versions").request().async().get().get();
         assertEquals(200, response.getStatus());
         assertEquals(ModelHelper.encode(SerializationFormat.Avro),
@@ -479,12 +499,12 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                         0).getSchemaInfo().getSerializationFormat());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                service).getGroupHistory(any(), anyString(), eq(null));
+                service).getGroupHistory(any(), anyString(), eq(null), anyBoolean(), anyBoolean());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").request().async().get().get();
         assertEquals(404, response.getStatus());
         //Runtime Exception
         doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getGroupHistory(any(), anyString(),
-                eq(null));
+                eq(null), anyBoolean(), anyBoolean());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").request().async().get().get();
         assertEquals(500, response.getStatus());
     }
@@ -504,7 +524,7 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         List<GroupHistoryRecord> groupHistoryRecords = new ArrayList<>();
         groupHistoryRecords.add(groupHistoryRecord);
         doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecords)).when(service).getGroupHistory(
-                any(), anyString(), any());
+                any(), anyString(), any(), anyBoolean(), anyBoolean());
         Response response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("schemaName",
                 schemaName).request().async().get().get();
         assertEquals(200, response.getStatus());
@@ -513,13 +533,13 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                         0).getSchemaInfo().getSerializationFormat());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                service).getGroupHistory(any(), anyString(), any());
+                service).getGroupHistory(any(), anyString(), any(), anyBoolean(), anyBoolean());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("schemaName",
                 schemaName).request().async().get().get();
         assertEquals(404, response.getStatus());
         //Runtime Exception
         doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getGroupHistory(any(), anyString(),
-                any());
+                any(), anyBoolean(), anyBoolean());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("schemaName",
                 schemaName).request().async().get().get();
         assertEquals(500, response.getStatus());
@@ -539,12 +559,19 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         schemaWithVersionList.add(schemaWithVersion);
         doAnswer(x -> CompletableFuture.completedFuture(schemaWithVersionList)).when(service).getSchemas(any(),
                 anyString(), any());
+        doAnswer(x -> CompletableFuture.completedFuture("1")).when(service).getGroupEtag(any(), anyString());
         Response response = target(GROUPS + "/" + groupName + "/schemas").request().async().get().get();
+        assertEquals("1", response.getEntityTag().getValue());
         List<io.pravega.schemaregistry.contract.generated.rest.model.SchemaWithVersion> schemaWithVersionList1 =
                 response.readEntity(
                         SchemaVersionsList.class).getSchemas();
         assertEquals("schemaName", schemaWithVersionList1.get(0).getSchemaInfo().getType());
         assertEquals(1, schemaWithVersionList1.size());
+        // group unchanged, the schemas are not read.
+        response = target(GROUPS + "/" + groupName + "/schemas").request().header(HttpHeaders.IF_NONE_MATCH, "\"0\", W/\"1\"")
+                                                                .async().get().get();
+        assertEquals(304, response.getStatus());
+        verify(service, times(1)).getSchemas(any(), anyString(), any());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
                 service).getSchemas(any(), anyString(), any());
@@ -571,8 +598,32 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                 any());
         Response response = target(GROUPS + "/" + groupName + "/encodings/" + encodingId).request().async().get().get();
         assertEquals(200, response.getStatus());
+        // encodings are addressed by the group name, so they are revalidated rather than cached as immutable.
+        assertEquals("no-cache", response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        EntityTag etag = response.getEntityTag();
+        assertNotNull(etag);
         assertEquals("gzip", response.readEntity(
                 io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo.class).getCodecType().getName());
+        response = target(GROUPS + "/" + groupName + "/encodings/" + encodingId).request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag.toString()).async().get().get();
+        assertEquals(304, response.getStatus());
+        assertEquals(etag, response.getEntityTag());
+        // the etag differs with the content.
+        EncodingInfo encodingInfo2 = new EncodingInfo(versionInfo, schemaInfo, new CodecType("snappy"));
+        doAnswer(x -> CompletableFuture.completedFuture(encodingInfo2)).when(service).getEncodingInfo(any(), anyString(),
+                any());
+        response = target(GROUPS + "/" + groupName + "/encodings/" + encodingId).request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag.toString()).async().get().get();
+        assertEquals(200, response.getStatus());
+        // the etag does not depend on the order of the properties.
+        doAnswer(x -> CompletableFuture.completedFuture(new EncodingInfo(versionInfo, schemaInfo, 
+                new CodecType("gzip", ImmutableMap.of("a", "1", "b", "2"))))).when(service).getEncodingInfo(any(), anyString(), any());
+        etag = target(GROUPS + "/" + groupName + "/encodings/" + encodingId).request().async().get().get().getEntityTag();
+        doAnswer(x -> CompletableFuture.completedFuture(new EncodingInfo(versionInfo, schemaInfo, 
+                new CodecType("gzip", ImmutableMap.of("b", "2", "a", "1"))))).when(service).getEncodingInfo(any(), anyString(), any());
+        response = target(GROUPS + "/" + groupName + "/encodings/" + encodingId).request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag.toString()).async().get().get();
+        assertEquals(304, response.getStatus());
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
                 service).getEncodingInfo(any(), anyString(), any());
@@ -761,7 +812,7 @@ public class SchemaRegistryResourceTest extends JerseyTest {
                 Compatibility.backward(), 100, "dummy");
         groupHistoryRecordList.add(groupHistoryRecord);
         doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecordList)).when(service).getGroupHistory(any(),
-                anyString(), any());
+                anyString(), any(), anyBoolean(), anyBoolean());
         Response response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("type",
                 schemaName).request().async().get().get();
         assertEquals(200, response.getStatus());
@@ -773,15 +824,79 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         assertTrue(schemaWithVersionList.get(0).getSchemaInfo().equals(ModelHelper.encode(schemaInfo)));
         // GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(StoreExceptions.create(Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                service).getGroupHistory(any(), anyString(), any());
+                service).getGroupHistory(any(), anyString(), any(), anyBoolean(), anyBoolean());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("type",
                 schemaName).request().async().get().get();
         assertEquals(404, response.getStatus());
         //Runtime Exception
         doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(service).getGroupHistory(any(), anyString(),
-                any());
+                any(), anyBoolean(), anyBoolean());
         response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("type",
                 schemaName).request().async().get().get();
         assertEquals(500, response.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetGroupHistoryPages() throws Exception {
+        List<GroupHistoryRecord> records = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            io.pravega.schemaregistry.contract.data.SchemaInfo schemaInfo =
+                    new io.pravega.schemaregistry.contract.data.SchemaInfo(
+                            "schemaName", SerializationFormat.Avro, ByteBuffer.wrap(new byte[1]), ImmutableMap.of());
+            records.add(new GroupHistoryRecord(schemaInfo, new VersionInfo("schemaName", SerializationFormat.Avro.getFullTypeName(), i, i),
+                    Compatibility.allowAny(), 100, "describeSchema"));
+        }
+        // pages of two records. the continuation token is the id to read the next page from. 
+        doAnswer(x -> {
+            String token = x.getArgument(3).toString();
+            int from = token.isEmpty() ? 0 : Integer.parseInt(token);
+            int to = Math.min(records.size(), from + x.<Integer>getArgument(4));
+            return CompletableFuture.completedFuture(new ResultPage<>(records.subList(from, to), ContinuationToken.create(Integer.toString(to))));
+        }).when(service).getGroupHistory(any(), anyString(), any(), any(), anyInt(), anyBoolean(), anyBoolean());
+        String groupName = "mygroup";
+
+        Response response = target(GROUPS + "/" + groupName + "/history").queryParam("limit", 2).request().async().get().get();
+        assertEquals(200, response.getStatus());
+        GroupHistory history = response.readEntity(GroupHistory.class);
+        assertEquals(2, history.getHistory().size());
+        assertEquals("2", history.getContinuationToken());
+        assertNotNull(history.getHistory().get(0).getSchemaInfo().getSchemaData());
+        assertNotNull(history.getHistory().get(0).getSchemaString());
+
+        // schema bodies are omitted unless requested
+        response = target(GROUPS + "/" + groupName + "/history").queryParam("continuationToken", "2")
+                                                                 .queryParam("fields", "schemaString").request().async().get().get();
+        history = response.readEntity(GroupHistory.class);
+        assertEquals(1, history.getHistory().size());
+        assertEquals(2, history.getHistory().get(0).getVersionInfo().getId().intValue());
+        assertNull(history.getHistory().get(0).getSchemaInfo().getSchemaData());
+        assertEquals("describeSchema", history.getHistory().get(0).getSchemaString());
+        // the excluded fields are not read from the store
+        verify(service).getGroupHistory(any(), anyString(), any(), any(), anyInt(), eq(false), eq(true));
+        response = target(GROUPS + "/" + groupName + "/schemas/versions").queryParam("limit", 2)
+                                                                         .queryParam("fields", "").request().async().get().get();
+        SchemaVersionsList versions = response.readEntity(SchemaVersionsList.class);
+        assertEquals(2, versions.getSchemas().size());
+        assertEquals("2", versions.getContinuationToken());
+        assertNull(versions.getSchemas().get(0).getSchemaInfo().getSchemaData());
+        verify(service).getGroupHistory(any(), anyString(), any(), any(), anyInt(), eq(false), eq(false));
+        response = target(GROUPS + "/" + groupName + "/history").queryParam("fields", "unknown").request().async().get().get();
+        assertEquals(400, response.getStatus());
+        
+        // stream all pages.
+        response = target(GROUPS + "/" + groupName + "/history").queryParam("limit", 2)
+                                                                 .queryParam("stream", true).request().async().get().get();
+        assertEquals(200, response.getStatus());
+        String[] pages = response.readEntity(String.class).split("\n");
+        ObjectMapper mapper = new ObjectMapper();
+        List<GroupHistory> streamed = new ArrayList<>();
+        for (String page : pages) {
+            streamed.add(mapper.readValue(page, GroupHistory.class));
+        }
+        assertEquals(3, streamed.size());
+        assertEquals(2, streamed.get(0).getHistory().size());
+        assertEquals(1, streamed.get(1).getHistory().size());
+        assertTrue(streamed.get(2).getHistory().isEmpty());
+        assertEquals("3", streamed.get(2).getContinuationToken());
+    }
+}
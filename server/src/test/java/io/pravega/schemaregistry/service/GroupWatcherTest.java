@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import io.pravega.common.Exceptions;
+import io.pravega.schemaregistry.storage.StoreExceptions;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class GroupWatcherTest {
+    private static final long LONG_TIMEOUT = 60000;
+    private ScheduledExecutorService executor;
+    private AtomicReference<String> etag;
+    private AtomicInteger reads;
+    private BiFunction<String, String, CompletableFuture<String>> etagReader;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newScheduledThreadPool(2);
+        etag = new AtomicReference<>("0");
+        reads = new AtomicInteger();
+        etagReader = (namespace, group) -> {
+            reads.incrementAndGet();
+            String current = etag.get();
+            if (current == null) {
+                CompletableFuture<String> future = new CompletableFuture<>();
+                future.completeExceptionally(StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "group not found"));
+                return future;
+            }
+            return CompletableFuture.completedFuture(current);
+        };
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testWatch() {
+        GroupWatcher watcher = new GroupWatcher(etagReader, executor, LONG_TIMEOUT);
+        // watches with an unknown or different etag complete right away.
+        assertEquals("0", watcher.watch(null, "group", null, LONG_TIMEOUT).join());
+        assertEquals("0", watcher.watch(null, "group", "-1", LONG_TIMEOUT).join());
+
+        // updates to other groups do not complete the watches or read the etag.
+        CompletableFuture<String> watch1 = watcher.watch(null, "group", "0", LONG_TIMEOUT);
+        CompletableFuture<String> watch2 = watcher.watch(null, "group", "0", LONG_TIMEOUT);
+        CompletableFuture<String> watch3 = watcher.watch("namespace", "group", "0", LONG_TIMEOUT);
+        int readCount = reads.get();
+        watcher.notifyChanged(null, "group2");
+        assertEquals(readCount, reads.get());
+        assertFalse(watch1.isDone());
+
+        // the etag is read once for all watches on the group.
+        etag.set("1");
+        watcher.notifyChanged(null, "group");
+        assertEquals("1", watch1.join());
+        assertEquals("1", watch2.join());
+        assertEquals(readCount + 1, reads.get());
+        assertFalse(watch3.isDone());
+
+        // no watches remain on the group so the etag is not read.
+        watcher.notifyChanged(null, "group");
+        assertEquals(readCount + 1, reads.get());
+        watcher.notifyChanged("namespace", "group");
+        assertEquals("1", watch3.join());
+    }
+
+    @Test
+    public void testTimeout() {
+        GroupWatcher watcher = new GroupWatcher(etagReader, executor, LONG_TIMEOUT);
+        assertEquals("0", watcher.watch(null, "group", "0", 10).join());
+    }
+
+    @Test
+    public void testProbe() {
+        GroupWatcher watcher = new GroupWatcher(etagReader, executor, 10);
+        CompletableFuture<String> watch = watcher.watch(null, "group", "0", LONG_TIMEOUT);
+        // an update made through another node is detected by the probe.
+        etag.set("1");
+        assertEquals("1", watch.join());
+    }
+
+    @Test
+    public void testGroupDeleted() {
+        GroupWatcher watcher = new GroupWatcher(etagReader, executor, LONG_TIMEOUT);
+        CompletableFuture<String> watch = watcher.watch(null, "group", "0", LONG_TIMEOUT);
+        etag.set(null);
+        watcher.notifyChanged(null, "group");
+        AssertExtensions.assertThrows("An exception should have been thrown", watch::join,
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException);
+        AssertExtensions.assertThrows("An exception should have been thrown", () -> watcher.watch(null, "group", "0", LONG_TIMEOUT).join(),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException);
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.common.Either;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GroupWriteQueueTest {
+    private ScheduledExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newScheduledThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testOrdering() {
+        GroupWriteQueue queue = new GroupWriteQueue(executor);
+        CompletableFuture<Integer> write1 = new CompletableFuture<>();
+        CompletableFuture<Void> started1 = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<Integer> result1 = queue.submit(null, "group", "op", 1, () -> {
+            started.incrementAndGet();
+            started1.complete(null);
+            return write1;
+        });
+        CompletableFuture<Integer> result2 = queue.submit(null, "group", "op", 2, () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture(2);
+        });
+        // writes to other groups are not ordered behind the group's writes.
+        assertEquals(3, (int) queue.submit(null, "group2", "op", 2, () -> CompletableFuture.completedFuture(3)).join());
+        assertEquals(3, (int) queue.submit("namespace", "group", "op", 2, () -> CompletableFuture.completedFuture(3)).join());
+
+        started1.join();
+        assertEquals(1, started.get());
+        assertFalse(result2.isDone());
+        write1.complete(1);
+        assertEquals(1, (int) result1.join());
+        assertEquals(2, (int) result2.join());
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    public void testCoalescing() {
+        GroupWriteQueue queue = new GroupWriteQueue(executor);
+        CompletableFuture<Integer> write = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<Integer> result1 = queue.submit(null, "group", "op", 1, () -> {
+            started.incrementAndGet();
+            return write;
+        });
+        CompletableFuture<Integer> result2 = queue.submit(null, "group", "op", 1, () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture(2);
+        });
+        assertSame(result1, result2);
+        // a different operation with an equal request is not coalesced.
+        CompletableFuture<Integer> result3 = queue.submit(null, "group", "op2", 1, () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture(3);
+        });
+        write.complete(1);
+        assertEquals(1, (int) result2.join());
+        assertEquals(3, (int) result3.join());
+        assertEquals(2, started.get());
+
+        // once the write completes, an equal write is run again.
+        assertEquals(4, (int) queue.submit(null, "group", "op", 1, () -> CompletableFuture.completedFuture(4)).join());
+    }
+
+    @Test
+    public void testFailure() {
+        GroupWriteQueue queue = new GroupWriteQueue(executor);
+        CompletableFuture<Integer> result1 = queue.submit(null, "group", "op", 1, () -> {
+            throw new IllegalStateException();
+        });
+        CompletableFuture<Integer> result2 = queue.submit(null, "group", "op", 2, () -> CompletableFuture.completedFuture(2));
+        AssertExtensions.assertThrows("An exception should have been thrown", result1::join,
+                e -> Exceptions.unwrap(e) instanceof IllegalStateException);
+        // a failed write does not fail the writes queued after it.
+        assertEquals(2, (int) result2.join());
+    }
+
+    @Test
+    public void testBatching() {
+        GroupWriteQueue queue = new GroupWriteQueue(executor);
+        CompletableFuture<Integer> write = new CompletableFuture<>();
+        // the running write on the group holds the batch back.
+        CompletableFuture<Integer> running = queue.submit(null, "group", "op", 0, () -> write);
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        Function<List<Integer>, CompletableFuture<List<Either<Integer, Throwable>>>> batchWrite = requests -> {
+            batches.add(new ArrayList<>(requests));
+            return CompletableFuture.completedFuture(requests.stream().map(x -> x < 0 ? 
+                    Either.<Integer, Throwable>right(new IllegalArgumentException()) : Either.<Integer, Throwable>left(x * 10))
+                                                             .collect(Collectors.toList()));
+        };
+        CompletableFuture<Integer> result1 = queue.submitBatched(null, "group", "batch", 1, batchWrite);
+        CompletableFuture<Integer> result2 = queue.submitBatched(null, "group", "batch", 2, batchWrite);
+        CompletableFuture<Integer> result3 = queue.submitBatched(null, "group", "batch", -1, batchWrite);
+        // equal requests are coalesced.
+        assertSame(result1, queue.submitBatched(null, "group", "batch", 1, batchWrite));
+        assertTrue(batches.isEmpty());
+        write.complete(0);
+        assertEquals(0, (int) running.join());
+
+        // the queued requests are written in a single batch and each request has its own outcome.
+        assertEquals(10, (int) result1.join());
+        assertEquals(20, (int) result2.join());
+        AssertExtensions.assertThrows("An exception should have been thrown", result3::join,
+                e -> Exceptions.unwrap(e) instanceof IllegalArgumentException);
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList(1, 2, -1), batches.get(0));
+
+        // once the batch has started, the next request starts a new batch.
+        assertEquals(30, (int) queue.submitBatched(null, "group", "batch", 3, batchWrite).join());
+        assertEquals(Arrays.asList(3), batches.get(1));
+
+        // a failed batch write fails all of its requests.
+        CompletableFuture<Integer> failed = queue.submitBatched(null, "group", "batch", 4,
+                requests -> Futures.failedFuture(new IllegalStateException()));
+        AssertExtensions.assertThrows("An exception should have been thrown", failed::join,
+                e -> Exceptions.unwrap(e) instanceof IllegalStateException);
+    }
+}
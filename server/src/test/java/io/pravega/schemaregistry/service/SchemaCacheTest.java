@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import io.pravega.schemaregistry.common.HashUtil;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class SchemaCacheTest {
+    @Test
+    public void testNormalizedSchema() {
+        SchemaCache schemaCache = new SchemaCache(1024 * 1024);
+        String data = UUID.randomUUID().toString();
+        AtomicInteger count = new AtomicInteger();
+        SchemaInfo schemaInfo = new SchemaInfo("type", SerializationFormat.Avro,
+                ByteBuffer.wrap(data.getBytes(Charsets.UTF_8)), ImmutableMap.of("a", "b"));
+        SchemaInfo normalized = schemaCache.getNormalizedSchema(schemaInfo, x -> {
+            count.incrementAndGet();
+            return new SchemaInfo(x.getType(), x.getSerializationFormat(),
+                    ByteBuffer.wrap(data.toUpperCase().getBytes(Charsets.UTF_8)), ImmutableMap.of());
+        });
+        assertEquals(1, count.get());
+        assertEquals(data.toUpperCase(), new String(normalized.getSchemaData().array(), Charsets.UTF_8));
+        assertEquals(schemaInfo.getProperties(), normalized.getProperties());
+
+        // reading the returned buffer should not affect the cached schema.
+        normalized.getSchemaData().get(new byte[normalized.getSchemaData().remaining()]);
+
+        // same binary with different properties is found in the cache and gets its own properties.
+        SchemaInfo other = new SchemaInfo("type", SerializationFormat.Avro,
+                ByteBuffer.wrap(data.getBytes(Charsets.UTF_8)), ImmutableMap.of());
+        SchemaInfo normalizedOther = schemaCache.getNormalizedSchema(other, x -> {
+            count.incrementAndGet();
+            return x;
+        });
+        assertEquals(1, count.get());
+        assertEquals(data.toUpperCase(), new String(normalizedOther.getSchemaData().array(), Charsets.UTF_8));
+        assertEquals(normalizedOther.getSchemaData().remaining(), normalizedOther.getSchemaData().capacity());
+        assertEquals(other.getProperties(), normalizedOther.getProperties());
+
+        // same binary with a different type is not found in the cache.
+        SchemaInfo otherType = new SchemaInfo("type2", SerializationFormat.Avro,
+                ByteBuffer.wrap(data.getBytes(Charsets.UTF_8)), ImmutableMap.of());
+        schemaCache.getNormalizedSchema(otherType, x -> {
+            count.incrementAndGet();
+            return x;
+        });
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void testFailuresNotCached() {
+        SchemaCache schemaCache = new SchemaCache(1024 * 1024);
+        String data = UUID.randomUUID().toString();
+        AtomicInteger count = new AtomicInteger();
+        SchemaInfo schemaInfo = new SchemaInfo("type", SerializationFormat.Protobuf,
+                ByteBuffer.wrap(data.getBytes(Charsets.UTF_8)), ImmutableMap.of());
+        AssertExtensions.assertThrows("An exception should have been thrown", () -> schemaCache.getSchemaString(schemaInfo, x -> {
+            count.incrementAndGet();
+            throw new IllegalArgumentException();
+        }), e -> e instanceof IllegalArgumentException);
+
+        assertEquals(data, schemaCache.getSchemaString(schemaInfo, x -> {
+            count.incrementAndGet();
+            return data;
+        }));
+        assertEquals(2, count.get());
+        assertEquals(data, schemaCache.getSchemaString(schemaInfo, x -> {
+            count.incrementAndGet();
+            return "";
+        }));
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void testParsedSchema() {
+        SchemaCache schemaCache = new SchemaCache(1024 * 1024);
+        String data = UUID.randomUUID().toString();
+        SchemaInfo schemaInfo = new SchemaInfo("type", SerializationFormat.Avro,
+                ByteBuffer.wrap(data.getBytes(Charsets.UTF_8)), ImmutableMap.of());
+        BigInteger fingerprint = HashUtil.getFingerprint(schemaInfo.getSchemaData().array());
+        Object parsed = new Object();
+        schemaCache.putParsedSchema(schemaInfo, parsed);
+        assertSame(parsed, schemaCache.getParsedSchema(schemaInfo, fingerprint, x -> {
+            throw new IllegalStateException();
+        }));
+
+        // the parsed schema and the string of the same schema are different entries.
+        assertEquals(data, schemaCache.getSchemaString(schemaInfo, x -> data));
+        assertEquals(2, schemaCache.size());
+    }
+}
@@ -26,6 +26,7 @@ import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.contract.data.SerializerBootstrapInfo;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.exceptions.CodecTypeNotRegisteredException;
 import io.pravega.schemaregistry.exceptions.IncompatibleSchemaException;
@@ -33,15 +34,19 @@ import io.pravega.schemaregistry.exceptions.PreconditionFailedException;
 import io.pravega.schemaregistry.exceptions.SerializationFormatMismatchException;
 import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.Etag;
+import io.pravega.schemaregistry.storage.GroupEtag;
+import io.pravega.schemaregistry.storage.SchemaLookup;
 import io.pravega.schemaregistry.storage.SchemaStore;
 import io.pravega.schemaregistry.storage.SchemaStoreFactory;
 import io.pravega.schemaregistry.storage.StoreExceptions;
+import io.pravega.schemaregistry.storage.client.Version;
 import io.pravega.schemaregistry.storage.impl.group.InMemoryGroupTable;
 import io.pravega.test.common.AssertExtensions;
 import org.apache.avro.Schema;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -49,15 +54,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -260,17 +269,12 @@ public class SchemaRegistryServiceTest {
 
     @Test
     public void testAddSchema() {
-        doAnswer(x -> {
-            return CompletableFuture.completedFuture(new InMemoryGroupTable().toEtag(5));
-        }).when(store).getGroupEtag(any(), anyString());
+        Etag etag = new InMemoryGroupTable().toEtag(5);
         SerializationFormat format = SerializationFormat.custom("custom1");
-        doAnswer(x -> {
-            return CompletableFuture.completedFuture(
-                    GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
-                            ImmutableMap.<String, String>builder().build()).serializationFormat(
-                            format).compatibility(
-                            Compatibility.forward()).build());
-        }).when(store).getGroupProperties(any(), anyString());
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                format).compatibility(
+                Compatibility.forward()).build();
         byte[] schemaData = new byte[0];
         SchemaInfo schemaInfo = new SchemaInfo("type", format,
                 ByteBuffer.wrap(schemaData),
@@ -278,34 +282,43 @@ public class SchemaRegistryServiceTest {
         VersionInfo versionInfo = new VersionInfo("objectType", format.getFullTypeName(), 5, 7);
         doAnswer(x -> CompletableFuture.completedFuture(versionInfo)).when(store).addSchema(any(), anyString(), any(), any(),
                 any(), any(), any());
-        doAnswer(x -> CompletableFuture.completedFuture(versionInfo)).when(store).getSchemaVersion(any(), anyString(),
-                any(), any());
+        // schema already present in the group is returned without any writes.
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(etag, groupProperties, versionInfo))).when(store)
+                .lookupSchema(any(), anyString(), any(), any());
         VersionInfo versionInfo1 = service.addSchema(null, "mygroup", schemaInfo).join();
         assertEquals(7, versionInfo1.getId());
+        verify(store, never()).addSchema(any(), anyString(), any(), any(), any(), any(), any());
+        verify(store, never()).getGroupEtag(any(), anyString());
+        verify(store, never()).getGroupProperties(any(), anyString());
+
+        // new schema is added with the etag that was read with the lookup.
+        GroupProperties allowAny = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(format)
+                                                  .compatibility(Compatibility.allowAny()).build();
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(etag, allowAny, null))).when(store)
+                .lookupSchema(any(), anyString(), any(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(new ArrayList<>())).when(store).listLatestSchemas(any(), anyString());
+        versionInfo1 = service.addSchema(null, "mygroup", schemaInfo).join();
+        assertEquals(7, versionInfo1.getId());
+        verify(store, times(1)).addSchema(any(), anyString(), any(), any(), any(), any(), eq(etag));
+
         // SerializationFormatMismatch Exception
-        doAnswer(x -> CompletableFuture.completedFuture(
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(etag, 
                 GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
                         ImmutableMap.<String, String>builder().build()).serializationFormat(
                         SerializationFormat.Avro).compatibility(
-                        Compatibility.forward()).build())).when(store).getGroupProperties(
-                any(), anyString());
-        doAnswer(x -> Futures.failedFuture(
-                StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                store).getSchemaVersion(any(), anyString(), any(), any());
+                        Compatibility.forward()).build(), null))).when(store).lookupSchema(any(), anyString(), any(), any());
         AssertExtensions.assertThrows("An exception should have been thrown",
                 () -> service.addSchema(null, "mygroup", schemaInfo).join(),
                 e -> e instanceof SerializationFormatMismatchException);
 
-        // IncompatibleSchema Exception
-        doAnswer(x -> CompletableFuture.completedFuture(
+        // IncompatibleSchema Exception. The group has changed, so the group's etag is different.
+        Etag etag1 = new InMemoryGroupTable().toEtag(6);
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(etag1, 
                 GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
                         ImmutableMap.<String, String>builder().build()).serializationFormat(
                         format).compatibility(
-                        Compatibility.allowAny()).build())).when(store).getGroupProperties(
-                any(), anyString());
-        doAnswer(x -> Futures.failedFuture(
-                StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                store).getSchemaVersion(any(), anyString(), any(), any());
+                        Compatibility.allowAny()).build(), null))).when(store).lookupSchema(any(), anyString(), any(), any());
         schemaData = new byte[1];
         SchemaInfo schemaInfo1 = new SchemaInfo("type1", format,
                 ByteBuffer.wrap(schemaData),
@@ -318,19 +331,140 @@ public class SchemaRegistryServiceTest {
         // CheckCompatibility will fail due to differing types. allowMultipleTypes is false.
         AssertExtensions.assertThrows("An exception should have been thrown", () -> service.addSchema(null, "mygroup", schemaInfo).join(), e -> e instanceof IncompatibleSchemaException);
         // Runtime Exception
-        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).getSchemaVersion(any(), anyString(), any(),
+        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).lookupSchema(any(), anyString(), any(),
                 any());
         AssertExtensions.assertThrows("An exception should have been thrown",
                 () -> service.addSchema(null, "mygroup", schemaInfo).join(), e -> e instanceof RuntimeException);
         //GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(
                 StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group Not Found"))).when(
-                store).getGroupEtag(any(), anyString());
+                store).lookupSchema(any(), anyString(), any(), any());
         AssertExtensions.assertThrows("An exception should have been thrown",
                 () -> service.addSchema(null, "mygroup", schemaInfo).join(),
                 e -> e instanceof StoreExceptions.DataNotFoundException);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAddSchemaBatching() {
+        Etag etag = new InMemoryGroupTable().toEtag(5);
+        SerializationFormat format = SerializationFormat.custom("custom1");
+        GroupProperties denyAll = new GroupProperties(format, Compatibility.denyAll(), true, ImmutableMap.of());
+        SchemaInfo schemaInfo1 = new SchemaInfo("type1", format, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        SchemaInfo schemaInfo2 = new SchemaInfo("type2", format, ByteBuffer.wrap(new byte[1]), ImmutableMap.of());
+        SchemaInfo schemaInfo3 = new SchemaInfo("type3", format, ByteBuffer.wrap(new byte[2]), ImmutableMap.of());
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(etag, denyAll, null))).when(store)
+                .lookupSchema(any(), anyString(), any(), any());
+        doAnswer(x -> {
+            List<SchemaInfo> schemas = x.getArgument(2);
+            return CompletableFuture.completedFuture(schemas.stream().map(schema -> new SchemaLookup(etag, denyAll, null))
+                                                            .collect(Collectors.toList()));
+        }).when(store).lookupSchemas(any(), anyString(), any(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(new ArrayList<>())).when(store).listLatestSchemas(any(), anyString());
+        CompletableFuture<VersionInfo> firstAdd = new CompletableFuture<>();
+        CompletableFuture<Void> firstAddStarted = new CompletableFuture<>();
+        doAnswer(x -> {
+            firstAddStarted.complete(null);
+            return firstAdd;
+        }).when(store).addSchema(any(), anyString(), any(), any(), any(), any(), any());
+        doAnswer(x -> {
+            List<SchemaInfo> schemas = x.getArgument(2);
+            return CompletableFuture.completedFuture(IntStream.range(0, schemas.size()).mapToObj(i -> 
+                    new VersionInfo(schemas.get(i).getType(), format.getFullTypeName(), 0, i + 1)).collect(Collectors.toList()));
+        }).when(store).addSchemas(any(), anyString(), any(), any(), any(), any(), any());
+
+        // the schemas added while the group is being written are queued and added together in a single batch. 
+        CompletableFuture<VersionInfo> result1 = service.addSchema(null, "mygroup", schemaInfo1);
+        firstAddStarted.join();
+        CompletableFuture<VersionInfo> result2 = service.addSchema(null, "mygroup", schemaInfo2);
+        CompletableFuture<VersionInfo> result3 = service.addSchema(null, "mygroup", schemaInfo3);
+        CompletableFuture<VersionInfo> result4 = service.addSchema(null, "mygroup", schemaInfo2);
+        firstAdd.complete(new VersionInfo("type1", format.getFullTypeName(), 0, 0));
+        assertEquals(0, result1.join().getId());
+        // the batch is validated in memory, so with DenyAll only the first schema in the batch is compatible.
+        assertEquals(1, result2.join().getId());
+        assertEquals(result2.join(), result4.join());
+        AssertExtensions.assertThrows("An exception should have been thrown", result3::join,
+                e -> Exceptions.unwrap(e) instanceof IncompatibleSchemaException);
+        verify(store, times(1)).lookupSchemas(any(), anyString(), any(), any());
+        ArgumentCaptor<List<SchemaInfo>> added = ArgumentCaptor.forClass(List.class);
+        verify(store, times(1)).addSchemas(any(), anyString(), added.capture(), any(), any(), any(), eq(etag));
+        assertEquals(1, added.getValue().size());
+        assertEquals("type2", added.getValue().get(0).getType());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAddSchemas() {
+        SerializationFormat format = SerializationFormat.custom("custom1");
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.TRUE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                format).compatibility(
+                Compatibility.allowAny()).build();
+        SchemaInfo schemaInfo1 = new SchemaInfo("type1", format, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        SchemaInfo schemaInfo2 = new SchemaInfo("type2", format, ByteBuffer.wrap(new byte[1]), ImmutableMap.of());
+        VersionInfo existing = new VersionInfo("type2", format.getFullTypeName(), 0, 0);
+        doAnswer(x -> {
+            List<SchemaInfo> schemas = x.getArgument(2);
+            return CompletableFuture.completedFuture(schemas.stream().map(schema -> new SchemaLookup(new InMemoryGroupTable().toEtag(5),
+                    groupProperties, schema.getType().equals("type2") ? existing : null)).collect(Collectors.toList()));
+        }).when(store).lookupSchemas(any(), anyString(), any(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(new ArrayList<>())).when(store).listLatestSchemas(any(), anyString());
+        doAnswer(x -> {
+            List<SchemaInfo> schemas = x.getArgument(2);
+            return CompletableFuture.completedFuture(IntStream.range(0, schemas.size()).mapToObj(i -> 
+                    new VersionInfo(schemas.get(i).getType(), format.getFullTypeName(), 0, i + 1)).collect(Collectors.toList()));
+        }).when(store).addSchemas(any(), anyString(), any(), any(), any(), any(), any());
+
+        List<VersionInfo> versions = service.addSchemas(null, "mygroup", Lists.newArrayList(schemaInfo1, schemaInfo2, schemaInfo1)).join();
+        assertEquals(3, versions.size());
+        assertEquals(1, versions.get(0).getId());
+        // schema already present in the group is not added again. 
+        assertEquals(existing, versions.get(1));
+        // repeated schema in the batch is added only once.
+        assertEquals(versions.get(0), versions.get(2));
+        ArgumentCaptor<List<SchemaInfo>> added = ArgumentCaptor.forClass(List.class);
+        verify(store, times(1)).addSchemas(any(), anyString(), added.capture(), any(), any(), any(), any());
+        assertEquals(1, added.getValue().size());
+        assertEquals("type1", added.getValue().get(0).getType());
+
+        // schemas are validated against the schemas before them in the batch and an incompatible schema fails the batch 
+        // before any schema is added. 
+        GroupProperties denyAll = new GroupProperties(format, Compatibility.denyAll(), true, ImmutableMap.of());
+        doAnswer(x -> {
+            List<SchemaInfo> schemas = x.getArgument(2);
+            return CompletableFuture.completedFuture(schemas.stream().map(schema -> new SchemaLookup(new InMemoryGroupTable().toEtag(5),
+                    denyAll, null)).collect(Collectors.toList()));
+        }).when(store).lookupSchemas(any(), anyString(), any(), any());
+        SchemaInfo schemaInfo3 = new SchemaInfo("type3", format, ByteBuffer.wrap(new byte[2]), ImmutableMap.of());
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> service.addSchemas(null, "mygroup", Lists.newArrayList(schemaInfo1, schemaInfo3)).join(),
+                e -> Exceptions.unwrap(e) instanceof IncompatibleSchemaException);
+        verify(store, times(1)).addSchemas(any(), anyString(), any(), any(), any(), any(), any());
+        // the group's schemas are read once for the batch. 
+        verify(store, times(2)).listLatestSchemas(any(), anyString());
+
+        // SerializationFormatMismatch Exception fails the batch before any schema is added
+        GroupProperties avro = new GroupProperties(SerializationFormat.Avro, Compatibility.allowAny(), true, ImmutableMap.of());
+        doAnswer(x -> {
+            List<SchemaInfo> schemas = x.getArgument(2);
+            return CompletableFuture.completedFuture(schemas.stream().map(schema -> new SchemaLookup(new InMemoryGroupTable().toEtag(5),
+                    avro, null)).collect(Collectors.toList()));
+        }).when(store).lookupSchemas(any(), anyString(), any(), any());
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> service.addSchemas(null, "mygroup", Lists.newArrayList(schemaInfo1, schemaInfo2)).join(),
+                e -> Exceptions.unwrap(e) instanceof SerializationFormatMismatchException);
+        verify(store, times(1)).addSchemas(any(), anyString(), any(), any(), any(), any(), any());
+        
+        //GroupNotFound Exception
+        doAnswer(x -> Futures.failedFuture(
+                StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group Not Found"))).when(
+                store).lookupSchemas(any(), anyString(), any(), any());
+        AssertExtensions.assertThrows("An exception should have been thrown",
+                () -> service.addSchemas(null, "mygroup", Lists.newArrayList(schemaInfo1)).join(),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException);
+    }
+
     @Test
     public void testGetSchema() {
         byte[] schemaData = new byte[0];
@@ -419,6 +553,59 @@ public class SchemaRegistryServiceTest {
                 e -> e instanceof RuntimeException);
     }
 
+    @Test
+    public void testBootstrapSerializer() {
+        SerializationFormat format = SerializationFormat.custom("custom1");
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(format)
+                                                         .compatibility(Compatibility.allowAny()).build();
+        SchemaInfo schemaInfo = new SchemaInfo("type", format, ByteBuffer.wrap(new byte[0]), ImmutableMap.of());
+        VersionInfo versionInfo = new VersionInfo("type", format.getFullTypeName(), 0, 0);
+        EncodingId encodingId = new EncodingId(3);
+        CodecType gzip = new CodecType("gzip");
+        doAnswer(x -> CompletableFuture.completedFuture(groupProperties)).when(store).getGroupProperties(any(), anyString());
+        doAnswer(x -> CompletableFuture.completedFuture(versionInfo)).when(store).getSchemaVersion(any(), anyString(),
+                any(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(Either.left(encodingId))).when(
+                store).getEncodingId(any(), anyString(), any(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(Lists.newArrayList(gzip))).when(store).listCodecTypes(any(), anyString());
+        doAnswer(x -> CompletableFuture.completedFuture(null)).when(store).addCodecType(any(), anyString(), any());
+
+        // lookup only, nothing is registered.
+        SerializerBootstrapInfo info = service.bootstrapSerializer(null, "mygroup", null, schemaInfo, gzip, false, false).join();
+        assertEquals(groupProperties, info.getGroupProperties());
+        assertEquals(versionInfo, info.getVersionInfo());
+        assertEquals(encodingId, info.getEncodingId());
+        assertEquals(1, info.getCodecTypes().size());
+        assertEquals(gzip, info.getCodecTypes().get(0));
+        verify(store, never()).createGroup(any(), anyString(), any());
+        verify(store, never()).addCodecType(any(), anyString(), any());
+        verify(store, never()).addSchema(any(), anyString(), any(), any(), any(), any(), any());
+
+        // register codec as part of bootstrap
+        service.bootstrapSerializer(null, "mygroup", null, schemaInfo, gzip, false, true).join();
+        verify(store, times(1)).addCodecType(any(), anyString(), any());
+
+        // schema not found and not registered
+        doAnswer(x -> Futures.failedFuture(
+                StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Schema Not Found"))).when(
+                store).getSchemaVersion(any(), anyString(), any(), any());
+        AssertExtensions.assertThrows("An Exception should have been thrown",
+                () -> service.bootstrapSerializer(null, "mygroup", null, schemaInfo, gzip, false, false).join(),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException);
+
+        // codec not registered
+        doAnswer(x -> CompletableFuture.completedFuture(versionInfo)).when(store).getSchemaVersion(any(), anyString(),
+                any(), any());
+        doAnswer(x -> CompletableFuture.completedFuture(Either.right(new InMemoryGroupTable().toEtag(5)))).when(
+                store).getEncodingId(any(), anyString(), any(), any());
+        doAnswer(x -> Futures.failedFuture(new CodecTypeNotRegisteredException("Codec not registered"))).when(
+                store).createEncodingId(any(), anyString(), any(), any(), any());
+        AssertExtensions.assertThrows("An Exception should have been thrown",
+                () -> service.bootstrapSerializer(null, "mygroup", null, schemaInfo, gzip, false, false).join(),
+                e -> Exceptions.unwrap(e) instanceof CodecTypeNotRegisteredException);
+    }
+
     @Test
     public void testGetGroupHistory() {
         // objectTypeName=null
@@ -434,37 +621,53 @@ public class SchemaRegistryServiceTest {
         groupHistoryRecords.add(groupHistoryRecord);
         ContinuationToken continuationToken = ContinuationToken.EMPTY;
         doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecords)).when(store).getGroupHistory(any(),
-                anyString());
+                anyString(), anyBoolean());
         List<GroupHistoryRecord> groupHistoryRecords1 = service.getGroupHistory(null, "mygroup", null).join();
         assertEquals(SerializationFormat.Avro, groupHistoryRecords1.get(0).getSchemaInfo().getSerializationFormat());
+        verify(store).getGroupHistory(any(), anyString(), eq(true));
+        
+        // the schema string is rendered by the service from the schema data, which is then left out if not required.
+        io.pravega.schemaregistry.contract.data.SchemaInfo withData =
+                new io.pravega.schemaregistry.contract.data.SchemaInfo(
+                        "schemaName", SerializationFormat.Avro, ByteBuffer.wrap("\"string\"".getBytes(Charsets.UTF_8)),
+                        ImmutableMap.of());
+        doAnswer(x -> CompletableFuture.completedFuture(Collections.singletonList(new GroupHistoryRecord(withData, 
+                groupHistoryRecord.getVersionInfo(), Compatibility.allowAny(), 100, null)))).when(store).getGroupHistory(any(),
+                anyString(), anyBoolean());
+        groupHistoryRecords1 = service.getGroupHistory(null, "mygroup", null, false, true).join();
+        assertEquals("\"string\"", groupHistoryRecords1.get(0).getSchemaString());
+        assertEquals(0, groupHistoryRecords1.get(0).getSchemaInfo().getSchemaData().remaining());
+        groupHistoryRecords1 = service.getGroupHistory(null, "mygroup", null, true, false).join();
+        assertNull(groupHistoryRecords1.get(0).getSchemaString());
+        assertEquals(withData, groupHistoryRecords1.get(0).getSchemaInfo());
         //GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(
                 StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group NotFound"))).when(
-                store).getGroupHistory(any(), anyString());
+                store).getGroupHistory(any(), anyString(), anyBoolean());
         AssertExtensions.assertThrows("An Exception should have been thrown",
                 () -> service.getGroupHistory(null, "mygroup", null).join(),
                 e -> e instanceof StoreExceptions.DataNotFoundException);
         //Runtime Exception
-        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).getGroupHistory(any(), anyString());
+        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).getGroupHistory(any(), anyString(), anyBoolean());
         AssertExtensions.assertThrows("An Exception should have been thrown",
                 () -> service.getGroupHistory(null, "mygroup", null).join(), e -> e instanceof RuntimeException);
 
         // objectTYpeName!=null
         doAnswer(x -> CompletableFuture.completedFuture(groupHistoryRecords)).when(store).getGroupHistoryForType(
-                any(), anyString(), anyString());
+                any(), anyString(), anyString(), anyBoolean());
         groupHistoryRecords1 = service.getGroupHistory(null, "mygroup", "myobject").join();
         assertEquals(SerializationFormat.Avro, groupHistoryRecords1.get(0).getSchemaInfo().getSerializationFormat());
         //GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(
                 StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group NotFound"))).when(
-                store).getGroupHistoryForType(any(), anyString(), anyString());
+                store).getGroupHistoryForType(any(), anyString(), anyString(), anyBoolean());
         AssertExtensions.assertThrows("An Exception should have been thrown",
                 () -> service.getGroupHistory(null, "mygroup", "objectName").join(),
                 e -> e instanceof StoreExceptions.DataNotFoundException);
         //Runtime Exception
         doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).getGroupHistoryForType(any(),
                 anyString(),
-                anyString());
+                anyString(), anyBoolean());
         AssertExtensions.assertThrows("An Exception should have been thrown",
                 () -> service.getGroupHistory(null, "mygroup", "objectName").join(),
                 e -> e instanceof RuntimeException);
@@ -499,12 +702,12 @@ public class SchemaRegistryServiceTest {
     @Test
     public void testValidateSchema() {
         SerializationFormat format = SerializationFormat.custom("custom1");
-        doAnswer(x -> {
-            return CompletableFuture.completedFuture(
-                    GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
-                            ImmutableMap.<String, String>builder().build()).serializationFormat(
-                            format).compatibility(Compatibility.forward()).build());
-        }).when(store).getGroupProperties(any(), anyString());
+        InMemoryGroupTable table = new InMemoryGroupTable();
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                format).compatibility(Compatibility.forward()).build();
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(table.toEtag(5), groupProperties, null)))
+                .when(store).lookupSchema(any(), anyString(), any(), any());
         byte[] schemaData = new byte[0];
         io.pravega.schemaregistry.contract.data.SchemaInfo schemaInfo =
                 new io.pravega.schemaregistry.contract.data.SchemaInfo(
@@ -516,15 +719,35 @@ public class SchemaRegistryServiceTest {
                 any(), anyString());
         Boolean isValid = service.validateSchema(null, "mygroup", schemaInfo, Compatibility.forward()).join();
         assertEquals(Boolean.TRUE, isValid);
+        verify(store, times(1)).getLatestSchemaVersion(any(), anyString());
+
+        // the decision is reused while the group's etag is unchanged, also when adding the schema with the same policy.
+        isValid = service.validateSchema(null, "mygroup", schemaInfo, null).join();
+        assertEquals(Boolean.TRUE, isValid);
+        doAnswer(x -> CompletableFuture.completedFuture(versionInfo)).when(store).addSchema(any(), anyString(), any(), any(),
+                any(), any(), any());
+        assertEquals(versionInfo, service.addSchema(null, "mygroup", schemaInfo).join());
+        verify(store, times(1)).getLatestSchemaVersion(any(), anyString());
+
+        // a different policy, or a change to the group, needs a new decision.
+        isValid = service.validateSchema(null, "mygroup", schemaInfo, Compatibility.backward()).join();
+        assertEquals(Boolean.TRUE, isValid);
+        verify(store, times(2)).getLatestSchemaVersion(any(), anyString());
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(table.toEtag(6), groupProperties, null)))
+                .when(store).lookupSchema(any(), anyString(), any(), any());
+        isValid = service.validateSchema(null, "mygroup", schemaInfo, Compatibility.forward()).join();
+        assertEquals(Boolean.TRUE, isValid);
+        verify(store, times(3)).getLatestSchemaVersion(any(), anyString());
+
         // GroupNotFound
         doAnswer(x -> Futures.failedFuture(
                 StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group NotFound"))).when(
-                store).getGroupProperties(any(), anyString());
+                store).lookupSchema(any(), anyString(), any(), any());
         AssertExtensions.assertThrows("An Exception should have been thrown",
                 () -> service.validateSchema(null, "mygroup", schemaInfo, Compatibility.forward()).join(),
                 e -> e instanceof StoreExceptions.DataNotFoundException);
         //Runtime Exception
-        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).getGroupProperties(any(), anyString());
+        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).lookupSchema(any(), anyString(), any(), any());
         AssertExtensions.assertThrows("An Exception should have been thrown",
                 () -> service.validateSchema(null, "mygroup", schemaInfo, Compatibility.forward()).join(),
                 e -> e instanceof RuntimeException);
@@ -538,27 +761,43 @@ public class SchemaRegistryServiceTest {
                 new io.pravega.schemaregistry.contract.data.SchemaInfo(
                         "packageName.schemaName", format, ByteBuffer.wrap(schemaData),
                         ImmutableMap.of());
-        doAnswer(x -> {
-            return CompletableFuture.completedFuture(
-                    GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
-                            ImmutableMap.<String, String>builder().build()).serializationFormat(
-                            format).compatibility(Compatibility.forward()).build());
-        }).when(store).getGroupProperties(any(), anyString());
+        InMemoryGroupTable table = new InMemoryGroupTable();
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                format).compatibility(Compatibility.forward()).build();
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(table.toEtag(5), groupProperties, null)))
+                .when(store).lookupSchema(any(), anyString(), any(), any());
         VersionInfo versionInfo = new VersionInfo("objectType", format.getFullTypeName(), 5, 7);
         SchemaWithVersion schemaWithVersion = new SchemaWithVersion(schemaInfo, versionInfo);
         doAnswer(x -> CompletableFuture.completedFuture(schemaWithVersion)).when(store).getLatestSchemaVersion(
                 any(), anyString());
         Boolean canRead = service.canRead(null, "mygroup", schemaInfo).join();
         assertEquals(Boolean.TRUE, canRead);
+        // the decision is reused while the group's etag is unchanged.
+        canRead = service.canRead(null, "mygroup", schemaInfo).join();
+        assertEquals(Boolean.TRUE, canRead);
+        verify(store, times(1)).getLatestSchemaVersion(any(), anyString());
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(table.toEtag(6), groupProperties, null)))
+                .when(store).lookupSchema(any(), anyString(), any(), any());
+        canRead = service.canRead(null, "mygroup", schemaInfo).join();
+        assertEquals(Boolean.TRUE, canRead);
+        verify(store, times(2)).getLatestSchemaVersion(any(), anyString());
+        // the decisions of a deleted group are not reused for a group created again with the same version of the etag.
+        doAnswer(x -> CompletableFuture.completedFuture(new SchemaLookup(new InMemoryGroupTable().toEtag(6), groupProperties, null)))
+                .when(store).lookupSchema(any(), anyString(), any(), any());
+        canRead = service.canRead(null, "mygroup", schemaInfo).join();
+        assertEquals(Boolean.TRUE, canRead);
+        verify(store, times(3)).getLatestSchemaVersion(any(), anyString());
+
         // GroupNotFound
         doAnswer(x -> Futures.failedFuture(
                 StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group NotFound"))).when(
-                store).getGroupProperties(any(), anyString());
+                store).lookupSchema(any(), anyString(), any(), any());
         AssertExtensions.assertThrows("An Exception should have been thrown",
                 () -> service.canRead(null, "mygroup", schemaInfo).join(),
                 e -> e instanceof StoreExceptions.DataNotFoundException);
         //Runtime Exception
-        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).getGroupProperties(any(), anyString());
+        doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).lookupSchema(any(), anyString(), any(), any());
         AssertExtensions.assertThrows("An Exception should have been thrown",
                 () -> service.canRead(null, "mygroup", schemaInfo).join(), e -> e instanceof RuntimeException);
     }
@@ -566,7 +805,7 @@ public class SchemaRegistryServiceTest {
     @Test
     public void testDeleteGroup() {
         doAnswer(x -> CompletableFuture.completedFuture(null)).when(store).deleteGroup(any(), anyString());
-        service.deleteGroup(null, "mygroup");
+        service.deleteGroup(null, "mygroup").join();
         //Runtime Exception
         doAnswer(x -> Futures.failedFuture(new RuntimeException())).when(store).deleteGroup(any(), anyString());
         AssertExtensions.assertThrows("An Exception should have been thrown",
@@ -597,7 +836,7 @@ public class SchemaRegistryServiceTest {
     @Test
     public void testAddCodecType() {
         doAnswer(x -> CompletableFuture.completedFuture(null)).when(store).addCodecType(any(), anyString(), any());
-        service.addCodecType(null, "mygroup", new CodecType("gzip"));
+        service.addCodecType(null, "mygroup", new CodecType("gzip")).join();
         //GroupNotFound Exception
         doAnswer(x -> Futures.failedFuture(
                 StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, "Group NotFound"))).when(
@@ -673,6 +912,53 @@ public class SchemaRegistryServiceTest {
                 e -> e instanceof RuntimeException);
     }
 
+    @Test
+    public void testGetGroupEtag() {
+        doAnswer(x -> CompletableFuture.completedFuture(new GroupEtag<>("id", new Version(Long.MAX_VALUE)))).when(store).getGroupEtag(
+                any(), anyString());
+        assertEquals("id-" + Long.MAX_VALUE, service.getGroupEtag(null, "mygroup").join());
+
+        // a group created again with the same name has a different etag at the same version.
+        SchemaStore schemaStore = SchemaStoreFactory.createInMemoryStore(executor);
+        SchemaRegistryService inMemoryService = new SchemaRegistryService(schemaStore, executor);
+        GroupProperties properties = GroupProperties.builder().allowMultipleTypes(false).properties(ImmutableMap.of())
+                                                    .serializationFormat(SerializationFormat.Any)
+                                                    .compatibility(Compatibility.allowAny()).build();
+        inMemoryService.createGroup(null, "mygroup", properties).join();
+        String etag = inMemoryService.getGroupEtag(null, "mygroup").join();
+        inMemoryService.deleteGroup(null, "mygroup").join();
+        inMemoryService.createGroup(null, "mygroup", properties).join();
+        String recreated = inMemoryService.getGroupEtag(null, "mygroup").join();
+        // the recreated table is at the same version as the deleted one was.
+        assertEquals(schemaStore.getGroupEtag(null, "mygroup").join().etag().toString(), 
+                etag.substring(etag.lastIndexOf('-') + 1));
+        assertNotEquals(etag, recreated);
+    }
+
+    @Test
+    public void testWatchRecreatedGroup() {
+        SchemaStore schemaStore = SchemaStoreFactory.createInMemoryStore(executor);
+        // two service instances on the same store, like two nodes of the registry.
+        SchemaRegistryService node1 = new SchemaRegistryService(schemaStore, executor, 10);
+        SchemaRegistryService node2 = new SchemaRegistryService(schemaStore, executor, 10);
+        GroupProperties properties = GroupProperties.builder().allowMultipleTypes(false).properties(ImmutableMap.of())
+                                                    .serializationFormat(SerializationFormat.Any)
+                                                    .compatibility(Compatibility.allowAny()).build();
+        node2.createGroup(null, "mygroup", properties).join();
+        String etag = node1.watchGroup(null, "mygroup", null, 1000).join();
+
+        // the group is deleted and created again through the other node, and its new table is at the same version.
+        node2.deleteGroup(null, "mygroup").join();
+        node2.createGroup(null, "mygroup", properties).join();
+        assertEquals(schemaStore.getGroupEtag(null, "mygroup").join().etag().toString(),
+                etag.substring(etag.lastIndexOf('-') + 1));
+
+        // the watch detects the change instead of waiting for the timeout.
+        String current = node1.watchGroup(null, "mygroup", etag, Config.WATCH_MAX_TIMEOUT_MILLIS).join();
+        assertNotEquals(etag, current);
+        assertEquals(node2.getGroupEtag(null, "mygroup").join(), current);
+    }
+
     @Test
     public void testDeleteSchema() {
         int ordinal = 5;
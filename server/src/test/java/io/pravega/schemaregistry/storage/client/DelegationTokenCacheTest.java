@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import com.google.common.base.Charsets;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class DelegationTokenCacheTest {
+    private ScheduledExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newScheduledThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSingleFlight() {
+        List<CompletableFuture<String>> fetches = new CopyOnWriteArrayList<>();
+        DelegationTokenCache cache = new DelegationTokenCache(x -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            fetches.add(future);
+            return future;
+        }, executor, 1000, 10);
+
+        // concurrent requests share the fetch of the token.
+        CompletableFuture<String> token1 = cache.getToken("scope/table");
+        CompletableFuture<String> token2 = cache.getToken("scope/table");
+        assertEquals(1, fetches.size());
+        assertFalse(token1.isDone());
+        fetches.get(0).complete("token");
+        assertEquals("token", token1.join());
+        assertEquals("token", token2.join());
+        assertEquals("token", cache.getToken("scope/table").join());
+        assertEquals(1, fetches.size());
+
+        cache.getToken("scope/table2");
+        assertEquals(2, fetches.size());
+
+        // failed fetches are not cached.
+        cache.invalidate("scope/table");
+        CompletableFuture<String> failed = cache.getToken("scope/table");
+        assertEquals(3, fetches.size());
+        fetches.get(2).completeExceptionally(new RuntimeException());
+        AssertExtensions.assertThrows("An exception should have been thrown", failed::join,
+                e -> e instanceof RuntimeException);
+        CompletableFuture<String> token3 = cache.getToken("scope/table");
+        assertEquals(4, fetches.size());
+        fetches.get(3).complete("token2");
+        assertEquals("token2", token3.join());
+    }
+
+    @Test
+    public void testRefresh() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        CompletableFuture<String> refreshed = new CompletableFuture<>();
+        DelegationTokenCache cache = new DelegationTokenCache(x -> {
+            String token = jwt(count.incrementAndGet(), System.currentTimeMillis() + 2000);
+            if (count.get() == 2) {
+                refreshed.complete(token);
+            }
+            return CompletableFuture.completedFuture(token);
+        }, executor, 1000, 10);
+
+        cache.getToken("scope/table").join();
+        assertEquals(1, count.get());
+        // the token is refreshed in the background before it expires and used by the following requests.
+        String refreshedToken = refreshed.get(10, TimeUnit.SECONDS);
+        // the refreshed token replaces the cached one once its fetch completes.
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!cache.getToken("scope/table").join().equals(refreshedToken) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(refreshedToken, cache.getToken("scope/table").join());
+        assertEquals(2, count.get());
+
+        // tokens without an expiry time are not refreshed.
+        AtomicInteger plainCount = new AtomicInteger();
+        DelegationTokenCache plain = new DelegationTokenCache(x -> {
+            plainCount.incrementAndGet();
+            return CompletableFuture.completedFuture("");
+        }, executor, 1000, 10);
+        assertEquals("", plain.getToken("scope/table").join());
+        Futures.delayedFuture(Duration.ofMillis(100), executor).join();
+        assertEquals("", plain.getToken("scope/table").join());
+        assertEquals(1, plainCount.get());
+    }
+
+    private String jwt(int id, long expiryMillis) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        String header = encoder.encodeToString(("{\"id\":" + id + "}").getBytes(Charsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"exp\":" + TimeUnit.MILLISECONDS.toSeconds(expiryMillis) + "}")
+                .getBytes(Charsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import io.pravega.schemaregistry.storage.StoreExceptions;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class TableReadBatcherTest {
+    private ScheduledExecutorService executor;
+    private List<List<String>> reads;
+    private List<CompletableFuture<List<VersionedRecord<byte[]>>>> readResults;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newScheduledThreadPool(2);
+        reads = new CopyOnWriteArrayList<>();
+        readResults = new CopyOnWriteArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBatching() {
+        // the window is long enough that batches are only read once they are full.
+        TableReadBatcher batcher = new TableReadBatcher(this::read, executor, TimeUnit.MINUTES.toMicros(1), 3);
+        CompletableFuture<List<VersionedRecord<byte[]>>> read1 = batcher.read("t", keys("a"));
+        CompletableFuture<List<VersionedRecord<byte[]>>> read2 = batcher.read("t", keys("b", "a"));
+        CompletableFuture<List<VersionedRecord<byte[]>>> other = batcher.read("t2", keys("a"));
+        assertEquals(0, reads.size());
+
+        // the batch is full with three distinct keys.
+        CompletableFuture<List<VersionedRecord<byte[]>>> read3 = batcher.read("t", keys("c"));
+        assertEquals(1, reads.size());
+        assertEquals(keys("a", "b", "c").stream().map(String::new).collect(Collectors.toList()), reads.get(0));
+        assertFalse(read1.isDone());
+        readResults.get(0).complete(Lists.newArrayList(record("a", 1), record("b", 2),
+                new VersionedRecord<>(null, Version.NON_EXISTENT)));
+
+        assertEquals("a", new String(read1.join().get(0).getRecord(), Charsets.UTF_8));
+        assertEquals(new Version(2), read2.join().get(0).getVersion());
+        assertEquals(new Version(1), read2.join().get(1).getVersion());
+        assertNull(read3.join().get(0).getRecord());
+        assertEquals(Version.NON_EXISTENT, read3.join().get(0).getVersion());
+        assertFalse(other.isDone());
+
+        assertEquals(1, batcher.getBatchCount());
+        assertEquals(5, batcher.getRequestedKeyCount());
+        assertEquals(3, batcher.getReadKeyCount());
+        TableReadBatcher.ReadStats stats = batcher.logStats();
+        assertEquals(1, stats.getBatches());
+        assertEquals(3.0, stats.getAverageBatchSize(), 0.0);
+        assertEquals(0.4, stats.getDedupRatio(), 0.001);
+
+        // the following read starts a new batch whose failure fails all its reads.
+        CompletableFuture<List<VersionedRecord<byte[]>>> read4 = batcher.read("t", keys("a", "b", "d"));
+        CompletableFuture<List<VersionedRecord<byte[]>>> read5 = batcher.read("t", keys("d"));
+        assertEquals(2, reads.size());
+        readResults.get(1).completeExceptionally(StoreExceptions.create(StoreExceptions.Type.CONNECTION_ERROR, "t"));
+        AssertExtensions.assertThrows("An exception should have been thrown", read4::join,
+                e -> e instanceof StoreExceptions.StoreConnectionException);
+        // read5 started a new batch as read4 filled the previous one.
+        assertEquals(2, reads.size());
+        assertFalse(read5.isDone());
+        // the statistics cover the batches read since they were last logged.
+        stats = batcher.logStats();
+        assertEquals(1, stats.getBatches());
+        assertEquals(3, stats.getReadKeys());
+        assertEquals(0, batcher.logStats().getBatches());
+    }
+
+    @Test
+    public void testWindow() throws Exception {
+        // reads that return each key as its value.
+        BiFunction<String, List<byte[]>, CompletableFuture<List<VersionedRecord<byte[]>>>> read = (tableName, keys) -> {
+            reads.add(keys.stream().map(String::new).collect(Collectors.toList()));
+            return CompletableFuture.completedFuture(keys.stream().map(x -> new VersionedRecord<>(x, new Version(0)))
+                                                         .collect(Collectors.toList()));
+        };
+        TableReadBatcher batcher = new TableReadBatcher(read, executor, TimeUnit.MILLISECONDS.toMicros(1), 100);
+        CompletableFuture<List<VersionedRecord<byte[]>>> read1 = batcher.read("t", keys("a"));
+        CompletableFuture<List<VersionedRecord<byte[]>>> read2 = batcher.read("t", keys("b"));
+        // the batch is read once its window elapses.
+        assertEquals("a", new String(read1.get(10, TimeUnit.SECONDS).get(0).getRecord(), Charsets.UTF_8));
+        assertEquals("b", new String(read2.get(10, TimeUnit.SECONDS).get(0).getRecord(), Charsets.UTF_8));
+        assertEquals(1, reads.size());
+
+        // reads are not batched if there is no window.
+        batcher = new TableReadBatcher(read, executor, 0, 100);
+        batcher.read("t", keys("a")).join();
+        batcher.read("t", keys("a")).join();
+        assertEquals(3, reads.size());
+    }
+
+    private CompletableFuture<List<VersionedRecord<byte[]>>> read(String tableName, List<byte[]> keys) {
+        CompletableFuture<List<VersionedRecord<byte[]>>> result = new CompletableFuture<>();
+        reads.add(keys.stream().map(String::new).collect(Collectors.toList()));
+        readResults.add(result);
+        return result;
+    }
+
+    private List<byte[]> keys(String... keys) {
+        List<byte[]> list = Lists.newArrayList();
+        for (String key : keys) {
+            list.add(key.getBytes(Charsets.UTF_8));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    private VersionedRecord<byte[]> record(String value, long version) {
+        return new VersionedRecord<>(value.getBytes(Charsets.UTF_8), new Version(version));
+    }
+}
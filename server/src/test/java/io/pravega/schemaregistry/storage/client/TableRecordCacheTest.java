@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import com.google.common.base.Charsets;
+import io.pravega.common.util.BufferView;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TableRecordCacheTest {
+    private static final Function<BufferView, String> FROM_BYTES = x -> new String(x.getCopy(), Charsets.UTF_8);
+
+    @Test
+    public void testAdmission() {
+        TableRecordCache cache = new TableRecordCache(1024 * 1024, 0, 10);
+        VersionedRecord<String> small = new VersionedRecord<>("small", new Version(0));
+        cache.put("t", "small", small, bytes("small"), false);
+        assertSame(small, cache.get("t", "small", FROM_BYTES));
+        assertNull(cache.get("t2", "small", FROM_BYTES));
+
+        // a large record is only admitted once it has been loaded again.
+        VersionedRecord<String> large = new VersionedRecord<>("large record", new Version(1));
+        cache.put("t", "large", large, bytes("large record"), false);
+        assertNull(cache.get("t", "large", FROM_BYTES));
+        assertEquals(1, cache.getRejectedCount());
+        cache.put("t", "large", large, bytes("large record"), false);
+        assertSame(large, cache.get("t", "large", FROM_BYTES));
+        assertEquals(1, cache.getRejectedCount());
+
+        cache.invalidate("t", "large");
+        assertNull(cache.get("t", "large", FROM_BYTES));
+    }
+
+    @Test
+    public void testOffHeap() {
+        TableRecordCache cache = new TableRecordCache(1024 * 1024, 100, 100);
+        VersionedRecord<String> record = new VersionedRecord<>("chunk", new Version(2));
+        cache.put("t", 1, record, bytes("chunk"), true);
+        assertEquals(5, cache.getOffHeapBytes());
+        // records held off heap are deserialized on every read.
+        VersionedRecord<String> cached = cache.get("t", 1, FROM_BYTES);
+        assertEquals("chunk", cached.getRecord());
+        assertEquals(new Version(2), cached.getVersion());
+        assertEquals("chunk", cache.get("t", 1, FROM_BYTES).getRecord());
+
+        // replacing the record releases the previous buffer.
+        cache.put("t", 1, record, bytes("chunk"), true);
+        assertEquals(5, cache.getOffHeapBytes());
+        cache.invalidate("t", 1);
+        assertEquals(0, cache.getOffHeapBytes());
+        assertNull(cache.get("t", 1, FROM_BYTES));
+
+        // the off heap tier is bounded by the size of its buffers.
+        for (int i = 0; i < 100; i++) {
+            cache.put("t", i, record, bytes("chunk"), true);
+            assertTrue(cache.getOffHeapBytes() <= 100);
+        }
+        assertNotNull(cache.get("t", 99, FROM_BYTES));
+        cache.clear();
+        assertEquals(0, cache.getOffHeapBytes());
+
+        // records that are not eligible are held on heap.
+        cache.put("t", "key", record, bytes("chunk"), false);
+        assertSame(record, cache.get("t", "key", FROM_BYTES));
+        assertEquals(0, cache.getOffHeapBytes());
+    }
+
+    @Test
+    public void testFrequencySketch() {
+        TableRecordCache.FrequencySketch sketch = new TableRecordCache.FrequencySketch(16);
+        assertEquals(1, sketch.increment("a"));
+        assertEquals(2, sketch.increment("a"));
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("a");
+        }
+        // counters saturate.
+        assertEquals(15, sketch.increment("a"));
+
+        // the counters are halved once the sketch has recorded ten times its width.
+        for (int i = 0; i < 160; i++) {
+            sketch.increment("b");
+        }
+        assertTrue(sketch.increment("a") < 15);
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(Charsets.UTF_8);
+    }
+}
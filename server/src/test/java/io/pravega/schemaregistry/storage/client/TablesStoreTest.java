@@ -14,6 +14,9 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.ArrayView;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.RetriesExhaustedException;
 import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.storage.StoreExceptions;
@@ -96,7 +99,8 @@ public class TablesStoreTest {
         assertEquals(keys.get(0), KEY);
 
         // get all entries
-        List<VersionedEntry<String, String>> entries = tableStore.getAllEntries(SCHEMAREGISTRY_TABLE, String::new, String::new).join();
+        List<VersionedEntry<String, String>> entries = tableStore.getAllEntries(SCHEMAREGISTRY_TABLE,
+                x -> new String(x.getCopy()), (String k, BufferView v) -> new String(v.getCopy())).join();
         assertEquals(entries.size(), 1);
         assertEquals(entries.get(0).getKey(), KEY);
         assertEquals(entries.get(0).getValue().getRecord(), VALUE);
@@ -143,10 +147,10 @@ public class TablesStoreTest {
         tableStore.addNewEntryIfAbsent(SCHEMAREGISTRY_TABLE, KEY_BYTES, VALUE_BYTES).join();
 
         ArrayList<String> keys = Lists.newArrayList("1", "2", "3");
-        Map<byte[], VersionedRecord<byte[]>> entriesToAdd = new HashMap<>();
-        entriesToAdd.put(keys.get(0).getBytes(), new VersionedRecord<>(keys.get(0).getBytes(), Version.NON_EXISTENT));
-        entriesToAdd.put(keys.get(1).getBytes(), new VersionedRecord<>(keys.get(1).getBytes(), Version.NON_EXISTENT));
-        entriesToAdd.put(keys.get(2).getBytes(), new VersionedRecord<>(keys.get(2).getBytes(), Version.NON_EXISTENT));
+        Map<byte[], VersionedRecord<ArrayView>> entriesToAdd = new HashMap<>();
+        entriesToAdd.put(keys.get(0).getBytes(), new VersionedRecord<>(new ByteArraySegment(keys.get(0).getBytes()), Version.NON_EXISTENT));
+        entriesToAdd.put(keys.get(1).getBytes(), new VersionedRecord<>(new ByteArraySegment(keys.get(1).getBytes()), Version.NON_EXISTENT));
+        entriesToAdd.put(keys.get(2).getBytes(), new VersionedRecord<>(new ByteArraySegment(keys.get(2).getBytes()), Version.NON_EXISTENT));
         tableStore.updateEntries(SCHEMAREGISTRY_TABLE, entriesToAdd).join();
 
         // get all keys paginated
@@ -164,9 +168,9 @@ public class TablesStoreTest {
 
         keys = Lists.newArrayList("4", "5", "non existent", "7");
         entriesToAdd = new HashMap<>();
-        entriesToAdd.put(keys.get(0).getBytes(), new VersionedRecord<>(keys.get(0).getBytes(), Version.NON_EXISTENT));
-        entriesToAdd.put(keys.get(1).getBytes(), new VersionedRecord<>(keys.get(1).getBytes(), Version.NON_EXISTENT));
-        entriesToAdd.put(keys.get(3).getBytes(), new VersionedRecord<>(keys.get(3).getBytes(), Version.NON_EXISTENT));
+        entriesToAdd.put(keys.get(0).getBytes(), new VersionedRecord<>(new ByteArraySegment(keys.get(0).getBytes()), Version.NON_EXISTENT));
+        entriesToAdd.put(keys.get(1).getBytes(), new VersionedRecord<>(new ByteArraySegment(keys.get(1).getBytes()), Version.NON_EXISTENT));
+        entriesToAdd.put(keys.get(3).getBytes(), new VersionedRecord<>(new ByteArraySegment(keys.get(3).getBytes()), Version.NON_EXISTENT));
         tableStore.updateEntries(SCHEMAREGISTRY_TABLE, entriesToAdd).join();
 
         List<VersionedRecord<byte[]>> values = tableStore.getEntries(SCHEMAREGISTRY_TABLE, keys.stream().map(String::getBytes).collect(Collectors.toList()),
@@ -210,7 +214,7 @@ public class TablesStoreTest {
         WireCommandClient wireCommandClient = WireCommandMock.getFailingMock(() -> 
                 StoreExceptions.create(StoreExceptions.Type.CONNECTION_ERROR, "my exception"));
         TableStore tableStore = new TableStore(wireCommandClient, executor, 2);
-        Map<byte[], VersionedRecord<byte[]>> map = Collections.singletonMap(new byte[10], new VersionedRecord<>(new byte[10], Version.NO_VERSION));
+        Map<byte[], VersionedRecord<ArrayView>> map = Collections.singletonMap(new byte[10], new VersionedRecord<>(new ByteArraySegment(new byte[10]), Version.NO_VERSION));
         AssertExtensions.assertFutureThrows("retries did not exhaust", 
                 tableStore.updateEntries("t/t", map), e -> Exceptions.unwrap(e) instanceof RetriesExhaustedException);
         // verify it is retried. 
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.storage.client;
+
+import io.pravega.client.connection.impl.ClientConnection;
+import io.pravega.client.connection.impl.ConnectionPool;
+import io.pravega.client.connection.impl.Flow;
+import io.pravega.client.connection.impl.RawClient;
+import io.pravega.client.tables.impl.TableSegmentEntry;
+import io.pravega.client.tables.impl.TableSegmentKey;
+import io.pravega.controller.stream.api.grpc.v1.Controller;
+import io.pravega.schemaregistry.storage.StoreExceptions;
+import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.ReplyProcessor;
+import io.pravega.shared.protocol.netty.WireCommand;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class WireCommandClientTest {
+    @Test
+    public void testConnectionReuse() throws Exception {
+        List<ReplyProcessor> processors = new CopyOnWriteArrayList<>();
+        AtomicBoolean fail = new AtomicBoolean(false);
+        ConnectionPool connectionPool = mock(ConnectionPool.class);
+        doAnswer(x -> {
+            ReplyProcessor processor = x.getArgument(2);
+            processors.add(processor);
+            ClientConnection connection = mock(ClientConnection.class);
+            // replies to each read table request on the same connection with an empty result.
+            doAnswer(y -> {
+                if (fail.get()) {
+                    throw new ConnectionFailedException();
+                }
+                WireCommands.ReadTable request = y.getArgument(0);
+                processor.process(new WireCommands.TableRead(request.getRequestId(), request.getSegment(),
+                        new WireCommands.TableEntries(Collections.emptyList())));
+                return null;
+            }).when(connection).send(any(WireCommand.class));
+            CompletableFuture<ClientConnection> future = x.getArgument(3);
+            future.complete(connection);
+            return null;
+        }).when(connectionPool).getClientConnection(any(Flow.class), any(), any(), any());
+
+        HostStore hostStore = mock(HostStore.class);
+        doReturn(CompletableFuture.completedFuture(Controller.NodeUri.newBuilder().setEndpoint("localhost").setPort(12345).build()))
+                .when(hostStore).getHostForTableSegment(anyString());
+        WireCommandClient client = new WireCommandClient(connectionPool, hostStore);
+        List<TableSegmentKey> keys = Collections.emptyList();
+
+        // requests to the same endpoint share the connection.
+        client.readTable("table1", keys, "").get();
+        client.readTable("table2", keys, "").get();
+        assertEquals(1, processors.size());
+        Controller.NodeUri uri = hostStore.getHostForTableSegment("table1").join();
+        assertSame(client.getConnection(uri), client.getConnection(uri));
+
+        // a dropped connection fails its outstanding requests and is replaced on the next request.
+        processors.get(0).connectionDropped();
+        client.readTable("table1", keys, "").get();
+        assertEquals(2, processors.size());
+
+        // a request that fails to be sent closes the connection and the next request opens a new one.
+        RawClient connection = client.getConnection(uri);
+        fail.set(true);
+        AssertExtensions.assertThrows("An exception should have been thrown", () -> client.readTable("table1", keys, "").join(),
+                e -> e instanceof StoreExceptions.StoreConnectionException);
+        fail.set(false);
+        assertTrue(connection.isClosed());
+        client.readTable("table1", keys, "").get();
+        assertEquals(3, processors.size());
+        assertNotSame(connection, client.getConnection(uri));
+    }
+
+    @Test
+    public void testConnectionClose() throws Exception {
+        List<WireCommands.ReadTable> held = new CopyOnWriteArrayList<>();
+        List<ReplyProcessor> processors = new CopyOnWriteArrayList<>();
+        AtomicBoolean hold = new AtomicBoolean(false);
+        ConnectionPool connectionPool = mock(ConnectionPool.class);
+        doAnswer(x -> {
+            ReplyProcessor processor = x.getArgument(2);
+            processors.add(processor);
+            ClientConnection connection = mock(ClientConnection.class);
+            // replies to read table requests with an empty result, unless they are held.
+            doAnswer(y -> {
+                WireCommands.ReadTable request = y.getArgument(0);
+                if (hold.get()) {
+                    held.add(request);
+                } else {
+                    processor.process(new WireCommands.TableRead(request.getRequestId(), request.getSegment(),
+                            new WireCommands.TableEntries(Collections.emptyList())));
+                }
+                return null;
+            }).when(connection).send(any(WireCommand.class));
+            CompletableFuture<ClientConnection> future = x.getArgument(3);
+            future.complete(connection);
+            return null;
+        }).when(connectionPool).getClientConnection(any(Flow.class), any(), any(), any());
+
+        Controller.NodeUri uri1 = Controller.NodeUri.newBuilder().setEndpoint("localhost").setPort(12345).build();
+        Controller.NodeUri uri2 = Controller.NodeUri.newBuilder().setEndpoint("localhost").setPort(12346).build();
+        Map<String, Controller.NodeUri> hosts = new ConcurrentHashMap<>();
+        hosts.put("table1", uri1);
+        hosts.put("table2", uri2);
+        HostStore hostStore = mock(HostStore.class);
+        doAnswer(x -> CompletableFuture.completedFuture(hosts.get(x.<String>getArgument(0))))
+                .when(hostStore).getHostForTableSegment(anyString());
+        doAnswer(x -> new HashSet<>(hosts.values())).when(hostStore).getCachedHosts();
+        WireCommandClient client = new WireCommandClient(connectionPool, hostStore);
+        List<TableSegmentKey> keys = Collections.emptyList();
+        client.readTable("table1", keys, "").get();
+        client.readTable("table2", keys, "").get();
+        RawClient connection1 = client.getConnection(uri1);
+
+        // the connection to an endpoint that no table is on any more is closed once its outstanding requests complete.
+        hold.set(true);
+        CompletableFuture<List<TableSegmentEntry>> outstanding = client.readTable("table1", keys, "");
+        hosts.put("table1", uri2);
+        client.invalidateTableUri("table1");
+        verify(hostStore).invalidateCache("table1");
+        assertFalse(connection1.isClosed());
+        hold.set(false);
+        WireCommands.ReadTable request = held.get(0);
+        processors.get(0).process(new WireCommands.TableRead(request.getRequestId(), request.getSegment(),
+                new WireCommands.TableEntries(Collections.emptyList())));
+        outstanding.get();
+        assertTrue(connection1.isClosed());
+        client.readTable("table1", keys, "").get();
+        assertEquals(2, processors.size());
+        RawClient connection2 = client.getConnection(uri2);
+        assertFalse(connection2.isClosed());
+
+        // closing the client closes all connections and the pool.
+        client.close();
+        assertTrue(connection2.isClosed());
+        verify(connectionPool).close();
+    }
+}
@@ -12,6 +12,7 @@ package io.pravega.schemaregistry.storage.impl.group;
 
 import com.google.common.collect.ImmutableMap;
 import io.pravega.client.ClientConfig;
+import io.pravega.common.Exceptions;
 import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.contract.data.CodecType;
@@ -99,6 +100,34 @@ public class GroupPravegaTest {
                 GroupsValue::fromBytes).join().getRecord().getState(), GroupsValue.State.Active);
     }
 
+    @Test
+    public void testGroupHandleCache() {
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.custom("custom1")).compatibility(
+                Compatibility.forward()).build();
+        pravegaKeyValueGroups.addNewGroup(null, groupName, groupProperties).join();
+        Group<Version> group = pravegaKeyValueGroups.getGroup(null, groupName).join();
+        assertSame(group, pravegaKeyValueGroups.getGroup(null, groupName).join());
+
+        // delete and recreate the group through another instance. the cached handle refers to the deleted table.
+        PravegaKeyValueGroups other = new PravegaKeyValueGroups(tableStore, executor);
+        other.deleteGroup(null, groupName).join();
+        other.addNewGroup(null, groupName, groupProperties).join();
+        AssertExtensions.assertFutureThrows("table for the group has been deleted", group.getCurrentEtag(), 
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataContainerNotFoundException);
+        
+        pravegaKeyValueGroups.invalidateGroup(null, groupName);
+        Group<Version> refreshed = pravegaKeyValueGroups.getGroup(null, groupName).join();
+        assertNotSame(group, refreshed);
+        assertNotNull(refreshed.getCurrentEtag().join());
+        
+        // delete through this instance invalidates the handle.
+        pravegaKeyValueGroups.deleteGroup(null, groupName).join();
+        AssertExtensions.assertFutureThrows("group is deleted", pravegaKeyValueGroups.getGroup(null, groupName), 
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException);
+    }
+
     @Test
     public void testGetCurrentEtag() {
         GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.FALSE).properties(
@@ -10,12 +10,16 @@
 package io.pravega.schemaregistry.storage.impl.group;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import io.pravega.common.Exceptions;
+import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.common.Either;
 import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupChanges;
 import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
@@ -23,6 +27,7 @@ import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.storage.Etag;
+import io.pravega.schemaregistry.storage.SchemaLookup;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.storage.impl.group.records.TableRecords;
 import io.pravega.test.common.AssertExtensions;
@@ -32,10 +37,12 @@ import org.junit.Test;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Function;
@@ -44,6 +51,7 @@ import java.util.stream.Collectors;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class GroupTest {
@@ -263,6 +271,65 @@ public class GroupTest {
         assertEquals(schemaRecord1.getVersion(), versionInfo1.getVersion());
     }
 
+    @Test
+    public void testLookupSchema() {
+        inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        byte[] schemaData = new byte[0];
+        SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(schemaData),
+                ImmutableMap.of());
+        BigInteger fingerprint = HashUtil.getFingerprint(schemaInfo.getSchemaData().array());
+        SchemaLookup lookup = inMemoryGroup.lookupSchema(schemaInfo, fingerprint).join();
+        assertNull(lookup.getVersionInfo());
+        assertEquals(inMemoryGroup.getCurrentEtag().join().etag(), lookup.getEtag().etag());
+        assertEquals(inMemoryGroup.getGroupProperties().join(), lookup.getGroupProperties());
+
+        VersionInfo versionInfo = inMemoryGroup.addSchema(schemaInfo, fingerprint, lookup.getGroupProperties(), lookup.getEtag()).join();
+        lookup = inMemoryGroup.lookupSchema(schemaInfo, fingerprint).join();
+        assertEquals(versionInfo, lookup.getVersionInfo());
+        assertEquals(inMemoryGroup.getCurrentEtag().join().etag(), lookup.getEtag().etag());
+        // schema with a different type is not found.
+        SchemaInfo schemaInfo1 = new SchemaInfo(anygroup1, SerializationFormat.Custom, ByteBuffer.wrap(schemaData),
+                ImmutableMap.of());
+        assertNull(inMemoryGroup.lookupSchema(schemaInfo1, fingerprint).join().getVersionInfo());
+    }
+
+    @Test
+    public void testAddSchemas() {
+        inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        SchemaInfo schemaInfo1 = new SchemaInfo(anygroup1, SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        SchemaInfo schemaInfo2 = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[1]),
+                ImmutableMap.of());
+        BigInteger fingerprint = HashUtil.getFingerprint(schemaInfo.getSchemaData().array());
+        BigInteger fingerprint2 = HashUtil.getFingerprint(schemaInfo2.getSchemaData().array());
+        List<SchemaInfo> schemas = Lists.newArrayList(schemaInfo, schemaInfo1, schemaInfo2);
+        List<BigInteger> fingerprints = Lists.newArrayList(fingerprint, fingerprint, fingerprint2);
+        List<SchemaLookup> lookups = inMemoryGroup.lookupSchemas(schemas, fingerprints).join();
+        assertEquals(3, lookups.size());
+        assertTrue(lookups.stream().allMatch(x -> x.getVersionInfo() == null));
+        
+        // the schemas are added with consecutive ids and versioned by type in the order of the batch.
+        Etag etag = lookups.get(0).getEtag();
+        GroupProperties groupProperties = lookups.get(0).getGroupProperties();
+        List<VersionInfo> versions = inMemoryGroup.addSchemas(schemas, fingerprints, groupProperties, etag).join();
+        assertEquals(new VersionInfo(anygroup, SerializationFormat.Custom.getFullTypeName(), 0, 0), versions.get(0));
+        assertEquals(new VersionInfo(anygroup1, SerializationFormat.Custom.getFullTypeName(), 0, 1), versions.get(1));
+        assertEquals(new VersionInfo(anygroup, SerializationFormat.Custom.getFullTypeName(), 1, 2), versions.get(2));
+        List<SchemaLookup> found = inMemoryGroup.lookupSchemas(schemas, fingerprints).join();
+        assertEquals(versions, found.stream().map(SchemaLookup::getVersionInfo).collect(Collectors.toList()));
+        assertEquals(versions.get(2), inMemoryGroup.getLatestSchemaVersion(anygroup).join().getVersionInfo());
+        assertEquals(3, inMemoryGroup.getSchemas().join().size());
+
+        // the batch is conditioned on the etag.
+        AssertExtensions.assertThrows("An exception should have been thrown", 
+                () -> inMemoryGroup.addSchemas(schemas, fingerprints, groupProperties, etag).join(),
+                e -> Exceptions.unwrap(e) instanceof StoreExceptions.WriteConflictException);
+    }
+
     @Test
     public void testAddCodec() {
         inMemoryGroup.addCodecType(new CodecType("gzip")).join();
@@ -339,6 +406,148 @@ public class GroupTest {
         assertEquals(SerializationFormat.Custom, encodingInfo.getSchemaInfo().getSerializationFormat());
     }
 
+    @Test
+    public void testGetEncodingInfos() {
+        inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.allowAny()).join();
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.TRUE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.Custom).compatibility(
+                Compatibility.allowAny()).build();
+        SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        SchemaInfo schemaInfo1 = new SchemaInfo(anygroup1, SerializationFormat.Custom, ByteBuffer.wrap(new byte[1]),
+                ImmutableMap.of());
+        VersionInfo versionInfo = inMemoryGroup.addSchema(schemaInfo, HashUtil.getFingerprint(schemaInfo.getSchemaData().array()),
+                groupProperties, inMemoryGroup.getCurrentEtag().join()).join();
+        VersionInfo versionInfo1 = inMemoryGroup.addSchema(schemaInfo1, HashUtil.getFingerprint(schemaInfo1.getSchemaData().array()),
+                groupProperties, inMemoryGroup.getCurrentEtag().join()).join();
+        
+        // no encodings in the group
+        assertTrue(inMemoryGroup.getEncodingInfos(new EncodingId(0)).join().isEmpty());
+        
+        inMemoryGroup.addCodecType(new CodecType("gzip", ImmutableMap.of("a", "b"))).join();
+        EncodingId encodingId = inMemoryGroup.createEncodingId(versionInfo, "gzip", inMemoryGroup.getCurrentEtag().join()).join();
+        EncodingId encodingId1 = inMemoryGroup.createEncodingId(versionInfo1, "", inMemoryGroup.getCurrentEtag().join()).join();
+        EncodingId encodingId2 = inMemoryGroup.createEncodingId(versionInfo1, "gzip", inMemoryGroup.getCurrentEtag().join()).join();
+
+        Map<EncodingId, EncodingInfo> encodingInfos = inMemoryGroup.getEncodingInfos(
+                Arrays.asList(encodingId2, new EncodingId(100), encodingId)).join();
+        assertEquals(Arrays.asList(encodingId2, encodingId), new ArrayList<>(encodingInfos.keySet()));
+        assertEquals(inMemoryGroup.getEncodingInfo(encodingId).join(), encodingInfos.get(encodingId));
+        assertEquals(inMemoryGroup.getEncodingInfo(encodingId2).join(), encodingInfos.get(encodingId2));
+        assertEquals(ImmutableMap.of("a", "b"), encodingInfos.get(encodingId).getCodecType().getProperties());
+
+        encodingInfos = inMemoryGroup.getEncodingInfos(encodingId1).join();
+        assertEquals(Arrays.asList(encodingId1, encodingId2), new ArrayList<>(encodingInfos.keySet()));
+        assertEquals(new CodecType(""), encodingInfos.get(encodingId1).getCodecType());
+        assertEquals(schemaInfo1, encodingInfos.get(encodingId1).getSchemaInfo());
+        assertEquals(3, inMemoryGroup.getEncodingInfos(new EncodingId(0)).join().size());
+        assertTrue(inMemoryGroup.getEncodingInfos(new EncodingId(3)).join().isEmpty());
+        
+        List<SchemaWithVersion> schemas = inMemoryGroup.getSchemasById(Arrays.asList(1, 5, 0, 1)).join();
+        assertEquals(2, schemas.size());
+        assertEquals(new SchemaWithVersion(schemaInfo1, versionInfo1), schemas.get(0));
+        assertEquals(new SchemaWithVersion(schemaInfo, versionInfo), schemas.get(1));
+    }
+
+    @Test
+    public void testGetChanges() {
+        inMemoryGroup.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.allowAny()).join();
+        GroupProperties groupProperties = GroupProperties.builder().allowMultipleTypes(Boolean.TRUE).properties(
+                ImmutableMap.<String, String>builder().build()).serializationFormat(
+                SerializationFormat.Custom).compatibility(
+                Compatibility.allowAny()).build();
+        
+        // no schemas or encodings in the group
+        GroupChanges changes = inMemoryGroup.getChanges(0, 0).join();
+        assertTrue(changes.getSchemas().isEmpty());
+        assertTrue(changes.getDeletedSchemaIds().isEmpty());
+        assertTrue(changes.getEncodings().isEmpty());
+        assertEquals(0, changes.getNextSchemaId());
+        assertEquals(0, changes.getNextEncodingId());
+
+        SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        SchemaInfo schemaInfo1 = new SchemaInfo(anygroup1, SerializationFormat.Custom, ByteBuffer.wrap(new byte[1]),
+                ImmutableMap.of());
+        VersionInfo versionInfo = inMemoryGroup.addSchema(schemaInfo, HashUtil.getFingerprint(schemaInfo.getSchemaData().array()),
+                groupProperties, inMemoryGroup.getCurrentEtag().join()).join();
+        VersionInfo versionInfo1 = inMemoryGroup.addSchema(schemaInfo1, HashUtil.getFingerprint(schemaInfo1.getSchemaData().array()),
+                groupProperties, inMemoryGroup.getCurrentEtag().join()).join();
+        EncodingId encodingId = inMemoryGroup.createEncodingId(versionInfo, "", inMemoryGroup.getCurrentEtag().join()).join();
+
+        changes = inMemoryGroup.getChanges(0, 0).join();
+        assertEquals(Arrays.asList(new SchemaWithVersion(schemaInfo, versionInfo), new SchemaWithVersion(schemaInfo1, versionInfo1)), 
+                changes.getSchemas());
+        assertTrue(changes.getDeletedSchemaIds().isEmpty());
+        assertEquals(Collections.singletonList(encodingId), new ArrayList<>(changes.getEncodings().keySet()));
+        assertEquals(inMemoryGroup.getEncodingInfo(encodingId).join(), changes.getEncodings().get(encodingId));
+        assertEquals(2, changes.getNextSchemaId());
+        assertEquals(1, changes.getNextEncodingId());
+
+        // nothing has changed since the last call
+        changes = inMemoryGroup.getChanges(changes.getNextSchemaId(), changes.getNextEncodingId()).join();
+        assertTrue(changes.getSchemas().isEmpty());
+        assertTrue(changes.getEncodings().isEmpty());
+        assertEquals(2, changes.getNextSchemaId());
+        assertEquals(1, changes.getNextEncodingId());
+
+        // a schema deleted after it was synced is reported along with the schemas and encodings added since. 
+        inMemoryGroup.deleteSchema(versionInfo.getId(), inMemoryGroup.getCurrentEtag().join()).join();
+        SchemaInfo schemaInfo2 = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[2]),
+                ImmutableMap.of());
+        VersionInfo versionInfo2 = inMemoryGroup.addSchema(schemaInfo2, HashUtil.getFingerprint(schemaInfo2.getSchemaData().array()),
+                groupProperties, inMemoryGroup.getCurrentEtag().join()).join();
+        EncodingId encodingId1 = inMemoryGroup.createEncodingId(versionInfo2, "", inMemoryGroup.getCurrentEtag().join()).join();
+        changes = inMemoryGroup.getChanges(2, 1).join();
+        assertEquals(Collections.singletonList(new SchemaWithVersion(schemaInfo2, versionInfo2)), changes.getSchemas());
+        assertEquals(Collections.singletonList(versionInfo.getId()), changes.getDeletedSchemaIds());
+        assertEquals(Collections.singletonList(encodingId1), new ArrayList<>(changes.getEncodings().keySet()));
+        assertEquals(3, changes.getNextSchemaId());
+        assertEquals(2, changes.getNextEncodingId());
+        
+        // deleted schemas are not included in the added schemas
+        changes = inMemoryGroup.getChanges(0, 0).join();
+        assertEquals(Arrays.asList(versionInfo1.getId(), versionInfo2.getId()), 
+                changes.getSchemas().stream().map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertEquals(2, changes.getEncodings().size());
+        
+        AssertExtensions.assertThrows("An exception should have been thrown", () -> inMemoryGroup.getChanges(-1, 0),
+                e -> e instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testRecordsPerCallLimit() {
+        Group<Integer> group = new Group<>(inMemoryGroupTable, executor, false, 100, 1, 2);
+        group.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE, Compatibility.allowAny()).join();
+        GroupProperties groupProperties = group.getGroupProperties().join();
+        for (int i = 0; i < 3; i++) {
+            SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[i]),
+                    ImmutableMap.of());
+            VersionInfo versionInfo = group.addSchema(schemaInfo, HashUtil.getFingerprint(schemaInfo.getSchemaData().array()),
+                    groupProperties, group.getCurrentEtag().join()).join();
+            group.createEncodingId(versionInfo, "", group.getCurrentEtag().join()).join();
+        }
+
+        // changes are returned in parts of at most two schemas and encodings, and the next ids follow each part.
+        GroupChanges changes = group.getChanges(0, 0).join();
+        assertEquals(2, changes.getSchemas().size());
+        assertEquals(2, changes.getEncodings().size());
+        assertEquals(2, changes.getNextSchemaId());
+        assertEquals(2, changes.getNextEncodingId());
+        changes = group.getChanges(changes.getNextSchemaId(), changes.getNextEncodingId()).join();
+        assertEquals(1, changes.getSchemas().size());
+        assertEquals(1, changes.getEncodings().size());
+        assertEquals(3, changes.getNextSchemaId());
+        assertEquals(3, changes.getNextEncodingId());
+
+        assertEquals(Arrays.asList(new EncodingId(1), new EncodingId(2)), new ArrayList<>(group.getEncodingInfos(new EncodingId(1)).join().keySet()));
+        assertEquals(Collections.singletonList(new EncodingId(2)), new ArrayList<>(group.getEncodingInfos(new EncodingId(2)).join().keySet()));
+        assertTrue(group.getEncodingInfos(new EncodingId(3)).join().isEmpty());
+    }
+
     @Test
     public void testGetLatestSchemaVersion() {
         // null case
@@ -442,6 +651,13 @@ public class GroupTest {
                 groupHistoryRecords.get(0).getSchemaInfo().getSchemaData().array()));
         assertTrue(Arrays.equals(ByteBuffer.wrap(schemaData1).array(),
                 groupHistoryRecords.get(1).getSchemaInfo().getSchemaData().array()));
+        
+        // excluded schema data
+        groupHistoryRecords = inMemoryGroup.getHistory(anygroup1, false).join();
+        assertEquals(2, groupHistoryRecords.size());
+        assertEquals(0, groupHistoryRecords.get(0).getSchemaInfo().getSchemaData().remaining());
+        assertNull(groupHistoryRecords.get(0).getSchemaString());
+        assertEquals(1, groupHistoryRecords.get(1).getVersionInfo().getVersion());
     }
 
     @Test
@@ -610,4 +826,135 @@ public class GroupTest {
                         schemaInfo1.getSerializationFormat().getFullTypeName()).join(),
                 e -> e instanceof StoreExceptions.DataNotFoundException);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMaterializedState() {
+        // two group objects on the same table, like two service instances.
+        Group<Integer> group = new Group<>(inMemoryGroupTable, executor, true);
+        Group<Integer> other = new Group<>(inMemoryGroupTable, executor, true);
+        group.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        GroupProperties groupProperties = group.getGroupProperties().join();
+        assertEquals(Compatibility.backward(), other.getGroupProperties().join().getCompatibility());
+
+        SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[0]),
+                ImmutableMap.of());
+        group.addSchema(schemaInfo, HashUtil.getFingerprint(schemaInfo.getSchemaData().array()), groupProperties,
+                group.getCurrentEtag().join()).join();
+        List<SchemaWithVersion> latest = group.getLatestSchemas().join();
+        assertEquals(1, latest.size());
+        // unchanged etag, the memoized list is returned.
+        assertSame(latest, group.getLatestSchemas().join());
+        
+        // the update made through the other object changes the etag and is reflected in both.
+        assertEquals(1, other.getLatestSchemas().join().size());
+        SchemaInfo schemaInfo1 = new SchemaInfo(anygroup1, SerializationFormat.Custom, ByteBuffer.wrap(new byte[1]),
+                ImmutableMap.of());
+        other.addSchema(schemaInfo1, HashUtil.getFingerprint(schemaInfo1.getSchemaData().array()), groupProperties,
+                other.getCurrentEtag().join()).join();
+        assertEquals(2, other.getLatestSchemas().join().size());
+        assertEquals(2, group.getLatestSchemas().join().size());
+        assertEquals(2, group.getSchemas().join().size());
+        assertEquals(1, group.getSchemas(1).join().size());
+
+        other.updateValidationPolicy(Compatibility.forward(), other.getCurrentEtag().join()).join();
+        assertEquals(Compatibility.forward(), group.getGroupProperties().join().getCompatibility());
+    }
+
+    @Test
+    public void testGetSchemasForType() {
+        // without the materialized state the type's records are read using the type and version to id index. 
+        Group<Integer> group = new Group<>(inMemoryGroupTable, executor, false);
+        group.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        GroupProperties groupProperties = group.getGroupProperties().join();
+        List<VersionInfo> versions = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            SchemaInfo schemaInfo = new SchemaInfo(i % 2 == 0 ? anygroup : anygroup1, SerializationFormat.Custom, 
+                    ByteBuffer.wrap(new byte[i]), ImmutableMap.of());
+            versions.add(group.addSchema(schemaInfo, HashUtil.getFingerprint(schemaInfo.getSchemaData().array()), 
+                    groupProperties, group.getCurrentEtag().join()).join());
+        }
+        assertEquals(Arrays.asList(0, 2, 4), group.getSchemas(anygroup).join().stream()
+                                                  .map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(3, 5), group.getSchemas(anygroup1, 2).join().stream()
+                                                  .map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertTrue(group.getSchemas("unknown").join().isEmpty());
+
+        group.deleteSchema(versions.get(2).getId(), group.getCurrentEtag().join()).join();
+        assertEquals(Arrays.asList(0, 4), group.getHistory(anygroup).join().stream()
+                                                  .map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(1, 3, 5), group.getHistory(anygroup1).join().stream()
+                                                  .map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testBatchedSchemaRecordReads() {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        InMemoryGroupTable table = new InMemoryGroupTable() {
+            @Override
+            public <T extends TableRecords.TableValue> CompletableFuture<List<Value<T, Integer>>> getEntriesWithVersion(
+                    List<? extends TableRecords.TableKey> keys, Class<T> tClass) {
+                if (!keys.isEmpty() && keys.stream().allMatch(x -> x instanceof TableRecords.SchemaIdKey)) {
+                    batchSizes.add(keys.size());
+                }
+                return super.getEntriesWithVersion(keys, tClass);
+            }
+        };
+        Group<Integer> group = new Group<>(table, executor, false, 3, 2, 1000);
+        group.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        GroupProperties groupProperties = group.getGroupProperties().join();
+        for (int i = 0; i < 7; i++) {
+            SchemaInfo schemaInfo = new SchemaInfo(anygroup, SerializationFormat.Custom, ByteBuffer.wrap(new byte[i]), 
+                    ImmutableMap.of());
+            group.addSchema(schemaInfo, HashUtil.getFingerprint(schemaInfo.getSchemaData().array()), groupProperties,
+                    group.getCurrentEtag().join()).join();
+        }
+        batchSizes.clear();
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6), group.getSchemas().join().stream()
+                                                              .map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(3, 3, 1), batchSizes.stream().sorted(Collections.reverseOrder()).collect(Collectors.toList()));
+        
+        batchSizes.clear();
+        assertEquals(Arrays.asList(5, 6), group.getSchemas(5).join().stream()
+                                                              .map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList(2), batchSizes);
+    }
+
+    @Test
+    public void testGetHistoryPages() {
+        Group<Integer> group = new Group<>(inMemoryGroupTable, executor, false);
+        assertTrue(group.getHistory(null, 0, 2).join().getList().isEmpty());
+        group.create(SerializationFormat.Custom, ImmutableMap.of(), Boolean.TRUE,
+                Compatibility.backward()).join();
+        GroupProperties groupProperties = group.getGroupProperties().join();
+        for (int i = 0; i < 5; i++) {
+            SchemaInfo schemaInfo = new SchemaInfo(i % 2 == 0 ? anygroup : anygroup1, SerializationFormat.Custom, 
+                    ByteBuffer.wrap(new byte[i]), ImmutableMap.of());
+            group.addSchema(schemaInfo, HashUtil.getFingerprint(schemaInfo.getSchemaData().array()), 
+                    groupProperties, group.getCurrentEtag().join()).join();
+        }
+        group.deleteSchema(1, group.getCurrentEtag().join()).join();
+        
+        Function<String, List<List<Integer>>> readAll = type -> {
+            List<List<Integer>> pages = new ArrayList<>();
+            int from = 0;
+            while (true) {
+                ResultPage<GroupHistoryRecord, Integer> page = group.getHistory(type, from, 2).join();
+                if (page.getList().isEmpty()) {
+                    break;
+                }
+                pages.add(page.getList().stream().map(x -> x.getVersionInfo().getId()).collect(Collectors.toList()));
+                from = page.getToken();
+            }
+            return pages;
+        };
+        // deleted ids do not count towards the limit.
+        assertEquals(Arrays.asList(Arrays.asList(0, 2), Arrays.asList(3, 4)), readAll.apply(null));
+        assertEquals(Arrays.asList(Arrays.asList(0, 2), Collections.singletonList(4)), readAll.apply(anygroup));
+        assertEquals(Collections.singletonList(Collections.singletonList(3)), readAll.apply(anygroup1));
+        // the token of the last page points past the last schema
+        assertEquals(5, group.getHistory(anygroup1, 0, 2).join().getToken().intValue());
+    }
+}
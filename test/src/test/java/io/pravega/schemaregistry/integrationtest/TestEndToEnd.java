@@ -18,6 +18,8 @@ import io.pravega.schemaregistry.client.SchemaRegistryClientFactory;
 import io.pravega.schemaregistry.client.exceptions.RegistryExceptions;
 import io.pravega.schemaregistry.contract.data.Compatibility;
 import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupChanges;
 import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
@@ -44,8 +46,11 @@ import org.junit.rules.Timeout;
 
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -201,6 +206,15 @@ public abstract class TestEndToEnd {
         // delete schemainfo2
         EncodingId encodingId = client.getEncodingId(group, version2, Codecs.None.getCodec().getName());
         assertEquals(encodingId.getId(), 0);
+        Map<EncodingId, EncodingInfo> encodingInfos = client.getEncodingInfos(group, Lists.newArrayList(encodingId, new EncodingId(10)));
+        assertEquals(encodingInfos.size(), 1);
+        assertEquals(encodingInfos.get(encodingId), client.getEncodingInfo(group, encodingId));
+        assertEquals(client.getEncodingInfosFrom(group, new EncodingId(0)), encodingInfos);
+        assertTrue(client.getEncodingInfosFrom(group, new EncodingId(1)).isEmpty());
+        List<SchemaWithVersion> schemasByIds = client.getSchemasByIds(group, Lists.newArrayList(version3.getId(), version1.getId()));
+        assertEquals(schemasByIds.size(), 2);
+        assertEquals(schemasByIds.get(0), new SchemaWithVersion(schemaInfo4, version3));
+        assertEquals(schemasByIds.get(1), new SchemaWithVersion(schemaInfo, version1));
         client.deleteSchemaVersion(group, version2);
         SchemaInfo schema = client.getSchemaForVersion(group, version2);
         assertEquals(schema, schemaInfo2);
@@ -214,6 +228,21 @@ public abstract class TestEndToEnd {
         groupEvolutionHistory = client.getGroupHistory(group);
         assertEquals(groupEvolutionHistory.size(), 2);
 
+        GroupChanges changes = client.getGroupChanges(group, 0, 0);
+        assertEquals(changes.getSchemas().size(), 2);
+        assertEquals(changes.getDeletedSchemaIds(), Lists.newArrayList(version2.getId()));
+        assertEquals(changes.getEncodings(), encodingInfos);
+        assertEquals(changes.getNextSchemaId(), 3);
+        assertEquals(changes.getNextEncodingId(), 1);
+        changes = client.getGroupChanges(group, changes.getNextSchemaId(), changes.getNextEncodingId());
+        assertTrue(changes.getSchemas().isEmpty());
+        assertTrue(changes.getEncodings().isEmpty());
+
+        String etag = client.watchGroup(group, null, Duration.ofSeconds(10));
+        // the group does not change within the timeout
+        assertEquals(client.watchGroup(group, etag, Duration.ofMillis(100)), etag);
+        CompletableFuture<String> watch = CompletableFuture.supplyAsync(() -> client.watchGroup(group, etag, Duration.ofSeconds(30)));
+
         myTestHistory = client.getSchemaVersions(group, myTest);
         assertEquals(myTestHistory.size(), 1);
         SchemaWithVersion schemaWithVersion = client.getLatestSchemaVersion(group, myTest);
@@ -226,6 +255,47 @@ public abstract class TestEndToEnd {
         VersionInfo version4 = client.addSchema(group, schemaInfo2);
         assertEquals(version4.getId(), 3);
         assertEquals(version4.getVersion(), 2);
+        // the watch completes with the etag after the schema is added
+        assertNotEquals(watch.join(), etag);
+        assertEquals(client.watchGroup(group, etag, Duration.ofSeconds(10)), watch.join());
+
+        client.removeGroup(group);
+    }
+
+    @Test
+    public void testAddSchemas() {
+        SchemaRegistryClient client = newClient();
+
+        String group = "batch";
+        client.addGroup(group, new GroupProperties(SerializationFormat.Avro,
+                Compatibility.backward(),
+                true));
+
+        SchemaInfo schemaInfo = new SchemaInfo("MyTest", SerializationFormat.Avro,
+                ByteBuffer.wrap(schema1.toString().getBytes(Charsets.UTF_8)), ImmutableMap.of());
+        SchemaInfo schemaInfo2 = new SchemaInfo("MyTest", SerializationFormat.Avro,
+                ByteBuffer.wrap(schema2.toString().getBytes(Charsets.UTF_8)), ImmutableMap.of());
+        SchemaInfo schemaInfo3 = new SchemaInfo("MyTest", SerializationFormat.Avro,
+                ByteBuffer.wrap(schema3.toString().getBytes(Charsets.UTF_8)), ImmutableMap.of());
+        SchemaInfo schemaInfo4 = new SchemaInfo("MyTest2", SerializationFormat.Avro,
+                ByteBuffer.wrap(schemaTest2.toString().getBytes(Charsets.UTF_8)), ImmutableMap.of());
+
+        // schema2 is validated against schema1 which precedes it in the same batch
+        List<VersionInfo> versions = client.addSchemas(group, Lists.newArrayList(schemaInfo, schemaInfo2, schemaInfo4, schemaInfo));
+        assertEquals(versions.size(), 4);
+        assertEquals(versions.get(0), new VersionInfo("MyTest", SerializationFormat.Avro.getFullTypeName(), 0, 0));
+        assertEquals(versions.get(1), new VersionInfo("MyTest", SerializationFormat.Avro.getFullTypeName(), 1, 1));
+        assertEquals(versions.get(2), new VersionInfo("MyTest2", SerializationFormat.Avro.getFullTypeName(), 0, 2));
+        assertEquals(versions.get(3), versions.get(0));
+        assertEquals(client.getGroupHistory(group).size(), 3);
+        
+        // adding the same batch again is idempotent
+        assertEquals(versions, client.addSchemas(group, Lists.newArrayList(schemaInfo, schemaInfo2, schemaInfo4, schemaInfo)));
+
+        assertTrue(client.updateCompatibility(group, Compatibility.fullTransitive(), null));
+        AssertExtensions.assertThrows("", () -> client.addSchemas(group, Lists.newArrayList(schemaInfo3)),
+                e -> Exceptions.unwrap(e) instanceof RegistryExceptions.SchemaValidationFailedException);
+        assertEquals(client.getGroupHistory(group).size(), 3);
 
         client.removeGroup(group);
     }
@@ -40,6 +40,13 @@ public class TestEndToEndWithFailingAuth extends TestEndToEndWithAuth {
             e -> e instanceof RegistryExceptions.UnauthorizedException);
     }
 
+    @Override
+    @Test
+    public void testAddSchemas() {
+        AssertExtensions.assertThrows("expected unauthorized exception", super::testAddSchemas,
+            e -> e instanceof RegistryExceptions.UnauthorizedException);
+    }
+
     @Override
     @Test
     public void testLargeSchemas() {